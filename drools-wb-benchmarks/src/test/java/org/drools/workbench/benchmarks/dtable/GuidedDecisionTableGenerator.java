@@ -0,0 +1,99 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.benchmarks.dtable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.workbench.models.datamodel.rule.BaseSingleFieldConstraint;
+import org.drools.workbench.models.guided.dtable.shared.model.ActionInsertFactCol52;
+import org.drools.workbench.models.guided.dtable.shared.model.ConditionCol52;
+import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
+import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.models.guided.dtable.shared.model.Pattern52;
+import org.kie.soup.project.datamodel.imports.Import;
+import org.kie.soup.project.datamodel.oracle.DataType;
+
+/**
+ * Builds synthetic Guided Decision Tables of a given size for benchmarking.
+ */
+public class GuidedDecisionTableGenerator {
+
+    public static final String PACKAGE_NAME = "org.drools.workbench.benchmarks";
+
+    public static final String FACT_TYPE = "Applicant";
+
+    private GuidedDecisionTableGenerator() {
+    }
+
+    /**
+     * Creates a table with the given number of integer condition columns (on fields "field0".."fieldN") and a
+     * single action column inserting a new fact. Conditions of table "n" read the field written by the action of
+     * table "n - 1" so that chains of tables link together.
+     * @param tableName Name of the table
+     * @param tableIndex Index of the table in a chain of tables
+     * @param rows Number of rows
+     * @param conditionColumns Number of condition columns
+     * @return A populated Guided Decision Table
+     */
+    public static GuidedDecisionTable52 makeTable(final String tableName,
+                                                  final int tableIndex,
+                                                  final int rows,
+                                                  final int conditionColumns) {
+        final GuidedDecisionTable52 dt = new GuidedDecisionTable52();
+        dt.setPackageName(PACKAGE_NAME);
+        dt.getImports().addImport(new Import(PACKAGE_NAME + "." + FACT_TYPE));
+        dt.setTableName(tableName);
+
+        final Pattern52 pattern = new Pattern52();
+        pattern.setBoundName("$a");
+        pattern.setFactType(FACT_TYPE);
+        for (int column = 0; column < conditionColumns; column++) {
+            final ConditionCol52 condition = new ConditionCol52();
+            condition.setConstraintValueType(BaseSingleFieldConstraint.TYPE_LITERAL);
+            condition.setFieldType(DataType.TYPE_NUMERIC_INTEGER);
+            condition.setFactField("field" + (tableIndex + column));
+            condition.setHeader("field" + (tableIndex + column));
+            condition.setOperator("==");
+            pattern.getChildColumns().add(condition);
+        }
+        dt.getConditions().add(pattern);
+
+        final ActionInsertFactCol52 action = new ActionInsertFactCol52();
+        action.setBoundName("$i");
+        action.setFactType(FACT_TYPE);
+        action.setFactField("field" + (tableIndex + conditionColumns));
+        action.setType(DataType.TYPE_NUMERIC_INTEGER);
+        action.setHeader("insert field" + (tableIndex + conditionColumns));
+        dt.getActionCols().add(action);
+
+        final List<List<DTCellValue52>> data = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            final List<DTCellValue52> rowData = new ArrayList<>(conditionColumns + 3);
+            rowData.add(new DTCellValue52(row + 1));
+            rowData.add(new DTCellValue52("Row " + row));
+            for (int column = 0; column < conditionColumns; column++) {
+                rowData.add(new DTCellValue52(row * conditionColumns + column));
+            }
+            rowData.add(new DTCellValue52(row));
+            data.add(rowData);
+        }
+        dt.setData(data);
+
+        return dt;
+    }
+}
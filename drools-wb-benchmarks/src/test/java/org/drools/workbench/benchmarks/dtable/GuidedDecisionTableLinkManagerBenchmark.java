@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.benchmarks.dtable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableLinkManager;
+import org.drools.workbench.screens.guided.dtable.shared.DefaultGuidedDecisionTableLinkManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Linking every pair of tables in a Decision Graph, as performed when a graph is opened.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GuidedDecisionTableLinkManagerBenchmark {
+
+    @Param({"10", "50", "200"})
+    private int tables;
+
+    @Param({"5", "20"})
+    private int columns;
+
+    private final GuidedDecisionTableLinkManager linkManager = new DefaultGuidedDecisionTableLinkManager();
+
+    private final List<GuidedDecisionTable52> models = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        models.clear();
+        for (int index = 0; index < tables; index++) {
+            models.add(GuidedDecisionTableGenerator.makeTable("dtable" + index,
+                                                              index,
+                                                              10,
+                                                              columns));
+        }
+    }
+
+    @Benchmark
+    public void linkAll(final Blackhole blackhole) {
+        for (GuidedDecisionTable52 source : models) {
+            for (GuidedDecisionTable52 target : models) {
+                if (source != target) {
+                    linkManager.link(source,
+                                     target,
+                                     (sourceColumnIndex, targetColumnIndex) -> blackhole.consume(targetColumnIndex));
+                }
+            }
+        }
+    }
+}
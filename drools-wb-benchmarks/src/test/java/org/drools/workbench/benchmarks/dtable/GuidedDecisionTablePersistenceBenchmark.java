@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.benchmarks.dtable;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.workbench.models.guided.dtable.backend.GuidedDTDRLPersistence;
+import org.drools.workbench.models.guided.dtable.backend.GuidedDTXMLPersistence;
+import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Round trips of Guided Decision Tables through their XML and DRL persistence formats.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GuidedDecisionTablePersistenceBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int rows;
+
+    @Param({"5", "20"})
+    private int columns;
+
+    private GuidedDecisionTable52 model;
+
+    private String xml;
+
+    @Setup
+    public void setup() {
+        model = GuidedDecisionTableGenerator.makeTable("dtable",
+                                                       0,
+                                                       rows,
+                                                       columns);
+        xml = GuidedDTXMLPersistence.getInstance().marshal(model);
+    }
+
+    @Benchmark
+    public String marshalXML() {
+        return GuidedDTXMLPersistence.getInstance().marshal(model);
+    }
+
+    @Benchmark
+    public GuidedDecisionTable52 unmarshalXML() {
+        return GuidedDTXMLPersistence.getInstance().unmarshal(xml);
+    }
+
+    @Benchmark
+    public String marshalDRL() {
+        return GuidedDTDRLPersistence.getInstance().marshal(model);
+    }
+
+    @Benchmark
+    public String unmarshalXMLAndMarshalDRL() {
+        return GuidedDTDRLPersistence.getInstance().marshal(GuidedDTXMLPersistence.getInstance().unmarshal(xml));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.benchmarks.dtablexls;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.drools.decisiontable.parser.xls.ExcelParser;
+import org.drools.template.parser.DataListener;
+import org.drools.workbench.models.guided.dtable.shared.conversion.ConversionResult;
+import org.drools.workbench.screens.dtablexls.backend.server.conversion.GuidedDecisionTableGeneratorListener;
+import org.kie.soup.project.datamodel.commons.oracle.PackageDataModelOracleImpl;
+import org.kie.workbench.common.services.shared.preferences.ApplicationPreferences;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Conversion of a generated XLSX Decision Table to Guided Decision Tables, as performed by
+ * DecisionTableXLSToDecisionTableGuidedConverter (excluding the writing of the resulting assets).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DecisionTableXLSConversionBenchmark {
+
+    private static final String PACKAGE_NAME = "org.drools.workbench.benchmarks";
+
+    @Param({"100", "1000", "10000"})
+    private int rows;
+
+    @Param({"5", "20"})
+    private int columns;
+
+    private byte[] workbook;
+
+    private PackageDataModelOracleImpl dmo;
+
+    @Setup
+    public void setup() throws IOException {
+        ApplicationPreferences.setUp(new HashMap<String, String>() {{
+            put(ApplicationPreferences.DATE_FORMAT,
+                "dd-MMM-yyyy");
+        }});
+        dmo = new PackageDataModelOracleImpl();
+        dmo.setPackageName(PACKAGE_NAME);
+        workbook = makeWorkbook(rows,
+                                columns);
+    }
+
+    @Benchmark
+    public GuidedDecisionTableGeneratorListener convert() {
+        final ConversionResult result = new ConversionResult();
+        final GuidedDecisionTableGeneratorListener listener = new GuidedDecisionTableGeneratorListener(result,
+                                                                                                       dmo);
+        final ExcelParser parser = new ExcelParser(Collections.<DataListener>singletonList(listener));
+        parser.parseFile(new ByteArrayInputStream(workbook));
+        return listener;
+    }
+
+    /**
+     * Creates a XLSX workbook containing a single RuleTable with the given number of rows and condition columns.
+     */
+    public static byte[] makeWorkbook(final int rows,
+                                      final int columns) throws IOException {
+        try (final Workbook wb = new XSSFWorkbook();
+             final ByteArrayOutputStream os = new ByteArrayOutputStream()) {
+            final Sheet sheet = wb.createSheet("Tables");
+            int rowIndex = 0;
+
+            final Row ruleSet = sheet.createRow(rowIndex++);
+            ruleSet.createCell(1).setCellValue("RuleSet");
+            ruleSet.createCell(2).setCellValue(PACKAGE_NAME);
+
+            final Row imports = sheet.createRow(rowIndex++);
+            imports.createCell(1).setCellValue("Import");
+            imports.createCell(2).setCellValue(PACKAGE_NAME + ".Applicant");
+
+            rowIndex++;
+            final Row ruleTable = sheet.createRow(rowIndex++);
+            ruleTable.createCell(1).setCellValue("RuleTable Applicants");
+
+            final Row types = sheet.createRow(rowIndex++);
+            final Row objectTypes = sheet.createRow(rowIndex++);
+            final Row snippets = sheet.createRow(rowIndex++);
+            final Row headers = sheet.createRow(rowIndex++);
+            for (int column = 0; column < columns; column++) {
+                types.createCell(column + 1).setCellValue("CONDITION");
+                objectTypes.createCell(column + 1).setCellValue("Applicant");
+                snippets.createCell(column + 1).setCellValue("field" + column + " == $param");
+                headers.createCell(column + 1).setCellValue("Field " + column);
+            }
+            types.createCell(columns + 1).setCellValue("ACTION");
+            snippets.createCell(columns + 1).setCellValue("System.out.println(\"$param\");");
+            headers.createCell(columns + 1).setCellValue("Log");
+
+            for (int row = 0; row < rows; row++) {
+                final Row data = sheet.createRow(rowIndex++);
+                for (int column = 0; column < columns; column++) {
+                    data.createCell(column + 1).setCellValue(row * columns + column);
+                }
+                data.createCell(columns + 1).setCellValue("Row " + row);
+            }
+
+            wb.write(os);
+            return os.toByteArray();
+        }
+    }
+}
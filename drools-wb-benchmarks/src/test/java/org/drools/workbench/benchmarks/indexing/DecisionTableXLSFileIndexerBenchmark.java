@@ -0,0 +1,124 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.benchmarks.indexing;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.workbench.benchmarks.dtablexls.DecisionTableXLSConversionBenchmark;
+import org.drools.workbench.screens.dtablexls.backend.server.DecisionTableXLSDrlCache;
+import org.drools.workbench.screens.dtablexls.backend.server.indexing.DecisionTableXLSFileIndexer;
+import org.drools.workbench.screens.dtablexls.type.DecisionTableXLSResourceTypeDefinition;
+import org.guvnor.common.services.project.categories.Decision;
+import org.kie.soup.project.datamodel.oracle.ModuleDataModelOracle;
+import org.kie.workbench.common.services.refactoring.backend.server.indexing.IndexBuilder;
+import org.kie.workbench.common.services.shared.project.KieModuleService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.Path;
+import org.uberfire.java.nio.file.Paths;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Indexing of a XLSX Decision Table (spreadsheet compilation to DRL, DRL parsing and index term extraction). With
+ * "cached" the DRL is shared through DecisionTableXLSDrlCache, as it is when a spreadsheet is indexed after its
+ * source was viewed; otherwise the cache is emptied before each invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DecisionTableXLSFileIndexerBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int rows;
+
+    @Param({"5", "20"})
+    private int columns;
+
+    @Param({"true", "false"})
+    private boolean cached;
+
+    private BenchmarkDecisionTableXLSFileIndexer indexer;
+
+    private Path path;
+
+    @Setup
+    public void setup() throws Exception {
+        path = Paths.get(URI.create(IndexerBenchmarkSupport.PACKAGE_URI + "/dtable.xlsx"));
+
+        final byte[] workbook = DecisionTableXLSConversionBenchmark.makeWorkbook(rows,
+                                                                                 columns);
+        final IOService ioService = mock(IOService.class);
+        when(ioService.readAllBytes(any(Path.class))).thenReturn(workbook);
+
+        indexer = new BenchmarkDecisionTableXLSFileIndexer(ioService,
+                                                           IndexerBenchmarkSupport.makeModuleService(),
+                                                           IndexerBenchmarkSupport.makeDataModelOracle(columns));
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        if (!cached) {
+            indexer.drlCache.invalidate();
+        }
+    }
+
+    @Benchmark
+    public IndexBuilder fillIndexBuilder() throws Exception {
+        return indexer.fillIndexBuilder(path);
+    }
+
+    /**
+     * Indexer with its CDI dependencies provided directly and a fixed data model.
+     */
+    static class BenchmarkDecisionTableXLSFileIndexer extends DecisionTableXLSFileIndexer {
+
+        private final ModuleDataModelOracle dmo;
+
+        BenchmarkDecisionTableXLSFileIndexer(final IOService ioService,
+                                             final KieModuleService moduleService,
+                                             final ModuleDataModelOracle dmo) {
+            this.ioService = ioService;
+            this.moduleService = moduleService;
+            this.type = new DecisionTableXLSResourceTypeDefinition(new Decision());
+            this.drlCache = new DecisionTableXLSDrlCache();
+            this.dmo = dmo;
+        }
+
+        @Override
+        protected ModuleDataModelOracle getModuleDataModelOracle(final Path path) {
+            return dmo;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.benchmarks.indexing;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.workbench.benchmarks.dtable.GuidedDecisionTableGenerator;
+import org.drools.workbench.models.guided.dtable.backend.GuidedDTXMLPersistence;
+import org.drools.workbench.screens.guided.dtable.backend.server.indexing.GuidedDecisionTableFileIndexer;
+import org.drools.workbench.screens.guided.dtable.type.GuidedDTableResourceTypeDefinition;
+import org.guvnor.common.services.project.categories.Decision;
+import org.kie.soup.project.datamodel.oracle.ModuleDataModelOracle;
+import org.kie.workbench.common.services.refactoring.backend.server.indexing.IndexBuilder;
+import org.kie.workbench.common.services.shared.project.KieModuleService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.Paths;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Indexing of a Guided Decision Table (XML unmarshalling, DRL generation, DRL parsing and index term extraction).
+ * The VFS and project structure are stubbed so that only the indexer's own work is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GuidedDecisionTableFileIndexerBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int rows;
+
+    @Param({"5", "20"})
+    private int columns;
+
+    private BenchmarkGuidedDecisionTableFileIndexer indexer;
+
+    private org.uberfire.java.nio.file.Path path;
+
+    @Setup
+    public void setup() {
+        path = Paths.get(URI.create("file:///benchmark/src/main/resources/org/drools/workbench/benchmarks/dtable.gdst"));
+
+        final String xml = GuidedDTXMLPersistence.getInstance().marshal(GuidedDecisionTableGenerator.makeTable("dtable",
+                                                                                                               0,
+                                                                                                               rows,
+                                                                                                               columns));
+        final IOService ioService = mock(IOService.class);
+        when(ioService.readAllString(any(org.uberfire.java.nio.file.Path.class))).thenReturn(xml);
+
+        indexer = new BenchmarkGuidedDecisionTableFileIndexer(ioService,
+                                                              IndexerBenchmarkSupport.makeModuleService(),
+                                                              IndexerBenchmarkSupport.makeDataModelOracle(columns));
+    }
+
+    @Benchmark
+    public IndexBuilder fillIndexBuilder() throws Exception {
+        return indexer.fillIndexBuilder(path);
+    }
+
+    /**
+     * Indexer with its CDI dependencies provided directly and a fixed data model.
+     */
+    static class BenchmarkGuidedDecisionTableFileIndexer extends GuidedDecisionTableFileIndexer {
+
+        private final ModuleDataModelOracle dmo;
+
+        BenchmarkGuidedDecisionTableFileIndexer(final IOService ioService,
+                                                final KieModuleService moduleService,
+                                                final ModuleDataModelOracle dmo) {
+            this.ioService = ioService;
+            this.moduleService = moduleService;
+            this.type = new GuidedDTableResourceTypeDefinition(new Decision());
+            this.dmo = dmo;
+        }
+
+        @Override
+        protected ModuleDataModelOracle getModuleDataModelOracle(final org.uberfire.java.nio.file.Path path) {
+            return dmo;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.benchmarks.indexing;
+
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.workbench.benchmarks.dtable.GuidedDecisionTableGenerator;
+import org.drools.workbench.screens.guided.rule.backend.server.GuidedRuleEditorPackageDefinitionsCache;
+import org.drools.workbench.screens.guided.rule.backend.server.indexing.GuidedRuleDslrFileIndexer;
+import org.guvnor.common.services.backend.file.FileDiscoveryService;
+import org.kie.soup.project.datamodel.oracle.ModuleDataModelOracle;
+import org.kie.workbench.common.services.backend.file.DSLFileFilter;
+import org.kie.workbench.common.services.backend.file.GlobalsFileFilter;
+import org.kie.workbench.common.services.refactoring.backend.server.indexing.IndexBuilder;
+import org.kie.workbench.common.services.shared.project.KieModuleService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.Path;
+import org.uberfire.java.nio.file.Paths;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Indexing of a Guided Rule using a DSL (lookup of the package's DSLs through
+ * GuidedRuleEditorPackageDefinitionsCache, DSL expansion, DRL parsing and index term extraction). The package's
+ * DSL is read and parsed once, by the first invocation, as it is in the workbench.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GuidedRuleDslrFileIndexerBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int rules;
+
+    @Param({"5", "20"})
+    private int columns;
+
+    private BenchmarkGuidedRuleDslrFileIndexer indexer;
+
+    private Path path;
+
+    @Setup
+    public void setup() throws Exception {
+        path = Paths.get(URI.create(IndexerBenchmarkSupport.PACKAGE_URI + "/rule.rdslr"));
+        final Path dslPath = Paths.get(URI.create(IndexerBenchmarkSupport.PACKAGE_URI + "/definitions.dsl"));
+
+        final IOService ioService = mock(IOService.class);
+        when(ioService.readAllString(eq(path))).thenReturn(makeDslr(rules,
+                                                                    columns));
+        when(ioService.readAllString(eq(dslPath))).thenReturn(makeDsl());
+
+        final FileDiscoveryService fileDiscoveryService = mock(FileDiscoveryService.class);
+        when(fileDiscoveryService.discoverFiles(any(Path.class),
+                                                isA(GlobalsFileFilter.class))).thenReturn(Collections.<Path>emptyList());
+        when(fileDiscoveryService.discoverFiles(any(Path.class),
+                                                isA(DSLFileFilter.class))).thenReturn(Collections.singletonList(dslPath));
+
+        indexer = new BenchmarkGuidedRuleDslrFileIndexer(ioService,
+                                                         IndexerBenchmarkSupport.makeModuleService(),
+                                                         new GuidedRuleEditorPackageDefinitionsCache(ioService,
+                                                                                                     fileDiscoveryService),
+                                                         IndexerBenchmarkSupport.makeDataModelOracle(columns));
+    }
+
+    @Benchmark
+    public IndexBuilder fillIndexBuilder() throws Exception {
+        return indexer.fillIndexBuilder(path);
+    }
+
+    static String makeDsl() {
+        return "[when]There is an Applicant=$a : " + GuidedDecisionTableGenerator.FACT_TYPE + "()\n" +
+                "[when]- field {field} is {value}=field{field} == {value}\n" +
+                "[then]Log {value}=System.out.println( {value} );\n";
+    }
+
+    /**
+     * Creates a DSLR file with the given number of rules, each constraining the given number of fields.
+     */
+    static String makeDslr(final int rules,
+                           final int columns) {
+        final StringBuilder dslr = new StringBuilder();
+        dslr.append("package ").append(GuidedDecisionTableGenerator.PACKAGE_NAME).append(";\n\n");
+        dslr.append("import ").append(GuidedDecisionTableGenerator.PACKAGE_NAME).append(".").append(GuidedDecisionTableGenerator.FACT_TYPE).append(";\n\n");
+        for (int rule = 0; rule < rules; rule++) {
+            dslr.append("rule \"rule").append(rule).append("\"\n");
+            dslr.append("when\n");
+            dslr.append("  There is an Applicant\n");
+            for (int column = 0; column < columns; column++) {
+                dslr.append("  - field ").append(column).append(" is ").append(rule * columns + column).append("\n");
+            }
+            dslr.append("then\n");
+            dslr.append("  Log ").append(rule).append("\n");
+            dslr.append("end\n\n");
+        }
+        return dslr.toString();
+    }
+
+    /**
+     * Indexer with its CDI dependencies provided directly and a fixed data model.
+     */
+    static class BenchmarkGuidedRuleDslrFileIndexer extends GuidedRuleDslrFileIndexer {
+
+        private final ModuleDataModelOracle dmo;
+
+        BenchmarkGuidedRuleDslrFileIndexer(final IOService ioService,
+                                           final KieModuleService moduleService,
+                                           final GuidedRuleEditorPackageDefinitionsCache packageDefinitionsCache,
+                                           final ModuleDataModelOracle dmo) throws Exception {
+            this.ioService = ioService;
+            this.moduleService = moduleService;
+            this.dmo = dmo;
+
+            //The cache is injected into a private field
+            final Field field = GuidedRuleDslrFileIndexer.class.getDeclaredField("packageDefinitionsCache");
+            field.setAccessible(true);
+            field.set(this,
+                      packageDefinitionsCache);
+        }
+
+        @Override
+        protected ModuleDataModelOracle getModuleDataModelOracle(final Path path) {
+            return dmo;
+        }
+    }
+}
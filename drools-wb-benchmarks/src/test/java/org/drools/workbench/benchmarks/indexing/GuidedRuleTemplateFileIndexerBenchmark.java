@@ -0,0 +1,168 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.benchmarks.indexing;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.workbench.benchmarks.dtable.GuidedDecisionTableGenerator;
+import org.drools.workbench.models.datamodel.imports.Import;
+import org.drools.workbench.models.datamodel.rule.ActionFieldValue;
+import org.drools.workbench.models.datamodel.rule.ActionSetField;
+import org.drools.workbench.models.datamodel.rule.BaseSingleFieldConstraint;
+import org.drools.workbench.models.datamodel.rule.FactPattern;
+import org.drools.workbench.models.datamodel.rule.FieldNatureType;
+import org.drools.workbench.models.datamodel.rule.SingleFieldConstraint;
+import org.drools.workbench.models.guided.template.backend.RuleTemplateModelXMLPersistenceImpl;
+import org.drools.workbench.models.guided.template.shared.TemplateModel;
+import org.drools.workbench.screens.guided.template.server.GuidedRuleTemplateModelCache;
+import org.drools.workbench.screens.guided.template.server.indexing.GuidedRuleTemplateFileIndexer;
+import org.drools.workbench.screens.guided.template.type.GuidedRuleTemplateResourceTypeDefinition;
+import org.guvnor.common.services.project.categories.Decision;
+import org.kie.soup.project.datamodel.oracle.DataType;
+import org.kie.workbench.common.services.refactoring.backend.server.indexing.IndexBuilder;
+import org.kie.workbench.common.services.shared.project.KieModuleService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.uberfire.io.IOService;
+import org.uberfire.java.nio.file.Paths;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Indexing of a Guided Rule Template (XML unmarshalling and index term extraction from the model). With "cached"
+ * the parsed model is shared through GuidedRuleTemplateModelCache, as it is when a template is indexed after
+ * being opened or validated; otherwise the cache is emptied before each invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GuidedRuleTemplateFileIndexerBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int rows;
+
+    @Param({"5", "20"})
+    private int columns;
+
+    @Param({"true", "false"})
+    private boolean cached;
+
+    private BenchmarkGuidedRuleTemplateFileIndexer indexer;
+
+    private org.uberfire.java.nio.file.Path path;
+
+    @Setup
+    public void setup() {
+        path = Paths.get(URI.create(IndexerBenchmarkSupport.PACKAGE_URI + "/template.template"));
+
+        final String xml = RuleTemplateModelXMLPersistenceImpl.getInstance().marshal(makeTemplate(rows,
+                                                                                                  columns));
+        final IOService ioService = mock(IOService.class);
+        when(ioService.readAllString(any(org.uberfire.java.nio.file.Path.class))).thenReturn(xml);
+
+        indexer = new BenchmarkGuidedRuleTemplateFileIndexer(ioService,
+                                                             IndexerBenchmarkSupport.makeModuleService());
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        if (!cached) {
+            indexer.modelCache.invalidate();
+        }
+    }
+
+    @Benchmark
+    public IndexBuilder fillIndexBuilder() throws Exception {
+        return indexer.fillIndexBuilder(path);
+    }
+
+    /**
+     * Creates a template with one constraint per column, each bound to a template key, an action setting the
+     * last field and the given number of rows of data.
+     */
+    static TemplateModel makeTemplate(final int rows,
+                                      final int columns) {
+        final TemplateModel model = new TemplateModel();
+        model.name = "template";
+        model.setPackageName(GuidedDecisionTableGenerator.PACKAGE_NAME);
+        model.getImports().addImport(new Import(GuidedDecisionTableGenerator.PACKAGE_NAME + "." + GuidedDecisionTableGenerator.FACT_TYPE));
+
+        final FactPattern pattern = new FactPattern();
+        pattern.setFactType(GuidedDecisionTableGenerator.FACT_TYPE);
+        pattern.setBoundName("$a");
+        for (int column = 0; column < columns; column++) {
+            final SingleFieldConstraint constraint = new SingleFieldConstraint();
+            constraint.setConstraintValueType(BaseSingleFieldConstraint.TYPE_TEMPLATE);
+            constraint.setFactType(GuidedDecisionTableGenerator.FACT_TYPE);
+            constraint.setFieldName("field" + column);
+            constraint.setFieldType(DataType.TYPE_NUMERIC_INTEGER);
+            constraint.setOperator("==");
+            constraint.setValue("f" + column);
+            pattern.addConstraint(constraint);
+        }
+        model.addLhsItem(pattern);
+
+        final ActionSetField action = new ActionSetField();
+        action.setVariable("$a");
+        final ActionFieldValue value = new ActionFieldValue();
+        value.setField("field" + columns);
+        value.setValue("0");
+        value.setType(DataType.TYPE_NUMERIC_INTEGER);
+        value.setNature(FieldNatureType.TYPE_LITERAL);
+        action.addFieldValue(value);
+        model.addRhsItem(action);
+
+        for (int row = 0; row < rows; row++) {
+            final String[] data = new String[columns];
+            for (int column = 0; column < columns; column++) {
+                data[column] = Integer.toString(row * columns + column);
+            }
+            model.addRow(data);
+        }
+        return model;
+    }
+
+    /**
+     * Indexer with its CDI dependencies provided directly.
+     */
+    static class BenchmarkGuidedRuleTemplateFileIndexer extends GuidedRuleTemplateFileIndexer {
+
+        BenchmarkGuidedRuleTemplateFileIndexer(final IOService ioService,
+                                               final KieModuleService moduleService) {
+            this.ioService = ioService;
+            this.moduleService = moduleService;
+            this.type = new GuidedRuleTemplateResourceTypeDefinition(new Decision());
+            this.modelCache = new GuidedRuleTemplateModelCache();
+        }
+    }
+}
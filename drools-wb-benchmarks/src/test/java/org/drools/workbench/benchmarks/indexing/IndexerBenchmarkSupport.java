@@ -0,0 +1,83 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.benchmarks.indexing;
+
+import java.util.HashMap;
+
+import org.drools.workbench.benchmarks.dtable.GuidedDecisionTableGenerator;
+import org.guvnor.common.services.project.model.Package;
+import org.kie.soup.project.datamodel.commons.oracle.ModuleDataModelOracleImpl;
+import org.kie.soup.project.datamodel.oracle.DataType;
+import org.kie.soup.project.datamodel.oracle.FieldAccessorsAndMutators;
+import org.kie.soup.project.datamodel.oracle.ModelField;
+import org.kie.soup.project.datamodel.oracle.ModuleDataModelOracle;
+import org.kie.workbench.common.services.shared.project.KieModule;
+import org.kie.workbench.common.services.shared.project.KieModuleService;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.backend.vfs.PathFactory;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Stubs shared by the indexer benchmarks, so that only the indexers' own work is measured.
+ */
+class IndexerBenchmarkSupport {
+
+    static final String PACKAGE_URI = "file:///benchmark/src/main/resources/org/drools/workbench/benchmarks";
+
+    private IndexerBenchmarkSupport() {
+    }
+
+    /**
+     * Returns a KieModuleService resolving every Path to the same Module and Package.
+     */
+    static KieModuleService makeModuleService() {
+        final KieModule module = mock(KieModule.class);
+        when(module.getModuleName()).thenReturn("benchmark");
+        final Package pkg = mock(Package.class);
+        when(pkg.getPackageName()).thenReturn(GuidedDecisionTableGenerator.PACKAGE_NAME);
+        when(pkg.getPackageMainResourcesPath()).thenReturn(PathFactory.newPath("benchmarks",
+                                                                               PACKAGE_URI));
+        final KieModuleService moduleService = mock(KieModuleService.class);
+        when(moduleService.resolveModule(any(Path.class))).thenReturn(module);
+        when(moduleService.resolvePackage(any(Path.class))).thenReturn(pkg);
+        return moduleService;
+    }
+
+    /**
+     * Returns a data model containing the generated fact type, with Integer fields "field0" to "field{columns}".
+     */
+    static ModuleDataModelOracle makeDataModelOracle(final int columns) {
+        final ModuleDataModelOracleImpl dmo = new ModuleDataModelOracleImpl();
+        final ModelField[] fields = new ModelField[columns + 1];
+        for (int column = 0; column <= columns; column++) {
+            fields[column] = new ModelField("field" + column,
+                                            "java.lang.Integer",
+                                            ModelField.FIELD_CLASS_TYPE.REGULAR_CLASS,
+                                            ModelField.FIELD_ORIGIN.DECLARED,
+                                            FieldAccessorsAndMutators.BOTH,
+                                            DataType.TYPE_NUMERIC_INTEGER);
+        }
+        dmo.addModuleModelFields(new HashMap<String, ModelField[]>() {{
+            put(GuidedDecisionTableGenerator.PACKAGE_NAME + "." + GuidedDecisionTableGenerator.FACT_TYPE,
+                fields);
+        }});
+        return dmo;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.benchmarks.scenariosimulation;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.workbench.screens.scenariosimulation.backend.server.expression.BaseExpressionEvaluator;
+import org.drools.workbench.screens.scenariosimulation.backend.server.expression.ExpressionEvaluator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluation of expected value expressions through BaseExpressionEvaluator (and hence BaseExpressionOperator).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BaseExpressionOperatorBenchmark {
+
+    @Param({"10", "= 10", "!= 5", "< 20", ">= 5", "[1, 5, 10]", "> 1; < 20"})
+    private String expression;
+
+    private ExpressionEvaluator expressionEvaluator;
+
+    private final Integer resultValue = 10;
+
+    @Setup
+    public void setup() {
+        expressionEvaluator = new BaseExpressionEvaluator(BaseExpressionOperatorBenchmark.class.getClassLoader());
+    }
+
+    @Benchmark
+    public boolean evaluate() {
+        return expressionEvaluator.evaluate(expression,
+                                            resultValue,
+                                            Integer.class);
+    }
+}
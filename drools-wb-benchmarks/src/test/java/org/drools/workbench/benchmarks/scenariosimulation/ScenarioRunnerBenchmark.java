@@ -0,0 +1,145 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.benchmarks.scenariosimulation;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.workbench.screens.scenariosimulation.backend.server.runner.ScenarioRunnerImpl;
+import org.drools.workbench.screens.scenariosimulation.model.ExpressionIdentifier;
+import org.drools.workbench.screens.scenariosimulation.model.FactIdentifier;
+import org.drools.workbench.screens.scenariosimulation.model.FactMappingType;
+import org.drools.workbench.screens.scenariosimulation.model.Scenario;
+import org.drools.workbench.screens.scenariosimulation.model.Simulation;
+import org.junit.runner.notification.RunNotifier;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieBuilder;
+import org.kie.api.builder.KieFileSystem;
+import org.kie.api.builder.Message;
+import org.kie.api.builder.model.KieModuleModel;
+import org.kie.api.runtime.KieContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Execution of a synthetic Test Scenario (Preview) simulation against a small in-memory KIE module.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScenarioRunnerBenchmark {
+
+    private static final String DRL = "package org.drools.workbench.benchmarks.scenariosimulation;\n" +
+            "rule \"approve adults\"\n" +
+            "when\n" +
+            "  $p : Person( age >= 18, approved != true )\n" +
+            "then\n" +
+            "  modify( $p ) { setApproved( true ) }\n" +
+            "end\n";
+
+    @Param({"10", "100", "1000"})
+    private int scenarios;
+
+    private KieContainer kieContainer;
+
+    private Simulation simulation;
+
+    @Setup
+    public void setup() {
+        kieContainer = makeKieContainer();
+        simulation = makeSimulation(scenarios);
+    }
+
+    @Benchmark
+    public RunNotifier runSimulation() {
+        final RunNotifier notifier = new RunNotifier();
+        new ScenarioRunnerImpl(kieContainer,
+                               simulation).run(notifier);
+        return notifier;
+    }
+
+    static KieContainer makeKieContainer() {
+        final KieServices kieServices = KieServices.Factory.get();
+        final KieModuleModel kieModuleModel = kieServices.newKieModuleModel();
+        kieModuleModel.newKieBaseModel("benchmarkKieBase")
+                .setDefault(true)
+                .newKieSessionModel("benchmarkKieSession")
+                .setDefault(true);
+
+        final KieFileSystem kieFileSystem = kieServices.newKieFileSystem();
+        kieFileSystem.writeKModuleXML(kieModuleModel.toXML());
+        kieFileSystem.write("src/main/resources/org/drools/workbench/benchmarks/scenariosimulation/rules.drl",
+                            DRL);
+
+        final KieBuilder kieBuilder = kieServices.newKieBuilder(kieFileSystem).buildAll();
+        if (kieBuilder.getResults().hasMessages(Message.Level.ERROR)) {
+            throw new IllegalStateException(kieBuilder.getResults().toString());
+        }
+        return kieServices.newKieContainer(kieServices.getRepository().getDefaultReleaseId());
+    }
+
+    static Simulation makeSimulation(final int scenarios) {
+        final Simulation simulation = new Simulation();
+        final FactIdentifier person = FactIdentifier.create("Person",
+                                                            Person.class.getCanonicalName());
+
+        final ExpressionIdentifier nameGiven = ExpressionIdentifier.create("Name",
+                                                                           FactMappingType.GIVEN);
+        simulation.getSimulationDescriptor().addFactMapping(person,
+                                                            nameGiven).addExpressionElement("name",
+                                                                                            String.class.getCanonicalName());
+
+        final ExpressionIdentifier ageGiven = ExpressionIdentifier.create("Age",
+                                                                          FactMappingType.GIVEN);
+        simulation.getSimulationDescriptor().addFactMapping(person,
+                                                            ageGiven).addExpressionElement("age",
+                                                                                           Integer.class.getCanonicalName());
+
+        final ExpressionIdentifier approvedExpected = ExpressionIdentifier.create("Approved",
+                                                                                  FactMappingType.EXPECT);
+        simulation.getSimulationDescriptor().addFactMapping(person,
+                                                            approvedExpected).addExpressionElement("approved",
+                                                                                                   Boolean.class.getCanonicalName());
+
+        for (int index = 0; index < scenarios; index++) {
+            final int age = index % 40;
+            final Scenario scenario = simulation.addScenario();
+            scenario.setDescription("Scenario " + index);
+            scenario.addMappingValue(person,
+                                     nameGiven,
+                                     "Person " + index);
+            scenario.addMappingValue(person,
+                                     ageGiven,
+                                     String.valueOf(age));
+            scenario.addMappingValue(person,
+                                     approvedExpected,
+                                     age >= 18 ? "true" : "!= true");
+        }
+        return simulation;
+    }
+}
@@ -32,6 +32,7 @@ import org.drools.workbench.screens.drltext.model.DrlModelContent;
 import org.drools.workbench.screens.drltext.service.DRLTextEditorService;
 import org.drools.workbench.screens.drltext.type.DRLResourceTypeDefinition;
 import org.drools.workbench.screens.drltext.type.DSLRResourceTypeDefinition;
+import org.drools.workbench.services.validation.backend.ValidationResultCache;
 import org.guvnor.common.services.backend.config.SafeSessionInfo;
 import org.guvnor.common.services.backend.exceptions.ExceptionUtilities;
 import org.guvnor.common.services.backend.util.CommentedOptionFactory;
@@ -87,6 +88,9 @@ public class DRLTextEditorServiceImpl
     @Inject
     private GenericValidator genericValidator;
 
+    @Inject
+    private ValidationResultCache validationResultCache;
+
     @Inject
     private DRLResourceTypeDefinition drlResourceType;
 
@@ -265,8 +269,10 @@ public class DRLTextEditorServiceImpl
     public List<ValidationMessage> validate(final Path path,
                                             final String content) {
         try {
-            return genericValidator.validate(path,
-                                             content);
+            return validationResultCache.validate(path,
+                                                  content,
+                                                  () -> genericValidator.validate(path,
+                                                                                  content));
         } catch (Exception e) {
             throw ExceptionUtilities.handleException(e);
         }
@@ -20,9 +20,11 @@ import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
 import javax.inject.Inject;
 
+import org.drools.workbench.screens.dsltext.model.DSLInvalidateDMOPackageCacheEvent;
 import org.drools.workbench.screens.dsltext.type.DSLResourceTypeDefinition;
 import org.guvnor.common.services.project.builder.events.InvalidateDMOPackageCacheEvent;
 import org.kie.workbench.common.services.backend.helpers.AbstractInvalidateDMOPackageCacheDeleteHelper;
+import org.uberfire.backend.vfs.Path;
 
 /**
  * DeleteHelper for DSLs to invalidate LRUDataModelOracleCache entries when a DSL is deleted.
@@ -30,11 +32,20 @@ import org.kie.workbench.common.services.backend.helpers.AbstractInvalidateDMOPa
 @ApplicationScoped
 public class DSLInvalidateDMOPackageCacheDeleteHelper extends AbstractInvalidateDMOPackageCacheDeleteHelper<DSLResourceTypeDefinition> {
 
+    private final Event<InvalidateDMOPackageCacheEvent> invalidateDMOPackageCache;
+
     @Inject
     public DSLInvalidateDMOPackageCacheDeleteHelper( final DSLResourceTypeDefinition resourceType,
                                                      final Event<InvalidateDMOPackageCacheEvent> invalidateDMOPackageCache ) {
         super( resourceType,
                invalidateDMOPackageCache );
+        this.invalidateDMOPackageCache = invalidateDMOPackageCache;
+    }
+
+    @Override
+    public void postProcess( final Path path ) {
+        //Fire the typed event so observers can refresh only the DSL sentences
+        invalidateDMOPackageCache.select( DSLInvalidateDMOPackageCacheEvent.class ).fire( new DSLInvalidateDMOPackageCacheEvent( path ) );
     }
 
 }
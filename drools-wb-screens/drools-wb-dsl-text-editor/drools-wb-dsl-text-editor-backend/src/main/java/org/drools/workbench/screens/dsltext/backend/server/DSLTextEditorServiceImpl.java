@@ -29,13 +29,13 @@ import javax.inject.Named;
 
 import org.drools.compiler.lang.dsl.DSLMappingParseException;
 import org.drools.compiler.lang.dsl.DSLTokenizedMappingFile;
+import org.drools.workbench.screens.dsltext.model.DSLInvalidateDMOPackageCacheEvent;
 import org.drools.workbench.screens.dsltext.model.DSLTextEditorContent;
 import org.drools.workbench.screens.dsltext.service.DSLTextEditorService;
 import org.drools.workbench.screens.dsltext.type.DSLResourceTypeDefinition;
 import org.guvnor.common.services.backend.config.SafeSessionInfo;
 import org.guvnor.common.services.backend.exceptions.ExceptionUtilities;
 import org.guvnor.common.services.backend.util.CommentedOptionFactory;
-import org.guvnor.common.services.project.builder.events.InvalidateDMOPackageCacheEvent;
 import org.guvnor.common.services.shared.message.Level;
 import org.guvnor.common.services.shared.metadata.model.Metadata;
 import org.guvnor.common.services.shared.metadata.model.Overview;
@@ -73,7 +73,7 @@ public class DSLTextEditorServiceImpl
     private RenameService renameService;
 
     @Inject
-    private Event<InvalidateDMOPackageCacheEvent> invalidateDMOPackageCache;
+    private Event<DSLInvalidateDMOPackageCacheEvent> invalidateDMOPackageCache;
 
     @Inject
     private Event<ResourceOpenedEvent> resourceOpenedEvent;
@@ -167,7 +167,7 @@ public class DSLTextEditorServiceImpl
                              commentedOptionFactory.makeCommentedOption( comment ) );
 
             //Invalidate Package-level DMO cache as a DSL has been altered
-            invalidateDMOPackageCache.fire( new InvalidateDMOPackageCacheEvent( resource ) );
+            invalidateDMOPackageCache.fire( new DSLInvalidateDMOPackageCacheEvent( resource ) );
 
             fireMetadataSocialEvents( resource, currentMetadata, metadata );
             return resource;
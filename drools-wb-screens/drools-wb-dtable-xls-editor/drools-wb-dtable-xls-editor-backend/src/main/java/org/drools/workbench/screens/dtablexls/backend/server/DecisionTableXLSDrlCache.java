@@ -0,0 +1,75 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.dtablexls.backend.server;
+
+import java.io.ByteArrayInputStream;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.drools.decisiontable.InputType;
+import org.drools.decisiontable.SpreadsheetCompiler;
+import org.drools.workbench.services.cache.backend.LRUContentCache;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+/**
+ * Cache of the DRL compiled from XLS and XLSX decision tables. Compiling a large spreadsheet is expensive and
+ * viewing its source and indexing it each need the DRL. Entries are keyed on the Path of the spreadsheet and a hash
+ * of its content. The least recently used entries are evicted once the number of cached spreadsheets exceeds the
+ * limit set by the {@value #MAX_ENTRIES_PROPERTY} system property (default {@value #DEFAULT_MAX_ENTRIES}).
+ */
+@ApplicationScoped
+public class DecisionTableXLSDrlCache extends LRUContentCache<String> {
+
+    public static final String MAX_ENTRIES_PROPERTY = "org.drools.workbench.dtablexls.drl.cache.max-entries";
+
+    static final int DEFAULT_MAX_ENTRIES = 50;
+
+    public DecisionTableXLSDrlCache() {
+        this(Integer.getInteger(MAX_ENTRIES_PROPERTY,
+                                DEFAULT_MAX_ENTRIES));
+    }
+
+    DecisionTableXLSDrlCache(final int maxEntries) {
+        super(maxEntries);
+    }
+
+    /**
+     * Returns the DRL for a spreadsheet, compiling it only if the same content has not already been compiled
+     * for the Path.
+     * @param path Path of the spreadsheet
+     * @param content Binary content of the spreadsheet
+     * @return The DRL generated from the spreadsheet
+     */
+    public String getDrl(final Path path,
+                         final byte[] content) {
+        return get(path,
+                   content,
+                   () -> compile(content));
+    }
+
+    String compile(final byte[] content) {
+        return new SpreadsheetCompiler().compile(new ByteArrayInputStream(content),
+                                                 InputType.XLS);
+    }
+
+    //Spreadsheets are large, so the previous content's DRL is released as soon as the spreadsheet is saved
+    public void onResourceUpdated(final @Observes ResourceUpdatedEvent event) {
+        invalidate(event.getPath());
+    }
+}
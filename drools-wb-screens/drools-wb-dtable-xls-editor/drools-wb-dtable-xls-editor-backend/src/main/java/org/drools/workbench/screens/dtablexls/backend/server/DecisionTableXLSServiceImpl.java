@@ -30,12 +30,6 @@ import javax.inject.Inject;
 import javax.inject.Named;
 
 import org.apache.commons.io.IOUtils;
-import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.usermodel.WorkbookFactory;
-import org.drools.decisiontable.InputType;
-import org.drools.decisiontable.SpreadsheetCompiler;
-import org.drools.template.parser.DecisionTableParseException;
 import org.drools.workbench.models.guided.dtable.shared.conversion.ConversionResult;
 import org.drools.workbench.screens.dtablexls.service.DecisionTableXLSContent;
 import org.drools.workbench.screens.dtablexls.service.DecisionTableXLSConversionService;
@@ -83,6 +77,7 @@ public class DecisionTableXLSServiceImpl
     private GenericValidator genericValidator;
     private CommentedOptionFactory commentedOptionFactory;
     private AuthenticationService authenticationService;
+    private DecisionTableXLSDrlCache drlCache;
 
     public DecisionTableXLSServiceImpl() {
     }
@@ -96,7 +91,8 @@ public class DecisionTableXLSServiceImpl
                                         final DecisionTableXLSConversionService conversionService,
                                         final GenericValidator genericValidator,
                                         final CommentedOptionFactory commentedOptionFactory,
-                                        final AuthenticationService authenticationService ) {
+                                        final AuthenticationService authenticationService,
+                                        final DecisionTableXLSDrlCache drlCache ) {
         this.ioService = ioService;
         this.copyService = copyService;
         this.deleteService = deleteService;
@@ -106,6 +102,7 @@ public class DecisionTableXLSServiceImpl
         this.genericValidator = genericValidator;
         this.commentedOptionFactory = commentedOptionFactory;
         this.authenticationService = authenticationService;
+        this.drlCache = drlCache;
     }
 
     @Override
@@ -174,11 +171,13 @@ public class DecisionTableXLSServiceImpl
         }
         log.info( "USER:" + sessionInfo.getIdentity().getIdentifier() + " " + userAction + " asset [" + resource.getFileName() + "]" );
 
+        File tempFile = null;
         FileInputStream tempFIS = null;
         FileOutputStream tempFOS = null;
         OutputStream outputStream = null;
         try {
-            File tempFile = File.createTempFile( "testxls", null );
+            //The upload is copied once to a temporary file, which is validated and then written to the repository
+            tempFile = File.createTempFile( "testxls", null );
             tempFOS = new FileOutputStream( tempFile );
             IOUtils.copy( content, tempFOS );
             tempFOS.flush();
@@ -236,53 +235,24 @@ public class DecisionTableXLSServiceImpl
                     throw ExceptionUtilities.handleException( e );
                 }
             }
+            if ( tempFile != null && !tempFile.delete() ) {
+                tempFile.deleteOnExit();
+            }
         }
     }
 
     void validate( final File tempFile ) {
-        Workbook workbook = null;
-        try {
-            workbook = WorkbookFactory.create( tempFile );
-        } catch ( InvalidFormatException e ) {
-            throw new DecisionTableParseException( "DecisionTableParseException: An error occurred opening the workbook. It is possible that the encoding of the document did not match the encoding of the reader.",
-                                                   e );
-        } catch ( IOException e ) {
-            throw new DecisionTableParseException( "DecisionTableParseException: Failed to open Excel stream, " + "please check that the content is xls97 format.",
-                                                   e );
-        } catch ( Throwable e ) {
-            throw new DecisionTableParseException( "DecisionTableParseException: " + e.getMessage(),
-                                                   e );
-        } finally {
-            if ( workbook != null ) {
-                try {
-                    workbook.close();
-                } catch ( IOException e ) {
-                    throw ExceptionUtilities.handleException( e );
-                }
-            }
-        }
+        DecisionTableXLSValidator.validate( tempFile );
     }
 
     @Override
     public String getSource( final Path path ) {
-        InputStream inputStream = null;
         try {
-            final SpreadsheetCompiler compiler = new SpreadsheetCompiler();
-            inputStream = ioService.newInputStream( Paths.convert( path ),
-                                                    StandardOpenOption.READ );
-            final String drl = compiler.compile( inputStream,
-                                                 InputType.XLS );
-            return drl;
+            final byte[] content = ioService.readAllBytes( Paths.convert( path ) );
+            return drlCache.getDrl( path,
+                                    content );
         } catch ( Exception e ) {
             throw new SourceGenerationFailedException( e.getMessage() );
-        } finally {
-            if ( inputStream != null ) {
-                try {
-                    inputStream.close();
-                } catch ( IOException ioe ) {
-                    throw ExceptionUtilities.handleException( ioe );
-                }
-            }
         }
     }
 
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.dtablexls.backend.server;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+import org.apache.poi.hssf.eventusermodel.AbortableHSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
+import org.apache.poi.hssf.eventusermodel.HSSFRequest;
+import org.apache.poi.hssf.record.LabelRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.util.SAXHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.drools.template.parser.DecisionTableParseException;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+/**
+ * Validates uploaded XLS and XLSX decision tables using POI's event (streaming) APIs. The format of the file is
+ * checked from its header and the cells are then read one at a time until a "RuleTable" marker is found, so
+ * the memory used does not depend on the size of the workbook as it would when building the full object model.
+ */
+class DecisionTableXLSValidator {
+
+    private static final String RULE_TABLE_MARKER = "ruletable";
+
+    private DecisionTableXLSValidator() {
+    }
+
+    /**
+     * Validates a decision table.
+     * @param file File containing the XLS or XLSX decision table
+     * @throws DecisionTableParseException if the file is not a readable XLS or XLSX workbook or it contains no
+     * "RuleTable" marker
+     */
+    static void validate(final File file) {
+        final boolean hasRuleTable;
+        try {
+            switch (getFileMagic(file)) {
+                case OLE2:
+                    hasRuleTable = hasHSSFRuleTable(file);
+                    break;
+                case OOXML:
+                    hasRuleTable = hasXSSFRuleTable(file);
+                    break;
+                default:
+                    throw new DecisionTableParseException("DecisionTableParseException: Failed to open Excel stream, " + "please check that the content is xls97 format.");
+            }
+        } catch (DecisionTableParseException e) {
+            throw e;
+        } catch (InvalidFormatException e) {
+            throw new DecisionTableParseException("DecisionTableParseException: An error occurred opening the workbook. It is possible that the encoding of the document did not match the encoding of the reader.",
+                                                  e);
+        } catch (IOException e) {
+            throw new DecisionTableParseException("DecisionTableParseException: Failed to open Excel stream, " + "please check that the content is xls97 format.",
+                                                  e);
+        } catch (Throwable e) {
+            throw new DecisionTableParseException("DecisionTableParseException: " + e.getMessage(),
+                                                  e);
+        }
+        if (!hasRuleTable) {
+            throw new DecisionTableParseException("DecisionTableParseException: No RuleTable cells in spreadsheet.");
+        }
+    }
+
+    static boolean isRuleTableMarker(final String value) {
+        return value != null && value.trim().toLowerCase().startsWith(RULE_TABLE_MARKER);
+    }
+
+    private static FileMagic getFileMagic(final File file) throws IOException {
+        try (InputStream is = new BufferedInputStream(new FileInputStream(file))) {
+            return FileMagic.valueOf(is);
+        }
+    }
+
+    private static boolean hasHSSFRuleTable(final File file) throws Exception {
+        try (POIFSFileSystem fs = new POIFSFileSystem(file,
+                                                      true)) {
+            final RuleTableHSSFListener listener = new RuleTableHSSFListener();
+            final HSSFRequest request = new HSSFRequest();
+            request.addListenerForAllRecords(listener);
+            new HSSFEventFactory().abortableProcessWorkbookEvents(request,
+                                                                  fs.getRoot());
+            return listener.hasRuleTable;
+        }
+    }
+
+    private static boolean hasXSSFRuleTable(final File file) throws Exception {
+        final OPCPackage pkg = OPCPackage.open(file,
+                                               PackageAccess.READ);
+        try {
+            final XSSFReader reader = new XSSFReader(pkg);
+            final ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            final Iterator<InputStream> sheets = reader.getSheetsData();
+            while (sheets.hasNext()) {
+                try (InputStream sheet = sheets.next()) {
+                    final XMLReader parser = SAXHelper.newXMLReader();
+                    parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(),
+                                                                     strings,
+                                                                     new RuleTableSheetContentsHandler(),
+                                                                     false));
+                    parser.parse(new InputSource(sheet));
+                } catch (RuleTableFoundException e) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            //Packages opened for reading must be reverted, not closed, as closing attempts to save the package
+            pkg.revert();
+        }
+    }
+
+    private static class RuleTableHSSFListener extends AbortableHSSFListener {
+
+        private SSTRecord sstRecord;
+        private boolean hasRuleTable = false;
+
+        @Override
+        public short abortableProcessRecord(final Record record) {
+            String value = null;
+            switch (record.getSid()) {
+                case SSTRecord.sid:
+                    sstRecord = (SSTRecord) record;
+                    break;
+                case LabelSSTRecord.sid:
+                    if (sstRecord != null) {
+                        value = sstRecord.getString(((LabelSSTRecord) record).getSSTIndex()).getString();
+                    }
+                    break;
+                case LabelRecord.sid:
+                    value = ((LabelRecord) record).getValue();
+                    break;
+            }
+            if (isRuleTableMarker(value)) {
+                hasRuleTable = true;
+                //A non-zero return value stops processing of the remaining records
+                return 1;
+            }
+            return 0;
+        }
+    }
+
+    private static class RuleTableSheetContentsHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        @Override
+        public void startRow(final int rowNum) {
+        }
+
+        @Override
+        public void endRow(final int rowNum) {
+        }
+
+        @Override
+        public void cell(final String cellReference,
+                         final String formattedValue,
+                         final XSSFComment comment) {
+            if (isRuleTableMarker(formattedValue)) {
+                throw new RuleTableFoundException();
+            }
+        }
+
+        @Override
+        public void headerFooter(final String text,
+                                 final boolean isHeader,
+                                 final String tagName) {
+        }
+    }
+
+    //Thrown to stop parsing a sheet once a marker has been found
+    private static class RuleTableFoundException extends RuntimeException {
+
+        private RuleTableFoundException() {
+            super(null,
+                  null,
+                  false,
+                  false);
+        }
+    }
+}
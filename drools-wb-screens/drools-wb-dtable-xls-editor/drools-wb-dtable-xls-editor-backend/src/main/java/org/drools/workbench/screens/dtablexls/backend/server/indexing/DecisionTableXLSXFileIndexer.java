@@ -15,12 +15,10 @@
  */
 package org.drools.workbench.screens.dtablexls.backend.server.indexing;
 
-import java.io.InputStream;
-
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
-import org.drools.compiler.compiler.DecisionTableFactory;
+import org.drools.workbench.screens.dtablexls.backend.server.DecisionTableXLSDrlCache;
 import org.drools.workbench.screens.dtablexls.type.DecisionTableXLSXResourceTypeDefinition;
 import org.kie.soup.project.datamodel.oracle.ModuleDataModelOracle;
 import org.kie.workbench.common.services.datamodel.backend.server.service.DataModelService;
@@ -28,7 +26,6 @@ import org.kie.workbench.common.services.refactoring.backend.server.indexing.Ind
 import org.kie.workbench.common.services.refactoring.backend.server.indexing.drools.AbstractDrlFileIndexer;
 import org.uberfire.backend.server.util.Paths;
 import org.uberfire.java.nio.file.Path;
-import org.uberfire.java.nio.file.StandardOpenOption;
 
 @ApplicationScoped
 public class DecisionTableXLSXFileIndexer extends AbstractDrlFileIndexer {
@@ -39,6 +36,9 @@ public class DecisionTableXLSXFileIndexer extends AbstractDrlFileIndexer {
     @Inject
     protected DecisionTableXLSXResourceTypeDefinition type;
 
+    @Inject
+    protected DecisionTableXLSDrlCache drlCache;
+
     @Override
     public boolean supportsPath(final Path path) {
         return type.accept(Paths.convert(path));
@@ -46,12 +46,11 @@ public class DecisionTableXLSXFileIndexer extends AbstractDrlFileIndexer {
 
     @Override
     public IndexBuilder fillIndexBuilder(final Path path) throws Exception {
-        try (final InputStream inputStream = ioService.newInputStream(path, StandardOpenOption.READ)) {
-            final String drl = DecisionTableFactory.loadFromInputStream(inputStream,
-                                                                        null);
+        final byte[] content = ioService.readAllBytes(path);
+        final String drl = drlCache.getDrl(Paths.convert(path),
+                                           content);
 
-            return fillDrlIndexBuilder(path, drl);
-        }
+        return fillDrlIndexBuilder(path, drl);
     }
 
     @Override
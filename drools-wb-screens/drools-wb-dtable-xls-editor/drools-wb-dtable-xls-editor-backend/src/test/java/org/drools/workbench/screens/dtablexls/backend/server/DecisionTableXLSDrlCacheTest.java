@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.dtablexls.backend.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.backend.vfs.PathFactory;
+import org.uberfire.rpc.SessionInfo;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class DecisionTableXLSDrlCacheTest {
+
+    private DecisionTableXLSDrlCache cache;
+
+    private byte[] content;
+
+    private final Path path = PathFactory.newPath("dummy.xls",
+                                                  "default://master@repo/project/src/main/resources/dummy.xls");
+
+    @Before
+    public void setup() throws IOException {
+        cache = spy(new DecisionTableXLSDrlCache(2));
+        try (InputStream is = this.getClass().getResourceAsStream("dummy.xls")) {
+            content = IOUtils.toByteArray(is);
+        }
+    }
+
+    @Test
+    public void testUpdateInvalidatesPath() {
+        assertTrue(cache.getDrl(path,
+                                content).contains("HelloWorld1"));
+
+        cache.onResourceUpdated(new ResourceUpdatedEvent(path,
+                                                         "",
+                                                         mock(SessionInfo.class)));
+        assertEquals(0,
+                     cache.size());
+
+        cache.getDrl(path,
+                     content);
+        verify(cache,
+               times(2)).compile(content);
+    }
+}
@@ -92,6 +92,9 @@ public class DecisionTableXLSServiceImplTest {
     @Mock
     private AuthenticationService authenticationService;
 
+    @Mock
+    private DecisionTableXLSDrlCache drlCache;
+
     @Mock
     private User user;
 
@@ -242,6 +245,18 @@ public class DecisionTableXLSServiceImplTest {
         service.validate( tempFile );
     }
 
+    @Test
+    public void testGetSourceUsesCachedDrl() {
+        this.service = getServiceWithValidationOverride( null );
+        final byte[] content = new byte[]{ 1, 2, 3 };
+        when( ioService.readAllBytes( any( org.uberfire.java.nio.file.Path.class ) ) ).thenReturn( content );
+        when( drlCache.getDrl( path,
+                               content ) ).thenReturn( "drl" );
+
+        assertEquals( "drl",
+                      service.getSource( path ) );
+    }
+
     private DecisionTableXLSServiceImpl getServiceWithValidationOverride( Consumer<File> validationOverride ) {
         return new DecisionTableXLSServiceImpl( ioService,
                                                 copyService,
@@ -251,7 +266,8 @@ public class DecisionTableXLSServiceImplTest {
                                                 conversionService,
                                                 genericValidator,
                                                 commentedOptionFactory,
-                                                authenticationService ) {
+                                                authenticationService,
+                                                drlCache ) {
             @Override
             void validate( final File tempFile ) {
                 if ( validationOverride != null ) {
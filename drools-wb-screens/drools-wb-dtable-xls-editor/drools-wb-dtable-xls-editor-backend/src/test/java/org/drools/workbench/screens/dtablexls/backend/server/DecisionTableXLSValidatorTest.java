@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.dtablexls.backend.server;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.drools.template.parser.DecisionTableParseException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DecisionTableXLSValidatorTest {
+
+    @Test
+    public void testValidXLS() throws URISyntaxException {
+        DecisionTableXLSValidator.validate(new File(this.getClass().getResource("dummy.xls").toURI()));
+    }
+
+    @Test
+    public void testValidXLSX() throws URISyntaxException {
+        DecisionTableXLSValidator.validate(new File(this.getClass().getResource("indexing/xlsxrule.xlsx").toURI()));
+    }
+
+    @Test
+    public void testRuleTableOnSecondSheetXLS() throws IOException {
+        DecisionTableXLSValidator.validate(makeWorkbook(new HSSFWorkbook(),
+                                                        "RuleTable Sheet2"));
+    }
+
+    @Test
+    public void testRuleTableOnSecondSheetXLSX() throws IOException {
+        DecisionTableXLSValidator.validate(makeWorkbook(new XSSFWorkbook(),
+                                                        "RuleTable Sheet2"));
+    }
+
+    @Test(expected = DecisionTableParseException.class)
+    public void testNoRuleTableXLS() throws IOException {
+        DecisionTableXLSValidator.validate(makeWorkbook(new HSSFWorkbook(),
+                                                        "Not a decision table"));
+    }
+
+    @Test(expected = DecisionTableParseException.class)
+    public void testNoRuleTableXLSX() throws IOException {
+        DecisionTableXLSValidator.validate(makeWorkbook(new XSSFWorkbook(),
+                                                        "Not a decision table"));
+    }
+
+    @Test
+    public void testIsRuleTableMarker() {
+        assertTrue(DecisionTableXLSValidator.isRuleTableMarker("RuleTable Pricing"));
+        assertTrue(DecisionTableXLSValidator.isRuleTableMarker("  ruletable Pricing"));
+        assertFalse(DecisionTableXLSValidator.isRuleTableMarker("RuleSet"));
+        assertFalse(DecisionTableXLSValidator.isRuleTableMarker(null));
+    }
+
+    private File makeWorkbook(final Workbook workbook,
+                              final String secondSheetValue) throws IOException {
+        workbook.createSheet("Sheet1").createRow(0).createCell(0).setCellValue("RuleSet");
+        final Sheet sheet2 = workbook.createSheet("Sheet2");
+        sheet2.createRow(0).createCell(0).setCellValue("Notes");
+        sheet2.createRow(5).createCell(1).setCellValue(secondSheetValue);
+
+        final File file = File.createTempFile("dtable",
+                                              null);
+        file.deleteOnExit();
+        try (OutputStream os = new FileOutputStream(file)) {
+            workbook.write(os);
+        } finally {
+            workbook.close();
+        }
+        return file;
+    }
+}
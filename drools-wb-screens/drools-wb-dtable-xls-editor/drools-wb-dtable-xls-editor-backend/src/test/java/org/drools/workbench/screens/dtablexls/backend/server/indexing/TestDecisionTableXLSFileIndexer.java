@@ -19,6 +19,7 @@ import java.util.HashMap;
 
 import javax.enterprise.context.ApplicationScoped;
 
+import org.drools.workbench.screens.dtablexls.backend.server.DecisionTableXLSDrlCache;
 import org.drools.workbench.screens.dtablexls.type.DecisionTableXLSResourceTypeDefinition;
 import org.kie.soup.project.datamodel.commons.oracle.ModuleDataModelOracleImpl;
 import org.kie.soup.project.datamodel.oracle.DataType;
@@ -36,6 +37,10 @@ import org.uberfire.java.nio.file.Path;
 @ApplicationScoped
 public class TestDecisionTableXLSFileIndexer extends DecisionTableXLSFileIndexer implements TestIndexer<DecisionTableXLSResourceTypeDefinition> {
 
+    public TestDecisionTableXLSFileIndexer() {
+        this.drlCache = new DecisionTableXLSDrlCache();
+    }
+
     @Override
     public void setIOService(final IOService ioService) {
         this.ioService = ioService;
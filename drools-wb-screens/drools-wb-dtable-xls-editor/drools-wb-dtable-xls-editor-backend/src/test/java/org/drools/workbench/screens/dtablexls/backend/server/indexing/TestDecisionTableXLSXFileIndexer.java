@@ -17,6 +17,7 @@ package org.drools.workbench.screens.dtablexls.backend.server.indexing;
 
 import javax.enterprise.context.ApplicationScoped;
 
+import org.drools.workbench.screens.dtablexls.backend.server.DecisionTableXLSDrlCache;
 import org.drools.workbench.screens.dtablexls.type.DecisionTableXLSXResourceTypeDefinition;
 import org.kie.soup.project.datamodel.commons.oracle.ModuleDataModelOracleImpl;
 import org.kie.soup.project.datamodel.oracle.ModuleDataModelOracle;
@@ -31,6 +32,10 @@ import org.uberfire.java.nio.file.Path;
 @ApplicationScoped
 public class TestDecisionTableXLSXFileIndexer extends DecisionTableXLSXFileIndexer implements TestIndexer<DecisionTableXLSXResourceTypeDefinition> {
 
+    public TestDecisionTableXLSXFileIndexer() {
+        this.drlCache = new DecisionTableXLSDrlCache();
+    }
+
     @Override
     public void setIOService(final IOService ioService) {
         this.ioService = ioService;
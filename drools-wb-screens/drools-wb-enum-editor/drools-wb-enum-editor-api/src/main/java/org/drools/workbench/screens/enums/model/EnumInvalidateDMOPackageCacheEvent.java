@@ -0,0 +1,37 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.enums.model;
+
+import org.guvnor.common.services.project.builder.events.InvalidateDMOPackageCacheEvent;
+import org.jboss.errai.common.client.api.annotations.Portable;
+import org.uberfire.backend.vfs.Path;
+
+/**
+ * Signals that an enumeration definition file in a Package changed. Observers of {@link InvalidateDMOPackageCacheEvent} still receive this
+ * event, whereas observers only interested in enumerations can observe this type alone.
+ */
+@Portable
+public class EnumInvalidateDMOPackageCacheEvent extends InvalidateDMOPackageCacheEvent {
+
+    public EnumInvalidateDMOPackageCacheEvent() {
+        //Zero argument constructor for Errai marshalling
+    }
+
+    public EnumInvalidateDMOPackageCacheEvent(final Path resourcePath) {
+        super(resourcePath);
+    }
+}
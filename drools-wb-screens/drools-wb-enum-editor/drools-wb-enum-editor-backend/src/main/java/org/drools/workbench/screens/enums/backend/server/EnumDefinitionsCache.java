@@ -0,0 +1,62 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.screens.enums.backend.server;
+
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.drools.workbench.services.cache.backend.LRUContentCache;
+import org.guvnor.common.services.project.builder.events.InvalidateDMOModuleCacheEvent;
+import org.kie.workbench.common.services.datamodel.backend.server.builder.util.DataEnumLoader;
+import org.uberfire.backend.vfs.Path;
+
+/**
+ * Cache of evaluated enum definitions. Loading an enum file MVEL-evaluates its entire content, which is slow for
+ * large files. Definitions are keyed on the Path of the file and a hash of its content, so saving an enum file
+ * does not discard the definitions evaluated when it was validated. All definitions are discarded whenever a
+ * Module's Data Model Oracle is invalidated, as enums may reference the Module's classes.
+ */
+@ApplicationScoped
+public class EnumDefinitionsCache extends LRUContentCache<DataEnumLoader> {
+
+    static final int MAX_ENTRIES = 100;
+
+    public EnumDefinitionsCache() {
+        super(MAX_ENTRIES);
+    }
+
+    /**
+     * Returns the evaluated definitions for the content of an enum file, evaluating them only if the same content
+     * has not already been evaluated for the Path against the current Module classes.
+     * @param path Path of the enum file
+     * @param content Content of the enum file
+     * @param loader Evaluates the content if the definitions are not cached
+     * @return The evaluated definitions. The returned loader is shared and its data must not be modified.
+     */
+    public DataEnumLoader getDefinitions(final Path path,
+                                         final String content,
+                                         final Supplier<DataEnumLoader> loader) {
+        return get(path,
+                   content,
+                   loader);
+    }
+
+    public void onInvalidateDMOModuleCache(final @Observes InvalidateDMOModuleCacheEvent event) {
+        invalidate();
+    }
+}
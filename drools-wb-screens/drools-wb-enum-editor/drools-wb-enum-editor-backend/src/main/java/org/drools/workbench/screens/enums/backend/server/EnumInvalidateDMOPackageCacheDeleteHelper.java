@@ -20,9 +20,11 @@ import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
 import javax.inject.Inject;
 
+import org.drools.workbench.screens.enums.model.EnumInvalidateDMOPackageCacheEvent;
 import org.drools.workbench.screens.enums.type.EnumResourceTypeDefinition;
 import org.guvnor.common.services.project.builder.events.InvalidateDMOPackageCacheEvent;
 import org.kie.workbench.common.services.backend.helpers.AbstractInvalidateDMOPackageCacheDeleteHelper;
+import org.uberfire.backend.vfs.Path;
 
 /**
  * DeleteHelper for Enumerations to invalidate LRUDataModelOracleCache entries when an Enumeration is deleted.
@@ -30,11 +32,20 @@ import org.kie.workbench.common.services.backend.helpers.AbstractInvalidateDMOPa
 @ApplicationScoped
 public class EnumInvalidateDMOPackageCacheDeleteHelper extends AbstractInvalidateDMOPackageCacheDeleteHelper<EnumResourceTypeDefinition> {
 
+    private final Event<InvalidateDMOPackageCacheEvent> invalidateDMOPackageCache;
+
     @Inject
     public EnumInvalidateDMOPackageCacheDeleteHelper( final EnumResourceTypeDefinition resourceType,
                                                       final Event<InvalidateDMOPackageCacheEvent> invalidateDMOPackageCache ) {
         super( resourceType,
                invalidateDMOPackageCache );
+        this.invalidateDMOPackageCache = invalidateDMOPackageCache;
+    }
+
+    @Override
+    public void postProcess( final Path path ) {
+        //Fire the typed event so observers can refresh only the enumerations
+        invalidateDMOPackageCache.select( EnumInvalidateDMOPackageCacheEvent.class ).fire( new EnumInvalidateDMOPackageCacheEvent( path ) );
     }
 
 }
@@ -26,6 +26,7 @@ import javax.enterprise.event.Event;
 import javax.inject.Inject;
 import javax.inject.Named;
 
+import org.drools.workbench.screens.enums.model.EnumInvalidateDMOPackageCacheEvent;
 import org.drools.workbench.screens.enums.model.EnumModel;
 import org.drools.workbench.screens.enums.model.EnumModelContent;
 import org.drools.workbench.screens.enums.service.EnumService;
@@ -33,7 +34,6 @@ import org.drools.workbench.screens.enums.type.EnumResourceTypeDefinition;
 import org.guvnor.common.services.backend.config.SafeSessionInfo;
 import org.guvnor.common.services.backend.exceptions.ExceptionUtilities;
 import org.guvnor.common.services.backend.util.CommentedOptionFactory;
-import org.guvnor.common.services.project.builder.events.InvalidateDMOPackageCacheEvent;
 import org.guvnor.common.services.shared.message.Level;
 import org.guvnor.common.services.shared.metadata.model.Metadata;
 import org.guvnor.common.services.shared.metadata.model.Overview;
@@ -79,7 +79,7 @@ public class EnumServiceImpl
     private RenameService renameService;
 
     @Inject
-    private Event<InvalidateDMOPackageCacheEvent> invalidateDMOPackageCache;
+    private Event<EnumInvalidateDMOPackageCacheEvent> invalidateDMOPackageCache;
 
     @Inject
     private Event<ResourceOpenedEvent> resourceOpenedEvent;
@@ -96,6 +96,9 @@ public class EnumServiceImpl
     @Inject
     private MVELEvaluator evaluator;
 
+    @Inject
+    private EnumDefinitionsCache enumDefinitionsCache;
+
     @Inject
     private SaveAndRenameServiceImpl<String, Metadata> saveAndRenameService;
 
@@ -178,7 +181,7 @@ public class EnumServiceImpl
                             commentedOptionFactory.makeCommentedOption(comment));
 
             //Invalidate Package-level DMO cache as Enums have changed.
-            invalidateDMOPackageCache.fire(new InvalidateDMOPackageCacheEvent(resource));
+            invalidateDMOPackageCache.fire(new EnumInvalidateDMOPackageCacheEvent(resource));
 
             fireMetadataSocialEvents(resource,
                                      currentMetadata,
@@ -267,12 +270,10 @@ public class EnumServiceImpl
     private List<ValidationMessage> doValidation(final Path path,
                                                  final String content) {
         try {
-            final KieModule module = moduleService.resolveModule(path);
-            final org.kie.api.builder.KieModule kieModule = buildInfoService.getBuildInfo(module).getKieModuleIgnoringErrors();
-            final ClassLoader classLoader = KieModuleMetaData.Factory.newKieModuleMetaData(kieModule).getClassLoader();
-            final DataEnumLoader loader = new DataEnumLoader(content,
-                                                             classLoader,
-                                                             evaluator);
+            final DataEnumLoader loader = enumDefinitionsCache.getDefinitions(path,
+                                                                              content,
+                                                                              () -> loadDefinitions(path,
+                                                                                                    content));
             if (!loader.hasErrors()) {
                 return Collections.emptyList();
             } else {
@@ -290,6 +291,16 @@ public class EnumServiceImpl
         }
     }
 
+    private DataEnumLoader loadDefinitions(final Path path,
+                                           final String content) {
+        final KieModule module = moduleService.resolveModule(path);
+        final org.kie.api.builder.KieModule kieModule = buildInfoService.getBuildInfo(module).getKieModuleIgnoringErrors();
+        final ClassLoader classLoader = KieModuleMetaData.Factory.newKieModuleMetaData(kieModule).getClassLoader();
+        return new DataEnumLoader(content,
+                                  classLoader,
+                                  evaluator);
+    }
+
     private ValidationMessage makeValidationMessages(final Path path,
                                                      final String message) {
         final ValidationMessage msg = new ValidationMessage();
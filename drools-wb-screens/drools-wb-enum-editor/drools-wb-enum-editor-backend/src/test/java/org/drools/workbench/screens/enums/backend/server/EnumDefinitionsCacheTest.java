@@ -0,0 +1,71 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.screens.enums.backend.server;
+
+import java.util.function.Supplier;
+
+import org.guvnor.common.services.project.builder.events.InvalidateDMOModuleCacheEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.services.datamodel.backend.server.builder.util.DataEnumLoader;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.backend.vfs.PathFactory;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class EnumDefinitionsCacheTest {
+
+    private static final String CONTENT = "'Person.sex' : ['M', 'F']";
+
+    @Mock
+    private Supplier<DataEnumLoader> loader;
+
+    @Mock
+    private DataEnumLoader definitions;
+
+    private EnumDefinitionsCache cache;
+
+    private final Path path = PathFactory.newPath("definitions.enumeration",
+                                                  "default://master@repo/project/src/main/resources/definitions.enumeration");
+
+    @Before
+    public void setup() {
+        cache = new EnumDefinitionsCache();
+        when(loader.get()).thenReturn(definitions);
+    }
+
+    @Test
+    public void testModuleChangeEvaluatesAgain() {
+        cache.getDefinitions(path,
+                             CONTENT,
+                             loader);
+
+        cache.onInvalidateDMOModuleCache(mock(InvalidateDMOModuleCacheEvent.class));
+        cache.getDefinitions(path,
+                             CONTENT,
+                             loader);
+
+        verify(loader,
+               times(2)).get();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.enums.backend.server;
+
+import javax.enterprise.event.Event;
+
+import org.drools.workbench.screens.enums.model.EnumInvalidateDMOPackageCacheEvent;
+import org.drools.workbench.screens.enums.type.EnumResourceTypeDefinition;
+import org.guvnor.common.services.project.builder.events.InvalidateDMOPackageCacheEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.backend.vfs.PathFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class EnumInvalidateDMOPackageCacheDeleteHelperTest {
+
+    @Mock
+    private Event<InvalidateDMOPackageCacheEvent> invalidateDMOPackageCache;
+
+    @Mock
+    private Event<EnumInvalidateDMOPackageCacheEvent> enumInvalidateDMOPackageCache;
+
+    private EnumInvalidateDMOPackageCacheDeleteHelper helper;
+
+    @Before
+    public void setup() {
+        when(invalidateDMOPackageCache.select(EnumInvalidateDMOPackageCacheEvent.class)).thenReturn(enumInvalidateDMOPackageCache);
+        helper = new EnumInvalidateDMOPackageCacheDeleteHelper(new EnumResourceTypeDefinition(),
+                                                               invalidateDMOPackageCache);
+    }
+
+    @Test
+    public void testSupports() {
+        assertTrue(helper.supports(PathFactory.newPath("enum.enumeration",
+                                                       "file:///enum.enumeration")));
+        assertFalse(helper.supports(PathFactory.newPath("rule.drl",
+                                                        "file:///rule.drl")));
+    }
+
+    @Test
+    public void testPostProcessFiresEnumEvent() {
+        final Path path = PathFactory.newPath("enum.enumeration",
+                                              "file:///enum.enumeration");
+        final ArgumentCaptor<EnumInvalidateDMOPackageCacheEvent> eventCaptor = ArgumentCaptor.forClass(EnumInvalidateDMOPackageCacheEvent.class);
+
+        helper.postProcess(path);
+
+        verify(enumInvalidateDMOPackageCache).fire(eventCaptor.capture());
+        assertEquals(path,
+                     eventCaptor.getValue().getResourcePath());
+    }
+}
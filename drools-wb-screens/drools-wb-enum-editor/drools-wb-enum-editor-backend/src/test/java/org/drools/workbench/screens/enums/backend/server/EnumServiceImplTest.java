@@ -20,9 +20,9 @@ import java.util.Collections;
 
 import javax.enterprise.event.Event;
 
+import org.drools.workbench.screens.enums.model.EnumInvalidateDMOPackageCacheEvent;
 import org.guvnor.common.services.backend.metadata.MetadataServerSideService;
 import org.guvnor.common.services.backend.util.CommentedOptionFactory;
-import org.guvnor.common.services.project.builder.events.InvalidateDMOPackageCacheEvent;
 import org.guvnor.common.services.shared.metadata.model.Metadata;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -60,7 +60,7 @@ public class EnumServiceImplTest {
     private MetadataServerSideService metadataService;
 
     @Mock
-    private Event<InvalidateDMOPackageCacheEvent> invalidateDMOPackageCache;
+    private Event<EnumInvalidateDMOPackageCacheEvent> invalidateDMOPackageCache;
 
     @Mock
     private SaveAndRenameServiceImpl<String, Metadata> saveAndRenameService;
@@ -103,6 +103,7 @@ public class EnumServiceImplTest {
                                 eq(fileContent),
                                 eq(Collections.EMPTY_MAP),
                                 eq(commentedOption));
+        verify(invalidateDMOPackageCache).fire(any(EnumInvalidateDMOPackageCacheEvent.class));
     }
 
     @Test
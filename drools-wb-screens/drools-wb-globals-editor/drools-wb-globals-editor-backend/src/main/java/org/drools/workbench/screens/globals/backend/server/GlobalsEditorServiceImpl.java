@@ -27,14 +27,15 @@ import javax.inject.Inject;
 
 import org.drools.workbench.screens.globals.backend.server.util.GlobalsPersistence;
 import org.drools.workbench.screens.globals.model.GlobalsEditorContent;
+import org.drools.workbench.screens.globals.model.GlobalsInvalidateDMOPackageCacheEvent;
 import org.drools.workbench.screens.globals.model.GlobalsModel;
 import org.drools.workbench.screens.globals.service.GlobalsEditorService;
+import org.drools.workbench.services.validation.backend.ValidationResultCache;
 import org.guvnor.common.services.backend.config.SafeSessionInfo;
 import org.guvnor.common.services.backend.exceptions.ExceptionUtilities;
 import org.guvnor.common.services.backend.metadata.MetadataBuilder;
 import org.guvnor.common.services.backend.util.CommentedOptionFactory;
 import org.guvnor.common.services.backend.validation.GenericValidator;
-import org.guvnor.common.services.project.builder.events.InvalidateDMOPackageCacheEvent;
 import org.guvnor.common.services.project.model.Package;
 import org.guvnor.common.services.shared.metadata.model.Metadata;
 import org.guvnor.common.services.shared.metadata.model.Overview;
@@ -72,7 +73,7 @@ public class GlobalsEditorServiceImpl
     private RenameService renameService;
 
     @Inject
-    private Event<InvalidateDMOPackageCacheEvent> invalidatePackageDMOEvent;
+    private Event<GlobalsInvalidateDMOPackageCacheEvent> invalidatePackageDMOEvent;
 
     @Inject
     private Event<ResourceOpenedEvent> resourceOpenedEvent;
@@ -83,6 +84,9 @@ public class GlobalsEditorServiceImpl
     @Inject
     private GenericValidator genericValidator;
 
+    @Inject
+    private ValidationResultCache validationResultCache;
+
     @Inject
     private SaveAndRenameServiceImpl<GlobalsModel, Metadata> saveAndRenameService;
 
@@ -213,7 +217,7 @@ public class GlobalsEditorServiceImpl
                             commentedOptionFactory.makeCommentedOption(comment));
 
             //Invalidate Package-level DMO cache as Globals have changed.
-            invalidatePackageDMOEvent.fire(new InvalidateDMOPackageCacheEvent(resource));
+            invalidatePackageDMOEvent.fire(new GlobalsInvalidateDMOPackageCacheEvent(resource));
 
             fireMetadataSocialEvents(resource, currentMetadata, metadata);
             return resource;
@@ -285,8 +289,11 @@ public class GlobalsEditorServiceImpl
     public List<ValidationMessage> validate(final Path path,
                                             final GlobalsModel content) {
         try {
-            return genericValidator.validate(path,
-                                             GlobalsPersistence.getInstance().marshal(content));
+            final String source = GlobalsPersistence.getInstance().marshal(content);
+            return validationResultCache.validate(path,
+                                                  source,
+                                                  () -> genericValidator.validate(path,
+                                                                                  source));
         } catch (Exception e) {
             throw ExceptionUtilities.handleException(e);
         }
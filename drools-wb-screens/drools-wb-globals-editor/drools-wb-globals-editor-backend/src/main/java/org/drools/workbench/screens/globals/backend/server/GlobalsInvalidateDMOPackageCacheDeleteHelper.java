@@ -20,9 +20,11 @@ import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
 import javax.inject.Inject;
 
+import org.drools.workbench.screens.globals.model.GlobalsInvalidateDMOPackageCacheEvent;
 import org.drools.workbench.screens.globals.type.GlobalResourceTypeDefinition;
 import org.guvnor.common.services.project.builder.events.InvalidateDMOPackageCacheEvent;
 import org.kie.workbench.common.services.backend.helpers.AbstractInvalidateDMOPackageCacheDeleteHelper;
+import org.uberfire.backend.vfs.Path;
 
 /**
  * DeleteHelper for Globals to invalidate LRUDataModelOracleCache entries when a Global is deleted.
@@ -30,11 +32,20 @@ import org.kie.workbench.common.services.backend.helpers.AbstractInvalidateDMOPa
 @ApplicationScoped
 public class GlobalsInvalidateDMOPackageCacheDeleteHelper extends AbstractInvalidateDMOPackageCacheDeleteHelper<GlobalResourceTypeDefinition> {
 
+    private final Event<InvalidateDMOPackageCacheEvent> invalidateDMOPackageCache;
+
     @Inject
     public GlobalsInvalidateDMOPackageCacheDeleteHelper( final GlobalResourceTypeDefinition resourceType,
                                                          final Event<InvalidateDMOPackageCacheEvent> invalidateDMOPackageCache ) {
         super( resourceType,
                invalidateDMOPackageCache );
+        this.invalidateDMOPackageCache = invalidateDMOPackageCache;
+    }
+
+    @Override
+    public void postProcess( final Path path ) {
+        //Fire the typed event so observers can refresh only the globals
+        invalidateDMOPackageCache.select( GlobalsInvalidateDMOPackageCacheEvent.class ).fire( new GlobalsInvalidateDMOPackageCacheEvent( path ) );
     }
 
 }
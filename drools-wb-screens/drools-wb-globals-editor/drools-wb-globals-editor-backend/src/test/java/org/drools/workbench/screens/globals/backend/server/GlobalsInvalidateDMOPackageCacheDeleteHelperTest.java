@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.globals.backend.server;
+
+import javax.enterprise.event.Event;
+
+import org.drools.workbench.screens.globals.model.GlobalsInvalidateDMOPackageCacheEvent;
+import org.drools.workbench.screens.globals.type.GlobalResourceTypeDefinition;
+import org.guvnor.common.services.project.builder.events.InvalidateDMOPackageCacheEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.backend.vfs.PathFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GlobalsInvalidateDMOPackageCacheDeleteHelperTest {
+
+    @Mock
+    private Event<InvalidateDMOPackageCacheEvent> invalidateDMOPackageCache;
+
+    @Mock
+    private Event<GlobalsInvalidateDMOPackageCacheEvent> globalsInvalidateDMOPackageCache;
+
+    private GlobalsInvalidateDMOPackageCacheDeleteHelper helper;
+
+    @Before
+    public void setup() {
+        when(invalidateDMOPackageCache.select(GlobalsInvalidateDMOPackageCacheEvent.class)).thenReturn(globalsInvalidateDMOPackageCache);
+        helper = new GlobalsInvalidateDMOPackageCacheDeleteHelper(new GlobalResourceTypeDefinition(),
+                                                                  invalidateDMOPackageCache);
+    }
+
+    @Test
+    public void testSupports() {
+        assertTrue(helper.supports(PathFactory.newPath("globals.gdrl",
+                                                       "file:///globals.gdrl")));
+        assertFalse(helper.supports(PathFactory.newPath("rule.drl",
+                                                        "file:///rule.drl")));
+    }
+
+    @Test
+    public void testPostProcessFiresGlobalsEvent() {
+        final Path path = PathFactory.newPath("globals.gdrl",
+                                              "file:///globals.gdrl");
+        final ArgumentCaptor<GlobalsInvalidateDMOPackageCacheEvent> eventCaptor = ArgumentCaptor.forClass(GlobalsInvalidateDMOPackageCacheEvent.class);
+
+        helper.postProcess(path);
+
+        verify(globalsInvalidateDMOPackageCache).fire(eventCaptor.capture());
+        assertEquals(path,
+                     eventCaptor.getValue().getResourcePath());
+    }
+}
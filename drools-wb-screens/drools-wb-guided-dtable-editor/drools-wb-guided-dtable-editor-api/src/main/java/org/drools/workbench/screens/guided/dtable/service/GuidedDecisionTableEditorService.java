@@ -43,6 +43,8 @@ public interface GuidedDecisionTableEditorService
 
     String DTABLE_VERIFICATION_DISABLED = "org.kie.verification.disable-dtable-realtime-verification";
 
+    String DTABLE_WIZARD_MAXIMUM_ROWS = "org.kie.guided.dtable.wizard.maximum-rows";
+
     GuidedDecisionTableEditorContent loadContent(final Path path);
 
     PackageDataModelOracleBaselinePayload loadDataModel(final Path path);
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.service;
+
+import java.util.List;
+
+import org.jboss.errai.bus.server.annotations.Remote;
+import org.kie.soup.project.datamodel.oracle.DropDownData;
+import org.uberfire.backend.vfs.Path;
+
+/**
+ * Resolves the values of multiple dynamic enumerations in one call, rather than one call per enumeration.
+ */
+@Remote
+public interface GuidedDecisionTableEnumDropdownService {
+
+    /**
+     * Evaluates the query expressions of the given enumeration definitions.
+     * @param resource Path of the Decision Table; used to resolve the Module's ClassLoader
+     * @param enumDefinitions Enumeration definitions containing query expressions
+     * @return The values of each enumeration, in the same order as the definitions. Definitions that cannot be
+     * evaluated have an empty array.
+     */
+    List<String[]> loadDropDownExpressions(final Path resource,
+                                           final List<DropDownData> enumDefinitions);
+}
@@ -27,7 +27,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Make the "dtable.verification.enabled" System Property available client-side.
+ * Make the "dtable.verification.enabled" and (if set) "dtable.wizard.maximum-rows" System Properties available client-side.
  */
 @ApplicationScoped
 public class GuidedDecisionTableApplicationPreferencesLoader
@@ -44,6 +44,13 @@ public class GuidedDecisionTableApplicationPreferencesLoader
         preferences.put( GuidedDecisionTableEditorService.DTABLE_VERIFICATION_DISABLED,
                          property );
 
+        final String maximumRows = System.getProperty( GuidedDecisionTableEditorService.DTABLE_WIZARD_MAXIMUM_ROWS );
+        if ( maximumRows != null ) {
+            log.info( "Setting preference '" + GuidedDecisionTableEditorService.DTABLE_WIZARD_MAXIMUM_ROWS + "' to '" + maximumRows + "'." );
+            preferences.put( GuidedDecisionTableEditorService.DTABLE_WIZARD_MAXIMUM_ROWS,
+                             maximumRows );
+        }
+
         return preferences;
     }
 
@@ -36,6 +36,7 @@ import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableEdi
 import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableGraphEditorService;
 import org.drools.workbench.screens.guided.dtable.type.GuidedDTableGraphResourceTypeDefinition;
 import org.drools.workbench.screens.workitems.service.WorkItemsEditorService;
+import org.drools.workbench.services.validation.backend.ValidationResultCache;
 import org.guvnor.common.services.backend.config.SafeSessionInfo;
 import org.guvnor.common.services.backend.exceptions.ExceptionUtilities;
 import org.guvnor.common.services.backend.file.FileExtensionFilter;
@@ -86,6 +87,7 @@ public class GuidedDecisionTableEditorServiceImpl
     private GuidedDTableGraphResourceTypeDefinition dtableGraphType;
     private Event<ResourceOpenedEvent> resourceOpenedEvent;
     private GenericValidator genericValidator;
+    private ValidationResultCache validationResultCache;
     private CommentedOptionFactory commentedOptionFactory;
     private SafeSessionInfo safeSessionInfo;
     private SaveAndRenameServiceImpl<GuidedDecisionTable52, Metadata> saveAndRenameService;
@@ -107,6 +109,7 @@ public class GuidedDecisionTableEditorServiceImpl
                                                 final GuidedDTableGraphResourceTypeDefinition dtableGraphType,
                                                 final Event<ResourceOpenedEvent> resourceOpenedEvent,
                                                 final GenericValidator genericValidator,
+                                                final ValidationResultCache validationResultCache,
                                                 final CommentedOptionFactory commentedOptionFactory,
                                                 final SaveAndRenameServiceImpl<GuidedDecisionTable52, Metadata> saveAndRenameService,
                                                 final SessionInfo sessionInfo) {
@@ -122,6 +125,7 @@ public class GuidedDecisionTableEditorServiceImpl
         this.dtableGraphType = dtableGraphType;
         this.resourceOpenedEvent = resourceOpenedEvent;
         this.genericValidator = genericValidator;
+        this.validationResultCache = validationResultCache;
         this.commentedOptionFactory = commentedOptionFactory;
         this.saveAndRenameService = saveAndRenameService;
         this.safeSessionInfo = new SafeSessionInfo(sessionInfo);
@@ -380,8 +384,11 @@ public class GuidedDecisionTableEditorServiceImpl
     public List<ValidationMessage> validate(final Path path,
                                             final GuidedDecisionTable52 content) {
         try {
-            return genericValidator.validate(path,
-                                             GuidedDTXMLPersistence.getInstance().marshal(content));
+            final String source = GuidedDTXMLPersistence.getInstance().marshal(content);
+            return validationResultCache.validate(path,
+                                                  source,
+                                                  () -> genericValidator.validate(path,
+                                                                                  source));
         } catch (Exception e) {
             throw ExceptionUtilities.handleException(e);
         }
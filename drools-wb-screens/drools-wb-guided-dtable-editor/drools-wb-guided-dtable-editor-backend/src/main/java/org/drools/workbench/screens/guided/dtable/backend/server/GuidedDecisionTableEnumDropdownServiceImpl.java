@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.backend.server;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableEnumDropdownService;
+import org.jboss.errai.bus.server.annotations.Service;
+import org.kie.soup.project.datamodel.oracle.DropDownData;
+import org.kie.workbench.common.services.shared.enums.EnumDropdownService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uberfire.backend.vfs.Path;
+
+@Service
+@ApplicationScoped
+public class GuidedDecisionTableEnumDropdownServiceImpl implements GuidedDecisionTableEnumDropdownService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GuidedDecisionTableEnumDropdownServiceImpl.class);
+
+    private static final String[] EMPTY = new String[0];
+
+    private EnumDropdownService enumDropdownService;
+
+    public GuidedDecisionTableEnumDropdownServiceImpl() {
+        //Zero parameter constructor for CDI
+    }
+
+    @Inject
+    public GuidedDecisionTableEnumDropdownServiceImpl(final EnumDropdownService enumDropdownService) {
+        this.enumDropdownService = enumDropdownService;
+    }
+
+    @Override
+    public List<String[]> loadDropDownExpressions(final Path resource,
+                                                  final List<DropDownData> enumDefinitions) {
+        final List<String[]> results = new ArrayList<>(enumDefinitions.size());
+        for (DropDownData enumDefinition : enumDefinitions) {
+            results.add(loadDropDownExpression(resource,
+                                               enumDefinition));
+        }
+        return results;
+    }
+
+    private String[] loadDropDownExpression(final Path resource,
+                                            final DropDownData enumDefinition) {
+        if (enumDefinition == null || enumDefinition.getQueryExpression() == null) {
+            return EMPTY;
+        }
+        try {
+            final String[] items = enumDropdownService.loadDropDownExpression(resource,
+                                                                              enumDefinition.getValuePairs(),
+                                                                              enumDefinition.getQueryExpression());
+            return items == null ? EMPTY : items;
+        } catch (Exception e) {
+            //A failing expression should not prevent the other enumerations from being resolved
+            logger.error("Unable to evaluate enumeration expression '" + enumDefinition.getQueryExpression() + "'.",
+                         e);
+            return EMPTY;
+        }
+    }
+}
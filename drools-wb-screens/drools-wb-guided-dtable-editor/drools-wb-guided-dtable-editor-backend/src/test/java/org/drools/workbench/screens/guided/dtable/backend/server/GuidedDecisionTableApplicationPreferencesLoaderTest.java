@@ -21,12 +21,14 @@ import org.junit.After;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 public class GuidedDecisionTableApplicationPreferencesLoaderTest {
 
     @After
     public void tearDown() throws Exception {
         System.clearProperty( GuidedDecisionTableEditorService.DTABLE_VERIFICATION_DISABLED );
+        System.clearProperty( GuidedDecisionTableEditorService.DTABLE_WIZARD_MAXIMUM_ROWS );
     }
 
     @Test
@@ -48,4 +50,17 @@ public class GuidedDecisionTableApplicationPreferencesLoaderTest {
 
         assertEquals( "false", new GuidedDecisionTableApplicationPreferencesLoader().load().get( GuidedDecisionTableEditorService.DTABLE_VERIFICATION_DISABLED ) );
     }
-}
\ No newline at end of file
+
+    @Test
+    public void wizardMaximumRowsNotSet() throws Exception {
+
+        assertFalse( new GuidedDecisionTableApplicationPreferencesLoader().load().containsKey( GuidedDecisionTableEditorService.DTABLE_WIZARD_MAXIMUM_ROWS ) );
+    }
+
+    @Test
+    public void wizardMaximumRowsSet() throws Exception {
+        System.setProperty( GuidedDecisionTableEditorService.DTABLE_WIZARD_MAXIMUM_ROWS, "500" );
+
+        assertEquals( "500", new GuidedDecisionTableApplicationPreferencesLoader().load().get( GuidedDecisionTableEditorService.DTABLE_WIZARD_MAXIMUM_ROWS ) );
+    }
+}
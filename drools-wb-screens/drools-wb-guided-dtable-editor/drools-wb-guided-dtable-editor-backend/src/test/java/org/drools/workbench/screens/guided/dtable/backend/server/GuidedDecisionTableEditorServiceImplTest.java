@@ -35,6 +35,7 @@ import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableGra
 import org.drools.workbench.screens.guided.dtable.type.GuidedDTableGraphResourceTypeDefinition;
 import org.drools.workbench.screens.guided.dtable.type.GuidedDTableResourceTypeDefinition;
 import org.drools.workbench.screens.workitems.service.WorkItemsEditorService;
+import org.drools.workbench.services.validation.backend.ValidationResultCache;
 import org.guvnor.common.services.backend.file.FileExtensionFilter;
 import org.guvnor.common.services.backend.metadata.MetadataServerSideService;
 import org.guvnor.common.services.backend.util.CommentedOptionFactory;
@@ -162,6 +163,7 @@ public class GuidedDecisionTableEditorServiceImplTest {
                                                            dtGraphType,
                                                            resourceOpenedEvent,
                                                            genericValidator,
+                                                           new ValidationResultCache(moduleService),
                                                            commentedOptionFactory,
                                                            saveAndRenameService,
                                                            sessionInfo) {
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.backend.server;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.soup.project.datamodel.oracle.DropDownData;
+import org.kie.workbench.common.services.shared.enums.EnumDropdownService;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GuidedDecisionTableEnumDropdownServiceImplTest {
+
+    @Mock
+    private EnumDropdownService enumDropdownService;
+
+    @Mock
+    private Path path;
+
+    private GuidedDecisionTableEnumDropdownServiceImpl service;
+
+    @Before
+    public void setup() {
+        service = new GuidedDecisionTableEnumDropdownServiceImpl(enumDropdownService);
+    }
+
+    @Test
+    public void testResultsInRequestOrder() {
+        final DropDownData first = DropDownData.create("expression1",
+                                                       new String[]{"a=1"});
+        final DropDownData second = DropDownData.create("expression2",
+                                                        new String[]{"b=2"});
+        when(enumDropdownService.loadDropDownExpression(eq(path),
+                                                        any(String[].class),
+                                                        eq("expression1"))).thenReturn(new String[]{"one"});
+        when(enumDropdownService.loadDropDownExpression(eq(path),
+                                                        any(String[].class),
+                                                        eq("expression2"))).thenReturn(new String[]{"two", "three"});
+
+        final List<String[]> results = service.loadDropDownExpressions(path,
+                                                                       Arrays.asList(first,
+                                                                                     second));
+
+        assertEquals(2,
+                     results.size());
+        assertArrayEquals(new String[]{"one"},
+                          results.get(0));
+        assertArrayEquals(new String[]{"two", "three"},
+                          results.get(1));
+    }
+
+    @Test
+    public void testFailingExpressionDoesNotAffectOthers() {
+        final DropDownData failing = DropDownData.create("failing",
+                                                         new String[]{"a=1"});
+        final DropDownData working = DropDownData.create("working",
+                                                         new String[]{"b=2"});
+        when(enumDropdownService.loadDropDownExpression(eq(path),
+                                                        any(String[].class),
+                                                        eq("failing"))).thenThrow(new RuntimeException("error"));
+        when(enumDropdownService.loadDropDownExpression(eq(path),
+                                                        any(String[].class),
+                                                        eq("working"))).thenReturn(new String[]{"value"});
+
+        final List<String[]> results = service.loadDropDownExpressions(path,
+                                                                       Arrays.asList(failing,
+                                                                                     working));
+
+        assertEquals(0,
+                     results.get(0).length);
+        assertArrayEquals(new String[]{"value"},
+                          results.get(1));
+    }
+
+    @Test
+    public void testFixedListNotEvaluated() {
+        final DropDownData fixedList = DropDownData.create(new String[]{"a", "b"});
+
+        final List<String[]> results = service.loadDropDownExpressions(path,
+                                                                       Arrays.asList(fixedList));
+
+        assertEquals(0,
+                     results.get(0).length);
+        verify(enumDropdownService,
+               never()).loadDropDownExpression(any(Path.class),
+                                               any(String[].class),
+                                               any(String.class));
+    }
+}
@@ -215,4 +215,9 @@ public class InsertMenuBuilder extends BaseMenu implements MenuFactory.CustomMen
 
         void onInsertRowBelow();
     }
+
+    public interface SupportsDuplicateRows {
+
+        void onDuplicateSelectedRows();
+    }
 }
@@ -144,6 +144,14 @@ public class RowContextMenu extends BaseMenu implements IsWidget,
         hide();
     }
 
+    @Override
+    public void onDuplicateSelectedRows() {
+        if (activeDecisionTable != null) {
+            activeDecisionTable.onDuplicateSelectedRows();
+        }
+        hide();
+    }
+
     @Override
     public void onDeleteSelectedRows() {
         if (activeDecisionTable != null) {
@@ -158,6 +166,7 @@ public class RowContextMenu extends BaseMenu implements IsWidget,
         view.enablePasteMenuItem(false);
         view.enableInsertRowAboveMenuItem(false);
         view.enableInsertRowBelowMenuItem(false);
+        view.enableDuplicateRowMenuItem(false);
         view.enableDeleteRowMenuItem(false);
     }
 
@@ -170,6 +179,7 @@ public class RowContextMenu extends BaseMenu implements IsWidget,
     private void enableMenuItemsForRowOperations(final boolean isSingleRow) {
         view.enableInsertRowAboveMenuItem(isSingleRow);
         view.enableInsertRowBelowMenuItem(isSingleRow);
+        view.enableDuplicateRowMenuItem(true);
         view.enableDeleteRowMenuItem(true);
     }
 }
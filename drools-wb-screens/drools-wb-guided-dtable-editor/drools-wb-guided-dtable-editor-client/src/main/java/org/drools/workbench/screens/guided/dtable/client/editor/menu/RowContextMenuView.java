@@ -35,6 +35,8 @@ public interface RowContextMenuView extends BaseMenuView<RowContextMenu> {
 
         void onInsertRowBelow();
 
+        void onDuplicateSelectedRows();
+
         void onDeleteSelectedRows();
 
     }
@@ -54,6 +56,8 @@ public interface RowContextMenuView extends BaseMenuView<RowContextMenu> {
 
     void enableInsertRowBelowMenuItem( final boolean enabled );
 
+    void enableDuplicateRowMenuItem( final boolean enabled );
+
     void enableDeleteRowMenuItem( final boolean enabled );
 
 }
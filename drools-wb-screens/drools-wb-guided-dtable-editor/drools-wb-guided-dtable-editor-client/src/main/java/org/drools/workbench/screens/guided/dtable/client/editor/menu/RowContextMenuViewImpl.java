@@ -50,6 +50,9 @@ public class RowContextMenuViewImpl extends BaseMenuViewImpl<RowContextMenu> imp
     @DataField("rowContextMenuInsertRowBelow")
     LIElement rowContextMenuInsertRowBelow = Document.get().createLIElement();
 
+    @DataField("rowContextMenuDuplicateRows")
+    LIElement rowContextMenuDuplicateRows = Document.get().createLIElement();
+
     @DataField("rowContextMenuDeleteRows")
     LIElement rowContextMenuDeleteRows = Document.get().createLIElement();
 
@@ -106,6 +109,12 @@ public class RowContextMenuViewImpl extends BaseMenuViewImpl<RowContextMenu> imp
                        enabled );
     }
 
+    @Override
+    public void enableDuplicateRowMenuItem( final boolean enabled ) {
+        enableElement( rowContextMenuDuplicateRows,
+                       enabled );
+    }
+
     @Override
     public void enableDeleteRowMenuItem( final boolean enabled ) {
         enableElement( rowContextMenuDeleteRows,
@@ -162,6 +171,16 @@ public class RowContextMenuViewImpl extends BaseMenuViewImpl<RowContextMenu> imp
         presenter.onInsertRowBelow();
     }
 
+    @SuppressWarnings("unused")
+    @EventHandler("rowContextMenuDuplicateRows")
+    public void onClickRowContextMenuDuplicateRows( final ClickEvent e ) {
+        if ( isDisabled( rowContextMenuDuplicateRows ) ) {
+            presenter.hide();
+            return;
+        }
+        presenter.onDuplicateSelectedRows();
+    }
+
     @SuppressWarnings("unused")
     @EventHandler("rowContextMenuDeleteRows")
     public void onClickRowContextMenuDeleteRows( final ClickEvent e ) {
@@ -287,6 +287,13 @@ public interface GuidedDecisionTableConstants
 
     String DecisionTableWizardExpandInFull();
 
+    String DecisionTableWizardEstimatedRowCount(long rowCount);
+
+    String DecisionTableWizardTooManyRows(long rowCount,
+                                          int maximumRowCount);
+
+    String DecisionTableWizardRowsTruncated(int maximumRowCount);
+
     String DecisionTableWizardImports();
 
     String DecisionTableWizardDescriptionImportsPage();
@@ -16,11 +16,14 @@
 
 package org.drools.workbench.screens.guided.dtable.client.widget.analysis;
 
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 import org.drools.verifier.api.Reporter;
 import org.drools.verifier.api.Status;
 import org.drools.verifier.api.reporting.Issue;
+import org.drools.workbench.services.verifier.plugin.client.api.IssuesDelta;
 import org.kie.workbench.common.services.verifier.reporting.client.panel.AnalysisReport;
 import org.kie.workbench.common.services.verifier.reporting.client.panel.AnalysisReportScreen;
 import org.uberfire.mvp.PlaceRequest;
@@ -31,6 +34,9 @@ public class AnalysisReporter
     private PlaceRequest place;
     private AnalysisReportScreen reportScreen;
 
+    //The Issues last reported, to which deltas from the verifier are applied
+    private final Set<Issue> issues = new LinkedHashSet<>();
+
     public AnalysisReporter(final PlaceRequest place,
                             final AnalysisReportScreen reportScreen) {
         this.place = place;
@@ -43,10 +49,22 @@ public class AnalysisReporter
 
     @Override
     public void sendReport(final Set<Issue> issues) {
+        this.issues.clear();
+        this.issues.addAll(issues);
         sendReport(new AnalysisReport(place,
                                       issues));
     }
 
+    public void sendReport(final IssuesDelta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+        issues.removeAll(delta.getRemoved());
+        issues.addAll(delta.getAdded());
+        sendReport(new AnalysisReport(place,
+                                      new HashSet<>(issues)));
+    }
+
     @Override
     public void sendStatus(final Status status) {
         reportScreen.showStatus(status);
@@ -124,11 +124,16 @@ public class DecisionTableAnalyzer
 
     @Override
     public void updateColumns(final int amountOfRows) {
-        if (eventManager.rowDeleted != null) {
-            updateManager.removeRule(eventManager.rowDeleted);
+        if (!eventManager.rowsDeleted.isEmpty()) {
+            //Deletions are received from the highest index to the lowest so each index remains valid
+            for (Integer rowDeleted : eventManager.rowsDeleted) {
+                updateManager.removeRule(rowDeleted);
+            }
         } else {
-            updateManager.makeRule(model,
-                                   eventManager.getNewIndex());
+            for (int newIndex : eventManager.getNewIndexes()) {
+                updateManager.makeRule(model,
+                                       newIndex);
+            }
         }
 
         eventManager.clear();
@@ -136,17 +141,28 @@ public class DecisionTableAnalyzer
 
     @Override
     public void deleteRow(final int index) {
-        eventManager.rowDeleted = index;
+        eventManager.rowsDeleted.add(index);
     }
 
     @Override
     public void appendRow() {
-        eventManager.rowAppended = true;
+        eventManager.rowsAppended++;
     }
 
     @Override
     public void insertRow(final int index) {
-        eventManager.rowInserted = index;
+        eventManager.rowsInserted.add(index);
+    }
+
+    public void insertRows(final List<Integer> indexes) {
+        eventManager.rowsInserted.addAll(indexes);
+    }
+
+    public void deleteRows(final List<Integer> indexes) {
+        //Indexes are received in ascending order, record them highest first to match single deletions
+        for (int index = indexes.size() - 1; index >= 0; index--) {
+            eventManager.rowsDeleted.add(indexes.get(index));
+        }
     }
 
     @Override
@@ -161,23 +177,28 @@ public class DecisionTableAnalyzer
 
     class EventManager {
 
-        boolean rowAppended = false;
-        Integer rowInserted = null;
-        Integer rowDeleted = null;
+        int rowsAppended = 0;
+        final List<Integer> rowsInserted = new ArrayList<>();
+        final List<Integer> rowsDeleted = new ArrayList<>();
 
         public void clear() {
 
-            rowAppended = false;
-            rowInserted = null;
-            rowDeleted = null;
+            rowsAppended = 0;
+            rowsInserted.clear();
+            rowsDeleted.clear();
         }
 
-        int getNewIndex() {
-            if (eventManager.rowAppended) {
-                return model.getData()
-                        .size() - 1;
-            } else if (eventManager.rowInserted != null) {
-                return eventManager.rowInserted;
+        List<Integer> getNewIndexes() {
+            if (rowsAppended > 0) {
+                final List<Integer> newIndexes = new ArrayList<>();
+                final int rowCount = model.getData()
+                        .size();
+                for (int index = rowCount - rowsAppended; index < rowCount; index++) {
+                    newIndexes.add(index);
+                }
+                return newIndexes;
+            } else if (!rowsInserted.isEmpty()) {
+                return new ArrayList<>(rowsInserted);
             }
 
             throw new IllegalStateException("There are no active updates");
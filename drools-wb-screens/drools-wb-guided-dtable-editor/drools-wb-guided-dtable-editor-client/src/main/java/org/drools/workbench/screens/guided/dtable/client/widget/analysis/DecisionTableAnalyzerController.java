@@ -0,0 +1,82 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.client.widget.analysis;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gwt.event.shared.EventBus;
+import com.google.gwt.event.shared.HandlerRegistration;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.events.gwt.DeleteRowsEvent;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.events.gwt.InsertRowsEvent;
+import org.kie.workbench.common.services.verifier.reporting.client.controller.AnalyzerControllerImpl;
+import org.uberfire.client.mvp.PlaceManager;
+
+/**
+ * Extends the common controller to handle rows inserted or deleted in a single operation
+ */
+public class DecisionTableAnalyzerController extends AnalyzerControllerImpl
+        implements InsertRowsEvent.Handler,
+                   DeleteRowsEvent.Handler {
+
+    private final DecisionTableAnalyzer analyzer;
+    private final EventBus eventBus;
+    private final List<HandlerRegistration> registrations = new ArrayList<>();
+
+    public DecisionTableAnalyzerController(final DecisionTableAnalyzer analyzer,
+                                           final PlaceManager placeManager,
+                                           final EventBus eventBus) {
+        super(analyzer,
+              placeManager,
+              eventBus);
+        this.analyzer = analyzer;
+        this.eventBus = eventBus;
+    }
+
+    @Override
+    public void initialiseAnalysis() {
+        super.initialiseAnalysis();
+        removeHandlers();
+        registrations.add(eventBus.addHandler(InsertRowsEvent.TYPE,
+                                              this));
+        registrations.add(eventBus.addHandler(DeleteRowsEvent.TYPE,
+                                              this));
+    }
+
+    @Override
+    public void terminateAnalysis() {
+        removeHandlers();
+        super.terminateAnalysis();
+    }
+
+    @Override
+    public void onInsertRows(final InsertRowsEvent event) {
+        analyzer.insertRows(event.getRowIndexes());
+    }
+
+    @Override
+    public void onDeleteRows(final DeleteRowsEvent event) {
+        analyzer.deleteRows(event.getRowIndexes());
+    }
+
+    private void removeHandlers() {
+        for (HandlerRegistration registration : registrations) {
+            registration.removeHandler();
+        }
+        registrations.clear();
+    }
+}
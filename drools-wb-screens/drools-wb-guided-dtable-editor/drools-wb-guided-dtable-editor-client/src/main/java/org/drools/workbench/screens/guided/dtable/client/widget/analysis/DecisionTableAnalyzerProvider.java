@@ -24,7 +24,6 @@ import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTabl
 import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableEditorService;
 import org.kie.workbench.common.services.shared.preferences.ApplicationPreferences;
 import org.kie.workbench.common.services.verifier.reporting.client.controller.AnalyzerController;
-import org.kie.workbench.common.services.verifier.reporting.client.controller.AnalyzerControllerImpl;
 import org.kie.workbench.common.services.verifier.reporting.client.panel.AnalysisReportScreen;
 import org.kie.workbench.common.widgets.client.datamodel.AsyncPackageDataModelOracle;
 import org.uberfire.client.mvp.PlaceManager;
@@ -49,14 +48,14 @@ public class DecisionTableAnalyzerProvider {
                                           final GuidedDecisionTable52 model,
                                           final EventBus eventBus) {
         if (isAnalysisEnabled()) {
-            return new AnalyzerControllerImpl(new DecisionTableAnalyzerBuilder()
-                                                      .withReportScreen(analysisReportScreen)
-                                                      .withPlaceRequest(placeRequest)
-                                                      .withOracle(oracle)
-                                                      .withModel(model)
-                                                      .build(),
-                                              placeManager,
-                                              eventBus);
+            return new DecisionTableAnalyzerController(new DecisionTableAnalyzerBuilder()
+                                                               .withReportScreen(analysisReportScreen)
+                                                               .withPlaceRequest(placeRequest)
+                                                               .withOracle(oracle)
+                                                               .withModel(model)
+                                                               .build(),
+                                                       placeManager,
+                                                       eventBus);
         } else {
             return makePlaceHolder();
         }
@@ -23,6 +23,7 @@ import com.google.gwt.webworker.client.MessageHandler;
 import com.google.gwt.webworker.client.Worker;
 import org.drools.verifier.api.Status;
 import org.drools.verifier.api.reporting.Issues;
+import org.drools.workbench.services.verifier.plugin.client.api.IssuesDelta;
 import org.jboss.errai.enterprise.client.jaxrs.MarshallingWrapper;
 import org.kie.soup.commons.validation.PortablePreconditions;
 import org.kie.workbench.common.services.verifier.api.client.api.WebWorkerException;
@@ -59,6 +60,8 @@ public class Receiver {
                 reporter.sendStatus((Status) o);
             } else if (o instanceof Issues) {
                 reporter.sendReport(new HashSet<>(((Issues) o).getSet()));
+            } else if (o instanceof IssuesDelta) {
+                reporter.sendReport((IssuesDelta) o);
             }
         } catch (Exception e) {
             LOGGER.severe("Could not manage received json: " + e.getMessage()
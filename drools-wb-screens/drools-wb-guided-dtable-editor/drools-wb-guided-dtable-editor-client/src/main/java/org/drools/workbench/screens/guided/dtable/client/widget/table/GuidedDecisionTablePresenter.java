@@ -70,6 +70,7 @@ import org.drools.workbench.screens.guided.dtable.client.widget.table.events.cdi
 import org.drools.workbench.screens.guided.dtable.client.widget.table.events.cdi.RefreshMenusEvent;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.events.cdi.RefreshMetaDataPanelEvent;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.lockmanager.GuidedDecisionTableLockManager;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.model.ExpandedColumnsIndex;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.GuidedDecisionTableUiCell;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.GuidedDecisionTableUiModel;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.converters.cell.GridWidgetCellFactory;
@@ -430,6 +431,13 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
                 decisionTableSelectionsChangedEvent.fire(new DecisionTableSelectionsChangedEvent(GuidedDecisionTablePresenter.this));
                 return rowRange;
             }
+
+            @Override
+            public List<Range> deleteRows(final List<Integer> rowIndexes) {
+                List<Range> rowRanges = super.deleteRows(rowIndexes);
+                decisionTableSelectionsChangedEvent.fire(new DecisionTableSelectionsChangedEvent(GuidedDecisionTablePresenter.this));
+                return rowRanges;
+            }
         };
     }
 
@@ -1165,6 +1173,7 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
         final Set<Clipboard.ClipboardData> data = clipboard.getData();
         final int currentOriginRowIndex = uiModel.getSelectedCellsOrigin().getRowIndex();
         final int currentOriginColumnIndex = findUiColumnIndex(uiModel.getSelectedCellsOrigin().getColumnIndex());
+        final ExpandedColumnsIndex expandedColumnsIndex = synchronizer.getExpandedColumnsIndex();
 
         boolean updateSystemControlledValues = false;
         for (Clipboard.ClipboardData cd : data) {
@@ -1178,7 +1187,7 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
             }
 
             final DTCellValue52 modelCell = cd.getValue();
-            final BaseColumn modelColumn = model.getExpandedColumns().get(targetColumnIndex);
+            final BaseColumn modelColumn = expandedColumnsIndex.getColumn(targetColumnIndex);
             if (modelCell.hasValue()) {
                 uiModel.setCellValue(targetRowIndex,
                                      targetColumnIndex,
@@ -1214,10 +1223,11 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
         if (selections == null || selections.isEmpty()) {
             return;
         }
+        final ExpandedColumnsIndex expandedColumnsIndex = synchronizer.getExpandedColumnsIndex();
         for (GridData.SelectedCell sc : selections) {
             final int rowIndex = sc.getRowIndex();
             final int columnIndex = findUiColumnIndex(sc.getColumnIndex());
-            final BaseColumn column = model.getExpandedColumns().get(columnIndex);
+            final BaseColumn column = expandedColumnsIndex.getColumn(columnIndex);
             final GridColumn<?> uiColumn = uiModel.getColumns().get(columnIndex);
             if (column instanceof RowNumberCol52) {
                 continue;
@@ -1243,7 +1253,7 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
         final Set<BaseColumn> columnsToDelete = new HashSet<>();
         for (int selectedColumnIndex : selectedColumnIndexes) {
             final int columnIndex = findUiColumnIndex(selectedColumnIndex);
-            final BaseColumn column = model.getExpandedColumns().get(columnIndex);
+            final BaseColumn column = synchronizer.getExpandedColumnsIndex().getColumn(columnIndex);
             if (!(column instanceof RowNumberCol52 || column instanceof DescriptionCol52)) {
                 columnsToDelete.add(column);
             }
@@ -1301,22 +1311,23 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
         if (isReadOnly()) {
             return;
         }
-        Set<Integer> selectedRowIndexes;
-        while (!(selectedRowIndexes = getSelectedRowIndexes()).isEmpty()) {
-            final int rowIndex = selectedRowIndexes.iterator().next();
-            deleteRow(rowIndex);
+        final Set<Integer> selectedRowIndexes = getSelectedRowIndexes();
+        if (selectedRowIndexes.isEmpty()) {
+            return;
         }
-    }
-
-    private void deleteRow(final int rowIndex) {
+        final List<Integer> rowIndexes = new ArrayList<>(selectedRowIndexes);
+        Collections.sort(rowIndexes,
+                         Collections.reverseOrder());
         try {
-            synchronizer.deleteRow(rowIndex);
+            synchronizer.deleteRows(rowIndexes);
 
             refreshView();
 
-            //Log deletion of column
-            model.getAuditLog().add(new DeleteRowAuditLogEntry(identity.getIdentifier(),
-                                                               rowIndex));
+            //Log deletion of rows, highest first, so each index is relative to the table at the time of deletion
+            for (int rowIndex : rowIndexes) {
+                model.getAuditLog().add(new DeleteRowAuditLogEntry(identity.getIdentifier(),
+                                                                   rowIndex));
+            }
         } catch (VetoException e) {
             getModellerPresenter().getView().showGenericVetoMessage();
         }
@@ -1359,6 +1370,33 @@ public class GuidedDecisionTablePresenter implements GuidedDecisionTableView.Pre
         callback.execute(selectedRowIndexes.iterator().next());
     }
 
+    @Override
+    public void onDuplicateSelectedRows() {
+        if (isReadOnly()) {
+            return;
+        }
+        final Set<Integer> selectedRowIndexes = getSelectedRowIndexes();
+        if (selectedRowIndexes.isEmpty()) {
+            return;
+        }
+        final List<Integer> rowIndexes = new ArrayList<>(selectedRowIndexes);
+        Collections.sort(rowIndexes);
+        try {
+            synchronizer.duplicateRows(rowIndexes);
+
+            refreshView();
+
+            //Log insertion of the duplicates, which are placed after the last selected row
+            final int firstRowIndex = rowIndexes.get(rowIndexes.size() - 1) + 1;
+            for (int index = 0; index < rowIndexes.size(); index++) {
+                model.getAuditLog().add(new InsertRowAuditLogEntry(identity.getIdentifier(),
+                                                                   firstRowIndex + index));
+            }
+        } catch (VetoException e) {
+            getModellerPresenter().getView().showGenericVetoMessage();
+        }
+    }
+
     private Set<Integer> getSelectedRowIndexes() {
         final Set<Integer> rowUsage = new HashSet<>();
         for (GridData.SelectedCell sc : uiModel.getSelectedCells()) {
@@ -81,6 +81,7 @@ public interface GuidedDecisionTableView extends GridWidget,
                                 InsertMenuBuilder.SupportsAppendRow,
                                 InsertMenuBuilder.SupportsInsertRowAbove,
                                 InsertMenuBuilder.SupportsInsertRowBelow,
+                                InsertMenuBuilder.SupportsDuplicateRows,
                                 KieDocument {
 
         Set<PortableWorkDefinition> getWorkItemDefinitions();
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.screens.guided.dtable.client.widget.table.events.gwt;
+
+import java.util.List;
+
+import com.google.gwt.event.shared.EventHandler;
+import com.google.gwt.event.shared.GwtEvent;
+
+/**
+ * An event signalling that a set of rows has been inserted in a single operation
+ */
+public class InsertRowsEvent extends GwtEvent<InsertRowsEvent.Handler> {
+
+    public interface Handler
+            extends
+            EventHandler {
+
+        void onInsertRows(final InsertRowsEvent event);
+    }
+
+    public static final Type<Handler> TYPE = new Type<Handler>();
+
+    private final List<Integer> rowIndexes;
+
+    public InsertRowsEvent(final List<Integer> rowIndexes) {
+        this.rowIndexes = rowIndexes;
+    }
+
+    public List<Integer> getRowIndexes() {
+        return rowIndexes;
+    }
+
+    @Override
+    public Type<Handler> getAssociatedType() {
+        return TYPE;
+    }
+
+    @Override
+    protected void dispatch(final Handler handler) {
+        handler.onInsertRows(this);
+    }
+}
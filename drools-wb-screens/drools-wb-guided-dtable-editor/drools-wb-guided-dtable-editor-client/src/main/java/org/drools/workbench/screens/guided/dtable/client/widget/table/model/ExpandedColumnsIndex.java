@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.client.widget.table.model;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.drools.workbench.models.guided.dtable.shared.model.BaseColumn;
+import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.kie.soup.commons.validation.PortablePreconditions;
+
+/**
+ * Cached view of {@link GuidedDecisionTable52#getExpandedColumns()} for use by the editor. The expanded columns
+ * and the index of each column are built once and reused until the index is invalidated following a change to the
+ * Model's columns. All structural changes to columns are made through
+ * {@link org.drools.workbench.screens.guided.dtable.client.widget.table.model.synchronizers.ModelSynchronizer}
+ * that is responsible for invalidating the index.
+ */
+public class ExpandedColumnsIndex {
+
+    private final GuidedDecisionTable52 model;
+
+    private List<BaseColumn> expandedColumns;
+    private Map<BaseColumn, Integer> columnIndexes;
+
+    public ExpandedColumnsIndex(final GuidedDecisionTable52 model) {
+        this.model = PortablePreconditions.checkNotNull("model",
+                                                        model);
+    }
+
+    /**
+     * Returns the expanded columns of the Model.
+     * @return An unmodifiable list of all columns, in the same order as {@link GuidedDecisionTable52#getExpandedColumns()}
+     */
+    public List<BaseColumn> getExpandedColumns() {
+        ensureIndexed();
+        return expandedColumns;
+    }
+
+    public BaseColumn getColumn(final int columnIndex) {
+        ensureIndexed();
+        return expandedColumns.get(columnIndex);
+    }
+
+    /**
+     * Returns the index of a column within the expanded columns.
+     * @param column The column
+     * @return The index of the column or -1 if the column is not part of the Model
+     */
+    public int indexOf(final BaseColumn column) {
+        ensureIndexed();
+        final Integer columnIndex = columnIndexes.get(column);
+        if (columnIndex != null) {
+            return columnIndex;
+        }
+        //Fall back to equality for copies of columns, consistent with List.indexOf
+        return expandedColumns.indexOf(column);
+    }
+
+    public void invalidate() {
+        expandedColumns = null;
+        columnIndexes = null;
+    }
+
+    private void ensureIndexed() {
+        if (expandedColumns != null) {
+            return;
+        }
+        final List<BaseColumn> columns = model.getExpandedColumns();
+        final Map<BaseColumn, Integer> indexes = new IdentityHashMap<>();
+        for (int columnIndex = 0; columnIndex < columns.size(); columnIndex++) {
+            indexes.put(columns.get(columnIndex),
+                        columnIndex);
+        }
+        this.expandedColumns = Collections.unmodifiableList(columns);
+        this.columnIndexes = indexes;
+    }
+}
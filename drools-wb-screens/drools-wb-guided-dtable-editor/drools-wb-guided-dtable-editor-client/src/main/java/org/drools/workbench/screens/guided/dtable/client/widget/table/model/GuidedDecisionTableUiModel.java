@@ -16,6 +16,8 @@
 
 package org.drools.workbench.screens.guided.dtable.client.widget.table.model;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -108,6 +110,30 @@ public class GuidedDecisionTableUiModel extends BaseGridData {
         }
     }
 
+    /**
+     * Deletes multiple rows. Rows are deleted from the highest index to the lowest so each index remains valid.
+     * If the data is merged, indexes within a block already deleted are ignored.
+     * @param rowIndexes Indexes of rows to delete
+     * @return Ranges of rows deleted, in descending order
+     */
+    public List<Range> deleteRows(final List<Integer> rowIndexes) {
+        final List<Integer> sortedRowIndexes = new ArrayList<>(rowIndexes);
+        Collections.sort(sortedRowIndexes,
+                         Collections.reverseOrder());
+
+        final List<Range> rowRanges = new ArrayList<>();
+        int lowestDeletedRowIndex = getRowCount();
+        for (int rowIndex : sortedRowIndexes) {
+            if (rowIndex >= lowestDeletedRowIndex) {
+                continue;
+            }
+            final Range rowRange = super.deleteRow(rowIndex);
+            rowRanges.add(rowRange);
+            lowestDeletedRowIndex = rowRange.getMinRowIndex();
+        }
+        return rowRanges;
+    }
+
     public void indexColumn(final int columnIndex) {
         if (isMerged()) {
             indexManager.indexColumn(columnIndex);
@@ -27,6 +27,7 @@ import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTabl
 import org.drools.workbench.models.guided.dtable.shared.model.Pattern52;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.GuidedDecisionTablePresenter;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.GuidedDecisionTableView;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.model.ExpandedColumnsIndex;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.GuidedDecisionTableUiModel;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.converters.cell.GridWidgetCellFactory;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.converters.column.GridWidgetColumnFactory;
@@ -110,8 +111,39 @@ public interface ModelSynchronizer {
 
     void deleteRow(final int rowIndex) throws VetoException;
 
+    /**
+     * Inserts multiple new rows as a single operation. System controlled columns are renumbered once.
+     * @param rowIndex Index at which to insert the first new row
+     * @param rowCount Number of rows to insert
+     * @throws VetoException
+     */
+    void insertRows(final int rowIndex,
+                    final int rowCount) throws VetoException;
+
+    /**
+     * Deletes multiple rows as a single operation. System controlled columns are renumbered once.
+     * @param rowIndexes Indexes of the rows to delete
+     * @throws VetoException
+     */
+    void deleteRows(final List<Integer> rowIndexes) throws VetoException;
+
+    /**
+     * Duplicates multiple rows as a single operation. Copies are inserted, in order, immediately
+     * below the last of the duplicated rows. System controlled columns are renumbered once.
+     * @param rowIndexes Indexes of the rows to duplicate
+     * @throws VetoException
+     */
+    void duplicateRows(final List<Integer> rowIndexes) throws VetoException;
+
     void updateSystemControlledColumnValues();
 
+    /**
+     * Returns the index of expanded columns for the Model. The index is invalidated whenever columns are
+     * appended, deleted, updated or moved through this ModelSynchronizer.
+     * @return Index of the Model's expanded columns
+     */
+    ExpandedColumnsIndex getExpandedColumnsIndex();
+
     void setCellOtherwiseState(final int rowIndex,
                                final int columnIndex);
 }
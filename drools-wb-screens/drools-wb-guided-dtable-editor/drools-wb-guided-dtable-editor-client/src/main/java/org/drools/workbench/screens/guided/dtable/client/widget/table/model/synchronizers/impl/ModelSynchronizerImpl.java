@@ -36,6 +36,9 @@ import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTabl
 import org.drools.workbench.models.guided.dtable.shared.model.Pattern52;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.GuidedDecisionTablePresenter;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.GuidedDecisionTableView;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.events.gwt.DeleteRowsEvent;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.events.gwt.InsertRowsEvent;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.model.ExpandedColumnsIndex;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.GuidedDecisionTableUiModel;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.converters.cell.GridWidgetCellFactory;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.converters.column.GridWidgetColumnFactory;
@@ -80,6 +83,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
     private DependentEnumsUtilities dependentEnumsUtilities;
     private GridWidgetCellFactory gridWidgetCellFactory;
     private EventBus eventBus;
+    private ExpandedColumnsIndex expandedColumnsIndex;
 
     private SystemControlledColumnValuesSynchronizer systemControlledColumnValuesSynchronizer;
 
@@ -126,7 +130,10 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
         this.eventBus = PortablePreconditions.checkNotNull("eventBus",
                                                            eventBus);
 
+        this.expandedColumnsIndex = new ExpandedColumnsIndex(model);
+
         this.systemControlledColumnValuesSynchronizer = new SystemControlledColumnValuesSynchronizer(model,
+                                                                                                     expandedColumnsIndex,
                                                                                                      uiModel,
                                                                                                      gridWidgetCellFactory,
                                                                                                      cellUtilities,
@@ -209,11 +216,15 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
     @SuppressWarnings("unchecked")
     public void appendColumn(final BaseColumn column) throws VetoException {
         final MetaData metaData = new BaseColumnSynchronizer.ColumnMetaDataImpl(column);
-        for (Synchronizer synchronizer : synchronizers) {
-            if (synchronizer.handlesAppend(metaData)) {
-                synchronizer.append(metaData);
-                break;
+        try {
+            for (Synchronizer synchronizer : synchronizers) {
+                if (synchronizer.handlesAppend(metaData)) {
+                    synchronizer.append(metaData);
+                    break;
+                }
             }
+        } finally {
+            expandedColumnsIndex.invalidate();
         }
 
         fireAfterColumnInsertedEvent(column);
@@ -225,11 +236,15 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
                              final ConditionCol52 column) throws VetoException {
         final PatternConditionMetaData metaData = new PatternConditionMetaData(pattern,
                                                                                column);
-        for (Synchronizer synchronizer : synchronizers) {
-            if (synchronizer.handlesAppend(metaData)) {
-                synchronizer.append(metaData);
-                break;
+        try {
+            for (Synchronizer synchronizer : synchronizers) {
+                if (synchronizer.handlesAppend(metaData)) {
+                    synchronizer.append(metaData);
+                    break;
+                }
             }
+        } finally {
+            expandedColumnsIndex.invalidate();
         }
         fireAfterColumnInsertedEvent(column);
     }
@@ -237,13 +252,17 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
     @Override
     @SuppressWarnings("unchecked")
     public void deleteColumn(final BaseColumn column) throws VetoException {
-        final int columnIndex = model.getExpandedColumns().indexOf(column);
+        final int columnIndex = expandedColumnsIndex.indexOf(column);
         final MetaData metaData = new BaseColumnSynchronizer.ColumnMetaDataImpl(column);
-        for (Synchronizer synchronizer : synchronizers) {
-            if (synchronizer.handlesDelete(metaData)) {
-                synchronizer.delete(metaData);
-                break;
+        try {
+            for (Synchronizer synchronizer : synchronizers) {
+                if (synchronizer.handlesDelete(metaData)) {
+                    synchronizer.delete(metaData);
+                    break;
+                }
             }
+        } finally {
+            expandedColumnsIndex.invalidate();
         }
         fireAfterColumnDeletedEvent(columnIndex);
     }
@@ -259,11 +278,15 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
 
         final PatternConditionMetaData editedMetaData = new PatternConditionMetaData(editedPattern,
                                                                                      editedColumn);
-        for (Synchronizer synchronizer : synchronizers) {
-            if (synchronizer.handlesUpdate(originalMetaData)) {
-                return synchronizer.update(originalMetaData,
-                                           editedMetaData);
+        try {
+            for (Synchronizer synchronizer : synchronizers) {
+                if (synchronizer.handlesUpdate(originalMetaData)) {
+                    return synchronizer.update(originalMetaData,
+                                               editedMetaData);
+                }
             }
+        } finally {
+            expandedColumnsIndex.invalidate();
         }
         return Collections.emptyList();
     }
@@ -276,8 +299,13 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
         final MetaData editedMetaData = new BaseColumnSynchronizer.ColumnMetaDataImpl(editedColumn);
         for (Synchronizer synchronizer : synchronizers) {
             if (synchronizer.handlesUpdate(originalMetaData)) {
-                final List<BaseColumnFieldDiff> diffs = synchronizer.update(originalMetaData,
-                                                                            editedMetaData);
+                final List<BaseColumnFieldDiff> diffs;
+                try {
+                    diffs = synchronizer.update(originalMetaData,
+                                                editedMetaData);
+                } finally {
+                    expandedColumnsIndex.invalidate();
+                }
                 final boolean isSalienceUseRowNumberUpdated = BaseColumnFieldDiffImpl.hasChanged(AttributeCol52.FIELD_USE_ROW_NUMBER,
                                                                                                  diffs);
                 final boolean isSalienceUseReverseOrderUpdated = BaseColumnFieldDiffImpl.hasChanged(AttributeCol52.FIELD_REVERSE_ORDER,
@@ -335,6 +363,91 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
         fireUpdateColumnDataEvent();
     }
 
+    @Override
+    public void insertRows(final int rowIndex,
+                           final int rowCount) throws VetoException {
+        final List<Integer> rowIndexes = new ArrayList<Integer>();
+        for (int index = 0; index < rowCount; index++) {
+            rowIndexes.add(rowIndex + index);
+        }
+        insertRows(new RowSynchronizer.RowsMetaDataImpl(rowIndexes));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void duplicateRows(final List<Integer> rowIndexes) throws VetoException {
+        if (rowIndexes.isEmpty()) {
+            return;
+        }
+        final List<Integer> sourceRowIndexes = new ArrayList<Integer>(rowIndexes);
+        Collections.sort(sourceRowIndexes);
+
+        final int firstRowIndex = sourceRowIndexes.get(sourceRowIndexes.size() - 1) + 1;
+        final List<Integer> newRowIndexes = new ArrayList<Integer>();
+        final List<List<DTCellValue52>> sourceRows = new ArrayList<List<DTCellValue52>>();
+        for (int index = 0; index < sourceRowIndexes.size(); index++) {
+            newRowIndexes.add(firstRowIndex + index);
+            sourceRows.add(model.getData().get(sourceRowIndexes.get(index)));
+        }
+        insertRows(new RowSynchronizer.RowsMetaDataImpl(newRowIndexes,
+                                                        sourceRows));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void insertRows(final RowSynchronizer.RowsMetaData metaData) throws VetoException {
+        final List<Integer> rowIndexes = metaData.getRowIndexes();
+        if (rowIndexes.isEmpty()) {
+            return;
+        }
+        for (Synchronizer synchronizer : synchronizers) {
+            if (synchronizer.handlesInsert(metaData)) {
+                synchronizer.insert(metaData);
+                break;
+            }
+        }
+        fireInsertRowsEvent(rowIndexes);
+        systemControlledColumnValuesSynchronizer.insertRows(rowIndexes);
+        fireUpdateColumnDataEvent();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void deleteRows(final List<Integer> rowIndexes) throws VetoException {
+        if (rowIndexes.isEmpty()) {
+            return;
+        }
+        //Deleting a row in a merged block deletes the whole block, so record the rows before deletion
+        final List<List<DTCellValue52>> originalRows = new ArrayList<List<DTCellValue52>>(model.getData());
+        final MetaData metaData = new RowSynchronizer.RowsMetaDataImpl(rowIndexes);
+        for (Synchronizer synchronizer : synchronizers) {
+            if (synchronizer.handlesDelete(metaData)) {
+                synchronizer.delete(metaData);
+                break;
+            }
+        }
+
+        final List<Integer> deletedRowIndexes = getDeletedRowIndexes(originalRows,
+                                                                     model.getData());
+        fireDeleteRowsEvent(deletedRowIndexes);
+        systemControlledColumnValuesSynchronizer.deleteRows(deletedRowIndexes);
+        fireUpdateColumnDataEvent();
+    }
+
+    //Rows are removed without re-ordering so the remaining rows can be matched by identity in a single pass
+    private List<Integer> getDeletedRowIndexes(final List<List<DTCellValue52>> originalRows,
+                                               final List<List<DTCellValue52>> remainingRows) {
+        final List<Integer> deletedRowIndexes = new ArrayList<Integer>();
+        int remainingRowIndex = 0;
+        for (int originalRowIndex = 0; originalRowIndex < originalRows.size(); originalRowIndex++) {
+            if (remainingRowIndex < remainingRows.size() && originalRows.get(originalRowIndex) == remainingRows.get(remainingRowIndex)) {
+                remainingRowIndex++;
+            } else {
+                deletedRowIndexes.add(originalRowIndex);
+            }
+        }
+        return deletedRowIndexes;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public void moveColumnTo(final int targetColumnIndex,
@@ -344,7 +457,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
             throw new MoveVetoException();
         }
 
-        final BaseColumn modelColumn = model.getExpandedColumns().get(sourceColumnIndex);
+        final BaseColumn modelColumn = expandedColumnsIndex.getColumn(sourceColumnIndex);
         final List<MoveColumnToMetaData> metaData = new ArrayList<MoveColumnToMetaData>() {
             {
                 add(new MoveColumnToMetaDataImpl(sourceColumnIndex,
@@ -364,8 +477,12 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
             throw new MoveVetoException();
         }
 
-        for (Synchronizer synchronizer : handlers) {
-            synchronizer.moveColumnsTo(metaData);
+        try {
+            for (Synchronizer synchronizer : handlers) {
+                synchronizer.moveColumnsTo(metaData);
+            }
+        } finally {
+            expandedColumnsIndex.invalidate();
         }
     }
 
@@ -382,7 +499,7 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
                 throw new MoveVetoException();
             }
 
-            final BaseColumn modelColumn = model.getExpandedColumns().get(sourceColumnIndex);
+            final BaseColumn modelColumn = expandedColumnsIndex.getColumn(sourceColumnIndex);
             metaData.add(new MoveColumnToMetaDataImpl(sourceColumnIndex,
                                                       targetColumnIndex + index,
                                                       modelColumn));
@@ -400,7 +517,11 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
             throw new MoveVetoException();
         }
 
-        handler.moveColumnsTo(metaData);
+        try {
+            handler.moveColumnsTo(metaData);
+        } finally {
+            expandedColumnsIndex.invalidate();
+        }
     }
 
     @Override
@@ -443,10 +564,15 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
         systemControlledColumnValuesSynchronizer.updateSystemControlledColumnValues();
     }
 
+    @Override
+    public ExpandedColumnsIndex getExpandedColumnsIndex() {
+        return expandedColumnsIndex;
+    }
+
     @Override
     public void setCellOtherwiseState(final int rowIndex,
                                       final int columnIndex) {
-        final BaseColumn modelColumn = model.getExpandedColumns().get(columnIndex);
+        final BaseColumn modelColumn = expandedColumnsIndex.getColumn(columnIndex);
         final DTCellValue52 modelCell = model.getData().get(rowIndex).get(columnIndex);
         modelCell.clearValues();
         modelCell.setOtherwise(true);
@@ -484,6 +610,14 @@ public class ModelSynchronizerImpl implements ModelSynchronizer {
         eventBus.fireEvent(new InsertRowEvent(rowIndex));
     }
 
+    protected void fireInsertRowsEvent(final List<Integer> rowIndexes) {
+        eventBus.fireEvent(new InsertRowsEvent(rowIndexes));
+    }
+
+    protected void fireDeleteRowsEvent(final List<Integer> rowIndexes) {
+        eventBus.fireEvent(new DeleteRowsEvent(rowIndexes));
+    }
+
     protected void fireValidateEvent(final GridData.Range rowRange,
                                      final Set<Integer> columnRange) {
         final int minRowIndex = rowRange.getMinRowIndex();
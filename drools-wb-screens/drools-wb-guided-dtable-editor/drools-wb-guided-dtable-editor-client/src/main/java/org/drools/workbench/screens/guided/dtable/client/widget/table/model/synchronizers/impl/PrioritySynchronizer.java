@@ -15,6 +15,7 @@
  */
 package org.drools.workbench.screens.guided.dtable.client.widget.table.model.synchronizers.impl;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
@@ -24,6 +25,7 @@ import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
 import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
 import org.drools.workbench.models.guided.dtable.shared.model.MetadataCol52;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.GuidedDecisionTableUiCell;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.model.ExpandedColumnsIndex;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.GuidedDecisionTableUiModel;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.converters.cell.GridWidgetCellFactory;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.CellUtilities;
@@ -32,17 +34,20 @@ import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.
 public class PrioritySynchronizer {
 
     private final GuidedDecisionTable52 model;
+    private final ExpandedColumnsIndex expandedColumnsIndex;
     private final GuidedDecisionTableUiModel uiModel;
     private final GridWidgetCellFactory gridWidgetCellFactory;
     private final CellUtilities cellUtilities;
     private final ColumnUtilities columnUtilities;
 
     public PrioritySynchronizer(final GuidedDecisionTable52 model,
+                                final ExpandedColumnsIndex expandedColumnsIndex,
                                 final GuidedDecisionTableUiModel uiModel,
                                 final GridWidgetCellFactory gridWidgetCellFactory,
                                 final CellUtilities cellUtilities,
                                 final ColumnUtilities columnUtilities) {
         this.model = model;
+        this.expandedColumnsIndex = expandedColumnsIndex;
         this.uiModel = uiModel;
         this.gridWidgetCellFactory = gridWidgetCellFactory;
         this.cellUtilities = cellUtilities;
@@ -102,7 +107,7 @@ public class PrioritySynchronizer {
 
         int attributeColumnIndex = 0;
 
-        for (final BaseColumn baseColumn : model.getExpandedColumns()) {
+        for (final BaseColumn baseColumn : expandedColumnsIndex.getExpandedColumns()) {
             if (baseColumn instanceof MetadataCol52
                     && GuidedDecisionTable52.HitPolicy.RESOLVED_HIT_METADATA_NAME.equals(((MetadataCol52) baseColumn).getMetadata())) {
 
@@ -116,12 +121,19 @@ public class PrioritySynchronizer {
     }
 
     public void deleteRow(final int deletedRowIndex) {
+        deleteRows(Collections.singletonList(deletedRowIndex));
+    }
+
+    /**
+     * Updates priorities following the deletion of multiple rows. The adjustments are equivalent to deleting
+     * the rows one at a time, from the highest index to the lowest, but each cell is updated only once.
+     * @param deletedRowIndexes Indexes of the deleted rows, in ascending order
+     */
+    public void deleteRows(final List<Integer> deletedRowIndexes) {
         if (!GuidedDecisionTable52.HitPolicy.RESOLVED_HIT.equals(model.getHitPolicy())) {
             return;
         }
 
-        final int deletedRowNumber = deletedRowIndex + 1;
-
         final Optional<BaseColumnInfo> optional = getPriorityColumnInfo();
 
         if (optional.isPresent()) {
@@ -135,8 +147,16 @@ public class PrioritySynchronizer {
                 final DTCellValue52 dtCellValue52 = row.get(baseColumnInfo.getColumnIndex());
                 final int oldValue = getNumber(dtCellValue52);
 
-                if (oldValue >= deletedRowNumber) {
-                    dtCellValue52.setStringValue(Integer.toString(oldValue - 1));
+                int newValue = oldValue;
+                for (int index = deletedRowIndexes.size() - 1; index >= 0; index--) {
+                    final int deletedRowNumber = deletedRowIndexes.get(index) + 1;
+                    if (newValue >= deletedRowNumber) {
+                        newValue--;
+                    }
+                }
+
+                if (newValue != oldValue) {
+                    dtCellValue52.setStringValue(Integer.toString(newValue));
                     uiModel.setCellValueInternal(rowNumber,
                                                  baseColumnInfo.getColumnIndex(),
                                                  gridWidgetCellFactory.convertCell(dtCellValue52,
@@ -151,6 +171,15 @@ public class PrioritySynchronizer {
     }
 
     public void insertRow(final int insertedRowIndex) {
+        insertRows(Collections.singletonList(insertedRowIndex));
+    }
+
+    /**
+     * Updates priorities following the insertion of multiple rows. The adjustments are equivalent to inserting
+     * the rows one at a time, from the lowest index to the highest, but each cell is updated only once.
+     * @param insertedRowIndexes Indexes of the inserted rows, in ascending order
+     */
+    public void insertRows(final List<Integer> insertedRowIndexes) {
         if (!GuidedDecisionTable52.HitPolicy.RESOLVED_HIT.equals(model.getHitPolicy())) {
             return;
         }
@@ -168,8 +197,15 @@ public class PrioritySynchronizer {
                 final DTCellValue52 dtCellValue52 = row.get(baseColumnInfo.getColumnIndex());
                 final int oldValue = getNumber(dtCellValue52);
 
-                if (oldValue != 0 && oldValue >= insertedRowIndex) {
-                    dtCellValue52.setStringValue(Integer.toString(oldValue + 1));
+                int newValue = oldValue;
+                for (final int insertedRowIndex : insertedRowIndexes) {
+                    if (newValue != 0 && newValue >= insertedRowIndex) {
+                        newValue++;
+                    }
+                }
+
+                if (newValue != oldValue) {
+                    dtCellValue52.setStringValue(Integer.toString(newValue));
 
                     uiModel.setCellValueInternal(rowNumber,
                                                  baseColumnInfo.getColumnIndex(),
@@ -62,6 +62,57 @@ public class RowSynchronizer extends BaseSynchronizer<RowMetaData, RowMetaData,
         }
     }
 
+    /**
+     * MetaData for operations on multiple rows at once.
+     */
+    public interface RowsMetaData extends RowMetaData {
+
+        /**
+         * Indexes of the rows, in ascending order. For insertions these are the indexes of the new rows.
+         */
+        List<Integer> getRowIndexes();
+
+        /**
+         * Model data to copy into inserted rows, one entry per index. Empty if new rows should be
+         * initialised with each column's default value.
+         */
+        List<List<DTCellValue52>> getRows();
+    }
+
+    public static class RowsMetaDataImpl implements RowsMetaData {
+
+        private final List<Integer> rowIndexes;
+        private final List<List<DTCellValue52>> rows;
+
+        public RowsMetaDataImpl(final List<Integer> rowIndexes) {
+            this(rowIndexes,
+                 Collections.emptyList());
+        }
+
+        public RowsMetaDataImpl(final List<Integer> rowIndexes,
+                                final List<List<DTCellValue52>> rows) {
+            final List<Integer> sortedRowIndexes = new ArrayList<>(rowIndexes);
+            Collections.sort(sortedRowIndexes);
+            this.rowIndexes = sortedRowIndexes;
+            this.rows = rows;
+        }
+
+        @Override
+        public int getRowIndex() {
+            return rowIndexes.isEmpty() ? -1 : rowIndexes.get(0);
+        }
+
+        @Override
+        public List<Integer> getRowIndexes() {
+            return rowIndexes;
+        }
+
+        @Override
+        public List<List<DTCellValue52>> getRows() {
+            return rows;
+        }
+    }
+
     @Override
     public boolean handlesAppend(final MetaData metaData) throws VetoException {
         return metaData instanceof RowMetaData;
@@ -92,6 +143,10 @@ public class RowSynchronizer extends BaseSynchronizer<RowMetaData, RowMetaData,
         if (!handlesAppend(metaData)) {
             return;
         }
+        if (metaData instanceof RowsMetaData) {
+            insertRows((RowsMetaData) metaData);
+            return;
+        }
         final int rowIndex = metaData.getRowIndex();
         final List<DTCellValue52> modelRow = new ArrayList<DTCellValue52>();
         model.getData().add(rowIndex,
@@ -104,12 +159,38 @@ public class RowSynchronizer extends BaseSynchronizer<RowMetaData, RowMetaData,
         initialiseRowData(rowIndex);
     }
 
-    private void initialiseRowData(final int rowIndex) {
+    private void insertRows(final RowsMetaData metaData) {
+        final List<Integer> rowIndexes = metaData.getRowIndexes();
+        final List<List<DTCellValue52>> rows = metaData.getRows();
         final List<BaseColumn> modelColumns = model.getExpandedColumns();
+        for (int index = 0; index < rowIndexes.size(); index++) {
+            final int rowIndex = rowIndexes.get(index);
+            model.getData().add(rowIndex,
+                                new ArrayList<DTCellValue52>());
+
+            final GridRow uiModelRow = new BaseGridRow(GuidedDecisionTableView.ROW_HEIGHT);
+            uiModel.insertRow(rowIndex,
+                              uiModelRow);
+
+            initialiseRowData(rowIndex,
+                              modelColumns,
+                              rows.isEmpty() ? null : rows.get(index));
+        }
+    }
+
+    private void initialiseRowData(final int rowIndex) {
+        initialiseRowData(rowIndex,
+                          model.getExpandedColumns(),
+                          null);
+    }
+
+    private void initialiseRowData(final int rowIndex,
+                                   final List<BaseColumn> modelColumns,
+                                   final List<DTCellValue52> sourceRow) {
         final List<DTCellValue52> modelRow = model.getData().get(rowIndex);
         for (int columnIndex = 0; columnIndex < modelColumns.size(); columnIndex++) {
             final BaseColumn modelColumn = modelColumns.get(columnIndex);
-            final DTCellValue52 modelCell = makeModelCellValue(modelColumn);
+            final DTCellValue52 modelCell = sourceRow == null ? makeModelCellValue(modelColumn) : new DTCellValue52(sourceRow.get(columnIndex));
             modelRow.add(modelCell);
 
             //BaseGridData is sparsely populated; only add values if needed.
@@ -154,6 +235,10 @@ public class RowSynchronizer extends BaseSynchronizer<RowMetaData, RowMetaData,
         if (!handlesDelete(metaData)) {
             return;
         }
+        if (metaData instanceof RowsMetaData) {
+            deleteRows((RowsMetaData) metaData);
+            return;
+        }
         final int rowIndex = metaData.getRowIndex();
         final GridData.Range rowRange = uiModel.deleteRow(rowIndex);
         final int minRowIndex = rowRange.getMinRowIndex();
@@ -163,6 +248,17 @@ public class RowSynchronizer extends BaseSynchronizer<RowMetaData, RowMetaData,
         }
     }
 
+    private void deleteRows(final RowsMetaData metaData) {
+        //Ranges are returned in descending order so removing Model rows does not affect subsequent ranges
+        for (GridData.Range rowRange : uiModel.deleteRows(metaData.getRowIndexes())) {
+            final int minRowIndex = rowRange.getMinRowIndex();
+            final int maxRowIndex = rowRange.getMaxRowIndex();
+            for (int ri = minRowIndex; ri <= maxRowIndex; ri++) {
+                model.getData().remove(minRowIndex);
+            }
+        }
+    }
+
     @Override
     public boolean handlesMoveColumnsTo(final List<? extends MetaData> metaData) throws VetoException {
         //Moving Row data is delegated to each respective Column Synchronizer
@@ -21,6 +21,7 @@ import org.drools.workbench.models.guided.dtable.shared.model.AttributeCol52;
 import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
 import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.columns.SalienceUiColumn;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.model.ExpandedColumnsIndex;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.GuidedDecisionTableUiModel;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.converters.cell.GridWidgetCellFactory;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.CellUtilities;
@@ -31,17 +32,20 @@ public class SalienceSynchronizer {
 
 
     private final GuidedDecisionTable52 model;
+    private final ExpandedColumnsIndex expandedColumnsIndex;
     private final GuidedDecisionTableUiModel uiModel;
     private final GridWidgetCellFactory gridWidgetCellFactory;
     private final CellUtilities cellUtilities;
     private final ColumnUtilities columnUtilities;
 
     public SalienceSynchronizer( final GuidedDecisionTable52 model,
+                                 final ExpandedColumnsIndex expandedColumnsIndex,
                                  final GuidedDecisionTableUiModel uiModel,
                                  final GridWidgetCellFactory gridWidgetCellFactory,
                                  final CellUtilities cellUtilities,
                                  final ColumnUtilities columnUtilities ) {
         this.model = model;
+        this.expandedColumnsIndex = expandedColumnsIndex;
         this.uiModel = uiModel;
         this.gridWidgetCellFactory = gridWidgetCellFactory;
         this.cellUtilities = cellUtilities;
@@ -52,8 +56,7 @@ public class SalienceSynchronizer {
      * Update Salience column definition and values
      */
     public void updateSalienceColumnValues( final AttributeCol52 modelColumn ) {
-        final int iModelColumn = model.getExpandedColumns()
-                .indexOf( modelColumn );
+        final int iModelColumn = expandedColumnsIndex.indexOf( modelColumn );
 
         final GridColumn<?> uiColumn = uiModel.getColumns()
                 .get( iModelColumn );
@@ -22,6 +22,7 @@ import org.drools.workbench.models.guided.dtable.shared.model.BaseColumn;
 import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
 import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
 import org.drools.workbench.models.guided.dtable.shared.model.RowNumberCol52;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.model.ExpandedColumnsIndex;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.GuidedDecisionTableUiModel;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.converters.cell.GridWidgetCellFactory;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.CellUtilities;
@@ -31,6 +32,7 @@ import org.drools.workbench.screens.guided.rule.client.widget.attribute.RuleAttr
 public class SystemControlledColumnValuesSynchronizer {
 
     private final GuidedDecisionTable52 model;
+    private final ExpandedColumnsIndex expandedColumnsIndex;
     private final GuidedDecisionTableUiModel uiModel;
     private final GridWidgetCellFactory gridWidgetCellFactory;
     private final CellUtilities cellUtilities;
@@ -45,22 +47,26 @@ public class SystemControlledColumnValuesSynchronizer {
     }
 
     public SystemControlledColumnValuesSynchronizer(final GuidedDecisionTable52 model,
+                                                    final ExpandedColumnsIndex expandedColumnsIndex,
                                                     final GuidedDecisionTableUiModel uiModel,
                                                     final GridWidgetCellFactory gridWidgetCellFactory,
                                                     final CellUtilities cellUtilities,
                                                     final ColumnUtilities columnUtilities) {
         this.model = model;
+        this.expandedColumnsIndex = expandedColumnsIndex;
         this.uiModel = uiModel;
         this.gridWidgetCellFactory = gridWidgetCellFactory;
         this.cellUtilities = cellUtilities;
         this.columnUtilities = columnUtilities;
 
         salienceSynchronizer = new SalienceSynchronizer(model,
+                                                        expandedColumnsIndex,
                                                         uiModel,
                                                         gridWidgetCellFactory,
                                                         cellUtilities,
                                                         columnUtilities);
         prioritySynchronizer = new PrioritySynchronizer(model,
+                                                        expandedColumnsIndex,
                                                         uiModel,
                                                         gridWidgetCellFactory,
                                                         cellUtilities,
@@ -72,7 +78,7 @@ public class SystemControlledColumnValuesSynchronizer {
     }
 
     private void updateSystemControlledColumnValues(final PostSyncOperation postSyncOperation) {
-        for (final BaseColumn column : model.getExpandedColumns()) {
+        for (final BaseColumn column : expandedColumnsIndex.getExpandedColumns()) {
             if (column instanceof RowNumberCol52) {
                 updateRowNumberColumnValues((RowNumberCol52) column,
                                             postSyncOperation);
@@ -92,7 +98,7 @@ public class SystemControlledColumnValuesSynchronizer {
                                              final PostSyncOperation postSyncOperation) {
         final PrioritySynchronizer.RowNumberChanges rowNumberChanges = new PrioritySynchronizer.RowNumberChanges();
 
-        final int iModelColumn = model.getExpandedColumns().indexOf(modelColumn);
+        final int iModelColumn = expandedColumnsIndex.indexOf(modelColumn);
         for (int rowNumber = 0; rowNumber < model.getData().size(); rowNumber++) {
 
             final List<DTCellValue52> modelRow = model.getData().get(rowNumber);
@@ -123,11 +129,29 @@ public class SystemControlledColumnValuesSynchronizer {
         updateSystemControlledColumnValues((a, b) -> {/*None*/});
     }
 
+    /**
+     * Updates system controlled values following the deletion of multiple rows with a single pass over the table.
+     * @param rowIndexes Indexes of the deleted rows, in ascending order
+     */
+    public void deleteRows(final List<Integer> rowIndexes) {
+        prioritySynchronizer.deleteRows(rowIndexes);
+        updateSystemControlledColumnValues((a, b) -> {/*None*/});
+    }
+
     public void insertRow(final int rowIndex) {
         prioritySynchronizer.insertRow(rowIndex);
         updateSystemControlledColumnValues((a, b) -> {/*None*/});
     }
 
+    /**
+     * Updates system controlled values following the insertion of multiple rows with a single pass over the table.
+     * @param rowIndexes Indexes of the inserted rows, in ascending order
+     */
+    public void insertRows(final List<Integer> rowIndexes) {
+        prioritySynchronizer.insertRows(rowIndexes);
+        updateSystemControlledColumnValues((a, b) -> {/*None*/});
+    }
+
     public void appendRow() {
         updateSystemControlledColumnValues();
     }
@@ -16,16 +16,24 @@
 
 package org.drools.workbench.screens.guided.dtable.client.widget.table.utilities;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
 
+import com.google.gwt.core.client.Scheduler;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.GuidedDecisionTablePresenter;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.GuidedDecisionTableView;
+import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableEnumDropdownService;
+import org.jboss.errai.bus.client.api.messaging.Message;
 import org.jboss.errai.common.client.api.Caller;
 import org.jboss.errai.common.client.api.RemoteCallback;
 import org.kie.soup.project.datamodel.oracle.DropDownData;
@@ -41,11 +49,27 @@ public class EnumLoaderUtilities {
 
     private final Caller<EnumDropdownService> enumDropdownService;
 
+    private final Caller<GuidedDecisionTableEnumDropdownService> guidedDecisionTableEnumDropdownService;
+
+    //Enumerations resolved by the server are shared between Decision Tables
+    private final EnumLookupsCache enumLookupsCache;
+
+    //Enumerations defined as fixed lists
     private final Map<String, Map<String, String>> enumCache = new HashMap<>();
 
+    //Keys of expressions being resolved by the server, to prevent recurrent calls for the same data
+    private final Set<String> pendingKeys = new HashSet<>();
+
+    //Expressions requested whilst the table is rendered; they are resolved together once rendering has completed
+    private final Map<String, QueuedEnumRequest> queuedRequests = new LinkedHashMap<>();
+
     @Inject
-    public EnumLoaderUtilities(final Caller<EnumDropdownService> enumDropdownService) {
+    public EnumLoaderUtilities(final Caller<EnumDropdownService> enumDropdownService,
+                               final Caller<GuidedDecisionTableEnumDropdownService> guidedDecisionTableEnumDropdownService,
+                               final EnumLookupsCache enumLookupsCache) {
         this.enumDropdownService = enumDropdownService;
+        this.guidedDecisionTableEnumDropdownService = guidedDecisionTableEnumDropdownService;
+        this.enumLookupsCache = enumLookupsCache;
     }
 
     public void getEnums(final DropDownData enumDefinition,
@@ -98,35 +122,116 @@ public class EnumLoaderUtilities {
                                     final Command onFetchCommand,
                                     final Command onFetchCompleteCommand) {
         final String key = buildKey(enumDefinition);
-        if (enumCache.containsKey(key)) {
-            callback.callback(enumCache.get(key));
+        final ObservablePath currentPath = presenter.getCurrentPath();
+        final Map<String, String> cachedEnumLookups = enumLookupsCache.get(currentPath,
+                                                                           key);
+        if (cachedEnumLookups != null) {
+            callback.callback(cachedEnumLookups);
             return;
         }
 
-        //Cache empty value to prevent recurrent calls to the server for the same data.
+        //Return an empty value whilst the data is being retrieved to prevent recurrent calls to the server.
         //The View will be redrawn once by the batch() command in the success callback.
-        enumCache.put(key,
-                      Collections.emptyMap());
+        if (pendingKeys.contains(key)) {
+            callback.callback(Collections.emptyMap());
+            return;
+        }
+        pendingKeys.add(key);
+
+        onFetchCommand.execute();
+
+        //Only the cells being rendered request enumerations. Requests made during the same render are sent together.
+        final boolean isLoadScheduled = !queuedRequests.isEmpty();
+        queuedRequests.put(key,
+                           new QueuedEnumRequest(enumDefinition,
+                                                 callback,
+                                                 onFetchCompleteCommand));
+        if (!isLoadScheduled) {
+            scheduleDeferred(() -> loadQueuedEnums(presenter));
+        }
+    }
+
+    void loadQueuedEnums(final GuidedDecisionTablePresenter presenter) {
+        final Map<String, QueuedEnumRequest> requests = new LinkedHashMap<>(queuedRequests);
+        queuedRequests.clear();
+        if (requests.isEmpty()) {
+            return;
+        }
 
         final GuidedDecisionTableView view = presenter.getView();
         final ObservablePath currentPath = presenter.getCurrentPath();
+        final int version = enumLookupsCache.getVersion();
+        final List<String> keys = new ArrayList<>(requests.keySet());
+        final HasBusyIndicatorDefaultErrorCallback errorCallback = new HasBusyIndicatorDefaultErrorCallback(view) {
+            @Override
+            public boolean error(final Message message,
+                                 final Throwable throwable) {
+                pendingKeys.removeAll(keys);
+                return super.error(message,
+                                   throwable);
+            }
+        };
 
-        onFetchCommand.execute();
+        if (keys.size() == 1) {
+            final String key = keys.get(0);
+            final DropDownData enumDefinition = requests.get(key).enumDefinition;
+            enumDropdownService.call(new RemoteCallback<String[]>() {
+                                         @Override
+                                         public void callback(final String[] items) {
+                                             onEnumsLoaded(version,
+                                                           currentPath,
+                                                           key,
+                                                           requests.get(key),
+                                                           items);
+                                             view.batch();
+                                         }
+                                     },
+                                     errorCallback).loadDropDownExpression(currentPath,
+                                                                           enumDefinition.getValuePairs(),
+                                                                           enumDefinition.getQueryExpression());
+            return;
+        }
+
+        final List<DropDownData> enumDefinitions = new ArrayList<>();
+        for (QueuedEnumRequest request : requests.values()) {
+            enumDefinitions.add(request.enumDefinition);
+        }
+        guidedDecisionTableEnumDropdownService.call(new RemoteCallback<List<String[]>>() {
+                                                        @Override
+                                                        public void callback(final List<String[]> results) {
+                                                            for (int i = 0; i < keys.size(); i++) {
+                                                                final String key = keys.get(i);
+                                                                onEnumsLoaded(version,
+                                                                              currentPath,
+                                                                              key,
+                                                                              requests.get(key),
+                                                                              results.get(i));
+                                                            }
+                                                            view.batch();
+                                                        }
+                                                    },
+                                                    errorCallback).loadDropDownExpressions(currentPath,
+                                                                                           enumDefinitions);
+    }
+
+    private void onEnumsLoaded(final int version,
+                               final ObservablePath currentPath,
+                               final String key,
+                               final QueuedEnumRequest request,
+                               final String[] items) {
+        request.onFetchCompleteCommand.execute();
+        final Map<String, String> convertedDropDownData = convertDropDownData(items);
+        enumLookupsCache.put(version,
+                             currentPath,
+                             key,
+                             convertedDropDownData);
+        pendingKeys.remove(key);
+        request.callback.callback(convertedDropDownData);
+    }
 
-        enumDropdownService.call(new RemoteCallback<String[]>() {
-                                     @Override
-                                     public void callback(final String[] items) {
-                                         onFetchCompleteCommand.execute();
-                                         final Map<String, String> convertedDropDownData = convertDropDownData(items);
-                                         enumCache.put(key,
-                                                       convertedDropDownData);
-                                         callback.callback(convertedDropDownData);
-                                         view.batch();
-                                     }
-                                 },
-                                 new HasBusyIndicatorDefaultErrorCallback(view)).loadDropDownExpression(currentPath,
-                                                                                                        enumDefinition.getValuePairs(),
-                                                                                                        enumDefinition.getQueryExpression());
+    //Protected to allow overriding in tests
+    protected void scheduleDeferred(final Scheduler.ScheduledCommand command) {
+        Scheduler.get().scheduleDeferred(command);
     }
 
     private String buildKey(final DropDownData enumDefinition) {
@@ -175,4 +280,19 @@ public class EnumLoaderUtilities {
         }
         return convertedDropDownData;
     }
+
+    private static class QueuedEnumRequest {
+
+        private final DropDownData enumDefinition;
+        private final Callback<Map<String, String>> callback;
+        private final Command onFetchCompleteCommand;
+
+        private QueuedEnumRequest(final DropDownData enumDefinition,
+                                  final Callback<Map<String, String>> callback,
+                                  final Command onFetchCompleteCommand) {
+            this.enumDefinition = enumDefinition;
+            this.callback = callback;
+            this.onFetchCompleteCommand = onFetchCompleteCommand;
+        }
+    }
 }
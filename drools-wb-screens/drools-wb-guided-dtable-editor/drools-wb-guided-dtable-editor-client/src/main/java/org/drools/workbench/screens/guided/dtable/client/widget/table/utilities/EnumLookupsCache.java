@@ -0,0 +1,161 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.client.widget.table.utilities;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceBatchChangesEvent;
+import org.uberfire.workbench.events.ResourceChange;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceRenamed;
+import org.uberfire.workbench.events.ResourceRenamedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+/**
+ * Cache of enumerations resolved by the server, shared by all Decision Tables open in the Workbench. Entries are
+ * keyed on the version of the enumeration definitions, the folder containing the Decision Table (as expressions
+ * are evaluated against the Project's classes) and the expression. The version is incremented whenever an
+ * enumeration definition or Java class changes. The number of entries is bounded; the least recently used are
+ * discarded first.
+ */
+@ApplicationScoped
+public class EnumLookupsCache {
+
+    static final int MAX_ENTRIES = 500;
+
+    private static final String[] EXTENSIONS = {".enumeration", ".java"};
+
+    private final Map<String, Map<String, String>> lookups = new LinkedHashMap<String, Map<String, String>>(16,
+                                                                                                           0.75f,
+                                                                                                           true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, Map<String, String>> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private int version = 0;
+
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the enumeration for an expression, or null if it has not been resolved for the current version.
+     * @param path Path of the Decision Table using the enumeration
+     * @param key Key of the expression, including any dependent values
+     * @return The enumeration or null
+     */
+    public Map<String, String> get(final Path path,
+                                   final String key) {
+        return lookups.get(makeKey(version,
+                                   path,
+                                   key));
+    }
+
+    /**
+     * Stores an enumeration. Enumerations resolved against an earlier version are ignored.
+     * @param version Version at the time the request to resolve the expression was made
+     * @param path Path of the Decision Table using the enumeration
+     * @param key Key of the expression, including any dependent values
+     * @param enumLookups The resolved enumeration
+     */
+    public void put(final int version,
+                    final Path path,
+                    final String key,
+                    final Map<String, String> enumLookups) {
+        if (version != this.version) {
+            return;
+        }
+        lookups.put(makeKey(version,
+                            path,
+                            key),
+                    enumLookups);
+    }
+
+    public void invalidate() {
+        version++;
+        lookups.clear();
+    }
+
+    int size() {
+        return lookups.size();
+    }
+
+    void invalidate(final Path path) {
+        if (path == null || path.getFileName() == null) {
+            return;
+        }
+        for (String extension : EXTENSIONS) {
+            if (path.getFileName().endsWith(extension)) {
+                invalidate();
+                return;
+            }
+        }
+    }
+
+    public void onResourceAdded(final @Observes ResourceAddedEvent event) {
+        invalidate(event.getPath());
+    }
+
+    public void onResourceUpdated(final @Observes ResourceUpdatedEvent event) {
+        invalidate(event.getPath());
+    }
+
+    public void onResourceDeleted(final @Observes ResourceDeletedEvent event) {
+        invalidate(event.getPath());
+    }
+
+    public void onResourceRenamed(final @Observes ResourceRenamedEvent event) {
+        invalidate(event.getPath());
+        invalidate(event.getDestinationPath());
+    }
+
+    public void onResourceBatchChanges(final @Observes ResourceBatchChangesEvent event) {
+        for (Map.Entry<Path, Collection<ResourceChange>> entry : event.getBatch().entrySet()) {
+            invalidate(entry.getKey());
+            for (ResourceChange change : entry.getValue()) {
+                if (change instanceof ResourceRenamed) {
+                    invalidate(((ResourceRenamed) change).getDestinationPath());
+                }
+            }
+        }
+    }
+
+    private String makeKey(final int version,
+                           final Path path,
+                           final String key) {
+        return version + "#" + getScope(path) + "#" + key;
+    }
+
+    private String getScope(final Path path) {
+        if (path == null || path.toURI() == null) {
+            return "";
+        }
+        final String uri = path.toURI();
+        final int index = uri.lastIndexOf('/');
+        return index < 0 ? uri : uri.substring(0,
+                                               index);
+    }
+}
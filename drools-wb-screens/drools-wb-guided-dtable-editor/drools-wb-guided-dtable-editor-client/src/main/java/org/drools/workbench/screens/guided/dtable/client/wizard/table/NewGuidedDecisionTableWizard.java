@@ -21,11 +21,11 @@ import java.util.List;
 
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.Dependent;
+import javax.enterprise.event.Event;
 import javax.inject.Inject;
 
+import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.user.client.ui.Widget;
-import org.drools.workbench.models.guided.dtable.shared.model.BaseColumn;
-import org.drools.workbench.models.guided.dtable.shared.model.ConditionCol52;
 import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
 import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
 import org.drools.workbench.models.guided.dtable.shared.model.MetadataCol52;
@@ -46,6 +46,7 @@ import org.uberfire.client.callbacks.Callback;
 import org.uberfire.ext.widgets.core.client.wizards.AbstractWizard;
 import org.uberfire.ext.widgets.core.client.wizards.WizardPage;
 import org.uberfire.ext.widgets.core.client.wizards.WizardView;
+import org.uberfire.workbench.events.NotificationEvent;
 
 /**
  * Wizard for creating a Guided Decision Table
@@ -53,6 +54,9 @@ import org.uberfire.ext.widgets.core.client.wizards.WizardView;
 @Dependent
 public class NewGuidedDecisionTableWizard extends AbstractWizard {
 
+    //Number of rows generated before yielding to the browser
+    static final int ROWS_PER_CHUNK = 250;
+
     private final List<WizardPage> pages = new ArrayList<WizardPage>();
     @Inject
     private SummaryPage summaryPage;
@@ -75,6 +79,8 @@ public class NewGuidedDecisionTableWizard extends AbstractWizard {
     private GuidedDecisionTableWizardHandler handler;
     @Inject
     private WizardView view;
+    @Inject
+    private Event<NotificationEvent> notificationEvent;
 
     @PostConstruct
     public void setupPages() {
@@ -180,31 +186,42 @@ public class NewGuidedDecisionTableWizard extends AbstractWizard {
         }
 
         //Expand rows
-        final RowExpander re = new RowExpander(model,
-                                               oracle);
-
-        //Mark columns on which we are to expand (default is to include all)
-        for (BaseColumn c : model.getExpandedColumns()) {
-            re.setExpandColumn(c,
-                               false);
-        }
-        final List<ConditionCol52> columns = columnExpansionPage.getColumnsToExpand();
-        for (ConditionCol52 c : columns) {
-            re.setExpandColumn(c,
-                               true);
-        }
-
-        //Slurp out expanded rows and construct decision table data
-        int rowIndex = 0;
+        final RowExpander re = columnExpansionPage.makeRowExpander();
         final RowExpander.RowIterator ri = re.iterator();
-        while (ri.hasNext()) {
-            List<DTCellValue52> row = ri.next();
-            model.getData().add(row);
-            model.getData().get(rowIndex).get(0).setNumericValue(new BigDecimal(rowIndex + 1));
-            rowIndex++;
-        }
+        final int maximumRowCount = columnExpansionPage.getMaximumRowCount();
+
+        //Slurp out expanded rows and construct decision table data. Rows are generated in chunks, yielding
+        //to the browser between each, so it remains responsive when the expansion generates many rows.
+        scheduleIncremental(() -> {
+            int chunkRowCount = 0;
+            while (hasNextRow(ri,
+                              maximumRowCount) && chunkRowCount < ROWS_PER_CHUNK) {
+                final int rowIndex = model.getData().size();
+                final List<DTCellValue52> row = ri.next();
+                row.get(0).setNumericValue(new BigDecimal(rowIndex + 1));
+                model.getData().add(row);
+                chunkRowCount++;
+            }
+            if (hasNextRow(ri,
+                           maximumRowCount)) {
+                return true;
+            }
+            if (ri.hasNext()) {
+                notificationEvent.fire(new NotificationEvent(GuidedDecisionTableConstants.INSTANCE.DecisionTableWizardRowsTruncated(maximumRowCount),
+                                                             NotificationEvent.NotificationType.WARNING));
+            }
+            save();
+            return false;
+        });
+    }
+
+    //The row count estimate is a lower bound for dependent enumerations, so generation is also capped
+    private boolean hasNextRow(final RowExpander.RowIterator ri,
+                               final int maximumRowCount) {
+        return ri.hasNext() && model.getData().size() < maximumRowCount;
+    }
 
-        //Save it!
+    private void save() {
         final String baseFileName = summaryPage.getBaseFileName();
         final Path contextPath = this.contextPath;
         model.setTableName(baseFileName);
@@ -216,6 +233,11 @@ public class NewGuidedDecisionTableWizard extends AbstractWizard {
                      model);
     }
 
+    //Package protected to allow overriding in tests
+    void scheduleIncremental(final Scheduler.RepeatingCommand command) {
+        Scheduler.get().scheduleIncremental(command);
+    }
+
     @Override
     public void close() {
         super.close();
@@ -19,15 +19,20 @@ import java.util.ArrayList;
 import java.util.List;
 
 import javax.enterprise.context.Dependent;
+import javax.enterprise.event.Event;
 import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 
+import org.drools.workbench.models.guided.dtable.shared.model.BaseColumn;
 import org.drools.workbench.models.guided.dtable.shared.model.CompositeColumn;
 import org.drools.workbench.models.guided.dtable.shared.model.ConditionCol52;
 import org.drools.workbench.models.guided.dtable.shared.model.Pattern52;
 import org.drools.workbench.screens.guided.dtable.client.resources.i18n.GuidedDecisionTableConstants;
 import org.drools.workbench.screens.guided.dtable.client.wizard.table.pages.events.ConditionsDefinedEvent;
+import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableEditorService;
+import org.kie.workbench.common.services.shared.preferences.ApplicationPreferences;
 import org.uberfire.client.callbacks.Callback;
+import org.uberfire.ext.widgets.core.client.wizards.WizardPageStatusChangeEvent;
 
 /**
  * A page for the guided Decision Table Wizard to define which columns will be
@@ -38,11 +43,20 @@ public class ColumnExpansionPage extends AbstractGuidedDecisionTableWizardPage
         implements
         ColumnExpansionPageView.Presenter {
 
+    //Maximum number of rows the Wizard will generate, unless overridden by an Application Preference
+    static final int DEFAULT_MAXIMUM_ROW_COUNT = 10000;
+
     @Inject
     private ColumnExpansionPageView view;
 
+    @Inject
+    private Event<WizardPageStatusChangeEvent> wizardPageStatusChangeEvent;
+
     private List<ConditionCol52> columnsToExpand = null;
 
+    //Building a RowExpander resolves the value lists of every column, so the estimate is only recalculated when the page changes
+    private Long estimatedRowCount = null;
+
     @Override
     public String getTitle() {
         return GuidedDecisionTableConstants.INSTANCE.DecisionTableWizardColumnExpansion();
@@ -55,6 +69,7 @@ public class ColumnExpansionPage extends AbstractGuidedDecisionTableWizardPage
         view.setChosenColumns( new ArrayList<ConditionCol52>() );
         content.setWidget( view );
         columnsToExpand = null;
+        estimatedRowCount = null;
     }
 
     @Override
@@ -63,6 +78,7 @@ public class ColumnExpansionPage extends AbstractGuidedDecisionTableWizardPage
         final List<ConditionCol52> availableColumns = findAvailableColumnsToExpand();
         view.setAvailableColumns( availableColumns );
         columnsToExpand = availableColumns;
+        stateChanged();
     }
 
     private List<ConditionCol52> findAvailableColumnsToExpand() {
@@ -95,8 +111,8 @@ public class ColumnExpansionPage extends AbstractGuidedDecisionTableWizardPage
 
     @Override
     public void isComplete( final Callback<Boolean> callback ) {
-        //Expansion can involve zero or more columns, so the page is always complete
-        callback.callback( true );
+        //Expansion can involve zero or more columns, but must not generate more rows than permitted
+        callback.callback( getEstimatedRowCount() <= getMaximumRowCount() );
     }
 
     public void onConditionsDefined( final @Observes ConditionsDefinedEvent event ) {
@@ -106,6 +122,7 @@ public class ColumnExpansionPage extends AbstractGuidedDecisionTableWizardPage
     @Override
     public void setColumnsToExpand( final List<ConditionCol52> columns ) {
         this.columnsToExpand = columns;
+        stateChanged();
     }
 
     @Override
@@ -119,4 +136,51 @@ public class ColumnExpansionPage extends AbstractGuidedDecisionTableWizardPage
         return this.columnsToExpand;
     }
 
+    /**
+     * Create a RowExpander for the Decision Table that will expand the chosen columns.
+     * @return A RowExpander
+     */
+    public RowExpander makeRowExpander() {
+        final RowExpander re = new RowExpander( model,
+                                                oracle );
+
+        //Mark columns on which we are to expand (default is to include all)
+        for ( BaseColumn c : model.getExpandedColumns() ) {
+            re.setExpandColumn( c,
+                                false );
+        }
+        for ( ConditionCol52 c : getColumnsToExpand() ) {
+            re.setExpandColumn( c,
+                                true );
+        }
+        return re;
+    }
+
+    public long getEstimatedRowCount() {
+        if ( estimatedRowCount == null ) {
+            estimatedRowCount = makeRowExpander().getRowCount();
+        }
+        return estimatedRowCount;
+    }
+
+    public int getMaximumRowCount() {
+        final String maximumRowCount = ApplicationPreferences.getStringPref( GuidedDecisionTableEditorService.DTABLE_WIZARD_MAXIMUM_ROWS );
+        if ( maximumRowCount == null ) {
+            return DEFAULT_MAXIMUM_ROW_COUNT;
+        }
+        try {
+            return Integer.parseInt( maximumRowCount.trim() );
+        } catch ( NumberFormatException nfe ) {
+            return DEFAULT_MAXIMUM_ROW_COUNT;
+        }
+    }
+
+    void stateChanged() {
+        estimatedRowCount = null;
+        view.setEstimatedRowCount( getEstimatedRowCount(),
+                                   getMaximumRowCount() );
+        final WizardPageStatusChangeEvent event = new WizardPageStatusChangeEvent( this );
+        wizardPageStatusChangeEvent.fire( event );
+    }
+
 }
@@ -43,4 +43,7 @@ public interface ColumnExpansionPageView
 
     void setAreConditionsDefined( boolean areConditionsDefined );
 
+    void setEstimatedRowCount( long rowCount,
+                               int maximumRowCount );
+
 }
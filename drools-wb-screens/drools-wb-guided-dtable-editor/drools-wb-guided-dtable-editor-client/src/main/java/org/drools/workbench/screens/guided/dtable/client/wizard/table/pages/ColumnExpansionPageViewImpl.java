@@ -43,6 +43,7 @@ import org.drools.workbench.screens.guided.dtable.client.widget.Validator;
 import org.drools.workbench.screens.guided.dtable.client.wizard.table.pages.cells.ConditionCell;
 import org.gwtbootstrap3.client.ui.Button;
 import org.gwtbootstrap3.client.ui.CheckBox;
+import org.gwtbootstrap3.client.ui.HelpBlock;
 import org.gwtbootstrap3.client.ui.Label;
 import org.uberfire.ext.widgets.core.client.resources.WizardCellListResources;
 
@@ -87,6 +88,9 @@ public class ColumnExpansionPageViewImpl extends Composite
     @UiField
     Button btnRemove;
 
+    @UiField
+    HelpBlock estimatedRowCount;
+
     @Inject
     private ConditionCell availableConditionsCell;
 
@@ -206,6 +210,17 @@ public class ColumnExpansionPageViewImpl extends Composite
         chosenColumnsWidget.redraw();
     }
 
+    @Override
+    public void setEstimatedRowCount( final long rowCount,
+                                      final int maximumRowCount ) {
+        if ( rowCount > maximumRowCount ) {
+            estimatedRowCount.setText( GuidedDecisionTableConstants.INSTANCE.DecisionTableWizardTooManyRows( rowCount,
+                                                                                                             maximumRowCount ) );
+        } else {
+            estimatedRowCount.setText( GuidedDecisionTableConstants.INSTANCE.DecisionTableWizardEstimatedRowCount( rowCount ) );
+        }
+    }
+
     private List<ConditionCol52> getColumnsToExpand() {
         final List<ConditionCol52> columns = new ArrayList<ConditionCol52>();
         if ( isFullyExpanded ) {
@@ -236,6 +236,31 @@ public class RowExpander {
         return new RowIterator();
     }
 
+    /**
+     * Estimate the number of rows the expansion will generate; being the product of the number of values of each
+     * column being expanded. The values of dependent enumerations are only known as rows are generated and hence
+     * such columns contribute their initial number of values making the estimate a lower bound. This should be
+     * called before rows are retrieved with {@link #iterator()}.
+     *
+     * @return The estimated number of rows, or Long.MAX_VALUE if the product exceeds it
+     */
+    public long getRowCount() {
+        long rowCount = 1;
+        boolean isExpanded = false;
+        for (ColumnValues cv : columns) {
+            if (cv.isAllValuesUsed()) {
+                continue;
+            }
+            isExpanded = true;
+            final int valueCount = cv.getValueCount();
+            if (rowCount > Long.MAX_VALUE / valueCount) {
+                return Long.MAX_VALUE;
+            }
+            rowCount = rowCount * valueCount;
+        }
+        return isExpanded ? rowCount : 0;
+    }
+
     /**
      * Indicate whether the provided column should be expanded or not. If the
      * column was not part of the Decision Table used in the Constructor no
@@ -388,6 +413,16 @@ public class RowExpander {
             }
         }
 
+        /**
+         * Get the number of values in the column's list
+         *
+         * @return
+         */
+        int getValueCount() {
+            return Math.max(1,
+                            this.values.size());
+        }
+
         /**
          * Have all values in the columns list been used
          *
@@ -111,6 +111,8 @@ public class RowContextMenuTest {
                times(1)).enableInsertRowAboveMenuItem(eq(false));
         verify(view,
                times(1)).enableInsertRowBelowMenuItem(eq(false));
+        verify(view,
+               times(1)).enableDuplicateRowMenuItem(eq(false));
         verify(view,
                times(1)).enableDeleteRowMenuItem(eq(false));
     }
@@ -139,6 +141,8 @@ public class RowContextMenuTest {
                times(1)).enableInsertRowAboveMenuItem(eq(true));
         verify(view,
                times(1)).enableInsertRowBelowMenuItem(eq(true));
+        verify(view,
+               times(1)).enableDuplicateRowMenuItem(eq(true));
         verify(view,
                times(1)).enableDeleteRowMenuItem(eq(true));
     }
@@ -172,6 +176,8 @@ public class RowContextMenuTest {
                times(1)).enableInsertRowAboveMenuItem(eq(true));
         verify(view,
                times(1)).enableInsertRowBelowMenuItem(eq(true));
+        verify(view,
+               times(1)).enableDuplicateRowMenuItem(eq(true));
         verify(view,
                times(1)).enableDeleteRowMenuItem(eq(true));
     }
@@ -206,6 +212,8 @@ public class RowContextMenuTest {
                times(1)).enableInsertRowAboveMenuItem(eq(false));
         verify(view,
                times(1)).enableInsertRowBelowMenuItem(eq(false));
+        verify(view,
+               times(1)).enableDuplicateRowMenuItem(eq(true));
         verify(view,
                times(1)).enableDeleteRowMenuItem(eq(true));
     }
@@ -224,6 +232,8 @@ public class RowContextMenuTest {
                times(1)).enableInsertRowAboveMenuItem(eq(false));
         verify(view,
                times(1)).enableInsertRowBelowMenuItem(eq(false));
+        verify(view,
+               times(1)).enableDuplicateRowMenuItem(eq(false));
         verify(view,
                times(1)).enableDeleteRowMenuItem(eq(false));
     }
@@ -252,6 +262,8 @@ public class RowContextMenuTest {
                times(1)).enableInsertRowAboveMenuItem(eq(true));
         verify(view,
                times(1)).enableInsertRowBelowMenuItem(eq(true));
+        verify(view,
+               times(1)).enableDuplicateRowMenuItem(eq(true));
         verify(view,
                times(1)).enableDeleteRowMenuItem(eq(true));
     }
@@ -285,6 +297,8 @@ public class RowContextMenuTest {
                times(1)).enableInsertRowAboveMenuItem(eq(true));
         verify(view,
                times(1)).enableInsertRowBelowMenuItem(eq(true));
+        verify(view,
+               times(1)).enableDuplicateRowMenuItem(eq(true));
         verify(view,
                times(1)).enableDeleteRowMenuItem(eq(true));
     }
@@ -328,6 +342,8 @@ public class RowContextMenuTest {
                times(1)).enableInsertRowAboveMenuItem(eq(false));
         verify(view,
                times(1)).enableInsertRowBelowMenuItem(eq(false));
+        verify(view,
+               times(1)).enableDuplicateRowMenuItem(eq(true));
         verify(view,
                times(1)).enableDeleteRowMenuItem(eq(true));
     }
@@ -347,6 +363,8 @@ public class RowContextMenuTest {
                times(1)).enableInsertRowAboveMenuItem(eq(false));
         verify(view,
                times(1)).enableInsertRowBelowMenuItem(eq(false));
+        verify(view,
+               times(1)).enableDuplicateRowMenuItem(eq(false));
         verify(view,
                times(1)).enableDeleteRowMenuItem(eq(false));
     }
@@ -357,4 +375,14 @@ public class RowContextMenuTest {
 
         verify(menu).initialise();
     }
+
+    @Test
+    public void testOnDuplicateSelectedRows() {
+        menu.onDecisionTableSelectedEvent(new DecisionTableSelectedEvent(dtPresenter));
+
+        menu.onDuplicateSelectedRows();
+
+        verify(dtPresenter).onDuplicateSelectedRows();
+        verify(view).hide();
+    }
 }
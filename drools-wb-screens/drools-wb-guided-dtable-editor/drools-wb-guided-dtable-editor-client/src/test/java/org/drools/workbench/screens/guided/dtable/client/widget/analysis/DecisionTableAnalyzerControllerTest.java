@@ -0,0 +1,126 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.client.widget.analysis;
+
+import java.util.Arrays;
+
+import com.google.gwt.event.shared.EventBus;
+import com.google.gwt.event.shared.GwtEvent;
+import com.google.gwt.event.shared.HandlerRegistration;
+import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.events.gwt.DeleteRowsEvent;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.events.gwt.InsertRowsEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.uberfire.client.mvp.PlaceManager;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(GwtMockitoTestRunner.class)
+public class DecisionTableAnalyzerControllerTest {
+
+    @Mock
+    private DecisionTableAnalyzer analyzer;
+
+    @Mock
+    private PlaceManager placeManager;
+
+    @Mock
+    private EventBus eventBus;
+
+    @Mock
+    private HandlerRegistration insertRowsRegistration;
+
+    @Mock
+    private HandlerRegistration deleteRowsRegistration;
+
+    private DecisionTableAnalyzerController controller;
+
+    @Before
+    public void setup() {
+        //Handlers registered by the common controller
+        doReturn(mock(HandlerRegistration.class)).when(eventBus).addHandler(any(GwtEvent.Type.class),
+                                                                            any());
+        when(eventBus.addHandler(eq(InsertRowsEvent.TYPE),
+                                 any(InsertRowsEvent.Handler.class))).thenReturn(insertRowsRegistration);
+        when(eventBus.addHandler(eq(DeleteRowsEvent.TYPE),
+                                 any(DeleteRowsEvent.Handler.class))).thenReturn(deleteRowsRegistration);
+
+        controller = new DecisionTableAnalyzerController(analyzer,
+                                                         placeManager,
+                                                         eventBus);
+    }
+
+    @Test
+    public void testInitialiseRegistersRowsHandlers() {
+        controller.initialiseAnalysis();
+
+        verify(eventBus).addHandler(InsertRowsEvent.TYPE,
+                                    controller);
+        verify(eventBus).addHandler(DeleteRowsEvent.TYPE,
+                                    controller);
+    }
+
+    @Test
+    public void testTerminateRemovesRowsHandlers() {
+        controller.initialiseAnalysis();
+        controller.terminateAnalysis();
+
+        verify(insertRowsRegistration).removeHandler();
+        verify(deleteRowsRegistration).removeHandler();
+    }
+
+    @Test
+    public void testInitialiseTwiceRegistersRowsHandlersOnce() {
+        controller.initialiseAnalysis();
+        controller.initialiseAnalysis();
+
+        verify(insertRowsRegistration).removeHandler();
+        verify(deleteRowsRegistration).removeHandler();
+        verify(eventBus,
+               times(2)).addHandler(InsertRowsEvent.TYPE,
+                                    controller);
+    }
+
+    @Test
+    public void testInsertRowsForwardedAsSingleBatch() {
+        controller.onInsertRows(new InsertRowsEvent(Arrays.asList(1,
+                                                                  2,
+                                                                  3)));
+
+        verify(analyzer).insertRows(Arrays.asList(1,
+                                                  2,
+                                                  3));
+    }
+
+    @Test
+    public void testDeleteRowsForwardedAsSingleBatch() {
+        controller.onDeleteRows(new DeleteRowsEvent(Arrays.asList(0,
+                                                                  4)));
+
+        verify(analyzer).deleteRows(Arrays.asList(0,
+                                                  4));
+    }
+}
@@ -56,7 +56,9 @@ public class DecisionTableAnalyzerProviderTest {
                         "dd-MMM-yyyy");
         ApplicationPreferences.setUp(preferences);
 
-        assertTrue(constructAnalyzer() instanceof AnalyzerControllerImpl);
+        final AnalyzerController analyzerController = constructAnalyzer();
+        assertTrue(analyzerController instanceof AnalyzerControllerImpl);
+        assertTrue(analyzerController instanceof DecisionTableAnalyzerController);
     }
 
     @Test
@@ -35,10 +35,15 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.kie.workbench.common.widgets.decoratedgrid.client.widget.data.Coordinate;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @RunWith(GwtMockitoTestRunner.class)
@@ -187,4 +192,77 @@ public class DecisionTableAnalyzerTest {
 
         decisionTableAnalyzer.insertColumn(b);
     }
+
+    @Test
+    public void testDeleteRows() throws Exception {
+        decisionTableAnalyzer.deleteRow(3);
+        decisionTableAnalyzer.deleteRow(1);
+        decisionTableAnalyzer.updateColumns(2);
+
+        final InOrder inOrder = inOrder(updateManager);
+        inOrder.verify(updateManager).removeRule(3);
+        inOrder.verify(updateManager).removeRule(1);
+        verify(updateManager,
+               never()).makeRule(any(GuidedDecisionTable52.class),
+                                 anyInt());
+    }
+
+    @Test
+    public void testInsertRows() throws Exception {
+        decisionTableAnalyzer.insertRow(1);
+        decisionTableAnalyzer.insertRow(2);
+        decisionTableAnalyzer.updateColumns(4);
+
+        final InOrder inOrder = inOrder(updateManager);
+        inOrder.verify(updateManager).makeRule(model,
+                                               1);
+        inOrder.verify(updateManager).makeRule(model,
+                                               2);
+    }
+
+    @Test
+    public void testDeleteRowsBatch() throws Exception {
+        decisionTableAnalyzer.deleteRows(Arrays.asList(1,
+                                                       3));
+        decisionTableAnalyzer.updateColumns(2);
+
+        final InOrder inOrder = inOrder(updateManager);
+        inOrder.verify(updateManager).removeRule(3);
+        inOrder.verify(updateManager).removeRule(1);
+        verify(updateManager,
+               never()).makeRule(any(GuidedDecisionTable52.class),
+                                 anyInt());
+    }
+
+    @Test
+    public void testInsertRowsBatch() throws Exception {
+        decisionTableAnalyzer.insertRows(Arrays.asList(1,
+                                                       2));
+        decisionTableAnalyzer.updateColumns(4);
+
+        final InOrder inOrder = inOrder(updateManager);
+        inOrder.verify(updateManager).makeRule(model,
+                                               1);
+        inOrder.verify(updateManager).makeRule(model,
+                                               2);
+    }
+
+    @Test
+    public void testAppendRows() throws Exception {
+        model.getData().add(new ArrayList<>());
+        model.getData().add(new ArrayList<>());
+        model.getData().add(new ArrayList<>());
+
+        decisionTableAnalyzer.appendRow();
+        decisionTableAnalyzer.appendRow();
+        decisionTableAnalyzer.updateColumns(3);
+
+        verify(updateManager).makeRule(model,
+                                       1);
+        verify(updateManager).makeRule(model,
+                                       2);
+        verify(updateManager,
+               never()).makeRule(model,
+                                 0);
+    }
 }
@@ -25,6 +25,7 @@ import java.util.Set;
 
 import javax.enterprise.event.Event;
 
+import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.event.shared.EventBus;
 import org.drools.workbench.models.datamodel.workitems.PortableWorkDefinition;
 import org.drools.workbench.models.guided.dtable.shared.model.BaseColumn;
@@ -81,7 +82,9 @@ import org.drools.workbench.screens.guided.dtable.client.widget.table.model.sync
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.synchronizers.impl.RowSynchronizer;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.themes.GuidedDecisionTableRenderer;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.EnumLoaderUtilities;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.utilities.EnumLookupsCache;
 import org.drools.workbench.screens.guided.dtable.model.GuidedDecisionTableEditorContent;
+import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableEnumDropdownService;
 import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableLinkManager;
 import org.drools.workbench.screens.guided.dtable.shared.DefaultGuidedDecisionTableLinkManager;
 import org.guvnor.common.services.shared.metadata.model.Overview;
@@ -129,6 +132,10 @@ public abstract class BaseGuidedDecisionTablePresenterTest {
     @Mock
     protected EnumDropdownService enumDropdownService;
     protected Caller<EnumDropdownService> enumDropdownServiceCaller;
+
+    @Mock
+    protected GuidedDecisionTableEnumDropdownService guidedDecisionTableEnumDropdownService;
+
     protected EnumLoaderUtilities enumLoaderUtilities;
 
     @Mock
@@ -246,6 +253,16 @@ public abstract class BaseGuidedDecisionTablePresenterTest {
             //Do nothing; we're not testing V&V integration in these tests.
         }
 
+        @Override
+        protected void fireInsertRowsEvent(final List<Integer> rowIndexes) {
+            //Do nothing; we're not testing V&V integration in these tests.
+        }
+
+        @Override
+        protected void fireDeleteRowsEvent(final List<Integer> rowIndexes) {
+            //Do nothing; we're not testing V&V integration in these tests.
+        }
+
         @Override
         protected void fireValidateEvent(final GridData.Range rowRange,
                                          final Set<Integer> columnRange) {
@@ -304,7 +321,14 @@ public abstract class BaseGuidedDecisionTablePresenterTest {
     private void setupServices() {
         ruleNameServiceCaller = new CallerMock<>(ruleNameService);
         enumDropdownServiceCaller = new CallerMock<>(enumDropdownService);
-        enumLoaderUtilities = new EnumLoaderUtilities(enumDropdownServiceCaller);
+        enumLoaderUtilities = new EnumLoaderUtilities(enumDropdownServiceCaller,
+                                                      new CallerMock<>(guidedDecisionTableEnumDropdownService),
+                                                      new EnumLookupsCache()) {
+            @Override
+            protected void scheduleDeferred(final Scheduler.ScheduledCommand command) {
+                command.execute();
+            }
+        };
         linkManager = spy(new DefaultGuidedDecisionTableLinkManager());
     }
 
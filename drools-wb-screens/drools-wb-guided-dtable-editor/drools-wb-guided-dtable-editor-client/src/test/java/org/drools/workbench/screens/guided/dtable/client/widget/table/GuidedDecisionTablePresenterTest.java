@@ -16,6 +16,7 @@
 
 package org.drools.workbench.screens.guided.dtable.client.widget.table;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -1444,11 +1445,12 @@ public class GuidedDecisionTablePresenterTest extends BaseGuidedDecisionTablePre
         dtPresenter.onDeleteSelectedRows();
 
         verify(synchronizer,
-               times(1)).deleteRow(eq(0));
+               times(1)).deleteRows(eq(Arrays.asList(2,
+                                                     0)));
         verify(synchronizer,
-               times(1)).deleteRow(eq(1));
+               never()).deleteRow(any(Integer.class));
 
-        checkDTSelectionsChangedEventFired(4);
+        checkDTSelectionsChangedEventFired(3);
     }
 
     @Test
@@ -1457,6 +1459,33 @@ public class GuidedDecisionTablePresenterTest extends BaseGuidedDecisionTablePre
 
         verify(synchronizer,
                never()).deleteRow(any(Integer.class));
+        verify(synchronizer,
+               never()).deleteRows(any(List.class));
+    }
+
+    @Test
+    public void onDuplicateSelectedRowsWithSelections() throws VetoException {
+        final GridData uiModel = dtPresenter.getUiModel();
+        uiModel.selectCell(2,
+                           0);
+        uiModel.selectCell(0,
+                           0);
+
+        dtPresenter.onDuplicateSelectedRows();
+
+        verify(synchronizer,
+               times(1)).duplicateRows(eq(Arrays.asList(0,
+                                                        2)));
+        verify(synchronizer,
+               never()).insertRow(any(Integer.class));
+    }
+
+    @Test
+    public void onDuplicateSelectedRowsWithNoSelections() throws VetoException {
+        dtPresenter.onDuplicateSelectedRows();
+
+        verify(synchronizer,
+               never()).duplicateRows(any(List.class));
     }
 
     @Test
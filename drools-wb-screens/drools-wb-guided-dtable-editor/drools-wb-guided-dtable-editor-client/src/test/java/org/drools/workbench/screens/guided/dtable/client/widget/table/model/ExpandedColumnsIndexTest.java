@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.client.widget.table.model;
+
+import org.drools.workbench.models.guided.dtable.shared.model.ActionCol52;
+import org.drools.workbench.models.guided.dtable.shared.model.AttributeCol52;
+import org.drools.workbench.models.guided.dtable.shared.model.ConditionCol52;
+import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.models.guided.dtable.shared.model.Pattern52;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ExpandedColumnsIndexTest {
+
+    private GuidedDecisionTable52 model;
+    private Pattern52 pattern;
+    private ConditionCol52 condition;
+    private ActionCol52 action;
+    private ExpandedColumnsIndex index;
+
+    @Before
+    public void setup() {
+        model = new GuidedDecisionTable52();
+        pattern = new Pattern52();
+        pattern.setFactType("Applicant");
+        condition = new ConditionCol52();
+        condition.setFactField("age");
+        pattern.getChildColumns().add(condition);
+        model.getConditions().add(pattern);
+        action = new ActionCol52();
+        model.getActionCols().add(action);
+
+        index = new ExpandedColumnsIndex(model);
+    }
+
+    @Test
+    public void testLookupsMatchModel() {
+        assertEquals(model.getExpandedColumns(),
+                     index.getExpandedColumns());
+        for (int columnIndex = 0; columnIndex < model.getExpandedColumns().size(); columnIndex++) {
+            assertSame(model.getExpandedColumns().get(columnIndex),
+                       index.getColumn(columnIndex));
+            assertEquals(columnIndex,
+                         index.indexOf(model.getExpandedColumns().get(columnIndex)));
+        }
+    }
+
+    @Test
+    public void testUnknownColumn() {
+        assertEquals(-1,
+                     index.indexOf(new AttributeCol52()));
+    }
+
+    @Test
+    public void testIndexRetainedUntilInvalidated() {
+        final int columnCount = index.getExpandedColumns().size();
+
+        final AttributeCol52 attribute = new AttributeCol52();
+        attribute.setAttribute(GuidedDecisionTable52.ENABLED_ATTR);
+        model.getAttributeCols().add(attribute);
+
+        assertEquals(columnCount,
+                     index.getExpandedColumns().size());
+        assertEquals(-1,
+                     index.indexOf(attribute));
+
+        index.invalidate();
+
+        assertEquals(columnCount + 1,
+                     index.getExpandedColumns().size());
+        assertEquals(model.getExpandedColumns().indexOf(attribute),
+                     index.indexOf(attribute));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testExpandedColumnsAreUnmodifiable() {
+        index.getExpandedColumns().add(new AttributeCol52());
+    }
+}
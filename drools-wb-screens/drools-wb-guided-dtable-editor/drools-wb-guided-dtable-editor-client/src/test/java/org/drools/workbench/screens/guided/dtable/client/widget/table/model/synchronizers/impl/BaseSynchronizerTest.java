@@ -91,6 +91,8 @@ public abstract class BaseSynchronizerTest {
 
     protected final GuidedDecisionTableView view = mock(GuidedDecisionTableView.class);
 
+    protected final EventBus eventBus = mock(EventBus.class);
+
     private GuidedDecisionTablePresenter.Access editable = new GuidedDecisionTablePresenter.Access();
 
     protected GuidedDecisionTablePresenter.Access readOnly = new GuidedDecisionTablePresenter.Access() {{
@@ -118,7 +120,6 @@ public abstract class BaseSynchronizerTest {
         final GridLayer gridLayer = mock(GridLayer.class);
         final AbsolutePanel domElementContainer = mock(AbsolutePanel.class);
         final GuidedDecisionTableView.Presenter dtablePresenter = mock(GuidedDecisionTableView.Presenter.class);
-        final EventBus eventBus = mock(EventBus.class);
 
         when(dtablePresenter.getModellerPresenter()).thenReturn(modellerPresenter);
         when(modellerPresenter.getView()).thenReturn(modellerView);
@@ -19,6 +19,7 @@ package org.drools.workbench.screens.guided.dtable.client.widget.table.model.syn
 import org.drools.workbench.models.guided.dtable.shared.model.AttributeCol52;
 import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
 import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.model.ExpandedColumnsIndex;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.synchronizers.ModelSynchronizer.VetoException;
 import org.junit.Test;
 import org.uberfire.ext.wires.core.grids.client.model.impl.BaseGridCellValue;
@@ -100,6 +101,28 @@ public class ModelSynchronizerTest extends BaseSynchronizerTest {
                                               2).getValue().getValue());
     }
 
+    @Test
+    public void testExpandedColumnsIndexInvalidatedByColumnChanges() throws VetoException {
+        final ExpandedColumnsIndex index = modelSynchronizer.getExpandedColumnsIndex();
+        final int columnCount = index.getExpandedColumns().size();
+
+        final AttributeCol52 column = new AttributeCol52();
+        column.setAttribute(GuidedDecisionTable52.ENABLED_ATTR);
+        modelSynchronizer.appendColumn(column);
+
+        assertEquals(columnCount + 1,
+                     index.getExpandedColumns().size());
+        assertEquals(columnCount,
+                     index.indexOf(column));
+
+        modelSynchronizer.deleteColumn(column);
+
+        assertEquals(columnCount,
+                     index.getExpandedColumns().size());
+        assertEquals(-1,
+                     index.indexOf(column));
+    }
+
     private void setupBooleanColumn(final ParameterizedCommand<AttributeCol52> cmdInit) throws VetoException {
         final AttributeCol52 booleanColumn = new AttributeCol52();
         booleanColumn.setAttribute(GuidedDecisionTable52.ENABLED_ATTR);
@@ -17,20 +17,33 @@
 package org.drools.workbench.screens.guided.dtable.client.widget.table.model.synchronizers.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import com.google.gwt.event.shared.GwtEvent;
 import org.drools.workbench.models.guided.dtable.shared.model.AttributeCol52;
 import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.GuidedDecisionTableView;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.events.gwt.DeleteRowsEvent;
+import org.drools.workbench.screens.guided.dtable.client.widget.table.events.gwt.InsertRowsEvent;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.GuidedDecisionTableUiCell;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.model.synchronizers.ModelSynchronizer.VetoException;
 import org.drools.workbench.screens.guided.rule.client.widget.attribute.RuleAttributeWidget;
 import org.junit.Test;
+import org.kie.workbench.common.widgets.decoratedgrid.client.widget.events.DeleteRowEvent;
+import org.kie.workbench.common.widgets.decoratedgrid.client.widget.events.InsertRowEvent;
+import org.mockito.ArgumentCaptor;
 import org.uberfire.ext.wires.core.grids.client.model.GridRow;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.isA;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 public class RowSynchronizerTest extends BaseSynchronizerTest {
 
@@ -378,6 +391,124 @@ public class RowSynchronizerTest extends BaseSynchronizerTest {
                      model.getData().get(0).get(0).getNumericValue());
     }
 
+    @Test
+    public void testInsertRows() throws VetoException {
+        modelSynchronizer.appendRow();
+        modelSynchronizer.insertRows(0,
+                                     3);
+
+        verify(eventBus).fireEvent(isA(InsertRowsEvent.class));
+        verify(eventBus,
+               never()).fireEvent(isA(InsertRowEvent.class));
+        assertEquals(Arrays.asList(0,
+                                   1,
+                                   2),
+                     getFiredEvent(InsertRowsEvent.class).getRowIndexes());
+
+        assertEquals(4,
+                     model.getData().size());
+        assertEquals(4,
+                     uiModel.getRowCount());
+        for (int rowIndex = 0; rowIndex < 4; rowIndex++) {
+            assertEquals(rowIndex + 1,
+                         uiModel.getRow(rowIndex).getCells().get(0).getValue().getValue());
+            assertEquals(rowIndex + 1,
+                         model.getData().get(rowIndex).get(0).getNumericValue());
+        }
+    }
+
+    @Test
+    public void testDeleteRowsUnmergedData() throws VetoException {
+        modelSynchronizer.appendRow();
+        modelSynchronizer.appendRow();
+        modelSynchronizer.appendRow();
+        modelSynchronizer.appendRow();
+        final List<DTCellValue52> keptRow = model.getData().get(1);
+
+        modelSynchronizer.deleteRows(Arrays.asList(0,
+                                                   2,
+                                                   3));
+
+        verify(eventBus).fireEvent(isA(DeleteRowsEvent.class));
+        verify(eventBus,
+               never()).fireEvent(isA(DeleteRowEvent.class));
+        assertEquals(Arrays.asList(0,
+                                   2,
+                                   3),
+                     getFiredEvent(DeleteRowsEvent.class).getRowIndexes());
+
+        assertEquals(1,
+                     model.getData().size());
+        assertEquals(1,
+                     uiModel.getRowCount());
+        assertSame(keptRow,
+                   model.getData().get(0));
+        assertEquals(1,
+                     uiModel.getRow(0).getCells().get(0).getValue().getValue());
+        assertEquals(1,
+                     model.getData().get(0).get(0).getNumericValue());
+    }
+
+    @Test
+    public void testDeleteRowsMergedData() throws VetoException {
+        uiModel.setMerged(true);
+        modelSynchronizer.appendRow();
+        modelSynchronizer.appendRow();
+        modelSynchronizer.appendRow();
+        modelSynchronizer.appendRow();
+        uiModel.setCellValue(0,
+                             1,
+                             new GuidedDecisionTableUiCell<String>("a"));
+        uiModel.setCellValue(1,
+                             1,
+                             new GuidedDecisionTableUiCell<String>("a"));
+        uiModel.setCellValue(2,
+                             1,
+                             new GuidedDecisionTableUiCell<String>("b"));
+        uiModel.setCellValue(3,
+                             1,
+                             new GuidedDecisionTableUiCell<String>("c"));
+        uiModel.collapseCell(0,
+                             1);
+
+        //Both indexes fall within the collapsed block, which should only be deleted once
+        modelSynchronizer.deleteRows(Arrays.asList(0,
+                                                   1,
+                                                   3));
+
+        assertEquals(1,
+                     model.getData().size());
+        assertEquals(1,
+                     uiModel.getRowCount());
+    }
+
+    @Test
+    public void testDuplicateRows() throws VetoException {
+        modelSynchronizer.appendRow();
+        modelSynchronizer.appendRow();
+        modelSynchronizer.appendRow();
+        model.getData().get(0).get(1).setStringValue("first");
+        model.getData().get(2).get(1).setStringValue("third");
+
+        modelSynchronizer.duplicateRows(Arrays.asList(2,
+                                                      0));
+
+        assertEquals(5,
+                     model.getData().size());
+        assertEquals(5,
+                     uiModel.getRowCount());
+        assertEquals("first",
+                     model.getData().get(3).get(1).getStringValue());
+        assertEquals("third",
+                     model.getData().get(4).get(1).getStringValue());
+        assertNotSame(model.getData().get(0).get(1),
+                      model.getData().get(3).get(1));
+        for (int rowIndex = 0; rowIndex < 5; rowIndex++) {
+            assertEquals(rowIndex + 1,
+                         model.getData().get(rowIndex).get(0).getNumericValue());
+        }
+    }
+
     @Test
     public void testMoveRowsMoveDownCheckRowNumbers() throws VetoException {
         modelSynchronizer.appendRow();
@@ -481,4 +612,16 @@ public class RowSynchronizerTest extends BaseSynchronizerTest {
 
         assertFalse(model.getData().get(0).get(2).getBooleanValue());
     }
+
+    private <T> T getFiredEvent(final Class<T> eventClass) {
+        final ArgumentCaptor<GwtEvent> eventCaptor = ArgumentCaptor.forClass(GwtEvent.class);
+        verify(eventBus,
+               atLeastOnce()).fireEvent(eventCaptor.capture());
+        for (GwtEvent event : eventCaptor.getAllValues()) {
+            if (eventClass.isInstance(event)) {
+                return eventClass.cast(event);
+            }
+        }
+        throw new AssertionError("No " + eventClass.getSimpleName() + " fired");
+    }
 }
@@ -16,16 +16,23 @@
 
 package org.drools.workbench.screens.guided.dtable.client.widget.table.utilities;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
+import com.google.gwt.core.client.Scheduler;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.GuidedDecisionTablePresenter;
 import org.drools.workbench.screens.guided.dtable.client.widget.table.GuidedDecisionTableView;
+import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableEnumDropdownService;
 import org.jboss.errai.common.client.api.Caller;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.kie.soup.project.datamodel.oracle.DropDownData;
 import org.kie.workbench.common.services.shared.enums.EnumDropdownService;
+import org.mockito.ArgumentMatcher;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.uberfire.backend.vfs.Path;
@@ -37,6 +44,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyListOf;
+import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -49,6 +61,11 @@ public class EnumLoaderUtilitiesTest {
     @Mock
     protected EnumDropdownService enumDropdownService;
     protected Caller<EnumDropdownService> enumDropdownServiceCaller;
+    @Mock
+    protected GuidedDecisionTableEnumDropdownService guidedDecisionTableEnumDropdownService;
+    protected Caller<GuidedDecisionTableEnumDropdownService> guidedDecisionTableEnumDropdownServiceCaller;
+
+    protected EnumLookupsCache enumLookupsCache;
     protected EnumLoaderUtilities enumLoaderUtilities;
 
     @Mock
@@ -63,11 +80,29 @@ public class EnumLoaderUtilitiesTest {
     @Mock
     private Command onFetchCompleteCommand;
 
+    private boolean deferCommands = false;
+
+    private List<Scheduler.ScheduledCommand> deferredCommands = new ArrayList<>();
+
     @Before
     public void setup() {
         enumDropdownServiceCaller = new CallerMock<>(enumDropdownService);
-        enumLoaderUtilities = spy(new EnumLoaderUtilities(enumDropdownServiceCaller));
+        guidedDecisionTableEnumDropdownServiceCaller = new CallerMock<>(guidedDecisionTableEnumDropdownService);
+        enumLookupsCache = new EnumLookupsCache();
+        enumLoaderUtilities = spy(new EnumLoaderUtilities(enumDropdownServiceCaller,
+                                                          guidedDecisionTableEnumDropdownServiceCaller,
+                                                          enumLookupsCache));
         when(presenter.getView()).thenReturn(view);
+
+        doAnswer((invocation) -> {
+            final Scheduler.ScheduledCommand command = (Scheduler.ScheduledCommand) invocation.getArguments()[0];
+            if (deferCommands) {
+                deferredCommands.add(command);
+            } else {
+                command.execute();
+            }
+            return null;
+        }).when(enumLoaderUtilities).scheduleDeferred(any(Scheduler.ScheduledCommand.class));
     }
 
     @Test
@@ -186,4 +221,132 @@ public class EnumLoaderUtilitiesTest {
         verify(view,
                times(1)).batch();
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void checkQueryExpressionsRequestedWhilstRenderingResolvedInOneCall() {
+        final DropDownData enumDefinition1 = DropDownData.create("expression1",
+                                                                 new String[]{"param1=a"});
+        final DropDownData enumDefinition2 = DropDownData.create("expression2",
+                                                                 new String[]{"param1=b"});
+        final DropDownData duplicateEnumDefinition1 = DropDownData.create("expression1",
+                                                                          new String[]{"param1=a"});
+
+        when(guidedDecisionTableEnumDropdownService.loadDropDownExpressions(any(Path.class),
+                                                                            anyListOf(DropDownData.class))).thenReturn(Arrays.asList(new String[]{"one"},
+                                                                                                                                     new String[]{"two", "three"}));
+
+        //Emulate the cells of a single render requesting their enumerations
+        deferCommands = true;
+        final Callback<Map<String, String>> callback1 = mock(Callback.class);
+        final Callback<Map<String, String>> callback2 = mock(Callback.class);
+        final Callback<Map<String, String>> duplicateCallback1 = mock(Callback.class);
+        enumLoaderUtilities.getEnums(enumDefinition1,
+                                     callback1,
+                                     presenter,
+                                     onFetchCommand,
+                                     onFetchCompleteCommand);
+        enumLoaderUtilities.getEnums(enumDefinition2,
+                                     callback2,
+                                     presenter,
+                                     onFetchCommand,
+                                     onFetchCompleteCommand);
+        enumLoaderUtilities.getEnums(duplicateEnumDefinition1,
+                                     duplicateCallback1,
+                                     presenter,
+                                     onFetchCommand,
+                                     onFetchCompleteCommand);
+
+        verify(duplicateCallback1).callback(Collections.emptyMap());
+        verify(guidedDecisionTableEnumDropdownService,
+               never()).loadDropDownExpressions(any(Path.class),
+                                                anyListOf(DropDownData.class));
+        assertEquals(1,
+                     deferredCommands.size());
+
+        deferredCommands.forEach(Scheduler.ScheduledCommand::execute);
+
+        verify(guidedDecisionTableEnumDropdownService,
+               times(1)).loadDropDownExpressions(any(Path.class),
+                                                 eq(Arrays.asList(enumDefinition1,
+                                                                  enumDefinition2)));
+        verify(enumDropdownService,
+               never()).loadDropDownExpression(any(Path.class),
+                                               any(String[].class),
+                                               any(String.class));
+        verify(callback1).callback(Collections.singletonMap("one",
+                                                            "one"));
+        verify(callback2).callback(argThat(new ArgumentMatcher<Map<String, String>>() {
+            @Override
+            public boolean matches(final Object argument) {
+                final Map<String, String> result = (Map<String, String>) argument;
+                return result.size() == 2 && result.containsKey("two") && result.containsKey("three");
+            }
+        }));
+        verify(onFetchCommand,
+               times(2)).execute();
+        verify(onFetchCompleteCommand,
+               times(2)).execute();
+        verify(view,
+               times(1)).batch();
+
+        //Enumerations should now be served from the cache
+        enumLoaderUtilities.getEnums(enumDefinition2,
+                                     callback2,
+                                     presenter,
+                                     onFetchCommand,
+                                     onFetchCompleteCommand);
+
+        assertEquals(1,
+                     deferredCommands.size());
+        verify(callback2,
+               times(2)).callback(any(Map.class));
+    }
+
+    @Test
+    public void checkCacheSharedAndInvalidated() {
+        final String[] fixedList = {"one", "two"};
+        final DropDownData enumDefinition = DropDownData.create("expression",
+                                                                new String[]{"param1=a"});
+
+        when(enumDropdownService.loadDropDownExpression(any(Path.class),
+                                                        any(String[].class),
+                                                        any(String.class))).thenReturn(fixedList);
+
+        final Callback<Map<String, String>> callback = (result) -> assertEquals(2,
+                                                                                 result.size());
+        enumLoaderUtilities.getEnums(enumDefinition,
+                                     callback,
+                                     presenter,
+                                     onFetchCommand,
+                                     onFetchCompleteCommand);
+
+        //Another Decision Table should use the shared cache
+        final EnumLoaderUtilities otherEnumLoaderUtilities = new EnumLoaderUtilities(enumDropdownServiceCaller,
+                                                                                     guidedDecisionTableEnumDropdownServiceCaller,
+                                                                                     enumLookupsCache);
+        otherEnumLoaderUtilities.getEnums(enumDefinition,
+                                          callback,
+                                          presenter,
+                                          onFetchCommand,
+                                          onFetchCompleteCommand);
+
+        verify(enumDropdownService,
+               times(1)).loadDropDownExpression(any(Path.class),
+                                                any(String[].class),
+                                                any(String.class));
+
+        //Changes to the enumeration definitions should cause the data to be retrieved again
+        enumLookupsCache.invalidate();
+        enumLoaderUtilities.getEnums(enumDefinition,
+                                     callback,
+                                     presenter,
+                                     onFetchCommand,
+                                     onFetchCompleteCommand);
+
+        verify(enumDropdownService,
+               times(2)).loadDropDownExpression(any(Path.class),
+                                                any(String[].class),
+                                                any(String.class));
+    }
 }
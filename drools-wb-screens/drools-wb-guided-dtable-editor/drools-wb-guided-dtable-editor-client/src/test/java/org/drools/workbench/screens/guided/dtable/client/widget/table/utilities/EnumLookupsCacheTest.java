@@ -0,0 +1,137 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.client.widget.table.utilities;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.backend.vfs.PathFactory;
+import org.uberfire.rpc.SessionInfo;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+public class EnumLookupsCacheTest {
+
+    private EnumLookupsCache cache;
+
+    private final Path dtablePath = PathFactory.newPath("table.gdst",
+                                                        "default://master@repo/project/src/main/resources/org/test/table.gdst");
+
+    private final Path otherDtablePath = PathFactory.newPath("other.gdst",
+                                                             "default://master@repo/project/src/main/resources/org/test/other.gdst");
+
+    private final Map<String, String> enumLookups = Collections.singletonMap("key",
+                                                                             "value");
+
+    @Before
+    public void setup() {
+        cache = new EnumLookupsCache();
+    }
+
+    @Test
+    public void testSharedByTablesInSamePackage() {
+        cache.put(cache.getVersion(),
+                  dtablePath,
+                  "expression",
+                  enumLookups);
+
+        assertSame(enumLookups,
+                   cache.get(otherDtablePath,
+                             "expression"));
+    }
+
+    @Test
+    public void testNotSharedByTablesInDifferentPackages() {
+        cache.put(cache.getVersion(),
+                  dtablePath,
+                  "expression",
+                  enumLookups);
+
+        final Path otherPackagePath = PathFactory.newPath("table.gdst",
+                                                          "default://master@repo/project/src/main/resources/org/other/table.gdst");
+        assertNull(cache.get(otherPackagePath,
+                             "expression"));
+    }
+
+    @Test
+    public void testEnumerationUpdateInvalidates() {
+        cache.put(cache.getVersion(),
+                  dtablePath,
+                  "expression",
+                  enumLookups);
+
+        final Path enumPath = PathFactory.newPath("enums.enumeration",
+                                                  "default://master@repo/project/src/main/resources/org/test/enums.enumeration");
+        cache.onResourceUpdated(new ResourceUpdatedEvent(enumPath,
+                                                         "",
+                                                         mock(SessionInfo.class)));
+
+        assertNull(cache.get(dtablePath,
+                             "expression"));
+    }
+
+    @Test
+    public void testOtherResourceUpdateRetainsEntries() {
+        cache.put(cache.getVersion(),
+                  dtablePath,
+                  "expression",
+                  enumLookups);
+
+        cache.onResourceUpdated(new ResourceUpdatedEvent(otherDtablePath,
+                                                         "",
+                                                         mock(SessionInfo.class)));
+
+        assertSame(enumLookups,
+                   cache.get(dtablePath,
+                             "expression"));
+    }
+
+    @Test
+    public void testStaleEntriesIgnored() {
+        final int version = cache.getVersion();
+        cache.invalidate();
+        cache.put(version,
+                  dtablePath,
+                  "expression",
+                  enumLookups);
+
+        assertNull(cache.get(dtablePath,
+                             "expression"));
+    }
+
+    @Test
+    public void testBounded() {
+        for (int i = 0; i < EnumLookupsCache.MAX_ENTRIES + 10; i++) {
+            cache.put(cache.getVersion(),
+                      dtablePath,
+                      "expression" + i,
+                      enumLookups);
+        }
+
+        assertEquals(EnumLookupsCache.MAX_ENTRIES,
+                     cache.size());
+        assertNull(cache.get(dtablePath,
+                             "expression0"));
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.client.wizard.table;
+
+import java.util.List;
+
+import com.google.gwt.core.client.Scheduler;
+import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.drools.workbench.models.datamodel.rule.BaseSingleFieldConstraint;
+import org.drools.workbench.models.guided.dtable.shared.model.ConditionCol52;
+import org.drools.workbench.models.guided.dtable.shared.model.DTCellValue52;
+import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.models.guided.dtable.shared.model.Pattern52;
+import org.drools.workbench.screens.guided.dtable.client.wizard.table.pages.ActionInsertFactFieldsPage;
+import org.drools.workbench.screens.guided.dtable.client.wizard.table.pages.ActionSetFieldsPage;
+import org.drools.workbench.screens.guided.dtable.client.wizard.table.pages.ColumnExpansionPage;
+import org.drools.workbench.screens.guided.dtable.client.wizard.table.pages.FactPatternConstraintsPage;
+import org.drools.workbench.screens.guided.dtable.client.wizard.table.pages.FactPatternsPage;
+import org.drools.workbench.screens.guided.dtable.client.wizard.table.pages.ImportsPage;
+import org.drools.workbench.screens.guided.dtable.client.wizard.table.pages.RowExpander;
+import org.drools.workbench.screens.guided.dtable.client.wizard.table.pages.SummaryPage;
+import org.jboss.errai.common.client.api.Caller;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.services.datamodel.service.IncrementalDataModelService;
+import org.kie.workbench.common.widgets.client.datamodel.AsyncPackageDataModelOracle;
+import org.kie.workbench.common.widgets.client.datamodel.AsyncPackageDataModelOracleImpl;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.ext.widgets.core.client.wizards.WizardView;
+import org.uberfire.mocks.CallerMock;
+import org.uberfire.mocks.EventSourceMock;
+import org.uberfire.workbench.events.NotificationEvent;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(GwtMockitoTestRunner.class)
+public class NewGuidedDecisionTableWizardTest {
+
+    @Mock
+    private SummaryPage summaryPage;
+
+    @Mock
+    private ImportsPage importsPage;
+
+    @Mock
+    private ColumnExpansionPage columnExpansionPage;
+
+    @Mock
+    private FactPatternsPage factPatternsPage;
+
+    @Mock
+    private FactPatternConstraintsPage factPatternConstraintsPage;
+
+    @Mock
+    private ActionSetFieldsPage actionSetFieldsPage;
+
+    @Mock
+    private ActionInsertFactFieldsPage actionInsertFactFieldsPage;
+
+    @Mock
+    private WizardView view;
+
+    @Mock
+    private EventSourceMock<NotificationEvent> notificationEvent;
+
+    @Mock
+    private IncrementalDataModelService incrementalDataModelService;
+
+    @Mock
+    private NewGuidedDecisionTableWizard.GuidedDecisionTableWizardHandler handler;
+
+    @Mock
+    private Path contextPath;
+
+    private int executions;
+
+    @InjectMocks
+    private NewGuidedDecisionTableWizard wizard = new NewGuidedDecisionTableWizard() {
+        @Override
+        void scheduleIncremental(final Scheduler.RepeatingCommand command) {
+            //Emulate GWT's Scheduler by repeating the command until it indicates it has finished
+            do {
+                executions++;
+            } while (command.execute());
+        }
+    };
+
+    private AsyncPackageDataModelOracle oracle;
+
+    @Before
+    public void setup() {
+        final Caller<IncrementalDataModelService> incrementalDataModelServiceCaller = new CallerMock<>(incrementalDataModelService);
+        oracle = new AsyncPackageDataModelOracleImpl(incrementalDataModelServiceCaller,
+                                                     null);
+
+        wizard.setupPages();
+        wizard.setContent(contextPath,
+                          "table",
+                          GuidedDecisionTable52.TableFormat.EXTENDED_ENTRY,
+                          GuidedDecisionTable52.HitPolicy.NONE,
+                          oracle,
+                          handler);
+
+        when(summaryPage.getBaseFileName()).thenReturn("table");
+        when(columnExpansionPage.getMaximumRowCount()).thenReturn(1000);
+    }
+
+    @Test
+    public void testRowsGeneratedInChunks() {
+        //20 x 20 values = 400 rows
+        when(columnExpansionPage.makeRowExpander()).thenReturn(makeRowExpander(20));
+
+        wizard.complete();
+
+        final GuidedDecisionTable52 model = assertSaved();
+        assertEquals(400,
+                     model.getData().size());
+        assertEquals(2,
+                     executions);
+        for (int rowIndex = 0; rowIndex < model.getData().size(); rowIndex++) {
+            final List<DTCellValue52> row = model.getData().get(rowIndex);
+            assertEquals(rowIndex + 1,
+                         row.get(0).getNumericValue().intValue());
+        }
+    }
+
+    @Test
+    public void testRowsGeneratedUpToMaximum() {
+        when(columnExpansionPage.makeRowExpander()).thenReturn(makeRowExpander(20));
+        when(columnExpansionPage.getMaximumRowCount()).thenReturn(300);
+
+        wizard.complete();
+
+        final GuidedDecisionTable52 model = assertSaved();
+        assertEquals(300,
+                     model.getData().size());
+
+        final ArgumentCaptor<NotificationEvent> notificationCaptor = ArgumentCaptor.forClass(NotificationEvent.class);
+        verify(notificationEvent).fire(notificationCaptor.capture());
+        assertEquals(NotificationEvent.NotificationType.WARNING,
+                     notificationCaptor.getValue().getType());
+    }
+
+    @Test
+    public void testRowsGeneratedAtMaximumNotTruncated() {
+        when(columnExpansionPage.makeRowExpander()).thenReturn(makeRowExpander(20));
+        when(columnExpansionPage.getMaximumRowCount()).thenReturn(400);
+
+        wizard.complete();
+
+        final GuidedDecisionTable52 model = assertSaved();
+        assertEquals(400,
+                     model.getData().size());
+        verify(notificationEvent,
+               never()).fire(any(NotificationEvent.class));
+    }
+
+    @Test
+    public void testNoRowsGenerated() {
+        when(columnExpansionPage.makeRowExpander()).thenReturn(makeRowExpander(0));
+
+        wizard.complete();
+
+        final GuidedDecisionTable52 model = assertSaved();
+        assertEquals(0,
+                     model.getData().size());
+        assertEquals(1,
+                     executions);
+    }
+
+    private GuidedDecisionTable52 assertSaved() {
+        final ArgumentCaptor<GuidedDecisionTable52> modelCaptor = ArgumentCaptor.forClass(GuidedDecisionTable52.class);
+        verify(handler).save(eq(contextPath),
+                             eq("table"),
+                             modelCaptor.capture());
+        verify(handler,
+               never()).destroyWizard();
+        return modelCaptor.getValue();
+    }
+
+    private RowExpander makeRowExpander(final int valueCount) {
+        final GuidedDecisionTable52 model = new GuidedDecisionTable52();
+        final Pattern52 pattern = new Pattern52();
+        pattern.setBoundName("$d");
+        pattern.setFactType("Driver");
+        model.getConditions().add(pattern);
+
+        if (valueCount > 0) {
+            final StringBuilder valueList = new StringBuilder();
+            for (int i = 0; i < valueCount; i++) {
+                valueList.append(i == 0 ? "" : ",").append("v").append(i);
+            }
+            pattern.getChildColumns().add(makeCondition("name",
+                                                        valueList.toString()));
+            pattern.getChildColumns().add(makeCondition("age",
+                                                        valueList.toString()));
+        }
+
+        return new RowExpander(model,
+                               oracle);
+    }
+
+    private ConditionCol52 makeCondition(final String factField,
+                                         final String valueList) {
+        final ConditionCol52 condition = new ConditionCol52();
+        condition.setFactField(factField);
+        condition.setOperator("==");
+        condition.setConstraintValueType(BaseSingleFieldConstraint.TYPE_LITERAL);
+        condition.setValueList(valueList);
+        return condition;
+    }
+}
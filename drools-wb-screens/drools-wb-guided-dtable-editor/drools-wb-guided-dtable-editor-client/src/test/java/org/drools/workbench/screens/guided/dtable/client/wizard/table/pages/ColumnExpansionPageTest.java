@@ -0,0 +1,186 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtable.client.wizard.table.pages;
+
+import java.util.Collections;
+import java.util.HashMap;
+
+import javax.enterprise.event.Event;
+
+import com.google.gwtmockito.GwtMockitoTestRunner;
+import org.drools.workbench.models.datamodel.rule.BaseSingleFieldConstraint;
+import org.drools.workbench.models.guided.dtable.shared.model.ConditionCol52;
+import org.drools.workbench.models.guided.dtable.shared.model.GuidedDecisionTable52;
+import org.drools.workbench.models.guided.dtable.shared.model.Pattern52;
+import org.drools.workbench.screens.guided.dtable.client.widget.Validator;
+import org.drools.workbench.screens.guided.dtable.service.GuidedDecisionTableEditorService;
+import org.jboss.errai.common.client.api.Caller;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.services.datamodel.service.IncrementalDataModelService;
+import org.kie.workbench.common.services.shared.preferences.ApplicationPreferences;
+import org.kie.workbench.common.widgets.client.datamodel.AsyncPackageDataModelOracleImpl;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.client.callbacks.Callback;
+import org.uberfire.ext.widgets.core.client.wizards.WizardPageStatusChangeEvent;
+import org.uberfire.mocks.CallerMock;
+import org.uberfire.mocks.EventSourceMock;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(GwtMockitoTestRunner.class)
+public class ColumnExpansionPageTest {
+
+    @Mock
+    private IncrementalDataModelService incrementalDataModelService;
+
+    @Mock
+    private ColumnExpansionPageView view;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private Path contextPath;
+
+    @Mock
+    private Callback<Boolean> callback;
+
+    private Event<WizardPageStatusChangeEvent> wizardPageStatusChangeEvent = mock(EventSourceMock.class);
+
+    @Spy
+    @InjectMocks
+    private ColumnExpansionPage page;
+
+    private GuidedDecisionTable52 model;
+
+    private ConditionCol52 nameCondition;
+
+    @Before
+    public void setUp() {
+        final Caller<IncrementalDataModelService> incrementalDataModelServiceCaller = new CallerMock<>(incrementalDataModelService);
+        final AsyncPackageDataModelOracleImpl oracle = new AsyncPackageDataModelOracleImpl(incrementalDataModelServiceCaller,
+                                                                                           null);
+
+        model = new GuidedDecisionTable52();
+        final Pattern52 pattern = new Pattern52();
+        pattern.setBoundName("$d");
+        pattern.setFactType("Driver");
+        nameCondition = makeCondition("name",
+                                      "a,b,c");
+        pattern.getChildColumns().add(nameCondition);
+        pattern.getChildColumns().add(makeCondition("age",
+                                                    "1,2,3"));
+        model.getConditions().add(pattern);
+
+        page.setContent(contextPath,
+                        "table",
+                        GuidedDecisionTable52.TableFormat.EXTENDED_ENTRY,
+                        GuidedDecisionTable52.HitPolicy.NONE,
+                        oracle,
+                        model,
+                        validator);
+        page.initialise();
+
+        ApplicationPreferences.setUp(new HashMap<>());
+    }
+
+    @After
+    public void tearDown() {
+        ApplicationPreferences.setUp(new HashMap<>());
+    }
+
+    private ConditionCol52 makeCondition(final String factField,
+                                         final String valueList) {
+        final ConditionCol52 condition = new ConditionCol52();
+        condition.setFactField(factField);
+        condition.setOperator("==");
+        condition.setConstraintValueType(BaseSingleFieldConstraint.TYPE_LITERAL);
+        condition.setValueList(valueList);
+        return condition;
+    }
+
+    @Test
+    public void testEstimatedRowCount() {
+        page.prepareView();
+
+        assertEquals(9,
+                     page.getEstimatedRowCount());
+        verify(view).setEstimatedRowCount(9,
+                                          ColumnExpansionPage.DEFAULT_MAXIMUM_ROW_COUNT);
+        verify(wizardPageStatusChangeEvent).fire(any(WizardPageStatusChangeEvent.class));
+    }
+
+    @Test
+    public void testEstimatedRowCountWithChosenColumns() {
+        page.setColumnsToExpand(Collections.singletonList(nameCondition));
+
+        assertEquals(3,
+                     page.getEstimatedRowCount());
+    }
+
+    @Test
+    public void testIsComplete() {
+        page.isComplete(callback);
+
+        verify(callback).callback(true);
+    }
+
+    @Test
+    public void testEstimatedRowCountCalculatedOncePerChange() {
+        page.prepareView();
+        page.isComplete(callback);
+        page.isComplete(callback);
+
+        verify(page,
+               times(1)).makeRowExpander();
+
+        page.setColumnsToExpand(Collections.singletonList(nameCondition));
+        page.isComplete(callback);
+
+        verify(page,
+               times(2)).makeRowExpander();
+    }
+
+    @Test
+    public void testIsNotCompleteWhenTooManyRows() {
+        ApplicationPreferences.setUp(Collections.singletonMap(GuidedDecisionTableEditorService.DTABLE_WIZARD_MAXIMUM_ROWS,
+                                                              "5"));
+
+        page.isComplete(callback);
+
+        verify(callback).callback(false);
+    }
+
+    @Test
+    public void testInvalidMaximumRowCount() {
+        ApplicationPreferences.setUp(Collections.singletonMap(GuidedDecisionTableEditorService.DTABLE_WIZARD_MAXIMUM_ROWS,
+                                                              "many"));
+
+        assertEquals(ColumnExpansionPage.DEFAULT_MAXIMUM_ROW_COUNT,
+                     page.getMaximumRowCount());
+    }
+}
@@ -2554,6 +2554,81 @@ public class RowExpanderTest {
         assertTrue(rows.get(0).get(1) != rows.get(1).get(1));
     }
 
+    @Test
+    public void testRowCountEstimate() {
+        final GuidedDecisionTable52 model = makeValueListModel();
+
+        final RowExpander re = new RowExpander(model,
+                                               getOracle());
+        final long estimatedRowCount = re.getRowCount();
+
+        int rowCount = 0;
+        final RowExpander.RowIterator ri = re.iterator();
+        while (ri.hasNext()) {
+            ri.next();
+            rowCount++;
+        }
+
+        assertEquals(6,
+                     estimatedRowCount);
+        assertEquals(rowCount,
+                     estimatedRowCount);
+    }
+
+    @Test
+    public void testRowCountEstimateWithColumnExpansionDisabled() {
+        final GuidedDecisionTable52 model = makeValueListModel();
+
+        final RowExpander re = new RowExpander(model,
+                                               getOracle());
+        re.setExpandColumn(model.getConditions().get(0).getChildColumns().get(0),
+                           false);
+
+        assertEquals(3,
+                     re.getRowCount());
+    }
+
+    @Test
+    public void testRowCountEstimateWithNoExpansion() {
+        final GuidedDecisionTable52 model = makeValueListModel();
+
+        final RowExpander re = new RowExpander(model,
+                                               getOracle());
+        re.setExpandColumn(model.getConditions().get(0).getChildColumns().get(0),
+                           false);
+        re.setExpandColumn(model.getConditions().get(0).getChildColumns().get(1),
+                           false);
+
+        assertEquals(0,
+                     re.getRowCount());
+        assertFalse(re.iterator().hasNext());
+    }
+
+    private GuidedDecisionTable52 makeValueListModel() {
+        final GuidedDecisionTable52 model = new GuidedDecisionTable52();
+
+        final Pattern52 p1 = new Pattern52();
+        p1.setBoundName("c1");
+        p1.setFactType("Driver");
+
+        final ConditionCol52 c1 = new ConditionCol52();
+        c1.setFactField("name");
+        c1.setOperator("==");
+        c1.setConstraintValueType(BaseSingleFieldConstraint.TYPE_LITERAL);
+        c1.setValueList("c1a,c1b");
+        p1.getChildColumns().add(c1);
+
+        final ConditionCol52 c2 = new ConditionCol52();
+        c2.setFactField("age");
+        c2.setOperator("==");
+        c2.setConstraintValueType(BaseSingleFieldConstraint.TYPE_LITERAL);
+        c2.setValueList("c2a,c2b,c2c");
+        p1.getChildColumns().add(c2);
+        model.getConditions().add(p1);
+
+        return model;
+    }
+
     private void populateDataModelOracle(final Path resourcePath,
                                          final HasImports hasImports,
                                          final AsyncPackageDataModelOracle oracle,
@@ -19,6 +19,7 @@ package org.drools.workbench.screens.guided.dtree.backend.server;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.ApplicationScoped;
@@ -94,6 +95,9 @@ public class GuidedDecisionTreeEditorServiceImpl
     @Inject
     private SaveAndRenameServiceImpl<GuidedDecisionTree, Metadata> saveAndRenameService;
 
+    @Inject
+    private GuidedDecisionTreeModelCache modelCache;
+
     private SafeSessionInfo safeSessionInfo;
 
     public GuidedDecisionTreeEditorServiceImpl() {
@@ -140,20 +144,26 @@ public class GuidedDecisionTreeEditorServiceImpl
     @Override
     public GuidedDecisionTree load(final Path path) {
         try {
-            final String drl = ioService.readAllString(Paths.convert(path));
-            final String baseFileName = FileNameUtil.removeExtension(path,
-                                                                     resourceType);
-            final PackageDataModelOracle oracle = dataModelService.getDataModel(path);
-            final GuidedDecisionTree model = GuidedDecisionTreeDRLPersistence.getInstance().unmarshal(drl,
-                                                                                                      baseFileName,
-                                                                                                      oracle);
-
-            return model;
+            return load(path,
+                        () -> dataModelService.getDataModel(path));
         } catch (Exception e) {
             throw ExceptionUtilities.handleException(e);
         }
     }
 
+    private GuidedDecisionTree load(final Path path,
+                                    final Supplier<PackageDataModelOracle> oracle) {
+        final String drl = ioService.readAllString(Paths.convert(path));
+        final String baseFileName = FileNameUtil.removeExtension(path,
+                                                                 resourceType);
+        //The DMO is only needed if the tree has not already been parsed
+        return modelCache.getModel(path,
+                                   drl,
+                                   () -> GuidedDecisionTreeDRLPersistence.getInstance().unmarshal(drl,
+                                                                                                  baseFileName,
+                                                                                                  oracle.get()));
+    }
+
     @Override
     public GuidedDecisionTreeEditorContent loadContent(final Path path) {
         return super.loadContent(path);
@@ -162,8 +172,9 @@ public class GuidedDecisionTreeEditorServiceImpl
     @Override
     protected GuidedDecisionTreeEditorContent constructContent(Path path,
                                                                Overview overview) {
-        final GuidedDecisionTree model = load(path);
         final PackageDataModelOracle oracle = dataModelService.getDataModel(path);
+        final GuidedDecisionTree model = load(path,
+                                              () -> oracle);
         final PackageDataModelOracleBaselinePayload dataModel = new PackageDataModelOracleBaselinePayload();
 
         //Get FQCN's used by model
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtree.backend.server;
+
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.drools.workbench.models.guided.dtree.shared.model.GuidedDecisionTree;
+import org.drools.workbench.screens.dsltext.model.DSLInvalidateDMOPackageCacheEvent;
+import org.drools.workbench.screens.enums.model.EnumInvalidateDMOPackageCacheEvent;
+import org.drools.workbench.screens.globals.model.GlobalsInvalidateDMOPackageCacheEvent;
+import org.drools.workbench.services.cache.backend.LRUContentCache;
+import org.guvnor.common.services.project.builder.events.InvalidateDMOModuleCacheEvent;
+import org.guvnor.common.services.project.builder.events.InvalidateDMOPackageCacheEvent;
+import org.uberfire.backend.vfs.Path;
+
+/**
+ * Cache of parsed Guided Decision Trees. Unmarshalling a tree from DRL requires the Data Model Oracle and is
+ * repeated when opening a tree and generating its source. Trees are keyed on the Path of the file and a hash of its
+ * DRL. All trees are discarded whenever a Data Model Oracle cache is invalidated, as a tree parsed against the old
+ * Data Model may differ.
+ */
+@ApplicationScoped
+public class GuidedDecisionTreeModelCache extends LRUContentCache<GuidedDecisionTree> {
+
+    static final int MAX_ENTRIES = 100;
+
+    public GuidedDecisionTreeModelCache() {
+        super(MAX_ENTRIES);
+    }
+
+    /**
+     * Returns the parsed tree for the DRL of a Path, unmarshalling it only if the same DRL has not already been
+     * parsed for the Path against the current Data Model.
+     * @param path Path of the tree
+     * @param drl DRL content of the tree
+     * @param unmarshaller Unmarshalls the DRL if the tree is not cached
+     * @return The parsed tree. The returned tree is shared and must not be modified.
+     */
+    public GuidedDecisionTree getModel(final Path path,
+                                       final String drl,
+                                       final Supplier<GuidedDecisionTree> unmarshaller) {
+        return get(path,
+                   drl,
+                   unmarshaller);
+    }
+
+    public void onInvalidateDMOModuleCache(final @Observes InvalidateDMOModuleCacheEvent event) {
+        invalidate();
+    }
+
+    public void onInvalidateDMOPackageCache(final @Observes InvalidateDMOPackageCacheEvent event) {
+        //Trees are parsed against fact types only; enumerations, DSL sentences and globals do not change them
+        if (event instanceof EnumInvalidateDMOPackageCacheEvent
+                || event instanceof DSLInvalidateDMOPackageCacheEvent
+                || event instanceof GlobalsInvalidateDMOPackageCacheEvent) {
+            return;
+        }
+        invalidate();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.dtree.backend.server;
+
+import java.util.function.Supplier;
+
+import org.drools.workbench.models.guided.dtree.shared.model.GuidedDecisionTree;
+import org.drools.workbench.screens.dsltext.model.DSLInvalidateDMOPackageCacheEvent;
+import org.drools.workbench.screens.enums.model.EnumInvalidateDMOPackageCacheEvent;
+import org.drools.workbench.screens.globals.model.GlobalsInvalidateDMOPackageCacheEvent;
+import org.guvnor.common.services.project.builder.events.InvalidateDMOModuleCacheEvent;
+import org.guvnor.common.services.project.builder.events.InvalidateDMOPackageCacheEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.backend.vfs.PathFactory;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class GuidedDecisionTreeModelCacheTest {
+
+    private static final String DRL = "rule \"tree_0\"\nwhen\n  Person()\nthen\nend\n";
+
+    private GuidedDecisionTreeModelCache cache;
+
+    private Supplier<GuidedDecisionTree> unmarshaller;
+
+    private final Path path = PathFactory.newPath("tree.tdrl",
+                                                  "default://master@repo/project/src/main/resources/tree.tdrl");
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        cache = new GuidedDecisionTreeModelCache();
+        unmarshaller = mock(Supplier.class);
+        when(unmarshaller.get()).thenReturn(new GuidedDecisionTree(),
+                                            new GuidedDecisionTree());
+    }
+
+    @Test
+    public void testDMOInvalidationParsedAgain() {
+        cache.getModel(path,
+                       DRL,
+                       unmarshaller);
+
+        cache.onInvalidateDMOPackageCache(new InvalidateDMOPackageCacheEvent(path));
+        cache.getModel(path,
+                       DRL,
+                       unmarshaller);
+
+        verify(unmarshaller,
+               times(2)).get();
+    }
+
+    @Test
+    public void testModuleInvalidationParsedAgain() {
+        cache.getModel(path,
+                       DRL,
+                       unmarshaller);
+
+        cache.onInvalidateDMOModuleCache(mock(InvalidateDMOModuleCacheEvent.class));
+        cache.getModel(path,
+                       DRL,
+                       unmarshaller);
+
+        verify(unmarshaller,
+               times(2)).get();
+    }
+
+    @Test
+    public void testEnumDSLAndGlobalsInvalidationNotParsedAgain() {
+        cache.getModel(path,
+                       DRL,
+                       unmarshaller);
+
+        cache.onInvalidateDMOPackageCache(new EnumInvalidateDMOPackageCacheEvent(path));
+        cache.onInvalidateDMOPackageCache(new DSLInvalidateDMOPackageCacheEvent(path));
+        cache.onInvalidateDMOPackageCache(new GlobalsInvalidateDMOPackageCacheEvent(path));
+        cache.getModel(path,
+                       DRL,
+                       unmarshaller);
+
+        verify(unmarshaller,
+               times(1)).get();
+    }
+}
@@ -15,6 +15,8 @@
  */
 package org.drools.workbench.screens.guided.dtree.client.widget;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
@@ -34,6 +36,7 @@ import com.ait.lienzo.client.core.shape.Text;
 import com.ait.lienzo.client.core.types.Point2D;
 import com.ait.lienzo.shared.core.types.TextAlign;
 import com.ait.lienzo.shared.core.types.TextBaseLine;
+import com.google.gwt.core.client.Scheduler;
 import com.google.gwt.user.client.Window;
 import org.drools.workbench.models.guided.dtree.shared.model.GuidedDecisionTree;
 import org.drools.workbench.models.guided.dtree.shared.model.nodes.ActionInsertNode;
@@ -75,6 +78,11 @@ public class GuidedDecisionTreeWidget extends WiresCanvas implements UberView<Gu
 
     private static final int ANIMATION_DURATION = 250;
 
+    //Models with more nodes than this have their shapes built in chunks, so the browser remains responsive
+    static final int CHUNKED_BUILD_THRESHOLD = 500;
+
+    static final int SHAPES_PER_CHUNK = 100;
+
     private Event<ClearEvent> clearEvent;
     private Event<ShapeSelectedEvent> shapeSelectedEvent;
     private Event<ShapeAddedEvent> shapeAddedEvent;
@@ -98,6 +106,9 @@ public class GuidedDecisionTreeWidget extends WiresCanvas implements UberView<Gu
     private Group hint = null;
     private boolean isGettingStartedHintVisible = false;
 
+    //The chunked build of the current model, whilst it is running. Edits are ignored until it completes.
+    private ModelBuild modelBuild = null;
+
     public GuidedDecisionTreeWidget() {
         //CDI proxy
     }
@@ -132,6 +143,9 @@ public class GuidedDecisionTreeWidget extends WiresCanvas implements UberView<Gu
 
     @Override
     public void selectShape(final WiresBaseShape shape) {
+        if (isBuildingModel()) {
+            return;
+        }
         shapeSelectedEvent.fire(new ShapeSelectedEvent(shape));
     }
 
@@ -146,8 +160,8 @@ public class GuidedDecisionTreeWidget extends WiresCanvas implements UberView<Gu
     }
 
     public void onDragPreviewHandler(@Observes ShapeDragPreviewEvent shapeDragPreviewEvent) {
-        //We can only connect WiresTreeNodes to each other
-        if (!(shapeDragPreviewEvent.getShape() instanceof BaseGuidedDecisionTreeShape)) {
+        //We can only connect WiresTreeNodes to each other, once the model has been built
+        if (isBuildingModel() || !(shapeDragPreviewEvent.getShape() instanceof BaseGuidedDecisionTreeShape)) {
             dropContext.setContext(null);
             return;
         }
@@ -189,8 +203,8 @@ public class GuidedDecisionTreeWidget extends WiresCanvas implements UberView<Gu
             connector = null;
         }
 
-        //If there's no Shape to add then exit
-        if (wiresShape == null) {
+        //If there's no Shape to add, or the model is still being built, then exit
+        if (wiresShape == null || isBuildingModel()) {
             dropContext.setContext(null);
             return;
         }
@@ -253,6 +267,9 @@ public class GuidedDecisionTreeWidget extends WiresCanvas implements UberView<Gu
 
     @Override
     public void clear() {
+        if (isBuildingModel()) {
+            return;
+        }
         if (Window.confirm(GuidedDecisionTreeConstants.INSTANCE.confirmDeleteDecisionTree())) {
             super.clear();
             clearEvent.fire(new ClearEvent());
@@ -262,6 +279,9 @@ public class GuidedDecisionTreeWidget extends WiresCanvas implements UberView<Gu
 
     @Override
     public void deleteShape(final WiresBaseShape shape) {
+        if (isBuildingModel()) {
+            return;
+        }
         if (confirmShapeDeletion()) {
 
             if (uiRoot != null && uiRoot.equals(shape)) {
@@ -323,21 +343,56 @@ public class GuidedDecisionTreeWidget extends WiresCanvas implements UberView<Gu
         this.uiRoot = null;
         this.model = model;
 
+        //Stop building any previous model, as its shapes are about to be cleared
+        cancelModelBuild();
+
         //Clear existing state
         super.clear();
         clearEvent.fire(new ClearEvent());
 
         //Walk model creating UIModel
         final TypeNode root = model.getRoot();
-        if (root != null) {
-            final WiresBaseTreeNode uiRoot = typeNodeFactory.getShape(root,
-                                                                      isReadOnly);
-            this.uiRoot = uiRoot;
+        if (root == null) {
+            showModel();
+            return;
+        }
+        final WiresBaseTreeNode uiRoot = typeNodeFactory.getShape(root,
+                                                                  isReadOnly);
+        this.uiRoot = uiRoot;
 
-            processChildren(root,
-                            uiRoot,
+        final Deque<Pair<Node, WiresBaseTreeNode>> pending = new ArrayDeque<Pair<Node, WiresBaseTreeNode>>();
+        pending.add(new Pair<Node, WiresBaseTreeNode>(root,
+                                                      uiRoot));
+        if (countNodes(root) <= CHUNKED_BUILD_THRESHOLD) {
+            processChildren(pending,
+                            Integer.MAX_VALUE,
                             isReadOnly);
+            showModel();
+            return;
+        }
 
+        modelBuild = new ModelBuild(pending,
+                                    isReadOnly);
+        scheduleIncremental(modelBuild);
+    }
+
+    boolean isBuildingModel() {
+        return modelBuild != null;
+    }
+
+    private void cancelModelBuild() {
+        if (modelBuild != null) {
+            modelBuild.cancel();
+            modelBuild = null;
+        }
+    }
+
+    void scheduleIncremental(final Scheduler.RepeatingCommand command) {
+        Scheduler.get().scheduleIncremental(command);
+    }
+
+    private void showModel() {
+        if (uiRoot != null) {
             final Map<WiresBaseShape, Point2D> layout = layoutManager.getLayoutInformation(uiRoot);
             final Rectangle2D canvasBounds = WiresLayoutUtilities.alignLayoutInCanvas(layout);
             for (Map.Entry<WiresBaseShape, Point2D> e : layout.entrySet()) {
@@ -358,46 +413,72 @@ public class GuidedDecisionTreeWidget extends WiresCanvas implements UberView<Gu
         canvasLayer.batch();
     }
 
-    private void processChildren(final Node node,
-                                 final WiresBaseTreeNode uiNode,
-                                 final boolean isReadOnly) {
-        uiNode.setSelectionManager(this);
-        uiNode.setShapesManager(this);
-        uiNode.setLayoutManager(layoutManager);
-        if (uiNode instanceof BaseGuidedDecisionTreeShape) {
-            ((BaseGuidedDecisionTreeShape) uiNode).setPresenter(presenter);
-        }
-        canvasLayer.add(uiNode);
-        shapesInCanvas.add(uiNode);
-
+    private int countNodes(final Node node) {
+        int count = 1;
         final Iterator<Node> itr = node.iterator();
         while (itr.hasNext()) {
-            final Node child = itr.next();
-            WiresBaseTreeNode uiChildNode = null;
-            if (child instanceof TypeNode) {
-                uiChildNode = typeNodeFactory.getShape((TypeNode) child,
-                                                       isReadOnly);
-            } else if (child instanceof ConstraintNode) {
-                uiChildNode = constraintNodeFactory.getShape((ConstraintNode) child,
-                                                             isReadOnly);
-            } else if (child instanceof ActionInsertNode) {
-                uiChildNode = actionInsertNodeFactory.getShape((ActionInsertNode) child,
-                                                               isReadOnly);
-            } else if (child instanceof ActionUpdateNode) {
-                uiChildNode = actionUpdateNodeFactory.getShape((ActionUpdateNode) child,
+            count = count + countNodes(itr.next());
+        }
+        return count;
+    }
+
+    /**
+     * Creates the shapes for up to the given number of pending nodes, queueing their children to be processed next.
+     * @param pending Model nodes, paired with their shapes, whose children have not yet been processed
+     * @param maxShapes Maximum number of nodes to process
+     * @param isReadOnly true if the shapes should be read-only
+     */
+    private void processChildren(final Deque<Pair<Node, WiresBaseTreeNode>> pending,
+                                 final int maxShapes,
+                                 final boolean isReadOnly) {
+        int processed = 0;
+        while (!pending.isEmpty() && processed < maxShapes) {
+            final Pair<Node, WiresBaseTreeNode> next = pending.poll();
+            final Node node = next.getK1();
+            final WiresBaseTreeNode uiNode = next.getK2();
+            uiNode.setSelectionManager(this);
+            uiNode.setShapesManager(this);
+            uiNode.setLayoutManager(layoutManager);
+            if (uiNode instanceof BaseGuidedDecisionTreeShape) {
+                ((BaseGuidedDecisionTreeShape) uiNode).setPresenter(presenter);
+            }
+            canvasLayer.add(uiNode);
+            shapesInCanvas.add(uiNode);
+            processed++;
+
+            final Iterator<Node> itr = node.iterator();
+            while (itr.hasNext()) {
+                final Node child = itr.next();
+                final WiresBaseTreeNode uiChildNode = getShape(child,
                                                                isReadOnly);
-            } else if (child instanceof ActionRetractNode) {
-                uiChildNode = actionRetractNodeFactory.getShape((ActionRetractNode) child,
-                                                                isReadOnly);
+                if (uiChildNode != null) {
+                    uiNode.addChildNode(uiChildNode);
+                    pending.add(new Pair<Node, WiresBaseTreeNode>(child,
+                                                                  uiChildNode));
+                }
             }
+        }
+    }
 
-            if (uiChildNode != null) {
-                uiNode.addChildNode(uiChildNode);
-                processChildren(child,
-                                uiChildNode,
-                                isReadOnly);
-            }
+    private WiresBaseTreeNode getShape(final Node node,
+                                       final boolean isReadOnly) {
+        if (node instanceof TypeNode) {
+            return typeNodeFactory.getShape((TypeNode) node,
+                                            isReadOnly);
+        } else if (node instanceof ConstraintNode) {
+            return constraintNodeFactory.getShape((ConstraintNode) node,
+                                                  isReadOnly);
+        } else if (node instanceof ActionInsertNode) {
+            return actionInsertNodeFactory.getShape((ActionInsertNode) node,
+                                                    isReadOnly);
+        } else if (node instanceof ActionUpdateNode) {
+            return actionUpdateNodeFactory.getShape((ActionUpdateNode) node,
+                                                    isReadOnly);
+        } else if (node instanceof ActionRetractNode) {
+            return actionRetractNodeFactory.getShape((ActionRetractNode) node,
+                                                     isReadOnly);
         }
+        return null;
     }
 
     protected BaseGuidedDecisionTreeShape getParentNode(final BaseGuidedDecisionTreeShape uiChild,
@@ -435,27 +516,24 @@ public class GuidedDecisionTreeWidget extends WiresCanvas implements UberView<Gu
         final Map<WiresBaseShape, Point2D> layout = layoutManager.getLayoutInformation(uiRoot);
         final Rectangle2D canvasBounds = WiresLayoutUtilities.alignLayoutInCanvas(layout);
 
+        //Only the shapes whose position changed need to be animated; typically those to the right of, or below, the edit
+        final Map<WiresBaseShape, Pair<Point2D, Point2D>> transformations = getTransformations(layout);
+        if (transformations.isEmpty()) {
+            WiresLayoutUtilities.resizeViewPort(canvasBounds,
+                                                canvasLayer.getViewport());
+            canvasLayer.batch();
+            return;
+        }
+
         //Run an animation to move WiresBaseTreeNodes from their current position to the target position
         uiRoot.animate(AnimationTweener.EASE_OUT,
                        new AnimationProperties(),
                        ANIMATION_DURATION,
                        new IAnimationCallback() {
 
-                           private final Map<WiresBaseShape, Pair<Point2D, Point2D>> transformations = new HashMap<WiresBaseShape, Pair<Point2D, Point2D>>();
-
                            @Override
                            public void onStart(final IAnimation iAnimation,
                                                final IAnimationHandle iAnimationHandle) {
-                               //Reposition nodes. First we store the WiresBaseTreeNode together with its current position and target position
-                               transformations.clear();
-                               for (Map.Entry<WiresBaseShape, Point2D> e : layout.entrySet()) {
-                                   final Point2D origin = e.getKey().getLocation();
-                                   final Point2D destination = new Point2D(e.getValue().getX(),
-                                                                           e.getValue().getY());
-                                   transformations.put(e.getKey(),
-                                                       new Pair<Point2D, Point2D>(origin,
-                                                                                  destination));
-                               }
                                WiresLayoutUtilities.resizeViewPort(canvasBounds,
                                                                    canvasLayer.getViewport());
                            }
@@ -490,6 +568,27 @@ public class GuidedDecisionTreeWidget extends WiresCanvas implements UberView<Gu
         canvasLayer.batch();
     }
 
+    /**
+     * Pairs each shape whose position differs from the layout with its current position and target position.
+     * @param layout Target position of each shape
+     * @return Current and target positions of the shapes that need to move
+     */
+    Map<WiresBaseShape, Pair<Point2D, Point2D>> getTransformations(final Map<WiresBaseShape, Point2D> layout) {
+        final Map<WiresBaseShape, Pair<Point2D, Point2D>> transformations = new HashMap<WiresBaseShape, Pair<Point2D, Point2D>>();
+        for (Map.Entry<WiresBaseShape, Point2D> e : layout.entrySet()) {
+            final WiresBaseShape shape = e.getKey();
+            final Point2D destination = new Point2D(e.getValue().getX(),
+                                                    e.getValue().getY());
+            final Point2D origin = shape.getLocation();
+            if (origin.getX() != destination.getX() || origin.getY() != destination.getY()) {
+                transformations.put(shape,
+                                    new Pair<Point2D, Point2D>(origin,
+                                                               destination));
+            }
+        }
+        return transformations;
+    }
+
     private void showGettingStartedHint() {
         if (isGettingStartedHintVisible) {
             return;
@@ -589,4 +688,40 @@ public class GuidedDecisionTreeWidget extends WiresCanvas implements UberView<Gu
     void setModel(final GuidedDecisionTree model) {
         this.model = model;
     }
+
+    /**
+     * Builds the shapes for a model in chunks, showing the model once all shapes have been built.
+     */
+    private class ModelBuild implements Scheduler.RepeatingCommand {
+
+        private final Deque<Pair<Node, WiresBaseTreeNode>> pending;
+        private final boolean isReadOnly;
+        private boolean isCancelled = false;
+
+        private ModelBuild(final Deque<Pair<Node, WiresBaseTreeNode>> pending,
+                           final boolean isReadOnly) {
+            this.pending = pending;
+            this.isReadOnly = isReadOnly;
+        }
+
+        @Override
+        public boolean execute() {
+            if (isCancelled) {
+                return false;
+            }
+            processChildren(pending,
+                            SHAPES_PER_CHUNK,
+                            isReadOnly);
+            if (!pending.isEmpty()) {
+                return true;
+            }
+            modelBuild = null;
+            showModel();
+            return false;
+        }
+
+        private void cancel() {
+            isCancelled = true;
+        }
+    }
 }
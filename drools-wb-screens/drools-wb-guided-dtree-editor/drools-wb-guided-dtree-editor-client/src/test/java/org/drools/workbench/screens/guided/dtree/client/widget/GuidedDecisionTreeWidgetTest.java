@@ -16,8 +16,16 @@
 package org.drools.workbench.screens.guided.dtree.client.widget;
 
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.ait.lienzo.client.core.animation.AnimationProperties;
+import com.ait.lienzo.client.core.animation.AnimationTweener;
+import com.ait.lienzo.client.core.animation.IAnimationCallback;
+import com.ait.lienzo.client.core.types.Point2D;
 
 import com.ait.lienzo.test.LienzoMockitoTestRunner;
+import com.google.gwt.core.client.Scheduler;
 import org.drools.workbench.models.guided.dtree.shared.model.GuidedDecisionTree;
 import org.drools.workbench.models.guided.dtree.shared.model.nodes.TypeNode;
 import org.drools.workbench.models.guided.dtree.shared.model.nodes.impl.ConstraintNodeImpl;
@@ -42,13 +50,21 @@ import org.uberfire.ext.wires.core.api.events.ClearEvent;
 import org.uberfire.ext.wires.core.api.events.ShapeAddedEvent;
 import org.uberfire.ext.wires.core.api.events.ShapeDeletedEvent;
 import org.uberfire.ext.wires.core.api.events.ShapeSelectedEvent;
+import org.uberfire.commons.data.Pair;
 import org.uberfire.ext.wires.core.api.layout.LayoutManager;
+import org.uberfire.ext.wires.core.api.shapes.WiresBaseShape;
 import org.uberfire.mocks.EventSourceMock;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyDouble;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -188,4 +204,100 @@ public class GuidedDecisionTreeWidgetTest {
 
         assertFalse(uiRootNode.getChildren().contains(uiChildNode));
     }
+
+    @Test
+    public void testLayoutWithoutMovedShapes() {
+        widget.layout();
+
+        verify(uiRootShape,
+               never()).animate(any(AnimationTweener.class),
+                                any(AnimationProperties.class),
+                                anyDouble(),
+                                any(IAnimationCallback.class));
+    }
+
+    @Test
+    public void testTransformationsOnlyIncludeMovedShapes() {
+        final Point2D childLocation = new Point2D(0,
+                                                  0);
+        doReturn(childLocation).when(uiChildShape).getLocation();
+        doReturn(new Point2D(50,
+                             10)).when(uiRootShape).getLocation();
+
+        final Map<WiresBaseShape, Point2D> layout = new HashMap<>();
+        layout.put(uiRootShape,
+                   new Point2D(50,
+                               10));
+        layout.put(uiChildShape,
+                   new Point2D(100,
+                               110));
+
+        final Map<WiresBaseShape, Pair<Point2D, Point2D>> transformations = widget.getTransformations(layout);
+
+        assertEquals(1,
+                     transformations.size());
+        assertTrue(transformations.containsKey(uiChildShape));
+        assertEquals(childLocation,
+                     transformations.get(uiChildShape).getK1());
+        assertEquals(100,
+                     transformations.get(uiChildShape).getK2().getX(),
+                     0.0);
+        assertEquals(110,
+                     transformations.get(uiChildShape).getK2().getY(),
+                     0.0);
+    }
+
+    @Test
+    public void testEditsIgnoredWhilstLargeModelIsBuilt() {
+        setLargeModel();
+
+        assertTrue(widget.isBuildingModel());
+
+        widget.deleteShape(uiChildShape);
+        widget.selectShape(uiChildShape);
+
+        verify(widget,
+               never()).confirmShapeDeletion();
+        verify(shapeSelectedEvent,
+               never()).fire(any(ShapeSelectedEvent.class));
+    }
+
+    @Test
+    public void testSettingModelCancelsRunningBuild() {
+        final Scheduler.RepeatingCommand firstBuild = setLargeModel();
+        final Scheduler.RepeatingCommand secondBuild = setLargeModel();
+
+        assertFalse(firstBuild.execute());
+        assertTrue(widget.isBuildingModel());
+        assertNotSame(firstBuild,
+                      secondBuild);
+
+        widget.setModel(new GuidedDecisionTree(),
+                        false);
+
+        assertFalse(secondBuild.execute());
+        assertFalse(widget.isBuildingModel());
+    }
+
+    private Scheduler.RepeatingCommand setLargeModel() {
+        final TypeNode root = new TypeNodeImpl("Person");
+        for (int i = 0; i < GuidedDecisionTreeWidget.CHUNKED_BUILD_THRESHOLD; i++) {
+            root.addChild(new ConstraintNodeImpl("Person",
+                                                 "age"));
+        }
+        final GuidedDecisionTree model = new GuidedDecisionTree();
+        model.setRoot(root);
+
+        doReturn(uiRootShape).when(typeNodeFactory).getShape(any(TypeNode.class),
+                                                             anyBoolean());
+        doNothing().when(widget).scheduleIncremental(any(Scheduler.RepeatingCommand.class));
+
+        widget.setModel(model,
+                        false);
+
+        final ArgumentCaptor<Scheduler.RepeatingCommand> buildCaptor = ArgumentCaptor.forClass(Scheduler.RepeatingCommand.class);
+        verify(widget,
+               atLeastOnce()).scheduleIncremental(buildCaptor.capture());
+        return buildCaptor.getValue();
+    }
 }
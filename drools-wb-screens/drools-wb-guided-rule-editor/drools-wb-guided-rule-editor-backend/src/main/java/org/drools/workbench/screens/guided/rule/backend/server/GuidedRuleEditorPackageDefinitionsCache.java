@@ -0,0 +1,283 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.rule.backend.server;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.inject.Named;
+
+import org.drools.compiler.lang.dsl.DSLMappingFile;
+import org.drools.compiler.lang.dsl.DSLTokenizedMappingFile;
+import org.guvnor.common.services.backend.file.FileDiscoveryService;
+import org.kie.workbench.common.services.backend.file.DSLFileFilter;
+import org.kie.workbench.common.services.backend.file.GlobalsFileFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uberfire.backend.server.util.Paths;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.io.IOService;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceBatchChangesEvent;
+import org.uberfire.workbench.events.ResourceChange;
+import org.uberfire.workbench.events.ResourceCopiedEvent;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceRenamed;
+import org.uberfire.workbench.events.ResourceRenamedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+/**
+ * In-memory registry of the Global (.gdrl) and DSL (.dsl) definitions held in each Package. A Package's
+ * definitions are discovered the first time they are requested and thereafter kept up to date by observing
+ * resource change events, so that loading guided rules and indexing DSLR files do not need to re-list the
+ * Package directory on each call.
+ */
+@ApplicationScoped
+public class GuidedRuleEditorPackageDefinitionsCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(GuidedRuleEditorPackageDefinitionsCache.class);
+
+    private static final GlobalsFileFilter FILTER_GLOBALS = new GlobalsFileFilter();
+
+    private static final DSLFileFilter FILTER_DSLS = new DSLFileFilter();
+
+    private IOService ioService;
+
+    private FileDiscoveryService fileDiscoveryService;
+
+    //Keyed on the URI of the Package's main resources Path
+    private final Map<String, PackageDefinitions> packages = new ConcurrentHashMap<>();
+
+    public GuidedRuleEditorPackageDefinitionsCache() {
+        //Zero-parameter constructor for CDI proxies
+    }
+
+    @Inject
+    public GuidedRuleEditorPackageDefinitionsCache(final @Named("ioStrategy") IOService ioService,
+                                                   final FileDiscoveryService fileDiscoveryService) {
+        this.ioService = ioService;
+        this.fileDiscoveryService = fileDiscoveryService;
+    }
+
+    /**
+     * Returns the content of the Global definitions held in the Package.
+     * @param packagePath Path to the main resources of the Package
+     * @return Global definitions. Never null.
+     */
+    public List<String> getGlobals(final Path packagePath) {
+        return new ArrayList<>(getPackageDefinitions(packagePath).globals.values());
+    }
+
+    /**
+     * Returns the content of the DSL definitions held in the Package.
+     * @param packagePath Path to the main resources of the Package
+     * @return DSL definitions. Never null.
+     */
+    public String[] getDsls(final Path packagePath) {
+        final Collection<String> dsls = getPackageDefinitions(packagePath).dsls.values();
+        return dsls.toArray(new String[dsls.size()]);
+    }
+
+    /**
+     * Returns the parsed DSL definitions held in the Package. DSL definitions that could not be parsed are omitted.
+     * @param packagePath Path to the main resources of the Package
+     * @return Parsed DSL definitions. Never null.
+     */
+    public List<DSLMappingFile> getDSLMappingFiles(final Path packagePath) {
+        return new ArrayList<>(getPackageDefinitions(packagePath).dslMappingFiles.values());
+    }
+
+    public void onResourceAdded(final @Observes ResourceAddedEvent event) {
+        refresh(event.getPath());
+    }
+
+    public void onResourceUpdated(final @Observes ResourceUpdatedEvent event) {
+        refresh(event.getPath());
+    }
+
+    public void onResourceDeleted(final @Observes ResourceDeletedEvent event) {
+        refresh(event.getPath());
+    }
+
+    public void onResourceRenamed(final @Observes ResourceRenamedEvent event) {
+        refresh(event.getPath());
+        refresh(event.getDestinationPath());
+    }
+
+    public void onResourceCopied(final @Observes ResourceCopiedEvent event) {
+        refresh(event.getDestinationPath());
+    }
+
+    public void onResourceBatchChanges(final @Observes ResourceBatchChangesEvent event) {
+        for (Map.Entry<Path, Collection<ResourceChange>> entry : event.getBatch().entrySet()) {
+            refresh(entry.getKey());
+            for (ResourceChange change : entry.getValue()) {
+                if (change instanceof ResourceRenamed) {
+                    refresh(((ResourceRenamed) change).getDestinationPath());
+                }
+            }
+        }
+    }
+
+    void refresh(final Path path) {
+        if (path == null) {
+            return;
+        }
+        final org.uberfire.java.nio.file.Path nioPath = Paths.convert(path);
+        final boolean isGlobal = FILTER_GLOBALS.accept(nioPath);
+        final boolean isDsl = FILTER_DSLS.accept(nioPath);
+        if (!(isGlobal || isDsl)) {
+            return;
+        }
+        final org.uberfire.java.nio.file.Path nioPackagePath = nioPath.getParent();
+        if (nioPackagePath == null) {
+            return;
+        }
+
+        //Only Packages that have already been loaded need updating; others are discovered when first requested
+        final String packageKey = Paths.convert(nioPackagePath).toURI();
+        packages.computeIfPresent(packageKey,
+                                  (key, definitions) -> {
+                                      final String fileKey = Paths.convert(nioPath).toURI();
+                                      if (!ioService.exists(nioPath)) {
+                                          return definitions.remove(fileKey);
+                                      }
+                                      final String content = ioService.readAllString(nioPath);
+                                      return isGlobal ? definitions.putGlobal(fileKey,
+                                                                              content) : definitions.putDsl(fileKey,
+                                                                                                            content,
+                                                                                                            parseDsl(content));
+                                  });
+    }
+
+    private PackageDefinitions getPackageDefinitions(final Path packagePath) {
+        //Normalise the key to the same form as that derived from resource change events
+        final String packageKey = Paths.convert(Paths.convert(packagePath)).toURI();
+        return packages.computeIfAbsent(packageKey,
+                                        (key) -> loadPackageDefinitions(packagePath));
+    }
+
+    private PackageDefinitions loadPackageDefinitions(final Path packagePath) {
+        final org.uberfire.java.nio.file.Path nioPackagePath = Paths.convert(packagePath);
+        PackageDefinitions definitions = new PackageDefinitions();
+
+        final Collection<org.uberfire.java.nio.file.Path> globalPaths = fileDiscoveryService.discoverFiles(nioPackagePath,
+                                                                                                           FILTER_GLOBALS);
+        for (final org.uberfire.java.nio.file.Path globalPath : globalPaths) {
+            definitions = definitions.putGlobal(Paths.convert(globalPath).toURI(),
+                                                ioService.readAllString(globalPath));
+        }
+
+        final Collection<org.uberfire.java.nio.file.Path> dslPaths = fileDiscoveryService.discoverFiles(nioPackagePath,
+                                                                                                        FILTER_DSLS);
+        for (final org.uberfire.java.nio.file.Path dslPath : dslPaths) {
+            final String dslDefinition = ioService.readAllString(dslPath);
+            definitions = definitions.putDsl(Paths.convert(dslPath).toURI(),
+                                             dslDefinition,
+                                             parseDsl(dslDefinition));
+        }
+        return definitions;
+    }
+
+    private DSLMappingFile parseDsl(final String dslDefinition) {
+        final DSLTokenizedMappingFile dslFile = new DSLTokenizedMappingFile();
+        try {
+            if (dslFile.parseAndLoad(new StringReader(dslDefinition))) {
+                return dslFile;
+            }
+            logger.error("Unable to parse DSL definition: " + dslDefinition);
+        } catch (IOException ioe) {
+            logger.error(ioe.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Immutable snapshot of a Package's definitions. Updates return a new instance so readers never observe
+     * partial changes.
+     */
+    private static class PackageDefinitions {
+
+        private final Map<String, String> globals;
+        private final Map<String, String> dsls;
+        private final Map<String, DSLMappingFile> dslMappingFiles;
+
+        private PackageDefinitions() {
+            this(Collections.emptyMap(),
+                 Collections.emptyMap(),
+                 Collections.emptyMap());
+        }
+
+        private PackageDefinitions(final Map<String, String> globals,
+                                   final Map<String, String> dsls,
+                                   final Map<String, DSLMappingFile> dslMappingFiles) {
+            this.globals = globals;
+            this.dsls = dsls;
+            this.dslMappingFiles = dslMappingFiles;
+        }
+
+        private PackageDefinitions putGlobal(final String fileKey,
+                                             final String content) {
+            final Map<String, String> globals = new LinkedHashMap<>(this.globals);
+            globals.put(fileKey,
+                        content);
+            return new PackageDefinitions(globals,
+                                          dsls,
+                                          dslMappingFiles);
+        }
+
+        private PackageDefinitions putDsl(final String fileKey,
+                                          final String content,
+                                          final DSLMappingFile dslMappingFile) {
+            final Map<String, String> dsls = new LinkedHashMap<>(this.dsls);
+            final Map<String, DSLMappingFile> dslMappingFiles = new LinkedHashMap<>(this.dslMappingFiles);
+            dsls.put(fileKey,
+                     content);
+            if (dslMappingFile == null) {
+                dslMappingFiles.remove(fileKey);
+            } else {
+                dslMappingFiles.put(fileKey,
+                                    dslMappingFile);
+            }
+            return new PackageDefinitions(globals,
+                                          dsls,
+                                          dslMappingFiles);
+        }
+
+        private PackageDefinitions remove(final String fileKey) {
+            final Map<String, String> globals = new LinkedHashMap<>(this.globals);
+            final Map<String, String> dsls = new LinkedHashMap<>(this.dsls);
+            final Map<String, DSLMappingFile> dslMappingFiles = new LinkedHashMap<>(this.dslMappingFiles);
+            globals.remove(fileKey);
+            dsls.remove(fileKey);
+            dslMappingFiles.remove(fileKey);
+            return new PackageDefinitions(globals,
+                                          dsls,
+                                          dslMappingFiles);
+        }
+    }
+}
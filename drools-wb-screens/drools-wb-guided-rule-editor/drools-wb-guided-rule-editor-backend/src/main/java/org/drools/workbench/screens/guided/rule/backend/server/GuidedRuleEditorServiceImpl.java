@@ -36,6 +36,7 @@ import org.drools.workbench.screens.guided.rule.model.GuidedEditorContent;
 import org.drools.workbench.screens.guided.rule.service.GuidedRuleEditorService;
 import org.drools.workbench.screens.guided.rule.type.GuidedRuleDRLResourceTypeDefinition;
 import org.drools.workbench.screens.guided.rule.type.GuidedRuleDSLRResourceTypeDefinition;
+import org.drools.workbench.services.validation.backend.ValidationResultCache;
 import org.guvnor.common.services.backend.config.SafeSessionInfo;
 import org.guvnor.common.services.backend.exceptions.ExceptionUtilities;
 import org.guvnor.common.services.backend.util.CommentedOptionFactory;
@@ -99,6 +100,9 @@ public class GuidedRuleEditorServiceImpl
     @Inject
     private GenericValidator genericValidator;
 
+    @Inject
+    private ValidationResultCache validationResultCache;
+
     @Inject
     private CommentedOptionFactory commentedOptionFactory;
 
@@ -321,8 +325,10 @@ public class GuidedRuleEditorServiceImpl
         try {
             final String source = toSourceUnexpanded(path,
                                                      content);
-            return genericValidator.validate(path,
-                                             source);
+            return validationResultCache.validate(path,
+                                                  source,
+                                                  () -> genericValidator.validate(path,
+                                                                                  source));
         } catch (Exception e) {
             throw ExceptionUtilities.handleException(e);
         }
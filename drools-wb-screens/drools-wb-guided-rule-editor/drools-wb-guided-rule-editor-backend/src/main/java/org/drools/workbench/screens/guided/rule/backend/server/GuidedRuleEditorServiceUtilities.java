@@ -15,22 +15,14 @@
  */
 package org.drools.workbench.screens.guided.rule.backend.server;
 
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
-import javax.inject.Named;
 
-import org.guvnor.common.services.backend.file.FileDiscoveryService;
 import org.jboss.errai.security.shared.api.identity.User;
-import org.kie.workbench.common.services.backend.file.DSLFileFilter;
-import org.kie.workbench.common.services.backend.file.GlobalsFileFilter;
 import org.kie.workbench.common.services.shared.project.KieModuleService;
-import org.uberfire.backend.server.util.Paths;
 import org.uberfire.backend.vfs.Path;
-import org.uberfire.io.IOService;
 import org.uberfire.rpc.SessionInfo;
 
 /**
@@ -39,10 +31,6 @@ import org.uberfire.rpc.SessionInfo;
 @ApplicationScoped
 public class GuidedRuleEditorServiceUtilities {
 
-    private static final GlobalsFileFilter FILTER_GLOBALS = new GlobalsFileFilter();
-
-    private static final DSLFileFilter FILTER_DSLS = new DSLFileFilter();
-
     @Inject
     private User identity;
 
@@ -50,11 +38,7 @@ public class GuidedRuleEditorServiceUtilities {
     private SessionInfo sessionInfo;
 
     @Inject
-    @Named("ioStrategy")
-    private IOService ioService;
-
-    @Inject
-    private FileDiscoveryService fileDiscoveryService;
+    private GuidedRuleEditorPackageDefinitionsCache packageDefinitionsCache;
 
     @Inject
     private KieModuleService moduleService;
@@ -65,17 +49,8 @@ public class GuidedRuleEditorServiceUtilities {
      * @return
      */
     public String[] loadDslsForPackage(final Path path) {
-        final List<String> dsls = new ArrayList<String>();
         final Path packagePath = moduleService.resolvePackage(path).getPackageMainResourcesPath();
-        final org.uberfire.java.nio.file.Path nioPackagePath = Paths.convert(packagePath);
-        final Collection<org.uberfire.java.nio.file.Path> dslPaths = fileDiscoveryService.discoverFiles(nioPackagePath,
-                                                                                                        FILTER_DSLS);
-        for (final org.uberfire.java.nio.file.Path dslPath : dslPaths) {
-            final String dslDefinition = ioService.readAllString(dslPath);
-            dsls.add(dslDefinition);
-        }
-        final String[] result = new String[dsls.size()];
-        return dsls.toArray(result);
+        return packageDefinitionsCache.getDsls(packagePath);
     }
 
     /**
@@ -84,15 +59,7 @@ public class GuidedRuleEditorServiceUtilities {
      * @return
      */
     public List<String> loadGlobalsForPackage(final Path path) {
-        final List<String> globals = new ArrayList<String>();
         final Path packagePath = moduleService.resolvePackage(path).getPackageMainResourcesPath();
-        final org.uberfire.java.nio.file.Path nioPackagePath = Paths.convert(packagePath);
-        final Collection<org.uberfire.java.nio.file.Path> globalPaths = fileDiscoveryService.discoverFiles(nioPackagePath,
-                                                                                                           FILTER_GLOBALS);
-        for (final org.uberfire.java.nio.file.Path globalPath : globalPaths) {
-            final String globalDefinition = ioService.readAllString(globalPath);
-            globals.add(globalDefinition);
-        }
-        return globals;
+        return packageDefinitionsCache.getGlobals(packagePath);
     }
 }
@@ -15,10 +15,6 @@
  */
 package org.drools.workbench.screens.guided.rule.backend.server.indexing;
 
-import java.io.IOException;
-import java.io.StringReader;
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -26,32 +22,24 @@ import javax.inject.Inject;
 
 import org.drools.compiler.lang.Expander;
 import org.drools.compiler.lang.dsl.DSLMappingFile;
-import org.drools.compiler.lang.dsl.DSLTokenizedMappingFile;
 import org.drools.compiler.lang.dsl.DefaultExpander;
+import org.drools.workbench.screens.guided.rule.backend.server.GuidedRuleEditorPackageDefinitionsCache;
 import org.drools.workbench.screens.guided.rule.type.GuidedRuleDSLRResourceTypeDefinition;
-import org.guvnor.common.services.backend.file.FileDiscoveryService;
 import org.kie.soup.project.datamodel.oracle.ModuleDataModelOracle;
-import org.kie.workbench.common.services.backend.file.DSLFileFilter;
 import org.kie.workbench.common.services.datamodel.backend.server.service.DataModelService;
 import org.kie.workbench.common.services.refactoring.backend.server.indexing.IndexBuilder;
 import org.kie.workbench.common.services.refactoring.backend.server.indexing.drools.AbstractDrlFileIndexer;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.uberfire.backend.server.util.Paths;
 import org.uberfire.java.nio.file.Path;
 
 @ApplicationScoped
 public class GuidedRuleDslrFileIndexer extends AbstractDrlFileIndexer {
 
-    private static final Logger logger = LoggerFactory.getLogger(GuidedRuleDslrFileIndexer.class);
-
-    private static final DSLFileFilter FILTER_DSLS = new DSLFileFilter();
-
     @Inject
     private DataModelService dataModelService;
 
     @Inject
-    private FileDiscoveryService fileDiscoveryService;
+    private GuidedRuleEditorPackageDefinitionsCache packageDefinitionsCache;
 
     @Inject
     private GuidedRuleDSLRResourceTypeDefinition dslrType;
@@ -86,26 +74,9 @@ public class GuidedRuleDslrFileIndexer extends AbstractDrlFileIndexer {
     }
 
     private List<DSLMappingFile> getDSLMappingFiles(final Path path) {
-        final List<DSLMappingFile> dsls = new ArrayList<DSLMappingFile>();
         final org.uberfire.backend.vfs.Path vfsPath = Paths.convert(path);
         final org.uberfire.backend.vfs.Path packagePath = moduleService.resolvePackage(vfsPath).getPackageMainResourcesPath();
-        final Path nioPackagePath = Paths.convert(packagePath);
-        final Collection<Path> dslPaths = fileDiscoveryService.discoverFiles(nioPackagePath,
-                                                                             FILTER_DSLS);
-        for (final Path dslPath : dslPaths) {
-            final String dslDefinition = ioService.readAllString(dslPath);
-            final DSLTokenizedMappingFile dslFile = new DSLTokenizedMappingFile();
-            try {
-                if (dslFile.parseAndLoad(new StringReader(dslDefinition))) {
-                    dsls.add(dslFile);
-                } else {
-                    logger.error("Unable to parse DSL definition: " + dslDefinition);
-                }
-            } catch (IOException ioe) {
-                logger.error(ioe.getMessage());
-            }
-        }
-        return dsls;
+        return packageDefinitionsCache.getDSLMappingFiles(packagePath);
     }
 
     /*
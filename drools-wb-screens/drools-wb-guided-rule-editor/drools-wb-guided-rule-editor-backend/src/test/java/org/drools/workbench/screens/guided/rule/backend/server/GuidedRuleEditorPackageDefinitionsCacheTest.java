@@ -0,0 +1,158 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.rule.backend.server;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.guvnor.common.services.backend.file.FileDiscoveryService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.services.backend.file.DSLFileFilter;
+import org.kie.workbench.common.services.backend.file.GlobalsFileFilter;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.backend.server.util.Paths;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.backend.vfs.PathFactory;
+import org.uberfire.io.IOService;
+import org.uberfire.rpc.SessionInfo;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GuidedRuleEditorPackageDefinitionsCacheTest {
+
+    @Mock
+    private IOService ioService;
+
+    @Mock
+    private FileDiscoveryService fileDiscoveryService;
+
+    private GuidedRuleEditorPackageDefinitionsCache cache;
+
+    private final Path packagePath = PathFactory.newPath("mypackage",
+                                                         "file:///mypackage");
+
+    private final Path globalsPath = PathFactory.newPath("globals.gdrl",
+                                                         "file:///mypackage/globals.gdrl");
+
+    private final Path dslPath = PathFactory.newPath("definitions.dsl",
+                                                     "file:///mypackage/definitions.dsl");
+
+    @Before
+    public void setup() {
+        cache = new GuidedRuleEditorPackageDefinitionsCache(ioService,
+                                                            fileDiscoveryService);
+
+        when(fileDiscoveryService.discoverFiles(any(org.uberfire.java.nio.file.Path.class),
+                                                isA(GlobalsFileFilter.class))).thenReturn(Collections.singletonList(Paths.convert(globalsPath)));
+        when(fileDiscoveryService.discoverFiles(any(org.uberfire.java.nio.file.Path.class),
+                                                isA(DSLFileFilter.class))).thenReturn(Collections.singletonList(Paths.convert(dslPath)));
+        when(ioService.readAllString(eq(Paths.convert(globalsPath)))).thenReturn("global java.util.List list;");
+        when(ioService.readAllString(eq(Paths.convert(dslPath)))).thenReturn("[when]There is a person=Person()");
+        when(ioService.exists(any(org.uberfire.java.nio.file.Path.class))).thenReturn(true);
+    }
+
+    @Test
+    public void testPackageDiscoveredOnce() {
+        assertEquals(Collections.singletonList("global java.util.List list;"),
+                     cache.getGlobals(packagePath));
+        assertArrayEquals(new String[]{"[when]There is a person=Person()"},
+                          cache.getDsls(packagePath));
+        assertEquals(1,
+                     cache.getDSLMappingFiles(packagePath).size());
+
+        cache.getGlobals(packagePath);
+        cache.getDsls(packagePath);
+
+        verify(fileDiscoveryService,
+               times(1)).discoverFiles(any(org.uberfire.java.nio.file.Path.class),
+                                       isA(GlobalsFileFilter.class));
+        verify(fileDiscoveryService,
+               times(1)).discoverFiles(any(org.uberfire.java.nio.file.Path.class),
+                                       isA(DSLFileFilter.class));
+    }
+
+    @Test
+    public void testGlobalUpdated() {
+        cache.getGlobals(packagePath);
+
+        when(ioService.readAllString(eq(Paths.convert(globalsPath)))).thenReturn("global java.util.Map map;");
+        cache.onResourceUpdated(new ResourceUpdatedEvent(globalsPath,
+                                                         "",
+                                                         mock(SessionInfo.class)));
+
+        assertEquals(Collections.singletonList("global java.util.Map map;"),
+                     cache.getGlobals(packagePath));
+    }
+
+    @Test
+    public void testDslAddedAndDeleted() {
+        cache.getDsls(packagePath);
+
+        final Path newDslPath = PathFactory.newPath("other.dsl",
+                                                    "file:///mypackage/other.dsl");
+        when(ioService.readAllString(eq(Paths.convert(newDslPath)))).thenReturn("[then]Log=System.out.println();");
+        cache.onResourceAdded(new ResourceAddedEvent(newDslPath,
+                                                     "",
+                                                     mock(SessionInfo.class)));
+
+        assertEquals(2,
+                     cache.getDsls(packagePath).length);
+        assertEquals(2,
+                     cache.getDSLMappingFiles(packagePath).size());
+
+        when(ioService.exists(eq(Paths.convert(dslPath)))).thenReturn(false);
+        cache.onResourceDeleted(new ResourceDeletedEvent(dslPath,
+                                                         "",
+                                                         mock(SessionInfo.class)));
+
+        assertArrayEquals(new String[]{"[then]Log=System.out.println();"},
+                          cache.getDsls(packagePath));
+    }
+
+    @Test
+    public void testUnrelatedResourceIgnored() {
+        cache.getGlobals(packagePath);
+
+        final Path rulePath = PathFactory.newPath("rule.rdrl",
+                                                  "file:///mypackage/rule.rdrl");
+        cache.onResourceUpdated(new ResourceUpdatedEvent(rulePath,
+                                                         "",
+                                                         mock(SessionInfo.class)));
+
+        //Only the initial discovery of the Package's globals and DSL definitions should have read files
+        verify(ioService,
+               times(2)).readAllString(any(org.uberfire.java.nio.file.Path.class));
+        final List<String> globals = cache.getGlobals(packagePath);
+        assertTrue(globals.contains("global java.util.List list;"));
+    }
+}
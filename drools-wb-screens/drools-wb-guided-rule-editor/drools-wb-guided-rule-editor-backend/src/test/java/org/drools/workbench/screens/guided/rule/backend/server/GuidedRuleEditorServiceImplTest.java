@@ -36,6 +36,7 @@ import org.drools.workbench.models.datamodel.rule.FreeFormLine;
 import org.drools.workbench.models.datamodel.rule.RuleModel;
 import org.drools.workbench.screens.guided.rule.model.GuidedEditorContent;
 import org.drools.workbench.screens.guided.rule.type.GuidedRuleDSLRResourceTypeDefinition;
+import org.drools.workbench.services.validation.backend.ValidationResultCache;
 import org.guvnor.common.services.backend.validation.GenericValidator;
 import org.guvnor.common.services.shared.metadata.model.Metadata;
 import org.guvnor.common.services.shared.metadata.model.Overview;
@@ -50,6 +51,7 @@ import org.kie.workbench.common.services.datamodel.backend.server.service.DataMo
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.uberfire.backend.vfs.Path;
 import org.uberfire.backend.vfs.PathFactory;
@@ -64,6 +66,7 @@ import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -81,6 +84,9 @@ public class GuidedRuleEditorServiceImplTest {
     @Mock
     private GenericValidator genericValidator;
 
+    @Spy
+    private ValidationResultCache validationResultCache = new ValidationResultCache();
+
     @InjectMocks
     GuidedRuleEditorServiceImpl service = new GuidedRuleEditorServiceImpl(sessionInfo,
                                                                           mock(Instance.class));
@@ -146,6 +152,7 @@ public class GuidedRuleEditorServiceImplTest {
         modifyAction.setText(MODIFY_SCORE_ACTION);
         final RuleModel model = new RuleModel();
         model.addRhsItem(modifyAction);
+        when(path.toURI()).thenReturn("default://project/src/main/resources/mypackage/rule.rdrl");
 
         service.validate(path, model);
 
@@ -155,6 +162,24 @@ public class GuidedRuleEditorServiceImplTest {
         Assertions.assertThat(capturedFileContent.getValue()).contains(MODIFY_SCORE_ACTION);
     }
 
+    @Test
+    public void testValidateUnchangedModelValidatedOnce() throws Exception {
+        final Path path = mock(Path.class);
+        final RuleModel model = new RuleModel();
+        model.name = "rule";
+        when(path.toURI()).thenReturn("default://project/src/main/resources/mypackage/rule.rdrl");
+
+        service.validate(path, model);
+        service.validate(path, model);
+
+        verify(genericValidator, times(1)).validate(eq(path), any(String.class));
+
+        model.name = "renamed";
+        service.validate(path, model);
+
+        verify(genericValidator, times(2)).validate(eq(path), any(String.class));
+    }
+
     @Test
     public void testLoadModifyScoreAction() throws Exception {
         final Path path = getPath("modifyScore.rdrl");
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.scorecard.backend.server;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.drools.workbench.models.guided.scorecard.backend.GuidedScoreCardDRLPersistence;
+import org.drools.workbench.models.guided.scorecard.backend.GuidedScoreCardXMLPersistence;
+import org.drools.workbench.models.guided.scorecard.shared.ScoreCardModel;
+import org.drools.workbench.services.cache.backend.LRUContentCache;
+import org.uberfire.backend.vfs.Path;
+
+/**
+ * Cache of the DRL generated for Guided Score Cards. Generating DRL builds a PMML document for the Score Card and
+ * compiles it, which is slow for Score Cards with many characteristics. The DRL is keyed on the Path of the Score
+ * Card and a hash of the model's XML.
+ */
+@ApplicationScoped
+public class GuidedScoreCardDRLCache extends LRUContentCache<String> {
+
+    static final int MAX_ENTRIES = 100;
+
+    public GuidedScoreCardDRLCache() {
+        super(MAX_ENTRIES);
+    }
+
+    /**
+     * Returns the DRL for a Score Card, generating it only if DRL has not already been generated for an identical
+     * model at the Path.
+     * @param path Path of the Score Card
+     * @param model The Score Card
+     * @return The generated DRL
+     */
+    public String getDRL(final Path path,
+                         final ScoreCardModel model) {
+        return get(path,
+                   GuidedScoreCardXMLPersistence.getInstance().marshal(model),
+                   () -> generateDRL(model));
+    }
+
+    //Delegate generation to method to assist testing
+    protected String generateDRL(final ScoreCardModel model) {
+        return GuidedScoreCardDRLPersistence.marshal(model);
+    }
+}
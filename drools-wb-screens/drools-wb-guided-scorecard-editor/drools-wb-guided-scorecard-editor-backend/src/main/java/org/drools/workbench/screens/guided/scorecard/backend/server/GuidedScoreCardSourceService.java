@@ -19,7 +19,6 @@ package org.drools.workbench.screens.guided.scorecard.backend.server;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
-import org.drools.workbench.models.guided.scorecard.backend.GuidedScoreCardDRLPersistence;
 import org.drools.workbench.models.guided.scorecard.shared.ScoreCardModel;
 import org.drools.workbench.screens.guided.scorecard.service.GuidedScoreCardEditorService;
 import org.drools.workbench.screens.guided.scorecard.type.GuidedScoreCardResourceTypeDefinition;
@@ -38,6 +37,9 @@ public class GuidedScoreCardSourceService
     @Inject
     private GuidedScoreCardEditorService guidedScoreCardEditorService;
 
+    @Inject
+    private GuidedScoreCardDRLCache drlCache;
+
     @Override
     public String getPattern() {
         return resourceType.getSuffix();
@@ -47,8 +49,8 @@ public class GuidedScoreCardSourceService
     public String getSource(final Path path,
                             final ScoreCardModel model) throws SourceGenerationFailedException {
         try {
-
-            return new StringBuilder().append(GuidedScoreCardDRLPersistence.marshal(model)).toString();
+            return drlCache.getDRL(Paths.convert(path),
+                                   model);
         } catch (Exception e) {
             throw new SourceGenerationFailedException(e.getMessage());
         }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.scorecard.backend.server;
+
+import org.drools.workbench.models.guided.scorecard.shared.Characteristic;
+import org.drools.workbench.models.guided.scorecard.shared.ScoreCardModel;
+import org.junit.Before;
+import org.junit.Test;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.backend.vfs.PathFactory;
+
+import static org.junit.Assert.assertEquals;
+
+public class GuidedScoreCardDRLCacheTest {
+
+    private GuidedScoreCardDRLCache cache;
+
+    private int generated;
+
+    private final Path path = PathFactory.newPath("scorecard.scgd",
+                                                  "default://master@repo/project/src/main/resources/scorecard.scgd");
+
+    @Before
+    public void setup() {
+        generated = 0;
+        cache = new GuidedScoreCardDRLCache() {
+            @Override
+            protected String generateDRL(final ScoreCardModel model) {
+                generated++;
+                return "rule \"" + model.getName() + "\"\nwhen\nthen\nend";
+            }
+        };
+    }
+
+    @Test
+    public void testKeyedOnModelXML() {
+        final String drl = cache.getDRL(path,
+                                        makeModel("scorecard1"));
+        assertEquals(drl,
+                     cache.getDRL(path,
+                                  makeModel("scorecard1")));
+        assertEquals(1,
+                     generated);
+
+        final ScoreCardModel model = makeModel("scorecard1");
+        final Characteristic characteristic = new Characteristic();
+        characteristic.setName("age");
+        model.getCharacteristics().add(characteristic);
+        cache.getDRL(path,
+                     model);
+
+        assertEquals(2,
+                     generated);
+    }
+
+    private ScoreCardModel makeModel(final String name) {
+        final ScoreCardModel model = new ScoreCardModel();
+        model.setName(name);
+        return model;
+    }
+}
@@ -33,6 +33,7 @@ import org.drools.workbench.screens.guided.rule.backend.server.GuidedRuleModelVi
 import org.drools.workbench.screens.guided.template.model.GuidedTemplateEditorContent;
 import org.drools.workbench.screens.guided.template.service.GuidedRuleTemplateEditorService;
 import org.drools.workbench.screens.guided.template.type.GuidedRuleTemplateResourceTypeDefinition;
+import org.drools.workbench.services.validation.backend.ValidationResultCache;
 import org.guvnor.common.services.backend.config.SafeSessionInfo;
 import org.guvnor.common.services.backend.exceptions.ExceptionUtilities;
 import org.guvnor.common.services.backend.util.CommentedOptionFactory;
@@ -87,6 +88,12 @@ public class GuidedRuleTemplateEditorServiceImpl
     @Inject
     private GenericValidator genericValidator;
 
+    @Inject
+    private ValidationResultCache validationResultCache;
+
+    @Inject
+    private GuidedRuleTemplateModelCache modelCache;
+
     @Inject
     private GuidedRuleTemplateResourceTypeDefinition resourceTypeDefinition;
 
@@ -142,7 +149,8 @@ public class GuidedRuleTemplateEditorServiceImpl
         try {
             final String content = ioService.readAllString(Paths.convert(path));
 
-            return (TemplateModel) RuleTemplateModelXMLPersistenceImpl.getInstance().unmarshal(content);
+            return modelCache.getModel(path,
+                                       content);
         } catch (Exception e) {
             throw ExceptionUtilities.handleException(e);
         }
@@ -283,7 +291,8 @@ public class GuidedRuleTemplateEditorServiceImpl
     public List<ValidationMessage> validate(final Path path) {
         try {
             final String content = ioService.readAllString(Paths.convert(path));
-            final TemplateModel model = RuleTemplateModelXMLPersistenceImpl.getInstance().unmarshal(content);
+            final TemplateModel model = modelCache.getModel(path,
+                                                            content);
             return validateTemplateVariables(path,
                                              model);
         } catch (Exception e) {
@@ -297,8 +306,11 @@ public class GuidedRuleTemplateEditorServiceImpl
         try {
             final List<ValidationMessage> messages = validateTemplateVariables(path,
                                                                                model);
-            messages.addAll(genericValidator.validate(path,
-                                                      RuleTemplateModelXMLPersistenceImpl.getInstance().marshal(model)));
+            final String source = RuleTemplateModelXMLPersistenceImpl.getInstance().marshal(model);
+            messages.addAll(validationResultCache.validate(path,
+                                                           source,
+                                                           () -> genericValidator.validate(path,
+                                                                                           source)));
             return messages;
         } catch (Exception e) {
             throw ExceptionUtilities.handleException(e);
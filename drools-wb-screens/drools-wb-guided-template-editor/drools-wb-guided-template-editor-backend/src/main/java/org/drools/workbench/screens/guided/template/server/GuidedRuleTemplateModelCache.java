@@ -0,0 +1,53 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.guided.template.server;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.drools.workbench.models.guided.template.backend.RuleTemplateModelXMLPersistenceImpl;
+import org.drools.workbench.models.guided.template.shared.TemplateModel;
+import org.drools.workbench.services.cache.backend.LRUContentCache;
+import org.uberfire.backend.vfs.Path;
+
+/**
+ * Cache of parsed Guided Rule Templates. Templates with many rows of data are expensive to unmarshal, and opening,
+ * validating, generating source for and indexing a template each need the parsed model. Models are keyed on the
+ * Path of the template and a hash of its XML.
+ */
+@ApplicationScoped
+public class GuidedRuleTemplateModelCache extends LRUContentCache<TemplateModel> {
+
+    static final int MAX_ENTRIES = 100;
+
+    public GuidedRuleTemplateModelCache() {
+        super(MAX_ENTRIES);
+    }
+
+    /**
+     * Returns the parsed model for a template's XML, unmarshalling it only if the same XML has not already been
+     * parsed for the Path.
+     * @param path Path of the template
+     * @param content XML content of the template
+     * @return The parsed model. The returned model is shared and must not be modified.
+     */
+    public TemplateModel getModel(final Path path,
+                                  final String content) {
+        return get(path,
+                   content,
+                   () -> RuleTemplateModelXMLPersistenceImpl.getInstance().unmarshal(content));
+    }
+}
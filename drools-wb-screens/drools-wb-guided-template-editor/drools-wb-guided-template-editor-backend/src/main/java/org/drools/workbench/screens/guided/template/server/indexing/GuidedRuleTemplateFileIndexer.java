@@ -18,8 +18,8 @@ package org.drools.workbench.screens.guided.template.server.indexing;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 
-import org.drools.workbench.models.guided.template.backend.RuleTemplateModelXMLPersistenceImpl;
 import org.drools.workbench.models.guided.template.shared.TemplateModel;
+import org.drools.workbench.screens.guided.template.server.GuidedRuleTemplateModelCache;
 import org.drools.workbench.screens.guided.template.type.GuidedRuleTemplateResourceTypeDefinition;
 import org.kie.workbench.common.services.refactoring.backend.server.indexing.AbstractFileIndexer;
 import org.kie.workbench.common.services.refactoring.backend.server.indexing.DefaultIndexBuilder;
@@ -32,6 +32,9 @@ public class GuidedRuleTemplateFileIndexer extends AbstractFileIndexer {
     @Inject
     protected GuidedRuleTemplateResourceTypeDefinition type;
 
+    @Inject
+    protected GuidedRuleTemplateModelCache modelCache;
+
     @Override
     public boolean supportsPath(final Path path) {
         return type.accept(Paths.convert(path));
@@ -40,7 +43,8 @@ public class GuidedRuleTemplateFileIndexer extends AbstractFileIndexer {
     @Override
     public DefaultIndexBuilder fillIndexBuilder(final Path path) throws Exception {
         final String content = ioService.readAllString(path);
-        final TemplateModel model = RuleTemplateModelXMLPersistenceImpl.getInstance().unmarshal(content);
+        final TemplateModel model = modelCache.getModel(Paths.convert(path),
+                                                        content);
 
         final DefaultIndexBuilder builder = getIndexBuilder(path);
         if (builder == null) {
@@ -20,6 +20,7 @@ import java.util.HashMap;
 
 import javax.enterprise.event.Event;
 
+import org.drools.workbench.models.guided.template.backend.RuleTemplateModelXMLPersistenceImpl;
 import org.drools.workbench.models.guided.template.shared.TemplateModel;
 import org.drools.workbench.screens.guided.template.model.GuidedTemplateEditorContent;
 import org.drools.workbench.screens.guided.template.type.GuidedRuleTemplateResourceTypeDefinition;
@@ -33,6 +34,7 @@ import org.kie.soup.project.datamodel.oracle.PackageDataModelOracle;
 import org.kie.workbench.common.services.datamodel.backend.server.service.DataModelService;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.uberfire.backend.vfs.Path;
 import org.uberfire.ext.editor.commons.backend.service.SaveAndRenameServiceImpl;
@@ -44,10 +46,13 @@ import org.uberfire.rpc.SessionInfo;
 import org.uberfire.workbench.events.ResourceOpenedEvent;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -75,6 +80,9 @@ public class GuidedRuleTemplateEditorServiceImplTest {
     @Mock
     private GenericValidator genericValidator;
 
+    @Spy
+    private GuidedRuleTemplateModelCache modelCache = new GuidedRuleTemplateModelCache();
+
     @Mock
     private GuidedRuleTemplateResourceTypeDefinition resourceTypeDefinition;
 
@@ -121,6 +129,25 @@ public class GuidedRuleTemplateEditorServiceImplTest {
         assertTrue(content.getDataModel().getCollectionTypes().containsKey("java.util.Set"));
     }
 
+    @Test
+    public void testLoadUnchangedTemplateParsedOnce() {
+        final Path path = mock(Path.class);
+        final TemplateModel model = new TemplateModel();
+        model.name = "template";
+        when(path.toURI()).thenReturn("default://project/src/main/resources/mypackage/rule.template");
+        when(ioService.readAllString(any(org.uberfire.java.nio.file.Path.class))).thenReturn(RuleTemplateModelXMLPersistenceImpl.getInstance().marshal(model));
+
+        final TemplateModel loaded = service.load(path);
+
+        assertEquals("template",
+                     loaded.name);
+        assertSame(loaded,
+                   service.load(path));
+        verify(modelCache,
+               times(2)).getModel(eq(path),
+                                  any(String.class));
+    }
+
     @Test
     public void testInit() throws Exception {
         service.init();
@@ -17,6 +17,7 @@ package org.drools.workbench.screens.guided.template.server.indexing;
 
 import javax.enterprise.context.ApplicationScoped;
 
+import org.drools.workbench.screens.guided.template.server.GuidedRuleTemplateModelCache;
 import org.drools.workbench.screens.guided.template.type.GuidedRuleTemplateResourceTypeDefinition;
 import org.kie.workbench.common.services.refactoring.backend.server.TestIndexer;
 import org.kie.workbench.common.services.shared.project.KieModuleService;
@@ -28,6 +29,10 @@ import org.uberfire.io.IOService;
 @ApplicationScoped
 public class TestGuidedRuleTemplateFileIndexer extends GuidedRuleTemplateFileIndexer implements TestIndexer<GuidedRuleTemplateResourceTypeDefinition> {
 
+    public TestGuidedRuleTemplateFileIndexer() {
+        this.modelCache = new GuidedRuleTemplateModelCache();
+    }
+
     @Override
     public void setIOService(final IOService ioService) {
         this.ioService = ioService;
@@ -17,6 +17,7 @@
 package org.drools.workbench.screens.scenariosimulation.model;
 
 import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
+import com.thoughtworks.xstream.annotations.XStreamOmitField;
 import org.jboss.errai.common.client.api.annotations.Portable;
 import org.kie.soup.project.datamodel.imports.HasImports;
 import org.kie.soup.project.datamodel.imports.Imports;
@@ -37,6 +38,12 @@ public class ScenarioSimulationModel
 
     private Imports imports = new Imports();
 
+    /**
+     * Error status changes produced by the last run of the simulation; not persisted
+     */
+    @XStreamOmitField
+    private SimulationErrorDelta errorDelta;
+
     public ScenarioSimulationModel() {
         createSimulation(Type.RULE, "default");
     }
@@ -65,6 +72,14 @@ public class ScenarioSimulationModel
         this.imports = imports;
     }
 
+    public SimulationErrorDelta getErrorDelta() {
+        return errorDelta;
+    }
+
+    public void setErrorDelta(SimulationErrorDelta errorDelta) {
+        this.errorDelta = errorDelta;
+    }
+
     public String getVersion() {
         return version;
     }
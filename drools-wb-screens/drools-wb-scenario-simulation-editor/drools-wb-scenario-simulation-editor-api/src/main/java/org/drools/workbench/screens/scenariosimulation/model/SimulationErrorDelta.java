@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.scenariosimulation.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+
+/**
+ * Compact description of the cells whose error status changed during a run of a {@link Simulation}. Each entry
+ * holds the scenario (row) index, the fact mapping (column) index and the new error status of the cell.
+ */
+@Portable
+public class SimulationErrorDelta {
+
+    private List<Integer> rowIndexes = new ArrayList<>();
+    private List<Integer> columnIndexes = new ArrayList<>();
+    private List<Boolean> errors = new ArrayList<>();
+
+    /**
+     * Returns the error status of every cell of the given <code>Simulation</code>, indexed by scenario and then
+     * by fact mapping
+     * @param simulation
+     * @return
+     */
+    public static boolean[][] getErrors(Simulation simulation) {
+        final List<Scenario> scenarios = simulation.getUnmodifiableScenarios();
+        final boolean[][] toReturn = new boolean[scenarios.size()][];
+        if (scenarios.isEmpty()) {
+            return toReturn;
+        }
+        final List<FactMapping> factMappings = simulation.getSimulationDescriptor().getUnmodifiableFactMappings();
+        int rowIndex = 0;
+        for (Scenario scenario : scenarios) {
+            final boolean[] rowErrors = new boolean[factMappings.size()];
+            for (int columnIndex = 0; columnIndex < factMappings.size(); columnIndex++) {
+                final FactMapping factMapping = factMappings.get(columnIndex);
+                final Optional<FactMappingValue> factMappingValue = scenario.getFactMappingValue(factMapping.getFactIdentifier(),
+                                                                                                 factMapping.getExpressionIdentifier());
+                rowErrors[columnIndex] = factMappingValue.isPresent() && factMappingValue.get().isError();
+            }
+            toReturn[rowIndex++] = rowErrors;
+        }
+        return toReturn;
+    }
+
+    /**
+     * Builds the delta between the error status previously returned by {@link #getErrors(Simulation)} and the
+     * current error status of the given <code>Simulation</code>
+     * @param previousErrors
+     * @param simulation
+     * @return
+     */
+    public static SimulationErrorDelta between(boolean[][] previousErrors, Simulation simulation) {
+        final SimulationErrorDelta toReturn = new SimulationErrorDelta();
+        final boolean[][] currentErrors = getErrors(simulation);
+        for (int rowIndex = 0; rowIndex < currentErrors.length; rowIndex++) {
+            final boolean[] previousRow = rowIndex < previousErrors.length ? previousErrors[rowIndex] : new boolean[0];
+            final boolean[] currentRow = currentErrors[rowIndex];
+            for (int columnIndex = 0; columnIndex < currentRow.length; columnIndex++) {
+                final boolean previous = columnIndex < previousRow.length && previousRow[columnIndex];
+                if (previous != currentRow[columnIndex]) {
+                    toReturn.add(rowIndex, columnIndex, currentRow[columnIndex]);
+                }
+            }
+        }
+        return toReturn;
+    }
+
+    public void add(int rowIndex, int columnIndex, boolean error) {
+        rowIndexes.add(rowIndex);
+        columnIndexes.add(columnIndex);
+        errors.add(error);
+    }
+
+    public int size() {
+        return errors.size();
+    }
+
+    public boolean isEmpty() {
+        return errors.isEmpty();
+    }
+
+    public int getRowIndex(int index) {
+        return rowIndexes.get(index);
+    }
+
+    public int getColumnIndex(int index) {
+        return columnIndexes.get(index);
+    }
+
+    public boolean isError(int index) {
+        return errors.get(index);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.scenariosimulation.model;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SimulationErrorDeltaTest {
+
+    Simulation simulation;
+    FactMappingValue firstValue;
+    FactMappingValue secondValue;
+
+    @Before
+    public void setup() {
+        simulation = new Simulation();
+        FactIdentifier factIdentifier = FactIdentifier.create("Test", String.class.getCanonicalName());
+        ExpressionIdentifier givenIdentifier = ExpressionIdentifier.create("Given", FactMappingType.GIVEN);
+        ExpressionIdentifier expectIdentifier = ExpressionIdentifier.create("Expect", FactMappingType.EXPECT);
+        simulation.getSimulationDescriptor().addFactMapping(factIdentifier, givenIdentifier);
+        simulation.getSimulationDescriptor().addFactMapping(factIdentifier, expectIdentifier);
+
+        Scenario firstScenario = simulation.addScenario();
+        firstValue = firstScenario.addMappingValue(factIdentifier, expectIdentifier, "FIRST");
+        Scenario secondScenario = simulation.addScenario();
+        secondValue = secondScenario.addMappingValue(factIdentifier, expectIdentifier, "SECOND");
+    }
+
+    @Test
+    public void getErrors() {
+        firstValue.setError(true);
+        boolean[][] errors = SimulationErrorDelta.getErrors(simulation);
+        assertEquals(2, errors.length);
+        assertArrayEquals(new boolean[]{false, true}, errors[0]);
+        assertArrayEquals(new boolean[]{false, false}, errors[1]);
+    }
+
+    @Test
+    public void between() {
+        firstValue.setError(true);
+        boolean[][] previousErrors = SimulationErrorDelta.getErrors(simulation);
+
+        assertTrue(SimulationErrorDelta.between(previousErrors, simulation).isEmpty());
+
+        firstValue.setError(false);
+        secondValue.setError(true);
+        SimulationErrorDelta errorDelta = SimulationErrorDelta.between(previousErrors, simulation);
+        assertEquals(2, errorDelta.size());
+        assertEquals(0, errorDelta.getRowIndex(0));
+        assertEquals(1, errorDelta.getColumnIndex(0));
+        assertFalse(errorDelta.isError(0));
+        assertEquals(1, errorDelta.getRowIndex(1));
+        assertEquals(1, errorDelta.getColumnIndex(1));
+        assertTrue(errorDelta.isError(1));
+    }
+
+    @Test
+    public void betweenAddedScenario() {
+        boolean[][] previousErrors = SimulationErrorDelta.getErrors(new Simulation());
+        secondValue.setError(true);
+        SimulationErrorDelta errorDelta = SimulationErrorDelta.between(previousErrors, simulation);
+        assertEquals(1, errorDelta.size());
+        assertEquals(1, errorDelta.getRowIndex(0));
+        assertTrue(errorDelta.isError(0));
+    }
+}
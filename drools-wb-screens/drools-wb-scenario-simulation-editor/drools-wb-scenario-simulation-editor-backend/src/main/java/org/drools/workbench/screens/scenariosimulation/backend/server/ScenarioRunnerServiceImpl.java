@@ -27,6 +27,7 @@ import javax.inject.Inject;
 import org.drools.workbench.screens.scenariosimulation.backend.server.runner.ScenarioRunnerImpl;
 import org.drools.workbench.screens.scenariosimulation.model.ScenarioSimulationModel;
 import org.drools.workbench.screens.scenariosimulation.model.Simulation;
+import org.drools.workbench.screens.scenariosimulation.model.SimulationErrorDelta;
 import org.drools.workbench.screens.scenariosimulation.service.ScenarioRunnerService;
 import org.guvnor.common.services.shared.test.Failure;
 import org.guvnor.common.services.shared.test.TestResultMessage;
@@ -89,7 +90,13 @@ public class ScenarioRunnerServiceImpl
 
         KieModule kieModule = getKieModule(path);
         KieContainer kieContainer = getKieContainer(kieModule);
-        Runner scenarioRunner = getRunnerSupplier().apply(kieContainer, model.getSimulation());
+        Simulation simulation = model.getSimulation();
+
+        //Errors are reset here, rather than by the client, so only the cells whose status changed are reported back
+        final boolean[][] previousErrors = SimulationErrorDelta.getErrors(simulation);
+        simulation.resetErrors();
+
+        Runner scenarioRunner = getRunnerSupplier().apply(kieContainer, simulation);
 
         final List<Failure> failures = new ArrayList<>();
 
@@ -104,6 +111,9 @@ public class ScenarioRunnerServiceImpl
                         result.getRunTime(),
                         failures));
 
+        model.setErrorDelta(SimulationErrorDelta.between(previousErrors,
+                                                         simulation));
+
         return model;
     }
 
@@ -50,12 +50,11 @@ public class SetInstanceHeaderCommand extends AbstractScenarioSimulationCommand
         String className = status.getClassName();
         String canonicalClassName = fullPackage + className;
         FactIdentifier factIdentifier = getFactIdentifierByColumnTitle(className, context).orElse(FactIdentifier.create(selectedColumn.getInformationHeaderMetaData().getColumnId(), canonicalClassName));
-        final ScenarioHeaderMetaData informationHeaderMetaData = selectedColumn.getInformationHeaderMetaData();
-        informationHeaderMetaData.setTitle(className);
+        context.getModel().setInstanceHeaderTitle(selectedColumn, className);
         selectedColumn.setInstanceAssigned(true);
         final ScenarioHeaderMetaData propertyHeaderMetaData = selectedColumn.getPropertyHeaderMetaData();
         selectedColumn.setPlaceHolder(ScenarioSimulationEditorConstants.INSTANCE.defineValidType());
-        propertyHeaderMetaData.setTitle(getPropertyPlaceHolder(columnIndex));
+        context.getModel().setPropertyHeaderTitle(selectedColumn, getPropertyPlaceHolder(columnIndex));
         propertyHeaderMetaData.setReadOnly(false);
         selectedColumn.setFactIdentifier(factIdentifier);
         context.getModel().updateColumnInstance(columnIndex, selectedColumn);
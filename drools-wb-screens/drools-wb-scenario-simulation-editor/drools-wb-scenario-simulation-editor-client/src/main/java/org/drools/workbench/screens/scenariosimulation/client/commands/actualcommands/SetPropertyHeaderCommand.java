@@ -58,7 +58,7 @@ public class SetPropertyHeaderCommand extends AbstractScenarioSimulationCommand
                 .forEach(index -> {
                     final ScenarioGridColumn scenarioGridColumn = (ScenarioGridColumn) context.getModel().getColumns().get(index);
                     if (!scenarioGridColumn.isInstanceAssigned()) { // We have not defined the instance, yet
-                        scenarioGridColumn.getInformationHeaderMetaData().setTitle(className);
+                        context.getModel().setInstanceHeaderTitle(scenarioGridColumn, className);
                         scenarioGridColumn.setInstanceAssigned(true);
                         scenarioGridColumn.setFactIdentifier(factIdentifier);
                     }
@@ -66,7 +66,7 @@ public class SetPropertyHeaderCommand extends AbstractScenarioSimulationCommand
         String placeHolder = ScenarioSimulationEditorConstants.INSTANCE.insertValue();
         selectedColumn.setPlaceHolder(placeHolder);
         selectedColumn.getPropertyHeaderMetaData().setColumnGroup(getPropertyMetaDataGroup(selectedColumn.getInformationHeaderMetaData().getColumnGroup()));
-        selectedColumn.getPropertyHeaderMetaData().setTitle(title);
+        context.getModel().setPropertyHeaderTitle(selectedColumn, title);
         selectedColumn.getPropertyHeaderMetaData().setReadOnly(false);
         selectedColumn.setPropertyAssigned(true);
         context.getModel().updateColumnProperty(columnIndex,
@@ -41,6 +41,7 @@ import org.drools.workbench.screens.scenariosimulation.client.widgets.ScenarioGr
 import org.drools.workbench.screens.scenariosimulation.model.ScenarioSimulationModel;
 import org.drools.workbench.screens.scenariosimulation.model.ScenarioSimulationModelContent;
 import org.drools.workbench.screens.scenariosimulation.model.Simulation;
+import org.drools.workbench.screens.scenariosimulation.model.SimulationErrorDelta;
 import org.drools.workbench.screens.scenariosimulation.service.ScenarioSimulationService;
 import org.guvnor.common.services.shared.metadata.model.Metadata;
 import org.jboss.errai.common.client.api.Caller;
@@ -243,7 +244,7 @@ public class ScenarioSimulationEditorPresenter
     }
 
     public void onRunScenario() {
-        view.getScenarioGridPanel().getScenarioGrid().getModel().resetErrors();
+        //Errors are reset by the runner, which reports back only the cells whose status changed
         service.call(refreshModel()).runScenario(versionRecordManager.getCurrentPath(), model);
     }
 
@@ -275,7 +276,14 @@ public class ScenarioSimulationEditorPresenter
     protected void refreshModelContent(ScenarioSimulationModel newModel) {
         this.model = newModel;
         final Simulation simulation = newModel.getSimulation();
-        view.refreshContent(simulation);
+        final SimulationErrorDelta errorDelta = newModel.getErrorDelta();
+        if (errorDelta != null) {
+            //The delta is only meaningful for this run and must not affect the dirty check
+            newModel.setErrorDelta(null);
+            view.refreshErrors(simulation, errorDelta);
+        } else {
+            view.refreshContent(simulation);
+        }
         context.getStatus().setSimulation(simulation);
         scenarioSimulationDocksHandler.expandTestResultsDock();
     }
@@ -23,6 +23,7 @@ import com.google.gwt.user.client.ui.RequiresResize;
 import org.drools.workbench.screens.scenariosimulation.client.widgets.ScenarioGridLayer;
 import org.drools.workbench.screens.scenariosimulation.client.widgets.ScenarioGridPanel;
 import org.drools.workbench.screens.scenariosimulation.model.Simulation;
+import org.drools.workbench.screens.scenariosimulation.model.SimulationErrorDelta;
 import org.kie.workbench.common.widgets.metadata.client.KieEditorView;
 import org.uberfire.backend.vfs.Path;
 import org.uberfire.workbench.model.menu.MenuItem;
@@ -37,6 +38,9 @@ public interface ScenarioSimulationView extends KieEditorView,
 
     void refreshContent(final Simulation simulation);
 
+    void refreshErrors(final Simulation simulation,
+                       final SimulationErrorDelta errorDelta);
+
     MenuItem getRunScenarioMenuItem();
 
     MenuItem getUndoMenuItem();
@@ -21,9 +21,11 @@ import java.util.function.Supplier;
 import javax.enterprise.context.Dependent;
 
 import com.google.gwt.user.client.ui.Widget;
+import org.drools.workbench.screens.scenariosimulation.client.models.ScenarioGridModel;
 import org.drools.workbench.screens.scenariosimulation.client.widgets.ScenarioGridLayer;
 import org.drools.workbench.screens.scenariosimulation.client.widgets.ScenarioGridPanel;
 import org.drools.workbench.screens.scenariosimulation.model.Simulation;
+import org.drools.workbench.screens.scenariosimulation.model.SimulationErrorDelta;
 import org.gwtbootstrap3.client.ui.constants.IconType;
 import org.kie.workbench.common.widgets.metadata.client.KieEditorViewImpl;
 import org.uberfire.backend.vfs.Path;
@@ -83,6 +85,21 @@ public class ScenarioSimulationViewImpl
         refreshErrors();
     }
 
+    /**
+     * Bind the given <code>Simulation</code> and apply only the changed error statuses; the grid is redrawn only
+     * if at least one cell changed
+     * @param simulation
+     * @param errorDelta
+     */
+    @Override
+    public void refreshErrors(Simulation simulation, SimulationErrorDelta errorDelta) {
+        final ScenarioGridModel model = scenarioGridPanel.getScenarioGrid().getModel();
+        model.bindContent(simulation);
+        if (!model.refreshErrors(errorDelta).isEmpty()) {
+            scenarioGridLayer.batch();
+        }
+    }
+
     @Override
     public MenuItem getRunScenarioMenuItem() {
         if (runMenuItem == null) {
@@ -17,6 +17,9 @@ package org.drools.workbench.screens.scenariosimulation.client.models;
 
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -43,6 +46,7 @@ import org.drools.workbench.screens.scenariosimulation.model.FactMappingValue;
 import org.drools.workbench.screens.scenariosimulation.model.Scenario;
 import org.drools.workbench.screens.scenariosimulation.model.Simulation;
 import org.drools.workbench.screens.scenariosimulation.model.SimulationDescriptor;
+import org.drools.workbench.screens.scenariosimulation.model.SimulationErrorDelta;
 import org.uberfire.ext.wires.core.grids.client.model.GridCell;
 import org.uberfire.ext.wires.core.grids.client.model.GridCellValue;
 import org.uberfire.ext.wires.core.grids.client.model.GridColumn;
@@ -64,6 +68,26 @@ public class ScenarioGridModel extends BaseGridData {
 
     protected Set<String> dataObjectsInstancesName;
 
+    /**
+     * <code>Scenario</code>s whose grid cells currently show errors
+     */
+    protected Set<Scenario> scenariosWithErrors = new HashSet<>();
+
+    /**
+     * <code>true</code> when cells may show errors not tracked by <code>scenariosWithErrors</code>, e.g. after binding a new <code>Simulation</code>
+     */
+    protected boolean untrackedErrors = true;
+
+    /**
+     * Grid columns by the title of their <i>instance</i> header, built on first use and then kept updated by the column and header methods of this model
+     */
+    protected Map<String, List<GridColumn<?>>> columnsByInstanceTitle;
+
+    /**
+     * Grid columns by the title of their <i>property</i> header, built on first use and then kept updated by the column and header methods of this model
+     */
+    protected Map<String, List<GridColumn<?>>> columnsByPropertyTitle;
+
     public ScenarioGridModel() {
     }
 
@@ -79,6 +103,8 @@ public class ScenarioGridModel extends BaseGridData {
     public void bindContent(Simulation simulation) {
         this.simulation = simulation;
         checkSimulation();
+        scenariosWithErrors.clear();
+        untrackedErrors = true;
         columnCounter.set(simulation.getSimulationDescriptor().getUnmodifiableFactMappings().size());
     }
 
@@ -134,7 +160,7 @@ public class ScenarioGridModel extends BaseGridData {
                 throw new UnsupportedOperationException("Only string is supported at the moment");
             }
         });
-        updateIndexColumn();
+        updateIndexColumn(rowIndex);
     }
 
     /**
@@ -157,7 +183,7 @@ public class ScenarioGridModel extends BaseGridData {
         checkSimulation();
         Range toReturn = super.deleteRow(rowIndex);
         simulation.removeScenarioByIndex(rowIndex);
-        updateIndexColumn();
+        updateIndexColumn(rowIndex);
         return toReturn;
     }
 
@@ -181,6 +207,7 @@ public class ScenarioGridModel extends BaseGridData {
     public void insertColumnGridOnly(final int index, final GridColumn<?> column) {
         checkSimulation();
         super.insertColumn(index, column);
+        indexColumn(column);
     }
 
     /**
@@ -201,6 +228,7 @@ public class ScenarioGridModel extends BaseGridData {
     public void deleteColumn(int columnIndex) {
         checkSimulation();
         final GridColumn<?> toDelete = getColumns().get(columnIndex);
+        unindexColumn(toDelete);
         deleteColumn(toDelete);
         simulation.removeFactMappingByIndex(columnIndex);
     }
@@ -385,7 +413,7 @@ public class ScenarioGridModel extends BaseGridData {
             });
             eventBus.fireEvent(new ReloadRightPanelEvent(false));
         } else {
-            editedMetadata.setTitle(value);
+            setHeaderTitle((ScenarioGridColumn) getColumns().get(columnIndex), editedMetadata, value);
             factMappingToEdit.setExpressionAlias(value);
         }
     }
@@ -398,6 +426,8 @@ public class ScenarioGridModel extends BaseGridData {
                 .forEach(super::deleteRow);
         List<GridColumn<?>> copyList = new ArrayList<>(getColumns());
         copyList.forEach(super::deleteColumn);
+        columnsByInstanceTitle = null;
+        columnsByPropertyTitle = null;
         // clear can be called before bind
         if (simulation != null) {
             simulation.clear();
@@ -438,6 +468,24 @@ public class ScenarioGridModel extends BaseGridData {
         IntStream.range(0, columns).forEach(columnIndex -> selectCell(rowIndex, columnIndex));
     }
 
+    /**
+     * Set the title of the <i>instance</i> header of the given grid column, keeping the title index updated
+     * @param column
+     * @param title
+     */
+    public void setInstanceHeaderTitle(ScenarioGridColumn column, String title) {
+        setHeaderTitle(column, column.getInformationHeaderMetaData(), title);
+    }
+
+    /**
+     * Set the title of the <i>property</i> header of the given grid column, keeping the title index updated
+     * @param column
+     * @param title
+     */
+    public void setPropertyHeaderTitle(ScenarioGridColumn column, String title) {
+        setHeaderTitle(column, column.getPropertyHeaderMetaData(), title);
+    }
+
     public GridColumn<?> getSelectedColumn() {
         return selectedColumn;
     }
@@ -520,18 +568,60 @@ public class ScenarioGridModel extends BaseGridData {
         return isValid;
     }
 
+    /**
+     * Reset the errors of all the <code>Scenario</code>s and grid cells in a single pass, visiting only the rows known
+     * to carry errors. Resetting a grid without errors does nothing.
+     */
     public void resetErrors() {
-        IntStream.range(0, getRowCount()).forEach(this::resetErrors);
+        if (!untrackedErrors && scenariosWithErrors.isEmpty()) {
+            return;
+        }
+        int rowIndex = 0;
+        for (Scenario scenario : simulation.getUnmodifiableScenarios()) {
+            if (untrackedErrors || scenariosWithErrors.contains(scenario)) {
+                scenario.resetErrors();
+                if (rowIndex < getRowCount()) {
+                    resetErrorsRow(rowIndex);
+                }
+            }
+            rowIndex++;
+        }
+        scenariosWithErrors.clear();
+        untrackedErrors = false;
     }
 
     public void resetErrors(int rowIndex) {
         Scenario scenarioByIndex = simulation.getScenarioByIndex(rowIndex);
         scenarioByIndex.resetErrors();
-        refreshErrors();
+        refreshErrorsRow(rowIndex);
     }
 
     public void refreshErrors() {
         IntStream.range(0, getRowCount()).forEach(this::refreshErrorsRow);
+        untrackedErrors = false;
+    }
+
+    /**
+     * Apply only the error status changes of the given <code>SimulationErrorDelta</code>, leaving all other cells untouched
+     * @param errorDelta
+     * @return the indexes of the rows containing at least one changed cell
+     */
+    public Set<Integer> refreshErrors(SimulationErrorDelta errorDelta) {
+        final Set<Integer> toReturn = new HashSet<>();
+        for (int index = 0; index < errorDelta.size(); index++) {
+            final int rowIndex = errorDelta.getRowIndex(index);
+            final int columnIndex = errorDelta.getColumnIndex(index);
+            if (rowIndex >= getRowCount() || columnIndex >= getColumnCount()) {
+                continue;
+            }
+            ScenarioGridCell cell = (ScenarioGridCell) getCell(rowIndex, columnIndex);
+            if (cell != null) {
+                cell.setErrorMode(errorDelta.isError(index));
+                toReturn.add(rowIndex);
+                untrackedErrors |= errorDelta.isError(index);
+            }
+        }
+        return toReturn;
     }
 
     /**
@@ -557,11 +647,11 @@ public class ScenarioGridModel extends BaseGridData {
         final FactIdentifier factIdentifierToCheck = factMappingToCheck.getFactIdentifier();
         if (Objects.equals(FactIdentifier.EMPTY, factIdentifierReference)) {
             if (Objects.equals(factIdentifierToCheck, factIdentifierReference) && Objects.equals(factMappingReference.getFactAlias(), factMappingToCheck.getFactAlias())) {
-                ((ScenarioGridColumn) columns.get(index)).getInformationHeaderMetaData().setTitle(value);
+                setInstanceHeaderTitle((ScenarioGridColumn) columns.get(index), value);
                 factMappingToCheck.setFactAlias(value);
             }
         } else if (Objects.equals(factIdentifierToCheck, factIdentifierReference)) {
-            ((ScenarioGridColumn) columns.get(index)).getInformationHeaderMetaData().setTitle(value);
+            setInstanceHeaderTitle((ScenarioGridColumn) columns.get(index), value);
             factMappingToCheck.setFactAlias(value);
         }
     }
@@ -599,6 +689,7 @@ public class ScenarioGridModel extends BaseGridData {
             } else {
                 super.insertColumn(index, column);
             }
+            indexColumn(column);
             final Range instanceLimits = getInstanceLimits(columnIndex);
             IntStream.range(instanceLimits.getMinRowIndex(), instanceLimits.getMaxRowIndex() + 1)
                     .filter(currentIndex -> currentIndex != columnIndex)
@@ -625,22 +716,24 @@ public class ScenarioGridModel extends BaseGridData {
             String placeHolder = ((ScenarioGridColumn) columns.get(columnIndex)).isPropertyAssigned() ? ScenarioSimulationEditorConstants.INSTANCE.insertValue() : ScenarioSimulationEditorConstants.INSTANCE.defineValidType();
             setCell(rowIndex, columnIndex, () -> new ScenarioGridCell(new ScenarioGridCellValue(null, placeHolder)));
         });
-        updateIndexColumn();
+        updateIndexColumn(rowIndex);
     }
 
-    protected void updateIndexColumn() {
-        final Optional<GridColumn<?>> indexColumn = this.getColumns()    // Retrieving the column list
-                .stream()  // streaming
-                .filter(gridColumn -> ((ScenarioGridColumn) gridColumn).getInformationHeaderMetaData().getTitle().equals(FactIdentifier.INDEX.getName()))  // filtering by group name
-                .findFirst();
-        indexColumn.ifPresent(column -> {
-            int indexOfColumn = getColumns().indexOf(column);
-            IntStream.range(0, getRowCount())
-                    .forEach(rowIndex -> {
-                        String value = String.valueOf(rowIndex + 1);
-                        setCellValue(rowIndex, indexOfColumn, new ScenarioGridCellValue(value));
-                    });
-        });
+    /**
+     * Renumber the <i>index</i> column from the given row to the last one: rows above an inserted/deleted row keep their number
+     * @param fromRowIndex
+     */
+    protected void updateIndexColumn(int fromRowIndex) {
+        final List<GridColumn<?>> indexColumns = getColumnsByInstanceTitle().get(FactIdentifier.INDEX.getName());
+        if (indexColumns == null || indexColumns.isEmpty()) {
+            return;
+        }
+        int indexOfColumn = getColumns().indexOf(indexColumns.get(0));
+        IntStream.range(Math.max(fromRowIndex, 0), getRowCount())
+                .forEach(rowIndex -> {
+                    String value = String.valueOf(rowIndex + 1);
+                    setCellValue(rowIndex, indexOfColumn, new ScenarioGridCellValue(value));
+                });
     }
 
     protected void checkSimulation() {
@@ -648,30 +741,66 @@ public class ScenarioGridModel extends BaseGridData {
     }
 
     protected boolean isUnique(String value, int rowIndex, int columnIndex) {
+        // Only the columns already titled with the given value are checked
+        final List<GridColumn<?>> sameTitleColumns = getColumnsByInstanceTitle().get(value);
+        if (sameTitleColumns == null || sameTitleColumns.isEmpty()) {
+            return true;
+        }
         Range instanceLimits = getInstanceLimits(columnIndex);
         SimulationDescriptor simulationDescriptor = simulation.getSimulationDescriptor();
         FactIdentifier factIdentifier = simulationDescriptor.getFactMappingByIndex(columnIndex).getFactIdentifier();
-        return IntStream.range(0, getColumnCount())
-                .filter(index -> index < instanceLimits.getMinRowIndex() || index > instanceLimits.getMaxRowIndex())
-                .filter(index -> !Objects.equals(factIdentifier, simulationDescriptor.getFactMappingByIndex(index).getFactIdentifier()))
-                .mapToObj(index -> getColumns().get(index))
+        return sameTitleColumns.stream()
                 .filter(elem -> elem.getHeaderMetaData().size() > rowIndex)
-                .map(elem -> (ScenarioHeaderMetaData) elem.getHeaderMetaData().get(rowIndex))
-                .noneMatch(elem -> Objects.equals(elem.getTitle(), value));
+                .filter(elem -> Objects.equals(((ScenarioHeaderMetaData) elem.getHeaderMetaData().get(rowIndex)).getTitle(), value))
+                .mapToInt(elem -> getColumns().indexOf(elem))
+                .filter(index -> index < instanceLimits.getMinRowIndex() || index > instanceLimits.getMaxRowIndex())
+                .allMatch(index -> Objects.equals(factIdentifier, simulationDescriptor.getFactMappingByIndex(index).getFactIdentifier()));
     }
 
     protected boolean isNewInstanceName(String value) {
-        return getColumns().stream()
-                .map(elem -> ((ScenarioGridColumn) elem).getInformationHeaderMetaData())
-                .filter(Objects::nonNull)
-                .noneMatch(elem -> Objects.equals(elem.getTitle(), value));
+        return !getColumnsByInstanceTitle().containsKey(value);
+    }
+
+    protected boolean isNewPropertyName(String value) {
+        return !getColumnsByPropertyTitle().containsKey(value);
+    }
+
+    protected Map<String, List<GridColumn<?>>> getColumnsByInstanceTitle() {
+        if (columnsByInstanceTitle == null) {
+            buildTitleIndexes();
+        }
+        return columnsByInstanceTitle;
+    }
+
+    protected Map<String, List<GridColumn<?>>> getColumnsByPropertyTitle() {
+        if (columnsByPropertyTitle == null) {
+            buildTitleIndexes();
+        }
+        return columnsByPropertyTitle;
+    }
+
+    /**
+     * Index the given grid column by its current <i>instance</i> and <i>property</i> titles. Nothing is done before the indexes are first built
+     * @param column
+     */
+    protected void indexColumn(GridColumn<?> column) {
+        if (columnsByInstanceTitle == null || columnsByPropertyTitle == null) {
+            return;
+        }
+        addToTitleIndex(columnsByInstanceTitle, ((ScenarioGridColumn) column).getInformationHeaderMetaData(), column);
+        addToTitleIndex(columnsByPropertyTitle, ((ScenarioGridColumn) column).getPropertyHeaderMetaData(), column);
     }
 
-    protected  boolean isNewPropertyName(String value) {
-        return getColumns().stream()
-                .map(elem -> ((ScenarioGridColumn) elem).getPropertyHeaderMetaData())
-                .filter(Objects::nonNull)
-                .noneMatch(elem -> Objects.equals(elem.getTitle(), value));
+    /**
+     * Remove the given grid column from the indexes, under its current <i>instance</i> and <i>property</i> titles
+     * @param column
+     */
+    protected void unindexColumn(GridColumn<?> column) {
+        if (columnsByInstanceTitle == null || columnsByPropertyTitle == null) {
+            return;
+        }
+        removeFromTitleIndex(columnsByInstanceTitle, ((ScenarioGridColumn) column).getInformationHeaderMetaData(), column);
+        removeFromTitleIndex(columnsByPropertyTitle, ((ScenarioGridColumn) column).getPropertyHeaderMetaData(), column);
     }
 
     protected boolean isDataObjectInstanceName(String value) {
@@ -685,19 +814,71 @@ public class ScenarioGridModel extends BaseGridData {
     protected void refreshErrorsRow(int rowIndex) {
         SimulationDescriptor simulationDescriptor = simulation.getSimulationDescriptor();
         Scenario scenarioByIndex = simulation.getScenarioByIndex(rowIndex);
-        IntStream.range(0, getColumnCount()).forEach(columnIndex -> {
+        boolean rowWithErrors = false;
+        for (int columnIndex = 0; columnIndex < getColumnCount(); columnIndex++) {
             ScenarioGridCell cell = (ScenarioGridCell) getCell(rowIndex, columnIndex);
             if (cell == null) {
-                return;
+                continue;
             }
             final FactMapping factMappingByIndex = simulationDescriptor.getFactMappingByIndex(columnIndex);
             Optional<FactMappingValue> factMappingValue = scenarioByIndex.getFactMappingValue(factMappingByIndex.getFactIdentifier(), factMappingByIndex.getExpressionIdentifier());
-            if (factMappingValue.isPresent()) {
-                cell.setErrorMode(factMappingValue.get().isError());
-            } else {
+            boolean error = factMappingValue.isPresent() && factMappingValue.get().isError();
+            cell.setErrorMode(error);
+            rowWithErrors |= error;
+        }
+        if (rowWithErrors) {
+            scenariosWithErrors.add(scenarioByIndex);
+        } else {
+            scenariosWithErrors.remove(scenarioByIndex);
+        }
+    }
+
+    protected void resetErrorsRow(int rowIndex) {
+        for (int columnIndex = 0; columnIndex < getColumnCount(); columnIndex++) {
+            ScenarioGridCell cell = (ScenarioGridCell) getCell(rowIndex, columnIndex);
+            if (cell != null) {
                 cell.setErrorMode(false);
             }
-        });
+        }
+    }
+
+    private void setHeaderTitle(ScenarioGridColumn column, ScenarioHeaderMetaData headerMetaData, String title) {
+        unindexColumn(column);
+        headerMetaData.setTitle(title);
+        indexColumn(column);
+    }
+
+    private void buildTitleIndexes() {
+        columnsByInstanceTitle = new HashMap<>();
+        columnsByPropertyTitle = new HashMap<>();
+        getColumns().forEach(this::indexColumn);
+    }
+
+    private void addToTitleIndex(Map<String, List<GridColumn<?>>> titleIndex, ScenarioHeaderMetaData headerMetaData, GridColumn<?> column) {
+        if (headerMetaData == null) {
+            return;
+        }
+        titleIndex.computeIfAbsent(headerMetaData.getTitle(), title -> new ArrayList<>()).add(column);
+    }
+
+    private void removeFromTitleIndex(Map<String, List<GridColumn<?>>> titleIndex, ScenarioHeaderMetaData headerMetaData, GridColumn<?> column) {
+        if (headerMetaData == null) {
+            return;
+        }
+        final List<GridColumn<?>> indexed = titleIndex.get(headerMetaData.getTitle());
+        if (indexed == null) {
+            return;
+        }
+        // Only one occurrence is removed, by identity
+        for (Iterator<GridColumn<?>> iterator = indexed.iterator(); iterator.hasNext(); ) {
+            if (iterator.next() == column) {
+                iterator.remove();
+                break;
+            }
+        }
+        if (indexed.isEmpty()) {
+            titleIndex.remove(headerMetaData.getTitle());
+        }
     }
 
     // Helper method to avoid potential NPE
@@ -17,9 +17,13 @@
 package org.drools.workbench.screens.scenariosimulation.client.rightpanel;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.PostConstruct;
 import javax.enterprise.context.Dependent;
@@ -27,6 +31,7 @@ import javax.inject.Inject;
 
 import com.google.gwt.dom.client.DivElement;
 import com.google.gwt.event.shared.EventBus;
+import com.google.gwt.user.client.ui.UIObject;
 import com.google.gwt.user.client.ui.Widget;
 import org.drools.workbench.screens.scenariosimulation.client.events.SetInstanceHeaderEvent;
 import org.drools.workbench.screens.scenariosimulation.client.events.SetPropertyHeaderEvent;
@@ -58,6 +63,26 @@ public class RightPanelPresenter implements RightPanelView.Presenter {
 
     protected Map<String, FactModelTree> instanceFieldsMap;
 
+    /**
+     * <code>DivElement</code>s currently attached to the data objects' list, keyed by fact name. Searching shows/hides them instead of rebuilding the list
+     */
+    protected Map<String, DivElement> dataObjectListGroupItems = new HashMap<>();
+
+    /**
+     * <code>DivElement</code>s currently attached to the instances' list, keyed by instance name. Searching shows/hides them instead of rebuilding the list
+     */
+    protected Map<String, DivElement> instanceListGroupItems = new HashMap<>();
+
+    /**
+     * Lowercase search text of each fact name, built once when the element is added to the data objects' list
+     */
+    protected Map<String, String> dataObjectSearchIndex = new HashMap<>();
+
+    /**
+     * Lowercase search text of each instance name, built once when the element is added to the instances' list
+     */
+    protected Map<String, String> instanceSearchIndex = new HashMap<>();
+
     protected EventBus eventBus;
 
     protected boolean editingColumnEnabled = false;
@@ -118,11 +143,15 @@ public class RightPanelPresenter implements RightPanelView.Presenter {
     @Override
     public void clearDataObjectList() {
         view.getDataObjectListContainer().removeAllChildren();
+        dataObjectListGroupItems.clear();
+        dataObjectSearchIndex.clear();
     }
 
     @Override
     public void clearInstanceList() {
         view.getInstanceListContainer().removeAllChildren();
+        instanceListGroupItems.clear();
+        instanceSearchIndex.clear();
     }
 
     @Override
@@ -161,52 +190,31 @@ public class RightPanelPresenter implements RightPanelView.Presenter {
 
     @Override
     public void onSearchedEvent(String search) {
-        clearDataObjectList();
-        clearInstanceList();
-        if (dataObjectFieldsMap.isEmpty()) {
-            return;
-        }
-        dataObjectFieldsMap
-                .entrySet()
-                .stream()
-                .filter(entry -> entry.getKey().toLowerCase().contains(search.toLowerCase()))
-                .forEach(filteredEntry -> addDataObjectListGroupItemView(filteredEntry.getKey(), filteredEntry.getValue()));
-        instanceFieldsMap
-                .entrySet()
-                .stream()
-                .filter(entry -> entry.getKey().toLowerCase().contains(search.toLowerCase()))
-                .forEach(filteredEntry -> addInstanceListGroupItemView(filteredEntry.getKey(), filteredEntry.getValue()));
+        final String lowerCaseSearch = search.toLowerCase();
+        filterListGroupItems(key -> dataObjectSearchIndex.getOrDefault(key, key.toLowerCase()).contains(lowerCaseSearch),
+                             key -> instanceSearchIndex.getOrDefault(key, key.toLowerCase()).contains(lowerCaseSearch));
     }
 
     @Override
     public void onPerfectMatchSearchedEvent(String search, boolean notEqualsSearch) {
-        clearDataObjectList();
-        clearInstanceList();
-        if (dataObjectFieldsMap.isEmpty()) {
-            return;
-        }
-        dataObjectFieldsMap
-                .entrySet()
-                .stream()
-                .filter(entry -> filterTerm(entry.getKey(), search, notEqualsSearch))
-                .forEach(filteredEntry -> addDataObjectListGroupItemView(filteredEntry.getKey(), filteredEntry.getValue()));
-        instanceFieldsMap
-                .entrySet()
-                .stream()
-                .filter(entry -> filterTerm(entry.getKey(), search, notEqualsSearch))
-                .forEach(filteredEntry -> addInstanceListGroupItemView(filteredEntry.getKey(), filteredEntry.getValue()));
+        final Predicate<String> filter = key -> filterTerm(key, search, notEqualsSearch);
+        filterListGroupItems(filter, filter);
     }
 
     @Override
     public void addDataObjectListGroupItemView(String factName, FactModelTree factModelTree) {
         DivElement toAdd = listGroupItemPresenter.getDivElement(factName, factModelTree);
         view.getDataObjectListContainer().appendChild(toAdd);
+        dataObjectListGroupItems.put(factName, toAdd);
+        dataObjectSearchIndex.put(factName, getSearchText(factName, factModelTree));
     }
 
     @Override
     public void addInstanceListGroupItemView(String instanceName, FactModelTree factModelTree) {
         DivElement toAdd = listGroupItemPresenter.getDivElement(instanceName, factModelTree);
         view.getInstanceListContainer().appendChild(toAdd);
+        instanceListGroupItems.put(instanceName, toAdd);
+        instanceSearchIndex.put(instanceName, getSearchText(instanceName, factModelTree));
     }
 
     @Override
@@ -277,6 +285,37 @@ public class RightPanelPresenter implements RightPanelView.Presenter {
         }
     }
 
+    /**
+     * Show the already attached list items whose name satisfies the filter of their list, and hide the others
+     * @param dataObjectFilter
+     * @param instanceFilter
+     */
+    protected void filterListGroupItems(Predicate<String> dataObjectFilter, Predicate<String> instanceFilter) {
+        dataObjectListGroupItems.forEach((key, element) -> setListGroupItemVisible(element, dataObjectFilter.test(key)));
+        instanceListGroupItems.forEach((key, element) -> setListGroupItemVisible(element, instanceFilter.test(key)));
+    }
+
+    protected void setListGroupItemVisible(DivElement element, boolean visible) {
+        if (UIObject.isVisible(element) != visible) {
+            UIObject.setVisible(element, visible);
+        }
+    }
+
+    /**
+     * Build the lowercase text searched for a given fact/instance: its name and the paths of its direct properties, one per line
+     * @param name
+     * @param factModelTree
+     * @return
+     */
+    protected String getSearchText(String name, FactModelTree factModelTree) {
+        final Stream<String> propertyPaths = Stream.concat(factModelTree.getSimpleProperties().keySet().stream(),
+                                                           factModelTree.getExpandableProperties().keySet().stream())
+                .map(property -> name + "." + property);
+        return Stream.concat(Stream.of(name), propertyPaths)
+                .map(String::toLowerCase)
+                .collect(Collectors.joining("\n"));
+    }
+
     protected boolean filterTerm(String key, String search, boolean notEqualsSearch) {
         List<String> terms = Arrays.asList(search.split(";"));
         if (notEqualsSearch) {
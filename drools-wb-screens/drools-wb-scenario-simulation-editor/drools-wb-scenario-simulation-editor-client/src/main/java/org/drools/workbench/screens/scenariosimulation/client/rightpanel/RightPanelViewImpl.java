@@ -27,6 +27,7 @@ import com.google.gwt.event.dom.client.ClickEvent;
 import com.google.gwt.event.dom.client.KeyCodes;
 import com.google.gwt.event.dom.client.KeyDownEvent;
 import com.google.gwt.event.dom.client.KeyUpEvent;
+import com.google.gwt.user.client.Timer;
 import com.google.gwt.user.client.ui.Composite;
 import org.jboss.errai.ui.shared.api.annotations.DataField;
 import org.jboss.errai.ui.shared.api.annotations.EventHandler;
@@ -38,8 +39,20 @@ public class RightPanelViewImpl
         extends Composite
         implements RightPanelView {
 
+    /**
+     * Delay (in milliseconds) after the last keystroke before the search is actually performed
+     */
+    protected static final int SEARCH_DELAY = 250;
+
     private Presenter presenter;
 
+    protected Timer searchTimer = new Timer() {
+        @Override
+        public void run() {
+            presenter.onSearchedEvent(inputSearch.getValue());
+        }
+    };
+
     @DataField("rightPanelTabs")
     private UListElement rightPanelTabs = Document.get().createULElement();
 
@@ -94,17 +107,22 @@ public class RightPanelViewImpl
     @EventHandler("inputSearch")
     public void onInputSearchKeyUp(KeyUpEvent event) {
         presenter.onShowClearButton();
+        if (event.getNativeKeyCode() != KeyCodes.KEY_ENTER) {
+            searchTimer.schedule(SEARCH_DELAY);
+        }
     }
 
     @EventHandler("inputSearch")
     public void onInputSearchKeyDownEvent(KeyDownEvent event) {
         if (event.getNativeKeyCode() == KeyCodes.KEY_ENTER) {
+            searchTimer.cancel();
             presenter.onSearchedEvent(inputSearch.getValue());
         }
     }
 
     @EventHandler("searchButton")
     public void onSearchButtonClicked(ClickEvent event) {
+        searchTimer.cancel();
         presenter.onSearchedEvent(inputSearch.getValue());
     }
 
@@ -117,6 +135,7 @@ public class RightPanelViewImpl
 
     @Override
     public void clearInputSearch() {
+        searchTimer.cancel();
         inputSearch.setValue("");
     }
 
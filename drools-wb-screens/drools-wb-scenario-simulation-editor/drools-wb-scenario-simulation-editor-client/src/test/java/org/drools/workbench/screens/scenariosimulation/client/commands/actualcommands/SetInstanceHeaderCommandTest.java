@@ -31,6 +31,7 @@ import org.mockito.Mock;
 import org.uberfire.ext.wires.core.grids.client.model.GridColumn;
 
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.spy;
@@ -71,6 +72,8 @@ public class SetInstanceHeaderCommandTest extends AbstractScenarioSimulationComm
         command.execute(scenarioSimulationContext);
         verify(gridColumnMock, atLeast(1)).getInformationHeaderMetaData();
         verify(informationHeaderMetaDataMock, atLeast(1)).setTitle(eq(VALUE_CLASS_NAME));
+        verify(scenarioGridModelMock, times(1)).setInstanceHeaderTitle(eq(gridColumnMock), eq(VALUE_CLASS_NAME));
+        verify(scenarioGridModelMock, times(1)).setPropertyHeaderTitle(eq(gridColumnMock), anyString());
         verify(gridColumnMock, atLeast(1)).setInstanceAssigned(eq(true));
         verify(propertyHeaderMetaDataMock, times(1)).setReadOnly(eq(false));
         verify(scenarioGridModelMock, times(1)).updateColumnInstance(eq(COLUMN_INDEX), eq(gridColumnMock));
@@ -67,6 +67,7 @@ public class SetPropertyHeaderCommandTest extends AbstractScenarioSimulationComm
         command.execute(scenarioSimulationContext);
         verify(propertyHeaderMetaDataMock, times(1)).setColumnGroup(anyString());
         verify(propertyHeaderMetaDataMock, times(1)).setTitle(VALUE);
+        verify(scenarioGridModelMock, times(1)).setPropertyHeaderTitle(eq(gridColumnMock), eq(VALUE));
         verify(propertyHeaderMetaDataMock, times(1)).setReadOnly(false);
         verify(scenarioGridModelMock, times(1)).updateColumnProperty(anyInt(), isA(ScenarioGridColumn.class), eq(VALUE), eq(VALUE_CLASS_NAME), eq(false));
     }
@@ -77,6 +78,7 @@ public class SetPropertyHeaderCommandTest extends AbstractScenarioSimulationComm
         command.execute(scenarioSimulationContext);
         verify(propertyHeaderMetaDataMock, times(1)).setColumnGroup(anyString());
         verify(propertyHeaderMetaDataMock, times(1)).setTitle(VALUE);
+        verify(scenarioGridModelMock, times(1)).setPropertyHeaderTitle(eq(gridColumnMock), eq(VALUE));
         verify(propertyHeaderMetaDataMock, times(1)).setReadOnly(false);
         verify(scenarioGridModelMock, times(1)).updateColumnProperty(anyInt(), eq(gridColumnMock), eq(VALUE), eq(VALUE_CLASS_NAME), eq(true));
     }
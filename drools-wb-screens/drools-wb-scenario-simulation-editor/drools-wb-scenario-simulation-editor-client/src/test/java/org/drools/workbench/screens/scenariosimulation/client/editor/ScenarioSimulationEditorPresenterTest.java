@@ -30,6 +30,7 @@ import org.drools.workbench.screens.scenariosimulation.client.widgets.ScenarioGr
 import org.drools.workbench.screens.scenariosimulation.client.widgets.ScenarioGridPanel;
 import org.drools.workbench.screens.scenariosimulation.model.ScenarioSimulationModel;
 import org.drools.workbench.screens.scenariosimulation.model.ScenarioSimulationModelContent;
+import org.drools.workbench.screens.scenariosimulation.model.SimulationErrorDelta;
 import org.guvnor.common.services.shared.metadata.model.Overview;
 import org.guvnor.messageconsole.client.console.widget.button.AlertsButtonMenuItemBuilder;
 import org.junit.Before;
@@ -334,7 +335,7 @@ public class ScenarioSimulationEditorPresenterTest extends AbstractScenarioSimul
         presenter.onStartup(mock(ObservablePath.class), mock(PlaceRequest.class));
         presenter.onRunScenario();
         verify(scenarioSimulationServiceMock).runScenario(any(), eq(model));
-        verify(scenarioGridModelMock, times(1)).resetErrors();
+        verify(scenarioGridModelMock, never()).resetErrors();
         verify(scenarioSimulationViewMock, times(1)).refreshContent(any());
         verify(scenarioSimulationDocksHandlerMock).expandTestResultsDock();
     }
@@ -348,6 +349,19 @@ public class ScenarioSimulationEditorPresenterTest extends AbstractScenarioSimul
         verify(statusMock, times(1)).setSimulation(eq(simulationMock));
     }
 
+    @Test
+    public void refreshModelContentWithErrorDelta() {
+        final SimulationErrorDelta errorDelta = new SimulationErrorDelta();
+        when(scenarioSimulationModelMock.getSimulation()).thenReturn(simulationMock);
+        when(scenarioSimulationModelMock.getErrorDelta()).thenReturn(errorDelta);
+        presenter.refreshModelContent(scenarioSimulationModelMock);
+        assertEquals(scenarioSimulationModelMock, presenter.getModel());
+        verify(scenarioSimulationViewMock, times(1)).refreshErrors(eq(simulationMock), eq(errorDelta));
+        verify(scenarioSimulationViewMock, never()).refreshContent(any());
+        verify(scenarioSimulationModelMock, times(1)).setErrorDelta(null);
+        verify(statusMock, times(1)).setSimulation(eq(simulationMock));
+    }
+
     @Test
     public void isDirty() {
         when(scenarioSimulationViewMock.getScenarioGridPanel()).thenThrow(new RuntimeException());
@@ -18,7 +18,9 @@ package org.drools.workbench.screens.scenariosimulation.client.models;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 
@@ -36,6 +38,7 @@ import org.drools.workbench.screens.scenariosimulation.model.FactMappingValue;
 import org.drools.workbench.screens.scenariosimulation.model.Scenario;
 import org.drools.workbench.screens.scenariosimulation.model.Simulation;
 import org.drools.workbench.screens.scenariosimulation.model.SimulationDescriptor;
+import org.drools.workbench.screens.scenariosimulation.model.SimulationErrorDelta;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -46,6 +49,7 @@ import org.uberfire.ext.wires.core.grids.client.model.GridRow;
 import org.uberfire.ext.wires.core.grids.client.model.impl.BaseGridRow;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyInt;
@@ -235,7 +239,7 @@ public class ScenarioGridModelTest {
         scenarioGridModel.insertRowGridOnly(ROW_INDEX, gridRowMock, scenarioMock);
         verify(scenarioGridModel, atLeast(1)).checkSimulation();
         verify(scenarioGridModel, never()).insertRow(eq(ROW_INDEX), eq(gridRowMock));
-        verify(scenarioGridModel, times(1)).updateIndexColumn();
+        verify(scenarioGridModel, times(1)).updateIndexColumn(eq(ROW_INDEX));
     }
 
     @Test
@@ -244,7 +248,7 @@ public class ScenarioGridModelTest {
         scenarioGridModel.insertRow(ROW_INDEX, gridRowMock);
         verify(scenarioGridModel, atLeast(1)).checkSimulation();
         verify(scenarioGridModel, times(1)).commonAddRow(eq(ROW_INDEX));
-        verify(scenarioGridModel, times(1)).updateIndexColumn();
+        verify(scenarioGridModel, times(1)).updateIndexColumn(eq(ROW_INDEX));
     }
 
     @Test
@@ -253,7 +257,7 @@ public class ScenarioGridModelTest {
         scenarioGridModel.deleteRow(ROW_INDEX);
         verify(scenarioGridModel, atLeast(1)).checkSimulation();
         verify(simulationMock, times(1)).removeScenarioByIndex(eq(ROW_INDEX));
-        verify(scenarioGridModel, times(1)).updateIndexColumn();
+        verify(scenarioGridModel, times(1)).updateIndexColumn(eq(ROW_INDEX));
     }
 
     @Test
@@ -264,7 +268,7 @@ public class ScenarioGridModelTest {
         verify(simulationMock, times(1)).cloneScenario(eq(ROW_INDEX), eq(ROW_INDEX + 1));
         verify(scenarioGridModel, times(1)).insertRowGridOnly(eq(ROW_INDEX + 1), eq(gridRowMock), isA(Scenario.class));
         verify(scenarioGridModel, never()).insertRow(eq(ROW_INDEX), eq(gridRowMock));
-        verify(scenarioGridModel, times(1)).updateIndexColumn();
+        verify(scenarioGridModel, times(1)).updateIndexColumn(eq(ROW_INDEX + 1));
     }
 
     @Test
@@ -403,14 +407,74 @@ public class ScenarioGridModelTest {
     @Test
     public void updateIndexColumn() {
         reset(scenarioGridModel);
-        scenarioGridModel.updateIndexColumn();
+        scenarioGridModel.updateIndexColumn(0);
         verify(scenarioGridModel, never()).setCellValue(anyInt(), anyInt(), isA(ScenarioGridCellValue.class));
         reset(scenarioGridModel);
-        when(scenarioGridModel.getRowCount()).thenReturn(3);
         int indexColumnPosition = 0;
         gridColumns.add(indexColumnPosition, scenarioIndexGridColumnMock);
-        when(scenarioGridModel.getColumns()).thenReturn(gridColumns);
-        scenarioGridModel.updateIndexColumn();
+        // columns added directly to the list are indexed by the next build
+        scenarioGridModel.columnsByInstanceTitle = null;
+        scenarioGridModel.columnsByPropertyTitle = null;
+        scenarioGridModel.updateIndexColumn(ROW_INDEX - 1);
+        // only the rows from the given one onward are renumbered
+        verify(scenarioGridModel, times(2)).setCellValue(anyInt(), eq(indexColumnPosition), isA(ScenarioGridCellValue.class));
+        verify(scenarioGridModel, times(1)).setCellValue(eq(ROW_INDEX - 1), eq(indexColumnPosition), isA(ScenarioGridCellValue.class));
+        verify(scenarioGridModel, times(1)).setCellValue(eq(ROW_INDEX), eq(indexColumnPosition), isA(ScenarioGridCellValue.class));
+    }
+
+    @Test
+    public void getValidPlaceholders() {
+        when(informationHeaderMetaDataMock.getTitle()).thenReturn(FactMapping.getInstancePlaceHolder(0));
+        when(propertyHeaderMetaDataMock.getTitle()).thenReturn(FactMapping.getPropertyPlaceHolder(1));
+        Map.Entry<String, String> validPlaceholders = scenarioGridModel.getValidPlaceholders();
+        assertEquals(FactMapping.getInstancePlaceHolder(2), validPlaceholders.getKey());
+        assertEquals(FactMapping.getPropertyPlaceHolder(2), validPlaceholders.getValue());
+        verify(scenarioGridModel, times(3)).isNewInstanceName(anyString());
+        verify(scenarioGridModel, times(2)).isNewPropertyName(anyString());
+    }
+
+    @Test
+    public void headerTitlesIndex() {
+        final String INSTANCE_TITLE = "INSTANCE_TITLE";
+        final String PROPERTY_TITLE = "PROPERTY_TITLE";
+        ScenarioHeaderMetaData instanceHeaderMetaData = new ScenarioHeaderMetaData(GRID_COLUMN_ID, VALUE, GRID_COLUMN_GROUP, null, true, false);
+        ScenarioHeaderMetaData propertyHeaderMetaData = new ScenarioHeaderMetaData(GRID_COLUMN_ID, VALUE, GRID_COLUMN_GROUP, null, false, true);
+        ScenarioGridColumn renamedGridColumnMock = mock(ScenarioGridColumn.class);
+        when(renamedGridColumnMock.getInformationHeaderMetaData()).thenReturn(instanceHeaderMetaData);
+        when(renamedGridColumnMock.getPropertyHeaderMetaData()).thenReturn(propertyHeaderMetaData);
+        assertTrue(scenarioGridModel.isNewInstanceName(VALUE));
+        assertFalse(scenarioGridModel.isNewInstanceName(GRID_COLUMN_TITLE));
+        assertFalse(scenarioGridModel.isNewPropertyName(GRID_PROPERTY_TITLE));
+
+        scenarioGridModel.insertColumnGridOnly(COLUMN_INDEX, renamedGridColumnMock);
+        assertFalse(scenarioGridModel.isNewInstanceName(VALUE));
+        assertFalse(scenarioGridModel.isNewPropertyName(VALUE));
+
+        scenarioGridModel.setInstanceHeaderTitle(renamedGridColumnMock, INSTANCE_TITLE);
+        scenarioGridModel.setPropertyHeaderTitle(renamedGridColumnMock, PROPERTY_TITLE);
+        assertEquals(INSTANCE_TITLE, instanceHeaderMetaData.getTitle());
+        assertEquals(PROPERTY_TITLE, propertyHeaderMetaData.getTitle());
+        assertTrue(scenarioGridModel.isNewInstanceName(VALUE));
+        assertTrue(scenarioGridModel.isNewPropertyName(VALUE));
+        assertFalse(scenarioGridModel.isNewInstanceName(INSTANCE_TITLE));
+        assertFalse(scenarioGridModel.isNewPropertyName(PROPERTY_TITLE));
+        assertFalse(scenarioGridModel.isNewInstanceName(GRID_COLUMN_TITLE));
+
+        scenarioGridModel.deleteColumn(COLUMN_INDEX);
+        assertTrue(scenarioGridModel.isNewInstanceName(INSTANCE_TITLE));
+        assertTrue(scenarioGridModel.isNewPropertyName(PROPERTY_TITLE));
+        assertFalse(scenarioGridModel.isNewInstanceName(GRID_COLUMN_TITLE));
+    }
+
+    @Test
+    public void isUnique() {
+        assertTrue(scenarioGridModel.isUnique(VALUE, 1, COLUMN_INDEX));
+        // the columns of the edited instance share its title
+        assertTrue(scenarioGridModel.isUnique(GRID_COLUMN_TITLE, 1, COLUMN_INDEX));
+        FactMapping otherFactMappingMock = mock(FactMapping.class);
+        when(otherFactMappingMock.getFactIdentifier()).thenReturn(mock(FactIdentifier.class));
+        when(simulationDescriptorMock.getFactMappingByIndex(0)).thenReturn(otherFactMappingMock);
+        assertFalse(scenarioGridModel.isUnique(GRID_COLUMN_TITLE, 1, COLUMN_INDEX));
     }
 
     @Test
@@ -424,6 +488,22 @@ public class ScenarioGridModelTest {
         verify(gridCellMock, times(24)).setErrorMode(eq(false));
     }
 
+    @Test
+    public void refreshErrorsDelta() {
+        SimulationErrorDelta errorDelta = new SimulationErrorDelta();
+        errorDelta.add(0, 1, true);
+        errorDelta.add(2, 3, false);
+        errorDelta.add(ROW_COUNT, 0, true);
+        Set<Integer> changedRows = scenarioGridModel.refreshErrors(errorDelta);
+        assertEquals(2, changedRows.size());
+        assertTrue(changedRows.contains(0));
+        assertTrue(changedRows.contains(2));
+        assertFalse(changedRows.contains(ROW_COUNT));
+        verify(gridCellMock, times(1)).setErrorMode(eq(true));
+        verify(gridCellMock, times(1)).setErrorMode(eq(false));
+        verify(scenarioMock, never()).getFactMappingValue(any(), any());
+    }
+
     @Test
     public void refreshErrorsRow() {
         FactMappingValue factMappingValue = mock(FactMappingValue.class);
@@ -437,4 +517,36 @@ public class ScenarioGridModelTest {
         scenarioGridModel.refreshErrorsRow(0);
         verify(gridCellMock, times(6)).setErrorMode(true);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void resetErrors() {
+        List<Scenario> scenarios = new ArrayList<>();
+        IntStream.range(0, ROW_COUNT).forEach(rowIndex -> scenarios.add(scenarioMock));
+        when(simulationMock.getUnmodifiableScenarios()).thenReturn(scenarios);
+
+        // Errors of a newly bound simulation are not tracked: every row is reset
+        scenarioGridModel.resetErrors();
+        verify(scenarioMock, times(ROW_COUNT)).resetErrors();
+        verify(gridCellMock, times(ROW_COUNT * (COLUMN_INDEX + 1))).setErrorMode(eq(false));
+        verify(scenarioGridModel, never()).refreshErrors();
+
+        // A grid without errors is not visited again
+        scenarioGridModel.resetErrors();
+        verify(scenarioMock, times(ROW_COUNT)).resetErrors();
+
+        // Rows showing errors are tracked and reset
+        scenarioGridModel.refreshErrors();
+        assertFalse(scenarioGridModel.scenariosWithErrors.isEmpty());
+        scenarioGridModel.resetErrors();
+        verify(scenarioMock, times(ROW_COUNT * 2)).resetErrors();
+        assertTrue(scenarioGridModel.scenariosWithErrors.isEmpty());
+    }
+
+    @Test
+    public void resetErrorsRow() {
+        scenarioGridModel.resetErrors(ROW_INDEX);
+        verify(scenarioMock, times(1)).resetErrors();
+        verify(scenarioGridModel, times(1)).refreshErrorsRow(eq(ROW_INDEX));
+        verify(scenarioGridModel, never()).refreshErrors();
+    }
+}
@@ -17,6 +17,7 @@
 package org.drools.workbench.screens.scenariosimulation.client.rightpanel;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -36,10 +37,13 @@ import static junit.framework.TestCase.assertTrue;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.mockito.Matchers.anyBoolean;
 import static org.mockito.Matchers.anyObject;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.isA;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
@@ -96,6 +100,7 @@ public class RightPanelPresenterTest extends AbstractRightPanelTest {
                 this.eventBus = eventBusMock;
             }
         });
+        doNothing().when(rightPanelPresenter).setListGroupItemVisible(anyObject(), anyBoolean());
     }
 
     @Test
@@ -127,7 +132,7 @@ public class RightPanelPresenterTest extends AbstractRightPanelTest {
         rightPanelPresenter.onClearStatus();
         verify(rightPanelPresenter, times(1)).onClearSearch();
         verify(rightPanelPresenter, times(1)).onClearNameField();
-        verify(rightPanelPresenter, times(1)).clearDataObjectList();
+        verify(rightPanelPresenter, times(1)).onSearchedEvent(eq(""));
     }
 
     @Test
@@ -137,6 +142,14 @@ public class RightPanelPresenterTest extends AbstractRightPanelTest {
         verify(dataObjectListContainerMock, times(1)).removeAllChildren();
     }
 
+    @Test
+    public void clearDataObjectListClearsSearchIndex() {
+        rightPanelPresenter.addDataObjectListGroupItemView(FACT_NAME, FACT_MODEL_TREE);
+        assertTrue(rightPanelPresenter.dataObjectSearchIndex.containsKey(FACT_NAME));
+        rightPanelPresenter.clearDataObjectList();
+        assertTrue(rightPanelPresenter.dataObjectSearchIndex.isEmpty());
+    }
+
     @Test
     public void clearInstanceList() {
         rightPanelPresenter.clearInstanceList();
@@ -144,6 +157,14 @@ public class RightPanelPresenterTest extends AbstractRightPanelTest {
         verify(instanceListContainerMock, times(1)).removeAllChildren();
     }
 
+    @Test
+    public void clearInstanceListClearsSearchIndex() {
+        rightPanelPresenter.addInstanceListGroupItemView(FACT_NAME, FACT_MODEL_TREE);
+        assertTrue(rightPanelPresenter.instanceSearchIndex.containsKey(FACT_NAME));
+        rightPanelPresenter.clearInstanceList();
+        assertTrue(rightPanelPresenter.instanceSearchIndex.isEmpty());
+    }
+
 
     @Test
     public void getFactModelTree() {
@@ -174,9 +195,60 @@ public class RightPanelPresenterTest extends AbstractRightPanelTest {
 
     @Test
     public void onSearchedEvent() {
+        rightPanelPresenter.addDataObjectListGroupItemView(FACT_NAME, FACT_MODEL_TREE);
         rightPanelPresenter.onSearchedEvent("");
-        verify(rightPanelPresenter, times(1)).clearDataObjectList();
-        verify(rightPanelPresenter, times(1)).clearInstanceList();
+        verify(rightPanelPresenter, never()).clearDataObjectList();
+        verify(rightPanelPresenter, never()).clearInstanceList();
+        verify(rightPanelPresenter, times(1)).setListGroupItemVisible(eq(dataObjectListContainerMock), eq(true));
+
+        reset(rightPanelPresenter);
+        rightPanelPresenter.onSearchedEvent(FACT_NAME.toUpperCase());
+        verify(rightPanelPresenter, times(1)).setListGroupItemVisible(eq(dataObjectListContainerMock), eq(true));
+
+        reset(rightPanelPresenter);
+        rightPanelPresenter.onSearchedEvent("#");
+        verify(rightPanelPresenter, times(1)).setListGroupItemVisible(eq(dataObjectListContainerMock), eq(false));
+        verify(listGroupItemPresenterMock, times(1)).getDivElement(eq(FACT_NAME), eq(FACT_MODEL_TREE));
+    }
+
+    @Test
+    public void onSearchedEventByProperty() {
+        rightPanelPresenter.addDataObjectListGroupItemView(FACT_NAME, FACT_MODEL_TREE);
+        final String propertyName = (String) new ArrayList(FACT_MODEL_TREE.getSimpleProperties().keySet()).get(0);
+        rightPanelPresenter.onSearchedEvent(FACT_NAME + "." + propertyName);
+        verify(rightPanelPresenter, times(1)).setListGroupItemVisible(eq(dataObjectListContainerMock), eq(true));
+    }
+
+    @Test
+    public void onSearchedEventFactAndInstanceWithSameName() {
+        final FactModelTree instanceFactModelTree = new FactModelTree(FACT_NAME, FACT_PACKAGE, new HashMap<>());
+        final DivElement instanceElementMock = mock(DivElement.class);
+        when(listGroupItemPresenterMock.getDivElement(FACT_NAME, instanceFactModelTree)).thenReturn(instanceElementMock);
+        rightPanelPresenter.addDataObjectListGroupItemView(FACT_NAME, FACT_MODEL_TREE);
+        rightPanelPresenter.addInstanceListGroupItemView(FACT_NAME, instanceFactModelTree);
+        final String propertyName = (String) new ArrayList(FACT_MODEL_TREE.getSimpleProperties().keySet()).get(0);
+        rightPanelPresenter.onSearchedEvent(FACT_NAME + "." + propertyName);
+        verify(rightPanelPresenter, times(1)).setListGroupItemVisible(eq(dataObjectListContainerMock), eq(true));
+        verify(rightPanelPresenter, times(1)).setListGroupItemVisible(eq(instanceElementMock), eq(false));
+    }
+
+    @Test
+    public void onPerfectMatchSearchedEvent() {
+        rightPanelPresenter.addDataObjectListGroupItemView(FACT_NAME, FACT_MODEL_TREE);
+        rightPanelPresenter.onPerfectMatchSearchedEvent(FACT_NAME, false);
+        verify(rightPanelPresenter, times(1)).setListGroupItemVisible(eq(dataObjectListContainerMock), eq(true));
+
+        reset(rightPanelPresenter);
+        rightPanelPresenter.onPerfectMatchSearchedEvent(FACT_NAME, true);
+        verify(rightPanelPresenter, times(1)).setListGroupItemVisible(eq(dataObjectListContainerMock), eq(false));
+    }
+
+    @Test
+    public void getSearchText() {
+        final String searchText = rightPanelPresenter.getSearchText(FACT_NAME, FACT_MODEL_TREE);
+        assertTrue(searchText.startsWith(FACT_NAME.toLowerCase()));
+        FACT_MODEL_TREE.getSimpleProperties().keySet()
+                .forEach(property -> assertTrue(searchText.contains((FACT_NAME + "." + property).toLowerCase())));
     }
 
     @Test
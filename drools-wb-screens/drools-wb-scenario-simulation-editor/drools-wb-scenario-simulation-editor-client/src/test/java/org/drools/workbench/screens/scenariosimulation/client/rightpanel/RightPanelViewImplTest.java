@@ -19,7 +19,10 @@ package org.drools.workbench.screens.scenariosimulation.client.rightpanel;
 import com.google.gwt.dom.client.ButtonElement;
 import com.google.gwt.dom.client.InputElement;
 import com.google.gwt.event.dom.client.ClickEvent;
+import com.google.gwt.event.dom.client.KeyCodes;
+import com.google.gwt.event.dom.client.KeyDownEvent;
 import com.google.gwt.event.dom.client.KeyUpEvent;
+import com.google.gwt.user.client.Timer;
 import com.google.gwtmockito.GwtMockitoTestRunner;
 import org.junit.Before;
 import org.junit.Test;
@@ -27,11 +30,14 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 
 import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(GwtMockitoTestRunner.class)
 public class RightPanelViewImplTest {
@@ -50,6 +56,9 @@ public class RightPanelViewImplTest {
     @Mock
     private ButtonElement mockClearSearchButton;
 
+    @Mock
+    private Timer mockSearchTimer;
+
     @Before
     public void setup() {
         this.rightPanelView = spy(new RightPanelViewImpl() {
@@ -57,6 +66,7 @@ public class RightPanelViewImplTest {
                 this.inputSearch = mockInputSearch;
                 this.clearSearchButton = mockClearSearchButton;
                 this.nameField = mockNameField;
+                this.searchTimer = mockSearchTimer;
             }
         });
         rightPanelView.init(mockRightPanelPresenter);
@@ -73,6 +83,18 @@ public class RightPanelViewImplTest {
     public void onInputSearchKeyUp() {
         rightPanelView.onInputSearchKeyUp(mock(KeyUpEvent.class));
         verify(mockRightPanelPresenter, times(1)).onShowClearButton();
+        verify(mockSearchTimer, times(1)).schedule(eq(RightPanelViewImpl.SEARCH_DELAY));
+        verify(mockRightPanelPresenter, never()).onSearchedEvent(anyString());
+    }
+
+    @Test
+    public void onInputSearchKeyDownEnter() {
+        KeyDownEvent keyDownEvent = mock(KeyDownEvent.class);
+        when(keyDownEvent.getNativeKeyCode()).thenReturn(KeyCodes.KEY_ENTER);
+        when(mockInputSearch.getValue()).thenReturn("search");
+        rightPanelView.onInputSearchKeyDownEvent(keyDownEvent);
+        verify(mockSearchTimer, times(1)).cancel();
+        verify(mockRightPanelPresenter, times(1)).onSearchedEvent(eq("search"));
     }
 
     @Test
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.testscenario.model;
+
+import java.util.List;
+
+import org.jboss.errai.common.client.api.annotations.Portable;
+
+/**
+ * A page of the audit log recorded whilst running a Test Scenario.
+ */
+@Portable
+public class AuditLogPage {
+
+    private List<String> messages;
+    private int startIndex;
+    private int totalSize;
+
+    public AuditLogPage() {
+    }
+
+    public AuditLogPage(final List<String> messages,
+                        final int startIndex,
+                        final int totalSize) {
+        this.messages = messages;
+        this.startIndex = startIndex;
+        this.totalSize = totalSize;
+    }
+
+    public List<String> getMessages() {
+        return messages;
+    }
+
+    public int getStartIndex() {
+        return startIndex;
+    }
+
+    public int getTotalSize() {
+        return totalSize;
+    }
+
+    public boolean hasMore() {
+        return startIndex + messages.size() < totalSize;
+    }
+}
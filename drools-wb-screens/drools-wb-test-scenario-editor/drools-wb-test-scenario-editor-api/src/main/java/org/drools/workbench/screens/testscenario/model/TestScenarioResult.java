@@ -16,7 +16,7 @@
 
 package org.drools.workbench.screens.testscenario.model;
 
-import java.util.Set;
+import java.util.List;
 
 import org.drools.workbench.models.testscenarios.shared.Scenario;
 import org.jboss.errai.common.client.api.annotations.Portable;
@@ -25,22 +25,63 @@ import org.jboss.errai.common.client.api.annotations.Portable;
 public class TestScenarioResult {
 
     private Scenario scenario;
-    private Set<String> log;
+    private List<String> log;
+    private String auditLogId;
+    private int auditLogSize;
+    private long discardedAuditLogEntries;
 
     public TestScenarioResult() {
     }
 
     public TestScenarioResult(Scenario scenario,
-                              Set<String> log) {
+                              List<String> log) {
+        this(scenario,
+             log,
+             null,
+             log.size(),
+             0);
+    }
+
+    /**
+     * @param scenario The Scenario after running
+     * @param log First page of the audit log
+     * @param auditLogId Identifier with which subsequent pages of the audit log can be loaded
+     * @param auditLogSize Total number of entries retained in the audit log
+     * @param discardedAuditLogEntries Number of entries discarded because the audit log was full
+     */
+    public TestScenarioResult(Scenario scenario,
+                              List<String> log,
+                              String auditLogId,
+                              int auditLogSize,
+                              long discardedAuditLogEntries) {
         this.scenario = scenario;
         this.log = log;
+        this.auditLogId = auditLogId;
+        this.auditLogSize = auditLogSize;
+        this.discardedAuditLogEntries = discardedAuditLogEntries;
     }
 
     public Scenario getScenario() {
         return scenario;
     }
 
-    public Set<String> getLog() {
+    public List<String> getLog() {
         return log;
     }
+
+    public String getAuditLogId() {
+        return auditLogId;
+    }
+
+    public int getAuditLogSize() {
+        return auditLogSize;
+    }
+
+    public long getDiscardedAuditLogEntries() {
+        return discardedAuditLogEntries;
+    }
+
+    public boolean hasMoreAuditLog() {
+        return auditLogId != null && log.size() < auditLogSize;
+    }
 }
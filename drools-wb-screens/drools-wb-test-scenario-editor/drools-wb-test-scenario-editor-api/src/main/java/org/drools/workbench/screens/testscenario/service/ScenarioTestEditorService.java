@@ -17,6 +17,7 @@
 package org.drools.workbench.screens.testscenario.service;
 
 import org.drools.workbench.models.testscenarios.shared.Scenario;
+import org.drools.workbench.screens.testscenario.model.AuditLogPage;
 import org.drools.workbench.screens.testscenario.model.TestScenarioModelContent;
 import org.drools.workbench.screens.testscenario.model.TestScenarioResult;
 import org.guvnor.common.services.shared.metadata.model.Metadata;
@@ -42,10 +43,24 @@ public interface ScenarioTestEditorService
 
     public static final String TEST_SCENARIO_EDITOR_SETTINGS = "test-scenario-editor-settings";
     public static final String TEST_SCENARIO_EDITOR_MAX_RULE_FIRINGS = "max-rule-firings";
+    public static final String TEST_SCENARIO_EDITOR_AUDIT_LOG_CAPACITY = "audit-log-capacity";
+    public static final String TEST_SCENARIO_EDITOR_AUDIT_LOG_EVENT_TYPES = "audit-log-event-types";
+    public static final int AUDIT_LOG_PAGE_SIZE = 500;
 
     TestScenarioModelContent loadContent(final Path path);
 
     TestScenarioResult runScenario(final String userName,
                                    final Path path,
                                    final Scenario scenario);
+
+    /**
+     * Loads a page of the audit log recorded by {@link #runScenario(String, Path, Scenario)}.
+     * @param auditLogId Identifier of the audit log, from {@link TestScenarioResult#getAuditLogId()}
+     * @param startIndex Index of the first entry to return
+     * @param pageSize Maximum number of entries to return
+     * @return The page of the audit log. Empty if the audit log is no longer available.
+     */
+    AuditLogPage loadAuditLog(final String auditLogId,
+                              final int startIndex,
+                              final int pageSize);
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.testscenario.backend.server;
+
+import java.util.function.Supplier;
+
+public class AuditEvent {
+
+    private final AuditEventType type;
+    private Supplier<String> formatter;
+    private String message;
+
+    /**
+     * @param type Category of the event
+     * @param formatter Builds the message when it is first read. It is released once used.
+     */
+    public AuditEvent(final AuditEventType type,
+                      final Supplier<String> formatter) {
+        this.type = type;
+        this.formatter = formatter;
+    }
+
+    /**
+     * @param type Category of the event
+     * @param message Message of the event
+     */
+    public AuditEvent(final AuditEventType type,
+                      final String message) {
+        this.type = type;
+        this.message = message;
+    }
+
+    public AuditEventType getType() {
+        return type;
+    }
+
+    public synchronized String getMessage() {
+        if (formatter != null) {
+            message = formatter.get();
+            formatter = null;
+        }
+        return message;
+    }
+}
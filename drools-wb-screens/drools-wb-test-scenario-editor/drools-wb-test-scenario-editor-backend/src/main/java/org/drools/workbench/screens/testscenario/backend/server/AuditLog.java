@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.testscenario.backend.server;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bounded, ordered log of {@link AuditEvent}s. Once the capacity is reached the oldest events are discarded
+ * to make room for new ones; the number of discarded events is retained so clients can indicate truncation.
+ */
+public class AuditLog {
+
+    private final AuditEvent[] events;
+    private int head = 0;
+    private int size = 0;
+    private long discarded = 0;
+
+    public AuditLog(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than zero.");
+        }
+        this.events = new AuditEvent[capacity];
+    }
+
+    public synchronized void add(final AuditEvent event) {
+        final int index = (head + size) % events.length;
+        if (size < events.length) {
+            size++;
+        } else {
+            head = (head + 1) % events.length;
+            discarded++;
+        }
+        events[index] = event;
+    }
+
+    /**
+     * @return Number of events currently retained.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return Number of events discarded because the capacity was exceeded.
+     */
+    public synchronized long getDiscarded() {
+        return discarded;
+    }
+
+    /**
+     * Returns the messages of a range of retained events, oldest first. Messages are formatted when first read,
+     * so discarded events are never formatted.
+     * @param startIndex Index of the first event, relative to the oldest retained event
+     * @param pageSize Maximum number of messages to return
+     * @return Messages in the order the events were recorded. Empty if startIndex is beyond the retained events.
+     */
+    public synchronized List<String> getMessages(final int startIndex,
+                                                 final int pageSize) {
+        final int from = Math.max(0,
+                                  startIndex);
+        final int to = Math.min(size,
+                                from + Math.max(0,
+                                                pageSize));
+        final List<String> messages = new ArrayList<>(Math.max(0,
+                                                               to - from));
+        for (int i = from; i < to; i++) {
+            messages.add(events[(head + i) % events.length].getMessage());
+        }
+        return messages;
+    }
+}
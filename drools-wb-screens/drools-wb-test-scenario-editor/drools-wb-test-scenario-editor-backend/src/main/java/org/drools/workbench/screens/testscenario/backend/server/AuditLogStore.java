@@ -0,0 +1,173 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.testscenario.backend.server;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.drools.workbench.screens.testscenario.model.AuditLogPage;
+import org.guvnor.common.services.backend.config.SafeSessionInfo;
+import org.uberfire.rpc.SessionInfo;
+
+/**
+ * Retains the audit logs of recent Test Scenario runs so the editor can page through them. The retained events
+ * of a log are formatted when it is added and only the messages are kept, releasing the facts they refer to. Logs are discarded once they are older than {@link #MAX_AGE_MILLIS}, or oldest first once
+ * the messages of all retained logs exceed {@link #MAX_MESSAGES_LENGTH} characters. A log can only be read by
+ * the user whose run recorded it.
+ */
+@ApplicationScoped
+public class AuditLogStore {
+
+    static final long MAX_MESSAGES_LENGTH = 4_000_000;
+
+    static final long MAX_AGE_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+    //Insertion-ordered, so the oldest logs are first
+    private final Map<String, StoredAuditLog> auditLogs = new LinkedHashMap<>();
+
+    private long messagesLength = 0;
+
+    private SafeSessionInfo safeSessionInfo;
+
+    public AuditLogStore() {
+    }
+
+    @Inject
+    public AuditLogStore(final SessionInfo sessionInfo) {
+        safeSessionInfo = new SafeSessionInfo(sessionInfo);
+    }
+
+    /**
+     * Retains the messages of an audit log for the current user.
+     * @param auditLog The audit log
+     * @return Identifier with which pages of the audit log can be retrieved
+     */
+    public String put(final AuditLog auditLog) {
+        final String auditLogId = UUID.randomUUID().toString();
+        final List<String> messages = auditLog.getMessages(0,
+                                                           auditLog.size());
+        final StoredAuditLog storedAuditLog = new StoredAuditLog(getCurrentUser(),
+                                                                 currentTimeMillis(),
+                                                                 messages,
+                                                                 getMessagesLength(messages));
+        synchronized (auditLogs) {
+            auditLogs.put(auditLogId,
+                          storedAuditLog);
+            messagesLength += storedAuditLog.messagesLength;
+            evict();
+        }
+        return auditLogId;
+    }
+
+    /**
+     * Returns a page of an audit log recorded by the current user.
+     * @param auditLogId Identifier of the audit log
+     * @param startIndex Index of the first entry to return
+     * @param pageSize Maximum number of entries to return
+     * @return The page. Empty if the audit log has been discarded or was recorded by a different user.
+     */
+    public AuditLogPage getPage(final String auditLogId,
+                                final int startIndex,
+                                final int pageSize) {
+        final StoredAuditLog auditLog;
+        synchronized (auditLogs) {
+            evict();
+            auditLog = auditLogs.get(auditLogId);
+        }
+        if (auditLog == null || !Objects.equals(auditLog.owner,
+                                                getCurrentUser())) {
+            return new AuditLogPage(Collections.emptyList(),
+                                    startIndex,
+                                    0);
+        }
+        final List<String> messages = auditLog.messages;
+        final int from = Math.min(Math.max(0,
+                                           startIndex),
+                                  messages.size());
+        final int to = Math.min(messages.size(),
+                                from + Math.max(0,
+                                                pageSize));
+        return new AuditLogPage(new ArrayList<>(messages.subList(from,
+                                                                 to)),
+                                startIndex,
+                                messages.size());
+    }
+
+    private static long getMessagesLength(final List<String> messages) {
+        long length = 0;
+        for (String message : messages) {
+            length += message == null ? 0 : message.length();
+        }
+        return length;
+    }
+
+    private void evict() {
+        final long expiry = currentTimeMillis() - MAX_AGE_MILLIS;
+        final Iterator<StoredAuditLog> iterator = auditLogs.values().iterator();
+        while (iterator.hasNext()) {
+            final StoredAuditLog oldest = iterator.next();
+            if (oldest.created >= expiry && messagesLength <= MAX_MESSAGES_LENGTH) {
+                return;
+            }
+            messagesLength -= oldest.messagesLength;
+            iterator.remove();
+        }
+    }
+
+    int size() {
+        synchronized (auditLogs) {
+            return auditLogs.size();
+        }
+    }
+
+    //Delegate to method to assist testing
+    long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
+    private String getCurrentUser() {
+        return safeSessionInfo == null ? null : safeSessionInfo.getIdentity().getIdentifier();
+    }
+
+    private static class StoredAuditLog {
+
+        private final String owner;
+        private final long created;
+        private final List<String> messages;
+        private final long messagesLength;
+
+        private StoredAuditLog(final String owner,
+                               final long created,
+                               final List<String> messages,
+                               final long messagesLength) {
+            this.owner = owner;
+            this.created = created;
+            this.messages = messages;
+            this.messagesLength = messagesLength;
+        }
+    }
+}
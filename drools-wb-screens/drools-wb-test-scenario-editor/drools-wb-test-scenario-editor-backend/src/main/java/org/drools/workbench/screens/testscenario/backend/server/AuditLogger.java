@@ -16,9 +16,11 @@
 
 package org.drools.workbench.screens.testscenario.backend.server;
 
-import java.util.HashSet;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.kie.api.definition.rule.Rule;
 import org.kie.api.event.process.ProcessCompletedEvent;
@@ -42,14 +44,32 @@ import org.kie.api.event.rule.RuleFlowGroupDeactivatedEvent;
 import org.kie.api.event.rule.RuleRuntimeEventListener;
 import org.kie.api.runtime.KieSession;
 
+/**
+ * Records the events raised by KieSessions whilst a Test Scenario runs. Events are retained in a bounded
+ * {@link AuditLog} and their messages are only formatted when read, so events discarded by the log, or of
+ * types that are not recorded, are never formatted. Until then the log references the facts of each event.
+ */
 public class AuditLogger {
 
-    private final Set<String> logs = new HashSet<String>();
+    public static final int DEFAULT_CAPACITY = 5000;
+
+    private final AuditLog log;
+    private final Set<AuditEventType> eventTypes;
     private final Map<String, KieSession> ksessions;
 
     public AuditLogger(Map<String, KieSession> ksessions) {
+        this(ksessions,
+             DEFAULT_CAPACITY,
+             EnumSet.allOf(AuditEventType.class));
+    }
+
+    public AuditLogger(final Map<String, KieSession> ksessions,
+                       final int capacity,
+                       final Set<AuditEventType> eventTypes) {
 
         this.ksessions = ksessions;
+        this.log = new AuditLog(capacity);
+        this.eventTypes = eventTypes.isEmpty() ? EnumSet.noneOf(AuditEventType.class) : EnumSet.copyOf(eventTypes);
 
         for (KieSession ksession : ksessions.values()) {
             if (ksession != null) {
@@ -60,60 +80,78 @@ public class AuditLogger {
         }
     }
 
-    public Set<String> getLog() {
-        return logs;
+    public AuditLog getAuditLog() {
+        return log;
+    }
+
+    /**
+     * @return Formatted messages of all retained events, in the order they were recorded.
+     */
+    public List<String> getLog() {
+        return log.getMessages(0,
+                               log.size());
     }
 
     private void addProcessEventListener(KieSession ksession) {
         ksession.addEventListener(new ProcessEventListener() {
             @Override
             public void beforeProcessStarted(ProcessStartedEvent processStartedEvent) {
-                log(processStartedEvent);
+                log(AuditEventType.PROCESS,
+                    processStartedEvent);
             }
 
             @Override
             public void afterProcessStarted(ProcessStartedEvent processStartedEvent) {
-                log(processStartedEvent);
+                log(AuditEventType.PROCESS,
+                    processStartedEvent);
             }
 
             @Override
             public void beforeProcessCompleted(ProcessCompletedEvent processCompletedEvent) {
-                log(processCompletedEvent);
+                log(AuditEventType.PROCESS,
+                    processCompletedEvent);
             }
 
             @Override
             public void afterProcessCompleted(ProcessCompletedEvent processCompletedEvent) {
-                log(processCompletedEvent);
+                log(AuditEventType.PROCESS,
+                    processCompletedEvent);
             }
 
             @Override
             public void beforeNodeTriggered(ProcessNodeTriggeredEvent processNodeTriggeredEvent) {
-                log(processNodeTriggeredEvent);
+                log(AuditEventType.PROCESS,
+                    processNodeTriggeredEvent);
             }
 
             @Override
             public void afterNodeTriggered(ProcessNodeTriggeredEvent processNodeTriggeredEvent) {
-                log(processNodeTriggeredEvent);
+                log(AuditEventType.PROCESS,
+                    processNodeTriggeredEvent);
             }
 
             @Override
             public void beforeNodeLeft(ProcessNodeLeftEvent processNodeLeftEvent) {
-                log(processNodeLeftEvent);
+                log(AuditEventType.PROCESS,
+                    processNodeLeftEvent);
             }
 
             @Override
             public void afterNodeLeft(ProcessNodeLeftEvent processNodeLeftEvent) {
-                log(processNodeLeftEvent);
+                log(AuditEventType.PROCESS,
+                    processNodeLeftEvent);
             }
 
             @Override
             public void beforeVariableChanged(ProcessVariableChangedEvent processVariableChangedEvent) {
-                log(processVariableChangedEvent);
+                log(AuditEventType.PROCESS,
+                    processVariableChangedEvent);
             }
 
             @Override
             public void afterVariableChanged(ProcessVariableChangedEvent processVariableChangedEvent) {
-                log(processVariableChangedEvent);
+                log(AuditEventType.PROCESS,
+                    processVariableChangedEvent);
             }
         });
     }
@@ -122,52 +160,65 @@ public class AuditLogger {
         ksession.addEventListener(new AgendaEventListener() {
             @Override
             public void matchCreated(MatchCreatedEvent matchCreatedEvent) {
-                log(matchCreatedEvent);
+                log(AuditEventType.MATCH,
+                    matchCreatedEvent);
             }
 
             @Override
             public void matchCancelled(MatchCancelledEvent matchCancelledEvent) {
-                log(matchCancelledEvent);
+                log(AuditEventType.MATCH,
+                    matchCancelledEvent);
             }
 
             @Override
             public void beforeMatchFired(BeforeMatchFiredEvent beforeMatchFiredEvent) {
-                log(beforeMatchFiredEvent);
+                log(AuditEventType.MATCH,
+                    beforeMatchFiredEvent);
             }
 
             @Override
             public void afterMatchFired(AfterMatchFiredEvent afterMatchFiredEvent) {
-                logs.add("Rule " + afterMatchFiredEvent.getMatch().getRule() + " fired.");
+                if (isRecorded(AuditEventType.RULE_FIRED)) {
+                    final Rule rule = afterMatchFiredEvent.getMatch().getRule();
+                    record(AuditEventType.RULE_FIRED,
+                           () -> "Rule " + rule + " fired.");
+                }
             }
 
             @Override
             public void agendaGroupPopped(AgendaGroupPoppedEvent agendaGroupPoppedEvent) {
-                log(agendaGroupPoppedEvent);
+                log(AuditEventType.AGENDA_GROUP,
+                    agendaGroupPoppedEvent);
             }
 
             @Override
             public void agendaGroupPushed(AgendaGroupPushedEvent agendaGroupPushedEvent) {
-                log(agendaGroupPushedEvent);
+                log(AuditEventType.AGENDA_GROUP,
+                    agendaGroupPushedEvent);
             }
 
             @Override
             public void beforeRuleFlowGroupActivated(RuleFlowGroupActivatedEvent ruleFlowGroupActivatedEvent) {
-                log(ruleFlowGroupActivatedEvent);
+                log(AuditEventType.RULE_FLOW_GROUP,
+                    ruleFlowGroupActivatedEvent);
             }
 
             @Override
             public void afterRuleFlowGroupActivated(RuleFlowGroupActivatedEvent ruleFlowGroupActivatedEvent) {
-                log(ruleFlowGroupActivatedEvent);
+                log(AuditEventType.RULE_FLOW_GROUP,
+                    ruleFlowGroupActivatedEvent);
             }
 
             @Override
             public void beforeRuleFlowGroupDeactivated(RuleFlowGroupDeactivatedEvent ruleFlowGroupDeactivatedEvent) {
-                log(ruleFlowGroupDeactivatedEvent);
+                log(AuditEventType.RULE_FLOW_GROUP,
+                    ruleFlowGroupDeactivatedEvent);
             }
 
             @Override
             public void afterRuleFlowGroupDeactivated(RuleFlowGroupDeactivatedEvent ruleFlowGroupDeactivatedEvent) {
-                log(ruleFlowGroupDeactivatedEvent);
+                log(AuditEventType.RULE_FLOW_GROUP,
+                    ruleFlowGroupDeactivatedEvent);
             }
         });
     }
@@ -176,46 +227,75 @@ public class AuditLogger {
         ksession.addEventListener(new RuleRuntimeEventListener() {
             @Override
             public void objectInserted(ObjectInsertedEvent objectInsertedEvent) {
+                if (!isRecorded(AuditEventType.FACT_INSERTED)) {
+                    return;
+                }
                 Object object = objectInsertedEvent.getObject();
                 Rule rule = objectInsertedEvent.getRule();
                 if (rule == null) {
-                    logs.add("Fact " + object.getClass().getName() + " inserted. Fact[ " + object.toString() + " ].");
+                    record(AuditEventType.FACT_INSERTED,
+                           () -> "Fact " + object.getClass().getName() + " inserted. Fact[ " + object.toString() + " ].");
                 } else {
-                    logs.add("Fact " + object.getClass().getName() + " inserted in rule " + rule.getName() + ". Fact[ " + object.toString() + " ].");
+                    record(AuditEventType.FACT_INSERTED,
+                           () -> "Fact " + object.getClass().getName() + " inserted in rule " + rule.getName() + ". Fact[ " + object.toString() + " ].");
                 }
             }
 
             @Override
             public void objectUpdated(ObjectUpdatedEvent objectUpdatedEvent) {
+                if (!isRecorded(AuditEventType.FACT_UPDATED)) {
+                    return;
+                }
                 Object object = objectUpdatedEvent.getObject();
                 Rule rule = objectUpdatedEvent.getRule();
                 Object oldObject = objectUpdatedEvent.getOldObject();
 
                 if (rule == null) {
 
-                    logs.add("Object " + object.getClass().getName() + " updated. Old fact[ " + oldObject.toString()
-                             + " ]. New fact[ " + object.toString() + " ].");
+                    record(AuditEventType.FACT_UPDATED,
+                           () -> "Object " + object.getClass().getName() + " updated. Old fact[ " + oldObject.toString()
+                                   + " ]. New fact[ " + object.toString() + " ].");
                 } else {
-                    logs.add("Object " + object.getClass().getName() + " updated in rule " + rule.getName()
-                             + ". Old fact[ " + oldObject.toString()
-                             + " ]. New fact[ " + object.toString() + " ].");
+                    record(AuditEventType.FACT_UPDATED,
+                           () -> "Object " + object.getClass().getName() + " updated in rule " + rule.getName()
+                                   + ". Old fact[ " + oldObject.toString()
+                                   + " ]. New fact[ " + object.toString() + " ].");
                 }
             }
 
             @Override
             public void objectDeleted(ObjectDeletedEvent objectDeletedEvent) {
+                if (!isRecorded(AuditEventType.FACT_DELETED)) {
+                    return;
+                }
                 Object oldObject = objectDeletedEvent.getOldObject();
                 Rule rule = objectDeletedEvent.getRule();
                 if (rule == null) {
-                    logs.add("Object " + oldObject.getClass().getName() + " deleted. Fact[ " + oldObject.toString() + " ].");
+                    record(AuditEventType.FACT_DELETED,
+                           () -> "Object " + oldObject.getClass().getName() + " deleted. Fact[ " + oldObject.toString() + " ].");
                 } else {
-                    logs.add("Object " + oldObject.getClass().getName() + " deleted in rule " + rule.getName() + ". Fact[ " + oldObject.toString() + " ].");
+                    record(AuditEventType.FACT_DELETED,
+                           () -> "Object " + oldObject.getClass().getName() + " deleted in rule " + rule.getName() + ". Fact[ " + oldObject.toString() + " ].");
                 }
             }
         });
     }
 
-    private void log(Object o) {
-        logs.add(o.toString());
+    private boolean isRecorded(final AuditEventType type) {
+        return eventTypes.contains(type);
+    }
+
+    private void log(final AuditEventType type,
+                     final Object event) {
+        if (isRecorded(type)) {
+            record(type,
+                   event::toString);
+        }
+    }
+
+    private void record(final AuditEventType type,
+                        final Supplier<String> formatter) {
+        log.add(new AuditEvent(type,
+                               formatter));
     }
 }
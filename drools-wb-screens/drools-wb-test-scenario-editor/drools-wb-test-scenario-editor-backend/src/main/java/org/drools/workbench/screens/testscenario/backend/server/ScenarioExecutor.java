@@ -0,0 +1,148 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.testscenario.backend.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+
+/**
+ * Bounded pool on which the Test Scenarios of a folder are loaded and run. It is dedicated to Test Scenarios, so
+ * long runs neither compete with other users of the common ForkJoinPool nor exhaust the server's threads. Tasks
+ * run with the context class loader of the thread that submitted them.
+ */
+@ApplicationScoped
+public class ScenarioExecutor {
+
+    static final int MAX_THREADS = 4;
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private final ExecutorService executorService;
+
+    public ScenarioExecutor() {
+        this(Math.max(1,
+                      Math.min(MAX_THREADS,
+                               Runtime.getRuntime().availableProcessors())));
+    }
+
+    ScenarioExecutor(final int threads) {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads,
+                                                                   threads,
+                                                                   KEEP_ALIVE_SECONDS,
+                                                                   TimeUnit.SECONDS,
+                                                                   new LinkedBlockingQueue<>(),
+                                                                   new ScenarioThreadFactory());
+        //Idle threads are released, so the pool holds no threads between runs
+        executor.allowCoreThreadTimeOut(true);
+        this.executorService = executor;
+    }
+
+    /**
+     * Applies a function to each item concurrently.
+     * @param items Items to process
+     * @param function Function to apply to each item. It must be safe to call from several threads.
+     * @return Results in the order of the items
+     * @throws RuntimeException The first exception thrown by the function. The remaining items are cancelled.
+     */
+    public <T, R> List<R> map(final List<T> items,
+                              final Function<T, R> function) {
+        final List<R> results = new ArrayList<>(items.size());
+        if (items.size() < 2) {
+            for (T item : items) {
+                results.add(function.apply(item));
+            }
+            return results;
+        }
+
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        final List<Future<R>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(executorService.submit(() -> apply(classLoader,
+                                                           function,
+                                                           item)));
+        }
+
+        try {
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            cancel(futures);
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    private static <T, R> R apply(final ClassLoader classLoader,
+                                  final Function<T, R> function,
+                                  final T item) {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader previousClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            return function.apply(item);
+        } finally {
+            thread.setContextClassLoader(previousClassLoader);
+        }
+    }
+
+    private static <R> void cancel(final List<Future<R>> futures) {
+        for (Future<R> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    private static class ScenarioThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable,
+                                             "test-scenario-runner-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -43,13 +43,13 @@ public class ScenarioLoader {
     @Inject
     private ScenarioTestEditorService scenarioTestEditorService;
 
-    public List<Scenario> loadScenarios(Path testResourcePath) {
-        List<Scenario> scenarios = new ArrayList<Scenario>();
+    @Inject
+    private ScenarioExecutor scenarioExecutor;
 
-        for (Path path : loadScenarioPaths(testResourcePath)) {
-            scenarios.add(scenarioTestEditorService.load(path));
-        }
-        return scenarios;
+    public List<Scenario> loadScenarios(Path testResourcePath) {
+        //Scenarios are independent of each other so are read and unmarshalled concurrently
+        return scenarioExecutor.map(loadScenarioPaths(testResourcePath),
+                                    path -> scenarioTestEditorService.load(path));
     }
 
     private List<Path> loadScenarioPaths(final Path path) {
@@ -17,12 +17,16 @@
 package org.drools.workbench.screens.testscenario.backend.server;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 
 import org.drools.workbench.models.testscenarios.backend.ScenarioRunner4JUnit;
@@ -33,6 +37,7 @@ import org.guvnor.common.services.backend.exceptions.ExceptionUtilities;
 import org.guvnor.common.services.shared.exceptions.GenericPortableException;
 import org.guvnor.common.services.shared.test.TestResultMessage;
 import org.guvnor.common.services.shared.test.TestService;
+import org.guvnor.structure.config.SystemRepositoryChangedEvent;
 import org.guvnor.structure.server.config.ConfigGroup;
 import org.guvnor.structure.server.config.ConfigItem;
 import org.guvnor.structure.server.config.ConfigType;
@@ -63,6 +68,13 @@ public class ScenarioRunnerService
     private SessionService sessionService;
     private Event<TestResultMessage> defaultTestResultMessageEvent;
     private ConfigurationService configurationService;
+    private AuditLogStore auditLogStore;
+    private ScenarioExecutor scenarioExecutor;
+
+    //Lazily read from the editor configuration and cleared when the configuration changes
+    private volatile Integer maxRuleFirings;
+    private volatile Integer auditLogCapacity;
+    private volatile Set<AuditEventType> auditLogEventTypes;
 
     public ScenarioRunnerService() {
     }
@@ -72,12 +84,16 @@ public class ScenarioRunnerService
                                  final Event<TestResultMessage> defaultTestResultMessageEvent,
                                  final SessionService sessionService,
                                  final KieModuleService moduleService,
-                                 final ScenarioLoader scenarioLoader) {
+                                 final ScenarioLoader scenarioLoader,
+                                 final AuditLogStore auditLogStore,
+                                 final ScenarioExecutor scenarioExecutor) {
         this.configurationService = configurationService;
         this.defaultTestResultMessageEvent = defaultTestResultMessageEvent;
         this.sessionService = sessionService;
         this.moduleService = moduleService;
         this.scenarioLoader = scenarioLoader;
+        this.auditLogStore = auditLogStore;
+        this.scenarioExecutor = scenarioExecutor;
     }
 
     public TestScenarioResult run(final String identifier,
@@ -91,7 +107,9 @@ public class ScenarioRunnerService
                           loadKSession(module,
                                        ksessionName));
 
-            final AuditLogger auditLogger = new AuditLogger(ksessions);
+            final AuditLogger auditLogger = new AuditLogger(ksessions,
+                                                            getAuditLogCapacity(),
+                                                            getAuditLogEventTypes());
 
             final ScenarioRunner4JUnit scenarioRunner = new ScenarioRunner4JUnit(
                     scenario,
@@ -102,8 +120,13 @@ public class ScenarioRunnerService
                 scenarioRunner,
                 defaultTestResultMessageEvent);
 
+            final AuditLog auditLog = auditLogger.getAuditLog();
             return new TestScenarioResult(scenario,
-                                          auditLogger.getLog());
+                                          auditLog.getMessages(0,
+                                                               ScenarioTestEditorService.AUDIT_LOG_PAGE_SIZE),
+                                          auditLogStore.put(auditLog),
+                                          auditLog.size(),
+                                          auditLog.getDiscarded());
         } catch (InitializationError initializationError) {
             throw new GenericPortableException(initializationError.getMessage());
         }
@@ -123,25 +146,106 @@ public class ScenarioRunnerService
                             final Event<TestResultMessage> customTestResultEvent) {
         try {
             final List<Scenario> scenarios = scenarioLoader.loadScenarios(path);
+            final KieModule module = moduleService.resolveModule(path);
+            final int maxRuleFirings = getMaxRuleFirings();
 
-            ScenarioRunner4JUnit scenarioRunner = new ScenarioRunner4JUnit(
-                    scenarios,
-                    getKSessions(path,
-                                 scenarios),
-                    getMaxRuleFirings());
+            //Create one KieSession for each distinct name up-front; the first creation for a name builds its KieBase
+            //and so must not happen concurrently. These sessions are used by the first Scenario requiring them, with
+            //other Scenarios creating their own from the (by then) built KieBase.
+            final Map<String, KieSession> initialKSessions = Collections.synchronizedMap(new HashMap<>());
+            for (Scenario scenario : scenarios) {
+                final String ksessionName = getKSessionName(scenario.getKSessions());
+                if (!initialKSessions.containsKey(ksessionName)) {
+                    final KieSession ksession = loadKSession(module,
+                                                             ksessionName);
+                    if (ksession != null) {
+                        initialKSessions.put(ksessionName,
+                                             ksession);
+                    }
+                }
+            }
 
-            run(identifier,
-                scenarioRunner,
-                customTestResultEvent);
+            //Each Scenario runs against its own KieSession, disposed once run, so Scenarios are isolated and run concurrently
+            final long startTime = System.currentTimeMillis();
+            final List<ScenarioRunResult> results;
+            try {
+                results = scenarioExecutor.map(scenarios,
+                                               scenario -> run(scenario,
+                                                               module,
+                                                               initialKSessions,
+                                                               maxRuleFirings));
+            } finally {
+                //Sessions not taken by a Scenario, e.g. when a run failed
+                for (String ksessionName : new ArrayList<>(initialKSessions.keySet())) {
+                    final KieSession ksession = initialKSessions.remove(ksessionName);
+                    if (ksession != null) {
+                        ksession.dispose();
+                    }
+                }
+            }
+
+            int runCount = 0;
+            final List<org.guvnor.common.services.shared.test.Failure> failures = new ArrayList<>();
+            for (ScenarioRunResult result : results) {
+                runCount += result.getRunCount();
+                failures.addAll(result.getFailures());
+            }
+
+            customTestResultEvent.fire(
+                    new TestResultMessage(
+                            identifier,
+                            runCount,
+                            System.currentTimeMillis() - startTime,
+                            failures));
         } catch (Exception e) {
             throw ExceptionUtilities.handleException(e);
         }
     }
 
+    private ScenarioRunResult run(final Scenario scenario,
+                                  final KieModule module,
+                                  final Map<String, KieSession> initialKSessions,
+                                  final int maxRuleFirings) {
+        final String ksessionName = getKSessionName(scenario.getKSessions());
+        KieSession ksession = initialKSessions.remove(ksessionName);
+        if (ksession == null) {
+            ksession = loadKSession(module,
+                                    ksessionName);
+        }
+
+        final Map<String, KieSession> ksessions = new HashMap<String, KieSession>();
+        ksessions.put(ksessionName,
+                      ksession);
+
+        try {
+            return run(new ScenarioRunner4JUnit(scenario,
+                                                ksessions,
+                                                maxRuleFirings));
+        } catch (InitializationError initializationError) {
+            throw new GenericPortableException(initializationError.getMessage());
+        } finally {
+            if (ksession != null) {
+                ksession.dispose();
+            }
+        }
+    }
+
     private void run(final String identifier,
                      final ScenarioRunner4JUnit scenarioRunner,
                      final Event<TestResultMessage> testResultMessageEvent) {
 
+        final ScenarioRunResult result = run(scenarioRunner);
+
+        testResultMessageEvent.fire(
+                new TestResultMessage(
+                        identifier,
+                        result.getRunCount(),
+                        result.getRunTime(),
+                        result.getFailures()));
+    }
+
+    private ScenarioRunResult run(final ScenarioRunner4JUnit scenarioRunner) {
+
         final List<org.guvnor.common.services.shared.test.Failure> failures = new ArrayList<org.guvnor.common.services.shared.test.Failure>();
 
         JUnitCore jUnitCore = new JUnitCore();
@@ -157,38 +261,85 @@ public class ScenarioRunnerService
 
         failures.addAll(failuresToFailures(result.getFailures()));
 
-        testResultMessageEvent.fire(
-                new TestResultMessage(
-                        identifier,
-                        result.getRunCount(),
-                        result.getRunTime(),
-                        failures));
+        return new ScenarioRunResult(result.getRunCount(),
+                                     result.getRunTime(),
+                                     failures);
     }
 
-    private int getMaxRuleFirings() {
+    public void onSystemRepositoryChanged(final @Observes SystemRepositoryChangedEvent event) {
+        //Editor settings are held in the system repository
+        maxRuleFirings = null;
+        auditLogCapacity = null;
+        auditLogEventTypes = null;
+    }
+
+    int getMaxRuleFirings() {
+        Integer value = maxRuleFirings;
+        if (value == null) {
+            value = loadMaxRuleFirings();
+            maxRuleFirings = value;
+        }
+        return value;
+    }
+
+    private int loadMaxRuleFirings() {
+        final Object value = getEditorSetting(ScenarioTestEditorService.TEST_SCENARIO_EDITOR_MAX_RULE_FIRINGS);
+        return value == null ? 0 : (Integer) value;
+    }
+
+    int getAuditLogCapacity() {
+        Integer value = auditLogCapacity;
+        if (value == null) {
+            value = loadAuditLogCapacity();
+            auditLogCapacity = value;
+        }
+        return value;
+    }
+
+    private int loadAuditLogCapacity() {
+        final Object value = getEditorSetting(ScenarioTestEditorService.TEST_SCENARIO_EDITOR_AUDIT_LOG_CAPACITY);
+        if (value == null) {
+            return AuditLogger.DEFAULT_CAPACITY;
+        }
+        final int capacity = Integer.parseInt(value.toString().trim());
+        return capacity > 0 ? capacity : AuditLogger.DEFAULT_CAPACITY;
+    }
+
+    Set<AuditEventType> getAuditLogEventTypes() {
+        Set<AuditEventType> value = auditLogEventTypes;
+        if (value == null) {
+            value = loadAuditLogEventTypes();
+            auditLogEventTypes = value;
+        }
+        return value;
+    }
+
+    //A comma separated list of AuditEventType names. All events are recorded if not set.
+    private Set<AuditEventType> loadAuditLogEventTypes() {
+        final Object value = getEditorSetting(ScenarioTestEditorService.TEST_SCENARIO_EDITOR_AUDIT_LOG_EVENT_TYPES);
+        if (value == null || value.toString().trim().isEmpty()) {
+            return EnumSet.allOf(AuditEventType.class);
+        }
+        final Set<AuditEventType> eventTypes = EnumSet.noneOf(AuditEventType.class);
+        for (String eventType : value.toString().split(",")) {
+            if (!eventType.trim().isEmpty()) {
+                eventTypes.add(AuditEventType.valueOf(eventType.trim()));
+            }
+        }
+        return eventTypes;
+    }
+
+    private Object getEditorSetting(final String name) {
         for (ConfigGroup editorConfigGroup : configurationService.getConfiguration(ConfigType.EDITOR)) {
             if (ScenarioTestEditorService.TEST_SCENARIO_EDITOR_SETTINGS.equals(editorConfigGroup.getName())) {
                 for (ConfigItem item : editorConfigGroup.getItems()) {
-                    String itemName = item.getName();
-                    if (itemName.equals(ScenarioTestEditorService.TEST_SCENARIO_EDITOR_MAX_RULE_FIRINGS)) {
-                        return (Integer) item.getValue();
+                    if (name.equals(item.getName())) {
+                        return item.getValue();
                     }
                 }
             }
         }
-        return 0;
-    }
-
-    private Map<String, KieSession> getKSessions(Path path,
-                                                 List<Scenario> scenarios) {
-        Map<String, KieSession> ksessions = new HashMap<String, KieSession>();
-        for (Scenario scenario : scenarios) {
-            String ksessionName = getKSessionName(scenario.getKSessions());
-            ksessions.put(ksessionName,
-                          loadKSession(moduleService.resolveModule(path),
-                                       ksessionName));
-        }
-        return ksessions;
+        return null;
     }
 
     private KieSession loadKSession(KieModule module,
@@ -208,4 +359,31 @@ public class ScenarioRunnerService
 
         return ksession;
     }
+
+    private static class ScenarioRunResult {
+
+        private final int runCount;
+        private final long runTime;
+        private final List<org.guvnor.common.services.shared.test.Failure> failures;
+
+        private ScenarioRunResult(final int runCount,
+                                  final long runTime,
+                                  final List<org.guvnor.common.services.shared.test.Failure> failures) {
+            this.runCount = runCount;
+            this.runTime = runTime;
+            this.failures = failures;
+        }
+
+        int getRunCount() {
+            return runCount;
+        }
+
+        long getRunTime() {
+            return runTime;
+        }
+
+        List<org.guvnor.common.services.shared.test.Failure> getFailures() {
+            return failures;
+        }
+    }
 }
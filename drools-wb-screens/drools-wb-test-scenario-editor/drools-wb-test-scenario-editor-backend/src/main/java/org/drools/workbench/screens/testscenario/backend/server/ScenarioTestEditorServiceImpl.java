@@ -31,6 +31,7 @@ import javax.inject.Named;
 
 import org.drools.workbench.models.testscenarios.backend.util.ScenarioXMLPersistence;
 import org.drools.workbench.models.testscenarios.shared.Scenario;
+import org.drools.workbench.screens.testscenario.model.AuditLogPage;
 import org.drools.workbench.screens.testscenario.model.TestScenarioModelContent;
 import org.drools.workbench.screens.testscenario.model.TestScenarioResult;
 import org.drools.workbench.screens.testscenario.service.ScenarioTestEditorService;
@@ -92,6 +93,9 @@ public class ScenarioTestEditorServiceImpl
     @Inject
     private ScenarioRunnerService scenarioRunner;
 
+    @Inject
+    private AuditLogStore auditLogStore;
+
     @Inject
     private CommentedOptionFactory commentedOptionFactory;
 
@@ -285,6 +289,16 @@ public class ScenarioTestEditorServiceImpl
         }
     }
 
+    @Override
+    public AuditLogPage loadAuditLog(final String auditLogId,
+                                     final int startIndex,
+                                     final int pageSize) {
+        return auditLogStore.getPage(auditLogId,
+                                     startIndex,
+                                     Math.min(pageSize,
+                                              AUDIT_LOG_PAGE_SIZE));
+    }
+
     void addDependentImportsToScenario(final Scenario scenario,
                                        final Path path) {
         final PackageDataModelOracle dataModel = getDataModel(path);
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.testscenario.backend.server;
+
+import java.util.Collections;
+
+import org.drools.workbench.screens.testscenario.model.AuditLogPage;
+import org.jboss.errai.security.shared.api.identity.User;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.rpc.SessionInfo;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AuditLogStoreTest {
+
+    @Mock
+    private SessionInfo sessionInfo;
+
+    @Mock
+    private User user;
+
+    private AuditLogStore store;
+
+    @Before
+    public void setUp() {
+        when(sessionInfo.getIdentity()).thenReturn(user);
+        when(user.getIdentifier()).thenReturn("user1");
+        store = spy(new AuditLogStore(sessionInfo));
+        doReturn(0L).when(store).currentTimeMillis();
+    }
+
+    @Test
+    public void testGetPage() {
+        final AuditLog log = new AuditLog(10);
+        log.add(new AuditEvent(AuditEventType.RULE_FIRED,
+                               "a"));
+        log.add(new AuditEvent(AuditEventType.RULE_FIRED,
+                               "b"));
+
+        final String auditLogId = store.put(log);
+        final AuditLogPage page = store.getPage(auditLogId,
+                                                1,
+                                                10);
+
+        assertEquals(Collections.singletonList("b"),
+                     page.getMessages());
+        assertEquals(1,
+                     page.getStartIndex());
+        assertEquals(2,
+                     page.getTotalSize());
+        assertFalse(page.hasMore());
+    }
+
+    @Test
+    public void testOtherUserCannotReadAuditLog() {
+        final AuditLog log = new AuditLog(10);
+        log.add(new AuditEvent(AuditEventType.RULE_FIRED,
+                               "a"));
+        final String auditLogId = store.put(log);
+
+        when(user.getIdentifier()).thenReturn("user2");
+
+        final AuditLogPage page = store.getPage(auditLogId,
+                                                0,
+                                                10);
+        assertTrue(page.getMessages().isEmpty());
+        assertEquals(0,
+                     page.getTotalSize());
+    }
+
+    @Test
+    public void testExpiredAuditLogsEvicted() {
+        final String auditLogId = store.put(new AuditLog(1));
+
+        doReturn(AuditLogStore.MAX_AGE_MILLIS + 1).when(store).currentTimeMillis();
+
+        assertEquals(0,
+                     store.getPage(auditLogId,
+                                   0,
+                                   10).getTotalSize());
+        assertEquals(0,
+                     store.size());
+    }
+
+    @Test
+    public void testOldestAuditLogsEvictedWhenMessagesTooLarge() {
+        final String message = new String(new char[(int) (AuditLogStore.MAX_MESSAGES_LENGTH / 2)]);
+        final String firstAuditLogId = store.put(makeAuditLog(message));
+        final String secondAuditLogId = store.put(makeAuditLog(message));
+        final String thirdAuditLogId = store.put(makeAuditLog(message));
+
+        assertEquals(2,
+                     store.size());
+        assertTrue(store.getPage(firstAuditLogId,
+                                 0,
+                                 10).getMessages().isEmpty());
+        assertEquals(1,
+                     store.getPage(secondAuditLogId,
+                                   0,
+                                   10).getMessages().size());
+        assertEquals(1,
+                     store.getPage(thirdAuditLogId,
+                                   0,
+                                   10).getMessages().size());
+    }
+
+    private AuditLog makeAuditLog(final String message) {
+        final AuditLog log = new AuditLog(1);
+        log.add(new AuditEvent(AuditEventType.RULE_FIRED,
+                               message));
+        return log;
+    }
+}
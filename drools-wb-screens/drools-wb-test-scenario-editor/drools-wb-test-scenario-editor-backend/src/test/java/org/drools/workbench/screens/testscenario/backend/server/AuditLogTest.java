@@ -0,0 +1,106 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.testscenario.backend.server;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class AuditLogTest {
+
+    @Test
+    public void testOrderAndDuplicatesRetained() {
+        final AuditLog log = new AuditLog(10);
+        log.add(event("a"));
+        log.add(event("b"));
+        log.add(event("a"));
+
+        assertEquals(Arrays.asList("a", "b", "a"),
+                     log.getMessages(0,
+                                     10));
+    }
+
+    @Test
+    public void testOldestEventsDiscardedWhenFull() {
+        final AuditLog log = new AuditLog(2);
+        log.add(event("a"));
+        log.add(event("b"));
+        log.add(event("c"));
+
+        assertEquals(2,
+                     log.size());
+        assertEquals(1,
+                     log.getDiscarded());
+        assertEquals(Arrays.asList("b", "c"),
+                     log.getMessages(0,
+                                     10));
+    }
+
+    @Test
+    public void testPaging() {
+        final AuditLog log = new AuditLog(10);
+        log.add(event("a"));
+        log.add(event("b"));
+        log.add(event("c"));
+
+        assertEquals(Collections.singletonList("b"),
+                     log.getMessages(1,
+                                     1));
+        assertEquals(Collections.singletonList("c"),
+                     log.getMessages(2,
+                                     5));
+        assertEquals(Collections.emptyList(),
+                     log.getMessages(3,
+                                     5));
+    }
+
+    @Test
+    public void testMessagesFormattedOnceWhenRead() {
+        final AtomicInteger formatted = new AtomicInteger();
+        final AuditLog log = new AuditLog(1);
+        log.add(new AuditEvent(AuditEventType.RULE_FIRED,
+                               () -> "a" + formatted.incrementAndGet()));
+        log.add(new AuditEvent(AuditEventType.RULE_FIRED,
+                               () -> "b" + formatted.incrementAndGet()));
+
+        //The discarded event is never formatted
+        assertEquals(0,
+                     formatted.get());
+        assertEquals(Collections.singletonList("b1"),
+                     log.getMessages(0,
+                                     10));
+        assertEquals(Collections.singletonList("b1"),
+                     log.getMessages(0,
+                                     10));
+        assertEquals(1,
+                     formatted.get());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+        new AuditLog(0);
+    }
+
+    private AuditEvent event(final String message) {
+        return new AuditEvent(AuditEventType.RULE_FIRED,
+                              message);
+    }
+}
@@ -16,12 +16,26 @@
 
 package org.drools.workbench.screens.testscenario.backend.server;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
+import org.kie.api.definition.rule.Rule;
+import org.kie.api.event.rule.AfterMatchFiredEvent;
+import org.kie.api.event.rule.AgendaEventListener;
+import org.kie.api.event.rule.ObjectInsertedEvent;
+import org.kie.api.event.rule.RuleRuntimeEventListener;
 import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.Match;
+import org.mockito.ArgumentCaptor;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class AuditLoggerTest {
 
@@ -35,4 +49,69 @@ public class AuditLoggerTest {
 
         assertNotNull(auditLogger.getLog());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testEventTypeFilter() throws Exception {
+        final KieSession ksession = mock(KieSession.class);
+
+        final AuditLogger auditLogger = new AuditLogger(Collections.singletonMap("ksession",
+                                                                                 ksession),
+                                                        10,
+                                                        EnumSet.of(AuditEventType.RULE_FIRED));
+
+        final ArgumentCaptor<AgendaEventListener> agendaListener = ArgumentCaptor.forClass(AgendaEventListener.class);
+        final ArgumentCaptor<RuleRuntimeEventListener> ruleRuntimeListener = ArgumentCaptor.forClass(RuleRuntimeEventListener.class);
+        verify(ksession).addEventListener(agendaListener.capture());
+        verify(ksession).addEventListener(ruleRuntimeListener.capture());
+
+        final ObjectInsertedEvent insertedEvent = mock(ObjectInsertedEvent.class);
+        when(insertedEvent.getObject()).thenReturn("fact");
+        ruleRuntimeListener.getValue().objectInserted(insertedEvent);
+
+        final Rule rule = mock(Rule.class);
+        when(rule.toString()).thenReturn("rule1");
+        final Match match = mock(Match.class);
+        when(match.getRule()).thenReturn(rule);
+        final AfterMatchFiredEvent firedEvent = mock(AfterMatchFiredEvent.class);
+        when(firedEvent.getMatch()).thenReturn(match);
+        agendaListener.getValue().afterMatchFired(firedEvent);
+        agendaListener.getValue().afterMatchFired(firedEvent);
+
+        assertEquals(2,
+                     auditLogger.getLog().size());
+        assertEquals("Rule rule1 fired.",
+                     auditLogger.getLog().get(0));
+    }
+
+    @Test
+    public void testFactFormattedOnlyWhenRead() throws Exception {
+        final KieSession ksession = mock(KieSession.class);
+
+        final AuditLogger auditLogger = new AuditLogger(Collections.singletonMap("ksession",
+                                                                                 ksession),
+                                                        1,
+                                                        EnumSet.of(AuditEventType.FACT_INSERTED));
+
+        final ArgumentCaptor<RuleRuntimeEventListener> ruleRuntimeListener = ArgumentCaptor.forClass(RuleRuntimeEventListener.class);
+        verify(ksession).addEventListener(ruleRuntimeListener.capture());
+
+        final AtomicInteger formatted = new AtomicInteger();
+        final Object fact = new Object() {
+            @Override
+            public String toString() {
+                return "fact" + formatted.incrementAndGet();
+            }
+        };
+        final ObjectInsertedEvent insertedEvent = mock(ObjectInsertedEvent.class);
+        when(insertedEvent.getObject()).thenReturn(fact);
+        ruleRuntimeListener.getValue().objectInserted(insertedEvent);
+        ruleRuntimeListener.getValue().objectInserted(insertedEvent);
+
+        assertEquals(0,
+                     formatted.get());
+        assertEquals("Fact " + fact.getClass().getName() + " inserted. Fact[ fact1 ].",
+                     auditLogger.getLog().get(0));
+        assertEquals(1,
+                     formatted.get());
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.testscenario.backend.server;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+
+public class ScenarioExecutorTest {
+
+    private ScenarioExecutor executor;
+
+    @Before
+    public void setup() {
+        executor = new ScenarioExecutor(2);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void testResultsInItemOrder() {
+        assertEquals(Arrays.asList(2, 4, 6, 8),
+                     executor.map(Arrays.asList(1, 2, 3, 4),
+                                  item -> item * 2));
+    }
+
+    @Test
+    public void testEmptyItems() {
+        assertEquals(Collections.emptyList(),
+                     executor.map(Collections.<Integer>emptyList(),
+                                  item -> item * 2));
+    }
+
+    @Test
+    public void testTasksRunOnPoolWithCallersClassLoader() {
+        final Thread caller = Thread.currentThread();
+        final ClassLoader callerClassLoader = caller.getContextClassLoader();
+        final ClassLoader classLoader = new ClassLoader(callerClassLoader) {
+        };
+        caller.setContextClassLoader(classLoader);
+        try {
+            final List<Thread> threads = executor.map(Arrays.asList(1, 2),
+                                                      item -> Thread.currentThread());
+            final List<ClassLoader> classLoaders = executor.map(Arrays.asList(1, 2),
+                                                                item -> Thread.currentThread().getContextClassLoader());
+
+            for (Thread thread : threads) {
+                assertNotEquals(caller,
+                                thread);
+            }
+            for (ClassLoader taskClassLoader : classLoaders) {
+                assertSame(classLoader,
+                           taskClassLoader);
+            }
+        } finally {
+            caller.setContextClassLoader(callerClassLoader);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testExceptionPropagated() {
+        executor.map(Arrays.asList(1, 2),
+                     item -> {
+                         if (item == 2) {
+                             throw new IllegalArgumentException();
+                         }
+                         return item;
+                     });
+    }
+}
@@ -19,13 +19,21 @@ package org.drools.workbench.screens.testscenario.backend.server;
 import java.lang.annotation.Annotation;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Objects;
 
 import javax.enterprise.event.Event;
 
 import org.drools.workbench.models.testscenarios.shared.Scenario;
 import org.drools.workbench.screens.testscenario.model.TestScenarioResult;
+import org.drools.workbench.screens.testscenario.service.ScenarioTestEditorService;
 import org.guvnor.common.services.shared.test.TestResultMessage;
+import org.guvnor.structure.config.SystemRepositoryChangedEvent;
+import org.guvnor.structure.server.config.ConfigGroup;
+import org.guvnor.structure.server.config.ConfigItem;
+import org.guvnor.structure.server.config.ConfigType;
 import org.guvnor.structure.server.config.ConfigurationService;
 import org.junit.After;
 import org.junit.Before;
@@ -60,9 +68,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -88,25 +98,33 @@ public class ScenarioRunnerServiceTest {
 
     private TestResultMessageEventMock defaultTestResultMessageEvent;
 
+    private ConfigurationService configurationService;
+
     private KieSession kieSession;
     private KieContainer kieContainer;
 
+    private ScenarioExecutor scenarioExecutor;
+
     @Before
     public void setUp() throws Exception {
-        final ConfigurationService configurationService = mock(ConfigurationService.class);
+        configurationService = mock(ConfigurationService.class);
         final KieModuleService moduleService = mock(KieModuleService.class);
 
         defaultTestResultMessageEvent = spy(new TestResultMessageEventMock());
+        scenarioExecutor = new ScenarioExecutor(2);
 
         service = new ScenarioRunnerService(configurationService,
                                             defaultTestResultMessageEvent,
                                             sessionService,
                                             moduleService,
-                                            scenarioLoader);
+                                            scenarioLoader,
+                                            new AuditLogStore(),
+                                            scenarioExecutor);
     }
 
     @After
     public void tearDown() throws Exception {
+        scenarioExecutor.shutdown();
         if (Objects.nonNull(kieSession)) {
             kieSession.dispose();
             kieSession.destroy();
@@ -222,6 +240,9 @@ public class ScenarioRunnerServiceTest {
         scenarios.add(makeScenario("test3.scenario"));
         when(scenarioLoader.loadScenarios(path)).thenReturn(scenarios);
 
+        //Each Scenario runs against its own KieSession
+        doAnswer(invocation -> kieContainer.newKieSession()).when(sessionService).newDefaultKieSessionWithPseudoClock(any(KieModule.class));
+
         service.runAllTests("userName",
                             path);
 
@@ -229,6 +250,85 @@ public class ScenarioRunnerServiceTest {
         verify(defaultTestResultMessageEvent).fire(argumentCaptor.capture());
         assertEquals("userName",
                      argumentCaptor.getValue().getIdentifier());
+        assertEquals(3,
+                     argumentCaptor.getValue().getRunCount());
+        verify(sessionService,
+               times(3)).newDefaultKieSessionWithPseudoClock(any(KieModule.class));
+    }
+
+    @Test
+    public void testRunSeveralScenariosDisposesSessions() throws Exception {
+        initKieSession();
+        Path path = mock(Path.class);
+
+        ArrayList<Scenario> scenarios = new ArrayList<Scenario>();
+        scenarios.add(makeScenario("test1.scenario"));
+        scenarios.add(makeScenario("test2.scenario"));
+        when(scenarioLoader.loadScenarios(path)).thenReturn(scenarios);
+
+        final List<KieSession> ksessions = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            final KieSession ksession = spy(kieContainer.newKieSession());
+            ksessions.add(ksession);
+            return ksession;
+        }).when(sessionService).newDefaultKieSessionWithPseudoClock(any(KieModule.class));
+
+        service.runAllTests("userName",
+                            path);
+
+        //One session per Scenario, the first created before the Scenarios run
+        assertEquals(2,
+                     ksessions.size());
+        for (KieSession ksession : ksessions) {
+            verify(ksession).dispose();
+        }
+    }
+
+    @Test
+    public void testMaxRuleFiringsCached() throws Exception {
+        when(configurationService.getConfiguration(ConfigType.EDITOR)).thenReturn(Collections.emptyList());
+
+        assertEquals(0,
+                     service.getMaxRuleFirings());
+        assertEquals(0,
+                     service.getMaxRuleFirings());
+        verify(configurationService,
+               times(1)).getConfiguration(ConfigType.EDITOR);
+
+        service.onSystemRepositoryChanged(mock(SystemRepositoryChangedEvent.class));
+        service.getMaxRuleFirings();
+        verify(configurationService,
+               times(2)).getConfiguration(ConfigType.EDITOR);
+    }
+
+    @Test
+    public void testAuditLogSettings() throws Exception {
+        when(configurationService.getConfiguration(ConfigType.EDITOR)).thenReturn(Collections.emptyList());
+
+        assertEquals(AuditLogger.DEFAULT_CAPACITY,
+                     service.getAuditLogCapacity());
+        assertEquals(EnumSet.allOf(AuditEventType.class),
+                     service.getAuditLogEventTypes());
+
+        final ConfigGroup group = new ConfigGroup();
+        group.setName(ScenarioTestEditorService.TEST_SCENARIO_EDITOR_SETTINGS);
+        final ConfigItem<Integer> capacity = new ConfigItem<>();
+        capacity.setName(ScenarioTestEditorService.TEST_SCENARIO_EDITOR_AUDIT_LOG_CAPACITY);
+        capacity.setValue(100);
+        group.addConfigItem(capacity);
+        final ConfigItem<String> eventTypes = new ConfigItem<>();
+        eventTypes.setName(ScenarioTestEditorService.TEST_SCENARIO_EDITOR_AUDIT_LOG_EVENT_TYPES);
+        eventTypes.setValue("RULE_FIRED, FACT_INSERTED");
+        group.addConfigItem(eventTypes);
+        when(configurationService.getConfiguration(ConfigType.EDITOR)).thenReturn(Collections.singletonList(group));
+
+        service.onSystemRepositoryChanged(mock(SystemRepositoryChangedEvent.class));
+
+        assertEquals(100,
+                     service.getAuditLogCapacity());
+        assertEquals(EnumSet.of(AuditEventType.RULE_FIRED,
+                                AuditEventType.FACT_INSERTED),
+                     service.getAuditLogEventTypes());
     }
 
     @Test
@@ -16,6 +16,8 @@
 
 package org.drools.workbench.screens.testscenario.client;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -32,6 +34,7 @@ import org.drools.workbench.screens.testscenario.client.page.settings.SettingsPa
 import org.drools.workbench.screens.testscenario.client.resources.i18n.TestScenarioConstants;
 import org.drools.workbench.screens.testscenario.client.type.TestScenarioResourceType;
 import org.drools.workbench.screens.testscenario.client.utils.ScenarioUtils;
+import org.drools.workbench.screens.testscenario.model.AuditLogPage;
 import org.drools.workbench.screens.testscenario.model.TestScenarioModelContent;
 import org.drools.workbench.screens.testscenario.model.TestScenarioResult;
 import org.drools.workbench.screens.testscenario.service.ScenarioTestEditorService;
@@ -58,6 +61,7 @@ import org.uberfire.client.workbench.events.AbstractPlaceEvent;
 import org.uberfire.client.workbench.events.PlaceGainFocusEvent;
 import org.uberfire.client.workbench.events.PlaceHiddenEvent;
 import org.uberfire.ext.editor.commons.service.support.SupportsSaveAndRename;
+import org.uberfire.ext.widgets.common.client.callbacks.DefaultErrorCallback;
 import org.uberfire.ext.widgets.common.client.callbacks.HasBusyIndicatorDefaultErrorCallback;
 import org.uberfire.lifecycle.OnClose;
 import org.uberfire.lifecycle.OnMayClose;
@@ -213,7 +217,7 @@ public class ScenarioEditorPresenter
 
                              view.showResults();
 
-                             auditPage.showFiredRulesAuditLog(result.getLog());
+                             showAuditLog(result);
 
                              auditPage.showFiredRules(ScenarioUtils.findExecutionTrace(scenario));
 
@@ -228,6 +232,43 @@ public class ScenarioEditorPresenter
                                                              scenario);
     }
 
+    private void showAuditLog(final TestScenarioResult result) {
+        final List<String> log = new ArrayList<>();
+        if (result.getDiscardedAuditLogEntries() > 0) {
+            log.add(TestScenarioConstants.INSTANCE.AuditLogEntriesDiscarded(result.getDiscardedAuditLogEntries()));
+        }
+        log.addAll(result.getLog());
+        auditPage.showFiredRulesAuditLog(log);
+
+        setLoadMoreAuditLogCommand(result.hasMoreAuditLog(),
+                                   result.getAuditLogId(),
+                                   result.getLog().size());
+    }
+
+    //Further pages of the audit log are only loaded when the user asks for them
+    private void setLoadMoreAuditLogCommand(final boolean hasMore,
+                                            final String auditLogId,
+                                            final int startIndex) {
+        auditPage.setLoadMoreAuditLogCommand(hasMore ? () -> loadAuditLog(auditLogId,
+                                                                          startIndex) : null);
+    }
+
+    void loadAuditLog(final String auditLogId,
+                      final int startIndex) {
+        service.call(new RemoteCallback<AuditLogPage>() {
+                         @Override
+                         public void callback(final AuditLogPage page) {
+                             auditPage.appendFiredRulesAuditLog(page.getMessages());
+                             setLoadMoreAuditLogCommand(!page.getMessages().isEmpty() && page.hasMore(),
+                                                        auditLogId,
+                                                        startIndex + page.getMessages().size());
+                         }
+                     },
+                     new DefaultErrorCallback()).loadAuditLog(auditLogId,
+                                                              startIndex,
+                                                              ScenarioTestEditorService.AUDIT_LOG_PAGE_SIZE);
+    }
+
     private void redraw() {
         renderFixtures();
         settingsPage.refresh(view,
@@ -16,7 +16,7 @@
 
 package org.drools.workbench.screens.testscenario.client.page.audit;
 
-import java.util.Set;
+import java.util.Collection;
 
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
@@ -26,6 +26,7 @@ import org.drools.workbench.screens.testscenario.client.resources.i18n.TestScena
 import org.jboss.errai.common.client.ui.ElementWrapperWidget;
 import org.uberfire.client.mvp.UberElemental;
 import org.uberfire.client.views.pfly.multipage.PageImpl;
+import org.uberfire.mvp.Command;
 
 @Dependent
 public class AuditPage extends PageImpl {
@@ -34,21 +35,47 @@ public class AuditPage extends PageImpl {
 
         void showFiredRules(final ExecutionTrace executionTrace);
 
-        void showAuditLog(final Set<String> auditLogMessages);
+        void showAuditLog(final Collection<String> auditLogMessages);
+
+        void appendAuditLog(final Collection<String> auditLogMessages);
+
+        void setLoadMoreAuditLogVisible(final boolean visible);
     }
 
     private AuditPageView auditPageView;
 
+    private Command loadMoreAuditLogCommand;
+
     @Inject
     public AuditPage(final AuditPageView auditPageView) {
         super(ElementWrapperWidget.getWidget(auditPageView.getElement()), TestScenarioConstants.INSTANCE.AuditLog());
         this.auditPageView = auditPageView;
+        this.auditPageView.init(this);
     }
 
-    public void showFiredRulesAuditLog(final Set<String> logMessages) {
+    public void showFiredRulesAuditLog(final Collection<String> logMessages) {
         auditPageView.showAuditLog(logMessages);
     }
 
+    public void appendFiredRulesAuditLog(final Collection<String> logMessages) {
+        auditPageView.appendAuditLog(logMessages);
+    }
+
+    /**
+     * Sets the command executed when the user asks for more of the audit log.
+     * @param loadMoreAuditLogCommand The command, or null if the whole audit log is shown
+     */
+    public void setLoadMoreAuditLogCommand(final Command loadMoreAuditLogCommand) {
+        this.loadMoreAuditLogCommand = loadMoreAuditLogCommand;
+        auditPageView.setLoadMoreAuditLogVisible(loadMoreAuditLogCommand != null);
+    }
+
+    public void onLoadMoreAuditLog() {
+        if (loadMoreAuditLogCommand != null) {
+            loadMoreAuditLogCommand.execute();
+        }
+    }
+
     public void showFiredRules(final ExecutionTrace executionTrace) {
         auditPageView.showFiredRules(executionTrace);
     }
@@ -17,16 +17,20 @@
 package org.drools.workbench.screens.testscenario.client.page.audit;
 
 import java.util.Arrays;
-import java.util.Set;
+import java.util.Collection;
 
 import javax.enterprise.context.Dependent;
 import javax.inject.Inject;
 
+import elemental2.dom.HTMLButtonElement;
 import elemental2.dom.HTMLDivElement;
 import elemental2.dom.HTMLElement;
 import org.drools.workbench.models.testscenarios.shared.ExecutionTrace;
 import org.drools.workbench.screens.testscenario.client.resources.i18n.TestScenarioConstants;
+import org.jboss.errai.common.client.dom.MouseEvent;
 import org.jboss.errai.ui.shared.api.annotations.DataField;
+import org.jboss.errai.ui.shared.api.annotations.EventHandler;
+import org.jboss.errai.ui.shared.api.annotations.ForEvent;
 import org.jboss.errai.ui.shared.api.annotations.Templated;
 
 @Templated
@@ -44,13 +48,20 @@ public class AuditPageViewImpl implements AuditPage.AuditPageView {
     @DataField("audit-log-table")
     private AuditTable auditLogTable;
 
+    @DataField("load-more-audit-log")
+    private HTMLButtonElement loadMoreAuditLogButton;
+
     @Inject
     public AuditPageViewImpl(final HTMLDivElement root,
                              final AuditTable firedRulesTable,
-                             final AuditTable auditLogTable) {
+                             final AuditTable auditLogTable,
+                             final HTMLButtonElement loadMoreAuditLogButton) {
         this.root = root;
         this.firedRulesTable = firedRulesTable;
         this.auditLogTable = auditLogTable;
+        this.loadMoreAuditLogButton = loadMoreAuditLogButton;
+
+        this.loadMoreAuditLogButton.textContent = TestScenarioConstants.INSTANCE.ShowMoreAuditLog();
 
         this.auditLogTable.setTitle(TestScenarioConstants.INSTANCE.AuditLog());
         this.firedRulesTable.setTitle(TestScenarioConstants.INSTANCE.FiredRules());
@@ -72,7 +83,22 @@ public class AuditPageViewImpl implements AuditPage.AuditPageView {
     }
 
     @Override
-    public void showAuditLog(final Set<String> auditLogMessages) {
+    public void showAuditLog(final Collection<String> auditLogMessages) {
         auditLogTable.showItems(auditLogMessages);
     }
+
+    @Override
+    public void appendAuditLog(final Collection<String> auditLogMessages) {
+        auditLogTable.appendItems(auditLogMessages);
+    }
+
+    @Override
+    public void setLoadMoreAuditLogVisible(final boolean visible) {
+        loadMoreAuditLogButton.hidden = !visible;
+    }
+
+    @EventHandler("load-more-audit-log")
+    public void onLoadMoreAuditLogClick(final @ForEvent("click") MouseEvent event) {
+        presenter.onLoadMoreAuditLog();
+    }
 }
@@ -62,6 +62,10 @@ public class AuditTable implements IsElement {
     public void showItems(final Collection<String> textItems) {
         elemental2DomUtil.removeAllElementChildren(itemsContainer);
 
+        appendItems(textItems);
+    }
+
+    public void appendItems(final Collection<String> textItems) {
         textItems.stream()
                 .forEach(logMessage -> {
                     final AuditTableItem newItem = items.get();
@@ -217,6 +217,10 @@ public interface
 
     String AuditLog();
 
+    String AuditLogEntriesDiscarded(long number);
+
+    String ShowMoreAuditLog();
+
     String ShowEventsButton();
 
     String MaxRuleFiringsReachedWarning(int number);
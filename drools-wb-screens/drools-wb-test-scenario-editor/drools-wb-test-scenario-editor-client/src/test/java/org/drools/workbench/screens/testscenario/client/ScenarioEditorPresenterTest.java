@@ -30,6 +30,7 @@ import org.drools.workbench.screens.testscenario.client.page.audit.AuditPage;
 import org.drools.workbench.screens.testscenario.client.page.settings.SettingsPage;
 import org.drools.workbench.screens.testscenario.client.resources.i18n.TestScenarioConstants;
 import org.drools.workbench.screens.testscenario.client.type.TestScenarioResourceType;
+import org.drools.workbench.screens.testscenario.model.AuditLogPage;
 import org.drools.workbench.screens.testscenario.model.TestScenarioModelContent;
 import org.drools.workbench.screens.testscenario.model.TestScenarioResult;
 import org.drools.workbench.screens.testscenario.service.ScenarioTestEditorService;
@@ -84,6 +85,7 @@ import org.uberfire.workbench.model.menu.MenuItem;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Matchers.notNull;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.anyBoolean;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doNothing;
@@ -95,6 +97,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -232,7 +235,7 @@ public class ScenarioEditorPresenterTest {
         when(service.loadContent(any(Path.class))).thenReturn(testScenarioModelContent);
 
         final TestScenarioResult result = new TestScenarioResult(scenarioRunResult,
-                                                                 Collections.EMPTY_SET);
+                                                                 Collections.EMPTY_LIST);
         when(service.runScenario(eq("userName"),
                                  any(Path.class),
                                  eq(scenario))).thenReturn(result);
@@ -373,10 +376,60 @@ public class ScenarioEditorPresenterTest {
 
         verify(settingsPage).refresh(view, path, scenario);
 
-        verify(auditPage).showFiredRulesAuditLog(Collections.emptySet());
+        verify(auditPage).showFiredRulesAuditLog(Collections.emptyList());
         verify(auditPage).showFiredRules(notNull(ExecutionTrace.class));
     }
 
+    @Test
+    public void testRunScenarioLoadsRemainingAuditLog() throws Exception {
+        final ObservablePath path = mock(ObservablePath.class);
+        when(versionRecordManager.getCurrentPath()).thenReturn(path);
+
+        final TestScenarioResult result = new TestScenarioResult(scenarioRunResult,
+                                                                 Collections.singletonList("log 1"),
+                                                                 "auditLogId",
+                                                                 3,
+                                                                 0);
+        when(service.runScenario(eq("userName"),
+                                 any(Path.class),
+                                 eq(scenario))).thenReturn(result);
+        when(service.loadAuditLog("auditLogId",
+                                  1,
+                                  ScenarioTestEditorService.AUDIT_LOG_PAGE_SIZE)).thenReturn(new AuditLogPage(Collections.singletonList("log 2"),
+                                                                                                              1,
+                                                                                                              3));
+        when(service.loadAuditLog("auditLogId",
+                                  2,
+                                  ScenarioTestEditorService.AUDIT_LOG_PAGE_SIZE)).thenReturn(new AuditLogPage(Collections.singletonList("log 3"),
+                                                                                                              2,
+                                                                                                              3));
+
+        editor.onStartup(path,
+                         mock(PlaceRequest.class));
+        editor.onRunScenario();
+
+        verify(auditPage).showFiredRulesAuditLog(Collections.singletonList("log 1"));
+        verify(service,
+               never()).loadAuditLog(anyString(),
+                                     anyInt(),
+                                     anyInt());
+
+        final ArgumentCaptor<Command> loadMoreCaptor = ArgumentCaptor.forClass(Command.class);
+        verify(auditPage).setLoadMoreAuditLogCommand(loadMoreCaptor.capture());
+        loadMoreCaptor.getValue().execute();
+
+        verify(auditPage).appendFiredRulesAuditLog(Collections.singletonList("log 2"));
+        verify(auditPage,
+               never()).appendFiredRulesAuditLog(Collections.singletonList("log 3"));
+
+        verify(auditPage,
+               times(2)).setLoadMoreAuditLogCommand(loadMoreCaptor.capture());
+        loadMoreCaptor.getValue().execute();
+
+        verify(auditPage).appendFiredRulesAuditLog(Collections.singletonList("log 3"));
+        verify(auditPage).setLoadMoreAuditLogCommand(null);
+    }
+
     @Test
     public void testRunScenarioFail() throws Exception {
         final TestRunFailedErrorCallback callback = mock(TestRunFailedErrorCallback.class);
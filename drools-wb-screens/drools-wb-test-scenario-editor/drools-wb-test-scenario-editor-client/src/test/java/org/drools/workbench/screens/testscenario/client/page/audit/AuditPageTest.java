@@ -27,6 +27,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.uberfire.mvp.Command;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -65,4 +66,23 @@ public class AuditPageTest {
 
         verify(auditPageView).showFiredRules(executionTrace);
     }
+
+    @Test
+    public void testLoadMoreAuditLog() {
+        final Command command = mock(Command.class);
+
+        auditPage.setLoadMoreAuditLogCommand(command);
+        auditPage.onLoadMoreAuditLog();
+
+        verify(auditPageView).setLoadMoreAuditLogVisible(true);
+        verify(command).execute();
+    }
+
+    @Test
+    public void testNoMoreAuditLog() {
+        auditPage.setLoadMoreAuditLogCommand(null);
+        auditPage.onLoadMoreAuditLog();
+
+        verify(auditPageView).setLoadMoreAuditLogVisible(false);
+    }
 }
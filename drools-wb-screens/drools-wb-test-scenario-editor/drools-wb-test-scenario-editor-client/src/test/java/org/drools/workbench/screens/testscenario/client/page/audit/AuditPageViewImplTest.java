@@ -21,6 +21,7 @@ import java.util.Collections;
 import java.util.Set;
 
 import com.google.gwtmockito.GwtMockitoTestRunner;
+import elemental2.dom.HTMLButtonElement;
 import elemental2.dom.HTMLDivElement;
 import org.assertj.core.api.Assertions;
 import org.drools.workbench.models.testscenarios.shared.ExecutionTrace;
@@ -45,6 +46,12 @@ public class AuditPageViewImplTest {
     @Mock
     private AuditTable auditLogTable;
 
+    @Mock
+    private HTMLButtonElement loadMoreAuditLogButton;
+
+    @Mock
+    private AuditPage presenter;
+
     @Captor
     private ArgumentCaptor<Collection<String>> collectionCaptor;
 
@@ -52,7 +59,8 @@ public class AuditPageViewImplTest {
 
     @Before
     public void setUp() throws Exception {
-        testedView = new AuditPageViewImpl(root, firedRulesTable, auditLogTable);
+        testedView = new AuditPageViewImpl(root, firedRulesTable, auditLogTable, loadMoreAuditLogButton);
+        testedView.init(presenter);
     }
 
     @Test
@@ -76,4 +84,20 @@ public class AuditPageViewImplTest {
         verify(firedRulesTable).showItems(collectionCaptor.capture());
         Assertions.assertThat(collectionCaptor.getValue()).contains(rulesFired);
     }
+
+    @Test
+    public void testLoadMoreAuditLogVisible() {
+        testedView.setLoadMoreAuditLogVisible(true);
+        Assertions.assertThat(loadMoreAuditLogButton.hidden).isFalse();
+
+        testedView.setLoadMoreAuditLogVisible(false);
+        Assertions.assertThat(loadMoreAuditLogButton.hidden).isTrue();
+    }
+
+    @Test
+    public void testLoadMoreAuditLogClick() {
+        testedView.onLoadMoreAuditLogClick(null);
+
+        verify(presenter).onLoadMoreAuditLog();
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.workitems.backend.server;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.drools.workbench.models.datamodel.workitems.PortableWorkDefinition;
+import org.guvnor.structure.config.SystemRepositoryChangedEvent;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceBatchChangesEvent;
+import org.uberfire.workbench.events.ResourceChange;
+import org.uberfire.workbench.events.ResourceCopiedEvent;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceRenamed;
+import org.uberfire.workbench.events.ResourceRenamedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+/**
+ * Cache of the Work Item Definitions available to each Project. Definitions are parsed the first time they are
+ * requested for a Project and retained until either a Work Item Definition (.wid) resource within the Project
+ * changes or the system configuration (holding configured definitions) changes.
+ */
+@ApplicationScoped
+public class WorkItemDefinitionsCache {
+
+    private static final String WID_EXTENSION = ".wid";
+
+    //Keyed on the URI of the Project's root Path
+    private final Map<String, Set<PortableWorkDefinition>> projectWorkItemDefinitions = new ConcurrentHashMap<>();
+
+    //Incremented on every invalidation so definitions loaded concurrently with a change are not cached
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Returns the Work Item Definitions for a Project, loading them if they are not already cached.
+     * @param projectRoot Root Path of the Project
+     * @param loader Function to load the definitions if they are not cached
+     * @return Work Item Definitions. The returned Set is shared and must not be modified.
+     */
+    public Set<PortableWorkDefinition> getWorkItemDefinitions(final Path projectRoot,
+                                                              final Function<Path, Set<PortableWorkDefinition>> loader) {
+        final String projectKey = toKey(projectRoot);
+        final Set<PortableWorkDefinition> cached = projectWorkItemDefinitions.get(projectKey);
+        if (cached != null) {
+            return cached;
+        }
+        //Loading is performed outside of the map to avoid holding a lock whilst evaluating MVEL
+        final long loadVersion = version.get();
+        final Set<PortableWorkDefinition> workItemDefinitions = loader.apply(projectRoot);
+        synchronized (version) {
+            if (loadVersion == version.get()) {
+                projectWorkItemDefinitions.put(projectKey,
+                                               workItemDefinitions);
+            }
+        }
+        return workItemDefinitions;
+    }
+
+    public void invalidate() {
+        synchronized (version) {
+            version.incrementAndGet();
+            projectWorkItemDefinitions.clear();
+        }
+    }
+
+    void invalidate(final Path path) {
+        if (path == null || !path.getFileName().endsWith(WID_EXTENSION)) {
+            return;
+        }
+        final String uri = path.toURI();
+        synchronized (version) {
+            version.incrementAndGet();
+            projectWorkItemDefinitions.keySet().removeIf(uri::startsWith);
+        }
+    }
+
+    public void onSystemRepositoryChanged(final @Observes SystemRepositoryChangedEvent event) {
+        //Configured definitions (and editor settings) are held in the system repository
+        invalidate();
+    }
+
+    public void onResourceAdded(final @Observes ResourceAddedEvent event) {
+        invalidate(event.getPath());
+    }
+
+    public void onResourceUpdated(final @Observes ResourceUpdatedEvent event) {
+        invalidate(event.getPath());
+    }
+
+    public void onResourceDeleted(final @Observes ResourceDeletedEvent event) {
+        invalidate(event.getPath());
+    }
+
+    public void onResourceRenamed(final @Observes ResourceRenamedEvent event) {
+        invalidate(event.getPath());
+        invalidate(event.getDestinationPath());
+    }
+
+    public void onResourceCopied(final @Observes ResourceCopiedEvent event) {
+        invalidate(event.getDestinationPath());
+    }
+
+    public void onResourceBatchChanges(final @Observes ResourceBatchChangesEvent event) {
+        for (Map.Entry<Path, Collection<ResourceChange>> entry : event.getBatch().entrySet()) {
+            invalidate(entry.getKey());
+            for (ResourceChange change : entry.getValue()) {
+                if (change instanceof ResourceRenamed) {
+                    invalidate(((ResourceRenamed) change).getDestinationPath());
+                }
+            }
+        }
+    }
+
+    private String toKey(final Path projectRoot) {
+        final String uri = projectRoot.toURI();
+        return uri.endsWith("/") ? uri : uri + "/";
+    }
+}
@@ -114,6 +114,9 @@ public class WorkItemsEditorServiceImpl
     @Inject
     private ConfigWorkDefinitionsLoader configWorkDefinitionsLoader;
 
+    @Inject
+    private WorkItemDefinitionsCache workItemDefinitionsCache;
+
     @Inject
     private WorkItemsTypeDefinition resourceTypeDefinition;
 
@@ -354,33 +357,39 @@ public class WorkItemsEditorServiceImpl
 
     @Override
     public Set<PortableWorkDefinition> loadWorkItemDefinitions(final Path path) {
-        final Map<String, WorkDefinition> workDefinitions = new HashMap<String, WorkDefinition>();
-
         try {
-            //Load WorkItemDefinitions from VFS
             final Path projectRoot = moduleService.resolveModule(path).getRootPath();
-            workDefinitions.putAll(resourceWorkDefinitionsLoader.loadWorkDefinitions(projectRoot));
-
-            //Load WorkItemDefinitions from ConfigurationService
-            workDefinitions.putAll(configWorkDefinitionsLoader.loadWorkDefinitions());
-
-            //Copy the Work Items into Structures suitable for GWT
-            final Set<PortableWorkDefinition> workItems = new HashSet<PortableWorkDefinition>();
-            for (Map.Entry<String, WorkDefinition> entry : workDefinitions.entrySet()) {
-                final PortableWorkDefinition wid = new PortableWorkDefinition();
-                final WorkDefinitionImpl wd = (WorkDefinitionImpl) entry.getValue();
-                wid.setName(wd.getName());
-                wid.setDisplayName(wd.getDisplayName());
-                wid.setParameters(convertWorkItemParameters(entry.getValue().getParameters()));
-                wid.setResults(convertWorkItemParameters(entry.getValue().getResults()));
-                workItems.add(wid);
-            }
-            return workItems;
+            final Set<PortableWorkDefinition> workItems = workItemDefinitionsCache.getWorkItemDefinitions(projectRoot,
+                                                                                                         this::doLoadWorkItemDefinitions);
+            return new HashSet<PortableWorkDefinition>(workItems);
         } catch (Exception e) {
             throw ExceptionUtilities.handleException(e);
         }
     }
 
+    Set<PortableWorkDefinition> doLoadWorkItemDefinitions(final Path projectRoot) {
+        final Map<String, WorkDefinition> workDefinitions = new HashMap<String, WorkDefinition>();
+
+        //Load WorkItemDefinitions from VFS
+        workDefinitions.putAll(resourceWorkDefinitionsLoader.loadWorkDefinitions(projectRoot));
+
+        //Load WorkItemDefinitions from ConfigurationService
+        workDefinitions.putAll(configWorkDefinitionsLoader.loadWorkDefinitions());
+
+        //Copy the Work Items into Structures suitable for GWT
+        final Set<PortableWorkDefinition> workItems = new HashSet<PortableWorkDefinition>();
+        for (Map.Entry<String, WorkDefinition> entry : workDefinitions.entrySet()) {
+            final PortableWorkDefinition wid = new PortableWorkDefinition();
+            final WorkDefinitionImpl wd = (WorkDefinitionImpl) entry.getValue();
+            wid.setName(wd.getName());
+            wid.setDisplayName(wd.getDisplayName());
+            wid.setParameters(convertWorkItemParameters(entry.getValue().getParameters()));
+            wid.setResults(convertWorkItemParameters(entry.getValue().getResults()));
+            workItems.add(wid);
+        }
+        return workItems;
+    }
+
     private Set<PortableParameterDefinition> convertWorkItemParameters(final Set<ParameterDefinition> parameters) {
         final Set<PortableParameterDefinition> pps = new HashSet<PortableParameterDefinition>();
         for (ParameterDefinition pd : parameters) {
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.screens.workitems.backend.server;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.drools.workbench.models.datamodel.workitems.PortableWorkDefinition;
+import org.guvnor.structure.config.SystemRepositoryChangedEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.backend.vfs.PathFactory;
+import org.uberfire.rpc.SessionInfo;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+import static org.junit.Assert.assertSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class WorkItemDefinitionsCacheTest {
+
+    @Mock
+    private Function<Path, Set<PortableWorkDefinition>> loader;
+
+    private WorkItemDefinitionsCache cache;
+
+    private final Path projectRoot = PathFactory.newPath("project",
+                                                         "default://master@repo/project");
+
+    private final Set<PortableWorkDefinition> definitions = new HashSet<>();
+
+    @Before
+    public void setup() {
+        cache = new WorkItemDefinitionsCache();
+        when(loader.apply(any(Path.class))).thenReturn(definitions);
+    }
+
+    @Test
+    public void testDefinitionsLoadedOnce() {
+        assertSame(definitions,
+                   cache.getWorkItemDefinitions(projectRoot,
+                                                loader));
+        assertSame(definitions,
+                   cache.getWorkItemDefinitions(projectRoot,
+                                                loader));
+
+        verify(loader,
+               times(1)).apply(projectRoot);
+    }
+
+    @Test
+    public void testWidUpdateInvalidatesProject() {
+        cache.getWorkItemDefinitions(projectRoot,
+                                     loader);
+
+        final Path widPath = PathFactory.newPath("WorkDefinitions.wid",
+                                                 "default://master@repo/project/src/main/resources/WorkDefinitions.wid");
+        cache.onResourceUpdated(new ResourceUpdatedEvent(widPath,
+                                                         "",
+                                                         mock(SessionInfo.class)));
+        cache.getWorkItemDefinitions(projectRoot,
+                                     loader);
+
+        verify(loader,
+               times(2)).apply(projectRoot);
+    }
+
+    @Test
+    public void testOtherProjectWidUpdateRetainsProject() {
+        cache.getWorkItemDefinitions(projectRoot,
+                                     loader);
+
+        final Path widPath = PathFactory.newPath("WorkDefinitions.wid",
+                                                 "default://master@repo/project2/src/main/resources/WorkDefinitions.wid");
+        cache.onResourceUpdated(new ResourceUpdatedEvent(widPath,
+                                                         "",
+                                                         mock(SessionInfo.class)));
+        cache.getWorkItemDefinitions(projectRoot,
+                                     loader);
+
+        verify(loader,
+               times(1)).apply(projectRoot);
+    }
+
+    @Test
+    public void testNonWidUpdateRetainsProject() {
+        cache.getWorkItemDefinitions(projectRoot,
+                                     loader);
+
+        final Path drlPath = PathFactory.newPath("rule.drl",
+                                                 "default://master@repo/project/src/main/resources/rule.drl");
+        cache.onResourceUpdated(new ResourceUpdatedEvent(drlPath,
+                                                         "",
+                                                         mock(SessionInfo.class)));
+        cache.getWorkItemDefinitions(projectRoot,
+                                     loader);
+
+        verify(loader,
+               times(1)).apply(projectRoot);
+    }
+
+    @Test
+    public void testConfigurationChangeInvalidatesAll() {
+        cache.getWorkItemDefinitions(projectRoot,
+                                     loader);
+
+        cache.onSystemRepositoryChanged(mock(SystemRepositoryChangedEvent.class));
+        cache.getWorkItemDefinitions(projectRoot,
+                                     loader);
+
+        verify(loader,
+               times(2)).apply(projectRoot);
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.services.cache.backend;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import javax.enterprise.event.Observes;
+
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.workbench.events.ResourceBatchChangesEvent;
+import org.uberfire.workbench.events.ResourceChange;
+import org.uberfire.workbench.events.ResourceDeleted;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceRenamed;
+import org.uberfire.workbench.events.ResourceRenamedEvent;
+
+/**
+ * Base for caches of values that are expensive to derive from the content of a file, such as parsed models or
+ * generated DRL. Values are keyed on the URI of the file's Path and a SHA-256 hash of the content they were derived
+ * from, so changed content is always derived again. The least recently used entries are evicted once the number of
+ * cached files exceeds the limit given by the subclass. Entries for deleted and renamed files are discarded.
+ * @param <V> Type of the cached values
+ */
+public abstract class LRUContentCache<V> {
+
+    private final int maxEntries;
+
+    //Keyed on the URI of the file's Path. Access-ordered so the least recently used files are evicted.
+    private final Map<String, CachedContent<V>> entries;
+
+    //Incremented by invalidate() so values derived concurrently with an invalidation are not cached
+    private final AtomicLong version = new AtomicLong();
+
+    protected LRUContentCache(final int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<String, CachedContent<V>>(16,
+                                                                                               0.75f,
+                                                                                               true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CachedContent<V>> eldest) {
+                return size() > LRUContentCache.this.maxEntries;
+            }
+        });
+    }
+
+    /**
+     * Returns the value for the content of a Path, deriving it only if a value has not already been derived from the
+     * same content for the Path.
+     * @param path Path of the file
+     * @param content Content of the file
+     * @param loader Derives the value if it is not cached
+     * @return The value. The returned value is shared and must not be modified.
+     */
+    protected V get(final Path path,
+                    final String content,
+                    final Supplier<V> loader) {
+        return get(path,
+                   content == null ? null : content.getBytes(StandardCharsets.UTF_8),
+                   loader);
+    }
+
+    /**
+     * Returns the value for the binary content of a Path, deriving it only if a value has not already been derived
+     * from the same content for the Path.
+     * @param path Path of the file
+     * @param content Binary content of the file
+     * @param loader Derives the value if it is not cached
+     * @return The value. The returned value is shared and must not be modified.
+     */
+    protected V get(final Path path,
+                    final byte[] content,
+                    final Supplier<V> loader) {
+        if (path == null || content == null) {
+            return loader.get();
+        }
+        final String key = path.toURI();
+        final String contentHash = hash(content);
+        final CachedContent<V> cached = entries.get(key);
+        if (cached != null && cached.contentHash.equals(contentHash)) {
+            return cached.value;
+        }
+
+        //The value is derived outside of the lock as doing so is expensive
+        final long loadVersion = version.get();
+        final V value = loader.get();
+        synchronized (version) {
+            if (loadVersion == version.get() && maxEntries > 0) {
+                entries.put(key,
+                            new CachedContent<>(contentHash,
+                                                value));
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Discards all cached values, for example when something the values were derived against has changed.
+     */
+    public void invalidate() {
+        synchronized (version) {
+            version.incrementAndGet();
+            entries.clear();
+        }
+    }
+
+    /**
+     * Discards the cached value for a Path.
+     * @param path Path of the file
+     */
+    public void invalidate(final Path path) {
+        if (path == null) {
+            return;
+        }
+        entries.remove(path.toURI());
+    }
+
+    /**
+     * Discards the cached values for all Paths whose URI matches a predicate.
+     * @param uriPredicate Matches the URIs of the Paths to discard
+     */
+    protected void invalidateIf(final Predicate<String> uriPredicate) {
+        synchronized (version) {
+            version.incrementAndGet();
+            entries.keySet().removeIf(uriPredicate);
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void onResourceDeleted(final @Observes ResourceDeletedEvent event) {
+        invalidate(event.getPath());
+    }
+
+    public void onResourceRenamed(final @Observes ResourceRenamedEvent event) {
+        invalidate(event.getPath());
+    }
+
+    public void onResourceBatchChanges(final @Observes ResourceBatchChangesEvent event) {
+        for (Map.Entry<Path, Collection<ResourceChange>> entry : event.getBatch().entrySet()) {
+            for (ResourceChange change : entry.getValue()) {
+                if (change instanceof ResourceDeleted || change instanceof ResourceRenamed) {
+                    invalidate(entry.getKey());
+                }
+            }
+        }
+    }
+
+    static String hash(final byte[] content) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class CachedContent<V> {
+
+        private final String contentHash;
+        private final V value;
+
+        private CachedContent(final String contentHash,
+                              final V value) {
+            this.contentHash = contentHash;
+            this.value = value;
+        }
+    }
+}
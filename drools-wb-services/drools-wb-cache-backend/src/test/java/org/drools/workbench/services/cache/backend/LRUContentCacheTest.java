@@ -0,0 +1,223 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.services.cache.backend;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.backend.vfs.PathFactory;
+import org.uberfire.rpc.SessionInfo;
+import org.uberfire.workbench.events.ResourceBatchChangesEvent;
+import org.uberfire.workbench.events.ResourceChange;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceRenamed;
+import org.uberfire.workbench.events.ResourceUpdated;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LRUContentCacheTest {
+
+    private static final String CONTENT = "content";
+
+    @Mock
+    private Supplier<String> loader;
+
+    private TestCache cache;
+
+    private final Path path = PathFactory.newPath("file.txt",
+                                                  "default://master@repo/project/src/main/resources/file.txt");
+
+    @Before
+    public void setup() {
+        cache = new TestCache(2);
+        when(loader.get()).thenReturn("value");
+    }
+
+    @Test
+    public void testSameContentLoadedOnce() {
+        assertEquals("value",
+                     cache.get(path,
+                               CONTENT,
+                               loader));
+        assertEquals("value",
+                     cache.get(path,
+                               CONTENT,
+                               loader));
+
+        verify(loader,
+               times(1)).get();
+    }
+
+    @Test
+    public void testStringAndBinaryContentShareEntries() {
+        cache.get(path,
+                  CONTENT,
+                  loader);
+        cache.get(path,
+                  CONTENT.getBytes(StandardCharsets.UTF_8),
+                  loader);
+
+        verify(loader,
+               times(1)).get();
+    }
+
+    @Test
+    public void testChangedContentLoadedAgain() {
+        cache.get(path,
+                  CONTENT,
+                  loader);
+        cache.get(path,
+                  CONTENT + "\n",
+                  loader);
+
+        verify(loader,
+               times(2)).get();
+        assertEquals(1,
+                     cache.size());
+    }
+
+    @Test
+    public void testNullContentNotCached() {
+        cache.get(path,
+                  (String) null,
+                  loader);
+        cache.get(path,
+                  (String) null,
+                  loader);
+
+        verify(loader,
+               times(2)).get();
+        assertEquals(0,
+                     cache.size());
+    }
+
+    @Test
+    public void testValueLoadedDuringInvalidationNotCached() {
+        cache.get(path,
+                  CONTENT,
+                  () -> {
+                      cache.invalidate();
+                      return "stale";
+                  });
+
+        assertEquals(0,
+                     cache.size());
+    }
+
+    @Test
+    public void testInvalidateIf() {
+        final Path otherPath = PathFactory.newPath("other.txt",
+                                                   "default://master@repo/other/src/main/resources/other.txt");
+        cache.get(path,
+                  CONTENT,
+                  loader);
+        cache.get(otherPath,
+                  CONTENT,
+                  loader);
+
+        cache.invalidateIf(uri -> uri.startsWith("default://master@repo/project/"));
+
+        assertEquals(1,
+                     cache.size());
+    }
+
+    @Test
+    public void testDeletedFileEvicted() {
+        cache.get(path,
+                  CONTENT,
+                  loader);
+
+        cache.onResourceDeleted(new ResourceDeletedEvent(path,
+                                                         "",
+                                                         mock(SessionInfo.class)));
+
+        assertEquals(0,
+                     cache.size());
+    }
+
+    @Test
+    public void testBatchRenameEvictedAndUpdateRetained() {
+        final Path otherPath = PathFactory.newPath("other.txt",
+                                                   "default://master@repo/project/src/main/resources/other.txt");
+        cache.get(path,
+                  CONTENT,
+                  loader);
+        cache.get(otherPath,
+                  CONTENT,
+                  loader);
+
+        final ResourceBatchChangesEvent event = mock(ResourceBatchChangesEvent.class);
+        final Map<Path, Collection<ResourceChange>> batch = new HashMap<>();
+        batch.put(path,
+                  Collections.singletonList(mock(ResourceRenamed.class)));
+        batch.put(otherPath,
+                  Collections.singletonList(mock(ResourceUpdated.class)));
+        when(event.getBatch()).thenReturn(batch);
+
+        cache.onResourceBatchChanges(event);
+
+        assertEquals(1,
+                     cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEvicted() {
+        for (int i = 0; i < 3; i++) {
+            cache.get(PathFactory.newPath("file" + i + ".txt",
+                                          "default://master@repo/project/src/main/resources/file" + i + ".txt"),
+                      CONTENT,
+                      loader);
+        }
+
+        assertEquals(2,
+                     cache.size());
+    }
+
+    @Test
+    public void testNothingCachedWithoutEntries() {
+        cache = new TestCache(0);
+
+        cache.get(path,
+                  CONTENT,
+                  loader);
+
+        assertEquals(0,
+                     cache.size());
+    }
+
+    private static class TestCache extends LRUContentCache<String> {
+
+        private TestCache(final int maxEntries) {
+            super(maxEntries);
+        }
+    }
+}
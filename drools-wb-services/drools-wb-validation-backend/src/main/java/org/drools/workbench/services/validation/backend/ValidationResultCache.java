@@ -0,0 +1,166 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.services.validation.backend;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import org.drools.workbench.services.cache.backend.LRUContentCache;
+import org.guvnor.common.services.shared.validation.model.ValidationMessage;
+import org.guvnor.structure.config.SystemRepositoryChangedEvent;
+import org.kie.workbench.common.services.shared.project.KieModule;
+import org.kie.workbench.common.services.shared.project.KieModuleService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.workbench.events.ResourceAddedEvent;
+import org.uberfire.workbench.events.ResourceBatchChangesEvent;
+import org.uberfire.workbench.events.ResourceChange;
+import org.uberfire.workbench.events.ResourceCopiedEvent;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceRenamed;
+import org.uberfire.workbench.events.ResourceRenamedEvent;
+import org.uberfire.workbench.events.ResourceUpdated;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+/**
+ * Cache of the result of validating an asset. Results are keyed on the asset's Path and a hash of the content
+ * that was validated, so validating the same content again (for example "Validate" followed by "Save") does not
+ * rebuild the Module. Results for every asset in a Module are discarded when any other resource in that Module
+ * changes, since the outcome of validation depends on the Module's types, globals, DSLs and other rules.
+ */
+@ApplicationScoped
+public class ValidationResultCache extends LRUContentCache<List<ValidationMessage>> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ValidationResultCache.class);
+
+    static final int MAX_ENTRIES = 1000;
+
+    private KieModuleService moduleService;
+
+    public ValidationResultCache() {
+        //Zero argument constructor for CDI
+        super(MAX_ENTRIES);
+    }
+
+    @Inject
+    public ValidationResultCache(final KieModuleService moduleService) {
+        super(MAX_ENTRIES);
+        this.moduleService = moduleService;
+    }
+
+    /**
+     * Returns the result of validating content, invoking the validator only if the same content has not already
+     * been validated for the Path since the Module last changed.
+     * @param path Path of the asset being validated
+     * @param content Content being validated, as it would be written to the Path
+     * @param validator Validator to invoke if the content has not already been validated
+     * @return Validation messages. The returned List can be modified by the caller.
+     */
+    public List<ValidationMessage> validate(final Path path,
+                                            final String content,
+                                            final Supplier<List<ValidationMessage>> validator) {
+        return new ArrayList<>(get(path,
+                                   content,
+                                   validator));
+    }
+
+    void invalidate(final Path path,
+                    final boolean retainPath) {
+        if (path == null) {
+            return;
+        }
+        final String uri = path.toURI();
+        final String moduleUri = getModuleRootUri(path);
+        if (moduleUri == null) {
+            invalidate();
+            return;
+        }
+        //Results for the changed Path itself were produced with the content being validated, not that on disk
+        invalidateIf(key -> key.startsWith(moduleUri) && !(retainPath && key.equals(uri)));
+    }
+
+    public void onSystemRepositoryChanged(final @Observes SystemRepositoryChangedEvent event) {
+        invalidate();
+    }
+
+    public void onResourceAdded(final @Observes ResourceAddedEvent event) {
+        invalidate(event.getPath(),
+                   false);
+    }
+
+    public void onResourceUpdated(final @Observes ResourceUpdatedEvent event) {
+        invalidate(event.getPath(),
+                   true);
+    }
+
+    @Override
+    public void onResourceDeleted(final @Observes ResourceDeletedEvent event) {
+        invalidate(event.getPath(),
+                   false);
+    }
+
+    @Override
+    public void onResourceRenamed(final @Observes ResourceRenamedEvent event) {
+        invalidate(event.getPath(),
+                   false);
+        invalidate(event.getDestinationPath(),
+                   false);
+    }
+
+    public void onResourceCopied(final @Observes ResourceCopiedEvent event) {
+        invalidate(event.getDestinationPath(),
+                   false);
+    }
+
+    @Override
+    public void onResourceBatchChanges(final @Observes ResourceBatchChangesEvent event) {
+        for (Map.Entry<Path, Collection<ResourceChange>> entry : event.getBatch().entrySet()) {
+            final boolean updateOnly = entry.getValue().stream().allMatch(change -> change instanceof ResourceUpdated);
+            invalidate(entry.getKey(),
+                       updateOnly);
+            for (ResourceChange change : entry.getValue()) {
+                if (change instanceof ResourceRenamed) {
+                    invalidate(((ResourceRenamed) change).getDestinationPath(),
+                               false);
+                }
+            }
+        }
+    }
+
+    private String getModuleRootUri(final Path path) {
+        try {
+            final KieModule module = moduleService.resolveModule(path);
+            if (module == null) {
+                return null;
+            }
+            final String uri = module.getRootPath().toURI();
+            return uri.endsWith("/") ? uri : uri + "/";
+        } catch (Exception e) {
+            logger.warn("Unable to resolve Module for '" + path.toURI() + "'. All cached validation results will be discarded.",
+                        e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.workbench.services.validation.backend;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.guvnor.common.services.shared.validation.model.ValidationMessage;
+import org.guvnor.structure.config.SystemRepositoryChangedEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.kie.workbench.common.services.shared.project.KieModule;
+import org.kie.workbench.common.services.shared.project.KieModuleService;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.uberfire.backend.vfs.Path;
+import org.uberfire.backend.vfs.PathFactory;
+import org.uberfire.rpc.SessionInfo;
+import org.uberfire.workbench.events.ResourceDeletedEvent;
+import org.uberfire.workbench.events.ResourceUpdatedEvent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ValidationResultCacheTest {
+
+    @Mock
+    private KieModuleService moduleService;
+
+    @Mock
+    private KieModule module;
+
+    @Mock
+    private Supplier<List<ValidationMessage>> validator;
+
+    private ValidationResultCache cache;
+
+    private final Path rulePath = PathFactory.newPath("rule.rdrl",
+                                                      "default://master@repo/project/src/main/resources/rule.rdrl");
+
+    private final Path otherRulePath = PathFactory.newPath("other.rdrl",
+                                                           "default://master@repo/project/src/main/resources/other.rdrl");
+
+    private final List<ValidationMessage> messages = new ArrayList<>();
+
+    @Before
+    public void setup() {
+        cache = new ValidationResultCache(moduleService);
+
+        messages.add(new ValidationMessage());
+        when(validator.get()).thenReturn(messages);
+        when(moduleService.resolveModule(any(Path.class))).thenReturn(module);
+        when(module.getRootPath()).thenReturn(PathFactory.newPath("project",
+                                                                  "default://master@repo/project"));
+    }
+
+    @Test
+    public void testSameContentValidatedOnce() {
+        assertEquals(messages,
+                     cache.validate(rulePath,
+                                    "rule content",
+                                    validator));
+        final List<ValidationMessage> cached = cache.validate(rulePath,
+                                                              "rule content",
+                                                              validator);
+        assertEquals(messages,
+                     cached);
+        assertNotSame(messages,
+                      cached);
+
+        verify(validator,
+               times(1)).get();
+    }
+
+    @Test
+    public void testChangedContentValidated() {
+        cache.validate(rulePath,
+                       "rule content",
+                       validator);
+        cache.validate(rulePath,
+                       "changed rule content",
+                       validator);
+
+        verify(validator,
+               times(2)).get();
+        assertEquals(1,
+                     cache.size());
+    }
+
+    @Test
+    public void testNullContentNotCached() {
+        cache.validate(rulePath,
+                       null,
+                       validator);
+        cache.validate(rulePath,
+                       null,
+                       validator);
+
+        verify(validator,
+               times(2)).get();
+        assertEquals(0,
+                     cache.size());
+    }
+
+    @Test
+    public void testOtherResourceUpdateInvalidatesModule() {
+        cache.validate(rulePath,
+                       "rule content",
+                       validator);
+
+        cache.onResourceUpdated(new ResourceUpdatedEvent(otherRulePath,
+                                                         "",
+                                                         mock(SessionInfo.class)));
+        cache.validate(rulePath,
+                       "rule content",
+                       validator);
+
+        verify(validator,
+               times(2)).get();
+    }
+
+    @Test
+    public void testSavingValidatedResourceRetainsResult() {
+        cache.validate(rulePath,
+                       "rule content",
+                       validator);
+
+        cache.onResourceUpdated(new ResourceUpdatedEvent(rulePath,
+                                                         "",
+                                                         mock(SessionInfo.class)));
+        cache.validate(rulePath,
+                       "rule content",
+                       validator);
+
+        verify(validator,
+               times(1)).get();
+    }
+
+    @Test
+    public void testDeletingValidatedResourceDiscardsResult() {
+        cache.validate(rulePath,
+                       "rule content",
+                       validator);
+
+        cache.onResourceDeleted(new ResourceDeletedEvent(rulePath,
+                                                         "",
+                                                         mock(SessionInfo.class)));
+
+        assertEquals(0,
+                     cache.size());
+    }
+
+    @Test
+    public void testOtherModuleUpdateRetainsResult() {
+        cache.validate(rulePath,
+                       "rule content",
+                       validator);
+
+        final Path otherModulePath = PathFactory.newPath("rule.rdrl",
+                                                         "default://master@repo/project2/src/main/resources/rule.rdrl");
+        final KieModule otherModule = mock(KieModule.class);
+        when(otherModule.getRootPath()).thenReturn(PathFactory.newPath("project2",
+                                                                       "default://master@repo/project2"));
+        when(moduleService.resolveModule(otherModulePath)).thenReturn(otherModule);
+        cache.onResourceUpdated(new ResourceUpdatedEvent(otherModulePath,
+                                                         "",
+                                                         mock(SessionInfo.class)));
+        cache.validate(rulePath,
+                       "rule content",
+                       validator);
+
+        verify(validator,
+               times(1)).get();
+    }
+
+    @Test
+    public void testUnresolvedModuleInvalidatesAll() {
+        cache.validate(rulePath,
+                       "rule content",
+                       validator);
+
+        final Path repositoryPath = PathFactory.newPath("readme.md",
+                                                        "default://master@repo/readme.md");
+        when(moduleService.resolveModule(repositoryPath)).thenReturn(null);
+        cache.onResourceUpdated(new ResourceUpdatedEvent(repositoryPath,
+                                                         "",
+                                                         mock(SessionInfo.class)));
+
+        assertEquals(0,
+                     cache.size());
+    }
+
+    @Test
+    public void testConfigurationChangeInvalidatesAll() {
+        cache.validate(rulePath,
+                       "rule content",
+                       validator);
+
+        cache.onSystemRepositoryChanged(mock(SystemRepositoryChangedEvent.class));
+
+        assertEquals(0,
+                     cache.size());
+    }
+
+    @Test
+    public void testMessagesNotSharedWithCaller() {
+        when(validator.get()).thenReturn(new ArrayList<>(Collections.singletonList(new ValidationMessage())));
+        cache.validate(rulePath,
+                       "rule content",
+                       validator).clear();
+
+        assertEquals(1,
+                     cache.validate(rulePath,
+                                    "rule content",
+                                    validator).size());
+    }
+}
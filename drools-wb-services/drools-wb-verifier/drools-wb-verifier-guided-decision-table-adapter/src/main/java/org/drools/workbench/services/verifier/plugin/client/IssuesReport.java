@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.services.verifier.plugin.client;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.drools.verifier.api.reporting.Issue;
+import org.drools.verifier.api.reporting.Issues;
+import org.drools.workbench.services.verifier.plugin.client.api.IssuesDelta;
+
+/**
+ * The latest Issues reported for a decision table, used to send only the changes between reports to the main app.
+ */
+public class IssuesReport {
+
+    private final String uuid;
+
+    private final Set<Issue> issues = new HashSet<>();
+
+    public IssuesReport(final String uuid) {
+        this.uuid = uuid;
+    }
+
+    /**
+     * Replaces the Issues with those of a new report.
+     * @param newIssues All Issues of the new report
+     * @return The changes since the previous report
+     */
+    public IssuesDelta update(final Set<Issue> newIssues) {
+        final Set<Issue> added = new HashSet<>(newIssues);
+        added.removeAll(issues);
+        final Set<Issue> removed = new HashSet<>(issues);
+        removed.removeAll(newIssues);
+
+        issues.clear();
+        issues.addAll(newIssues);
+
+        return new IssuesDelta(uuid,
+                               added,
+                               removed);
+    }
+
+    public Issues getIssues() {
+        return new Issues(uuid,
+                          new HashSet<>(issues));
+    }
+}
@@ -18,6 +18,7 @@ package org.drools.workbench.services.verifier.plugin.client;
 
 import org.drools.verifier.api.Status;
 import org.drools.verifier.api.reporting.Issues;
+import org.drools.workbench.services.verifier.plugin.client.api.IssuesDelta;
 import org.jboss.errai.enterprise.client.jaxrs.MarshallingWrapper;
 import org.kie.workbench.common.services.verifier.api.client.api.WebWorkerException;
 import org.kie.workbench.common.services.verifier.api.client.api.WebWorkerLogMessage;
@@ -28,6 +29,10 @@ public class Poster {
         postToMainApp(issues);
     }
 
+    public void post(final IssuesDelta issuesDelta) {
+        postToMainApp(issuesDelta);
+    }
+
     public void post(final Status status) {
         postToMainApp(status);
     }
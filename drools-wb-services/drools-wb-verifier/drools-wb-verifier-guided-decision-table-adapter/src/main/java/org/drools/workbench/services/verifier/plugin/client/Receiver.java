@@ -20,7 +20,6 @@ import java.util.Set;
 
 import org.drools.verifier.api.Status;
 import org.drools.verifier.api.reporting.Issue;
-import org.drools.verifier.api.reporting.Issues;
 import org.drools.verifier.core.checks.base.CheckRunner;
 import org.drools.verifier.core.configuration.AnalyzerConfiguration;
 import org.drools.verifier.core.index.Index;
@@ -28,6 +27,7 @@ import org.drools.verifier.core.main.Analyzer;
 import org.drools.verifier.core.main.Reporter;
 import org.drools.workbench.services.verifier.plugin.client.api.DeleteColumns;
 import org.drools.workbench.services.verifier.plugin.client.api.Initialize;
+import org.drools.workbench.services.verifier.plugin.client.api.IssuesDelta;
 import org.drools.workbench.services.verifier.plugin.client.api.MakeRule;
 import org.drools.workbench.services.verifier.plugin.client.api.NewColumn;
 import org.drools.workbench.services.verifier.plugin.client.api.RemoveRule;
@@ -42,7 +42,7 @@ public class Receiver {
     private Analyzer analyzer;
     private Poster poster;
     private CheckRunner checkRunner;
-    private Issues latestReport;
+    private IssuesReport latestReport;
     private Index index;
     private AnalyzerConfiguration configuration;
 
@@ -103,7 +103,7 @@ public class Receiver {
 
     private void requestStatus() {
         if (latestReport != null) {
-            poster.post(latestReport);
+            poster.post(latestReport.getIssues());
         }
     }
 
@@ -139,15 +139,21 @@ public class Receiver {
 
     private void init(final Initialize initialize) {
         try {
+            final IssuesReport report = new IssuesReport(initialize.getUuid());
             final AnalyzerBuilder analyzerBuilder = new AnalyzerBuilder()
                     .with(initialize)
                     .with(checkRunner)
                     .with(new Reporter() {
                         @Override
                         public void sendReport(final Set<Issue> issues) {
-                            latestReport = new Issues(initialize.getUuid(),
-                                                      issues);
-                            poster.post(latestReport);
+                            final IssuesDelta delta = report.update(issues);
+                            if (latestReport != report) {
+                                //The first report of a table is sent in full, later reports only send changes
+                                latestReport = report;
+                                poster.post(report.getIssues());
+                            } else if (!delta.isEmpty()) {
+                                poster.post(delta);
+                            }
                         }
 
                         @Override
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.services.verifier.plugin.client.api;
+
+import java.util.Set;
+
+import org.drools.verifier.api.reporting.Issue;
+import org.jboss.errai.common.client.api.annotations.MapsTo;
+import org.jboss.errai.common.client.api.annotations.Portable;
+
+/**
+ * Changes to the Issues of a decision table since the previous report, so that only the differences need to be
+ * marshalled. Issues are identified by {@link Issue#equals(Object)}; an Issue whose details change is therefore
+ * removed and added again.
+ */
+@Portable
+public class IssuesDelta {
+
+    private final String uuid;
+    private final Set<Issue> added;
+    private final Set<Issue> removed;
+
+    public IssuesDelta(@MapsTo("uuid") final String uuid,
+                       @MapsTo("added") final Set<Issue> added,
+                       @MapsTo("removed") final Set<Issue> removed) {
+        this.uuid = uuid;
+        this.added = added;
+        this.removed = removed;
+    }
+
+    public String getUuid() {
+        return uuid;
+    }
+
+    public Set<Issue> getAdded() {
+        return added;
+    }
+
+    public Set<Issue> getRemoved() {
+        return removed;
+    }
+
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty();
+    }
+}
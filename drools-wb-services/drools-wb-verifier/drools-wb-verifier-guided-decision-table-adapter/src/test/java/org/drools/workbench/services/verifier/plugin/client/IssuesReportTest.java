@@ -0,0 +1,138 @@
+/*
+ * Copyright 2018 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.drools.workbench.services.verifier.plugin.client;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.drools.verifier.api.reporting.CheckType;
+import org.drools.verifier.api.reporting.Issue;
+import org.drools.verifier.api.reporting.Severity;
+import org.drools.workbench.services.verifier.plugin.client.api.IssuesDelta;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class IssuesReportTest {
+
+    private IssuesReport report;
+
+    @Before
+    public void setUp() {
+        report = new IssuesReport("testUUID");
+    }
+
+    @Test
+    public void testFirstUpdateAddsAll() {
+        final Issue redundancy = makeIssue(CheckType.REDUNDANT_ROWS,
+                                           Severity.WARNING,
+                                           1,
+                                           2);
+
+        final IssuesDelta delta = report.update(Collections.singleton(redundancy));
+
+        assertEquals("testUUID",
+                     delta.getUuid());
+        assertEquals(Collections.singleton(redundancy),
+                     delta.getAdded());
+        assertTrue(delta.getRemoved().isEmpty());
+        assertEquals(1,
+                     report.getIssues().getSet().size());
+    }
+
+    @Test
+    public void testSameTypeIssuesOnSameRowsRetained() {
+        //For example Issues about different fields of the same rows
+        final Issue firstField = makeIssue(CheckType.IMPOSSIBLE_MATCH,
+                                           Severity.ERROR,
+                                           1);
+        final Issue secondField = makeIssue(CheckType.IMPOSSIBLE_MATCH,
+                                            Severity.ERROR,
+                                            1);
+
+        final IssuesDelta delta = report.update(new HashSet<>(Arrays.asList(firstField,
+                                                                            secondField)));
+
+        assertEquals(2,
+                     delta.getAdded().size());
+        assertEquals(2,
+                     report.getIssues().getSet().size());
+
+        final IssuesDelta removal = report.update(Collections.singleton(secondField));
+
+        assertTrue(removal.getAdded().isEmpty());
+        assertEquals(Collections.singleton(firstField),
+                     removal.getRemoved());
+        assertEquals(Collections.singleton(secondField),
+                     report.getIssues().getSet());
+    }
+
+    @Test
+    public void testUnchangedIssuesNotReported() {
+        final Issue redundancy = makeIssue(CheckType.REDUNDANT_ROWS,
+                                           Severity.WARNING,
+                                           1,
+                                           2);
+        report.update(Collections.singleton(redundancy));
+
+        final IssuesDelta delta = report.update(Collections.singleton(redundancy));
+
+        assertTrue(delta.isEmpty());
+    }
+
+    @Test
+    public void testAddedAndRemoved() {
+        final Issue redundancy = makeIssue(CheckType.REDUNDANT_ROWS,
+                                           Severity.WARNING,
+                                           1,
+                                           2);
+        final Issue emptyRule = makeIssue(CheckType.EMPTY_RULE,
+                                          Severity.WARNING,
+                                          3);
+        report.update(new HashSet<>(Arrays.asList(redundancy,
+                                                  emptyRule)));
+
+        final Issue added = makeIssue(CheckType.SINGLE_HIT_LOST,
+                                      Severity.NOTE,
+                                      4);
+        final IssuesDelta delta = report.update(new HashSet<>(Arrays.asList(emptyRule,
+                                                                            added)));
+
+        assertEquals(Collections.singleton(added),
+                     delta.getAdded());
+        assertEquals(Collections.singleton(redundancy),
+                     delta.getRemoved());
+        assertEquals(2,
+                     report.getIssues().getSet().size());
+    }
+
+    private Issue makeIssue(final CheckType checkType,
+                            final Severity severity,
+                            final Integer... rowNumbers) {
+        final Issue issue = mock(Issue.class);
+        final Set<Integer> rows = new HashSet<>(Arrays.asList(rowNumbers));
+        when(issue.getCheckType()).thenReturn(checkType);
+        when(issue.getSeverity()).thenReturn(severity);
+        when(issue.getRowNumbers()).thenReturn(rows);
+        return issue;
+    }
+}
@@ -20,6 +20,9 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 import javax.enterprise.context.ApplicationScoped;
 
@@ -29,6 +32,12 @@ import org.kie.workbench.common.services.verifier.service.VerifierWebWorkerProvi
 public class DecisionTableVerifierWebWorkerProvider
         implements VerifierWebWorkerProvider {
 
+    //Only the scripts produced by the web worker's GWT compilation are cached: the bootstrap script and the permutations
+    private static final Pattern WEB_WORKER_SCRIPT = Pattern.compile("dtableVerifier\\.nocache\\.js|[0-9A-F]{32}\\.cache\\.js");
+
+    //Keyed on the file name. Scripts are read from the classpath once and never change afterwards.
+    private final Map<String, String> scripts = new ConcurrentHashMap<>();
+
     @Override
     public String getId() {
         return "dtableVerifier";
@@ -36,7 +45,22 @@ public class DecisionTableVerifierWebWorkerProvider
 
     @Override
     public String getWebWorker(final String fileName) throws Exception {
-        return loadResource(fileName);
+        if (!isWebWorkerScript(fileName)) {
+            return loadResource(fileName);
+        }
+        final String cached = scripts.get(fileName);
+        if (cached != null) {
+            return cached;
+        }
+        //Concurrent first requests may both load the script; the content is identical so either can be kept
+        final String script = loadResource(fileName);
+        scripts.putIfAbsent(fileName,
+                            script);
+        return script;
+    }
+
+    boolean isWebWorkerScript(final String fileName) {
+        return fileName != null && WEB_WORKER_SCRIPT.matcher(fileName).matches();
     }
 
     public String loadResource(final String name) throws Exception {
@@ -19,6 +19,12 @@ import org.assertj.core.api.Assertions;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class DecisionTableVerifierWebWorkerProviderTest {
 
@@ -38,4 +44,35 @@ public class DecisionTableVerifierWebWorkerProviderTest {
         Assertions.assertThatThrownBy(() -> new DecisionTableVerifierWebWorkerProvider().loadResource(filename))
                 .hasMessage("Could not find the verifier file " + filename);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testWebWorker() throws Exception {
+        assertEquals("hello there", new DecisionTableVerifierWebWorkerProvider().getWebWorker("test.txt"));
+    }
+
+    @Test
+    public void testWebWorkerScriptsCached() throws Exception {
+        final DecisionTableVerifierWebWorkerProvider provider = spy(new DecisionTableVerifierWebWorkerProvider());
+        doReturn("script").when(provider).loadResource("dtableVerifier.nocache.js");
+
+        assertEquals("script", provider.getWebWorker("dtableVerifier.nocache.js"));
+        assertEquals("script", provider.getWebWorker("dtableVerifier.nocache.js"));
+        verify(provider, times(1)).loadResource("dtableVerifier.nocache.js");
+
+        //Other files are not cached
+        provider.getWebWorker("test.txt");
+        provider.getWebWorker("test.txt");
+        verify(provider, times(2)).loadResource("test.txt");
+    }
+
+    @Test
+    public void testWebWorkerScriptNames() {
+        final DecisionTableVerifierWebWorkerProvider provider = new DecisionTableVerifierWebWorkerProvider();
+
+        assertTrue(provider.isWebWorkerScript("dtableVerifier.nocache.js"));
+        assertTrue(provider.isWebWorkerScript("0123456789ABCDEF0123456789ABCDEF.cache.js"));
+        assertFalse(provider.isWebWorkerScript("test.txt"));
+        assertFalse(provider.isWebWorkerScript("../dtableVerifier.nocache.js"));
+        assertFalse(provider.isWebWorkerScript(null));
+    }
+}
@@ -143,6 +143,11 @@ public class AppSetup extends BaseAppSetup {
         configItem.setValue(10000);
         group.addConfigItem(configItem);
 
+        ConfigItem<Integer> auditLogCapacityItem = new ConfigItem<Integer>();
+        auditLogCapacityItem.setName(ScenarioTestEditorService.TEST_SCENARIO_EDITOR_AUDIT_LOG_CAPACITY);
+        auditLogCapacityItem.setValue(5000);
+        group.addConfigItem(auditLogCapacityItem);
+
         return group;
     }
 }